@@ -0,0 +1,259 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Package visible class used by the benchmarks to generate {@code InspectCode} issue definition files and rule override files, which are
+ * a multiple of the size of the files contained within the resources of the plugin. Each issue type of the bundled issue definition file
+ * is stated once per scale, where the copies get a numbered suffix appended to their identifier, so that they are assigned to the same
+ * language as the original issue type. The override file overrides every fourth rule by its key, every category and some rules by
+ * patterns, so that its size grows with the catalog as well.
+ */
+final class RulesCatalogFileGenerator {
+
+  /** The name of the resource containing the {@code InspectCode} issue definitions of all languages. */
+  private static final String ISSUE_DEFINITIONS_RESOURCE_NAME = "/com/jetbrains/resharper/inspectcode/inspectcode_issue_definitions.xml";
+
+  /** The namespace of the rule override files. */
+  private static final String OVERRIDES_NAMESPACE = "urn:/com/soloplan/oss/sonarqube/plugin/resharper/clt/xml";
+
+  /** The {@code SonarQube} severities assigned by the generated overrides, in turn. */
+  private static final String[] SEVERITIES = {"INFO", "MINOR", "MAJOR", "CRITICAL", "BLOCKER"};
+
+  /** The {@code SonarQube} rule types assigned by the generated overrides, in turn. */
+  private static final String[] RULE_TYPES = {"CODE_SMELL", "BUG", "VULNERABILITY"};
+
+  /** The tools version of the bundled issue definition file. */
+  @NotNull
+  private String toolsVersion = "";
+
+  /** The attributes of the issue types of the bundled issue definition file. */
+  @NotNull
+  private final List<Map<String, String>> issueTypes = new ArrayList<>();
+
+  /** Creates a new instance of the {@link RulesCatalogFileGenerator} class, which reads the bundled issue definition file. */
+  RulesCatalogFileGenerator() {
+    try (InputStream inputStream = RulesCatalogFileGenerator.class.getResourceAsStream(ISSUE_DEFINITIONS_RESOURCE_NAME)) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Could not find resource " + ISSUE_DEFINITIONS_RESOURCE_NAME + ".");
+      }
+      SAXParserFactory.newInstance().newSAXParser().parse(inputStream, new DefaultHandler() {
+        @Override
+        public void startElement(String uri, String localName, String qualifiedName, Attributes attributes) {
+          if ("Report".equals(qualifiedName) && attributes.getValue("ToolsVersion") != null) {
+            RulesCatalogFileGenerator.this.toolsVersion = attributes.getValue("ToolsVersion");
+          } else if ("IssueType".equals(qualifiedName)) {
+            final Map<String, String> issueType = new LinkedHashMap<>();
+            for (int index = 0; index < attributes.getLength(); index++) {
+              issueType.put(attributes.getQName(index), attributes.getValue(index));
+            }
+            RulesCatalogFileGenerator.this.issueTypes.add(issueType);
+          }
+        }
+      });
+    } catch (ParserConfigurationException | SAXException | IOException exception) {
+      throw new IllegalStateException("Could not read resource " + ISSUE_DEFINITIONS_RESOURCE_NAME + ".", exception);
+    }
+  }
+
+  /**
+   * Writes an issue definition file, which states each issue type of the bundled issue definition file {@code scale} times.
+   *
+   * @param issueDefinitionFile
+   *     The path of the issue definition file to write.
+   * @param scale
+   *     The amount of copies of each issue type.
+   *
+   * @throws IOException
+   *     If the file could not be written.
+   */
+  void writeIssueDefinitions(@NotNull final Path issueDefinitionFile, final int scale) throws IOException {
+    final StringBuilder builder = new StringBuilder(512);
+    try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(issueDefinitionFile), StandardCharsets.UTF_8))) {
+      writer.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\r\n");
+      builder.append("<Report");
+      appendAttribute(builder, "ToolsVersion", this.toolsVersion);
+      builder.append(">\r\n  <IssueTypes>\r\n");
+      writer.append(builder);
+
+      for (int copy = 0; copy < scale; copy++) {
+        for (Map<String, String> issueType : this.issueTypes) {
+          builder.setLength(0);
+          builder.append("    <IssueType");
+          for (Map.Entry<String, String> attribute : issueType.entrySet()) {
+            final String value = attribute.getValue();
+            appendAttribute(builder, attribute.getKey(),
+                copy > 0 && "Id".equals(attribute.getKey()) ? getCopiedIssueTypeId(value, copy) : value);
+          }
+          builder.append(" />\r\n");
+          writer.append(builder);
+        }
+      }
+      writer.write("  </IssueTypes>\r\n</Report>\r\n");
+    }
+  }
+
+  /**
+   * Writes a rule override file matching the issue definition file written by {@link #writeIssueDefinitions(Path, int)} using the same
+   * {@code scale}. Every fourth rule is overridden by its key, every category is overridden and the rules of the most common identifier
+   * prefixes are overridden by patterns.
+   *
+   * @param overrideFile
+   *     The path of the rule override file to write.
+   * @param scale
+   *     The amount of copies of each issue type of the matching issue definition file.
+   *
+   * @throws IOException
+   *     If the file could not be written.
+   */
+  void writeOverrides(@NotNull final Path overrideFile, final int scale) throws IOException {
+    final Set<String> categoryIds = new LinkedHashSet<>();
+    final Set<String> prefixes = new LinkedHashSet<>();
+    for (Map<String, String> issueType : this.issueTypes) {
+      if (issueType.get("CategoryId") != null) {
+        categoryIds.add(issueType.get("CategoryId"));
+      }
+      final String issueTypeId = issueType.get("Id");
+      if (issueTypeId != null && issueTypeId.length() > 6) {
+        prefixes.add(issueTypeId.substring(0, 6));
+      }
+    }
+
+    final StringBuilder builder = new StringBuilder(512);
+    try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(overrideFile), StandardCharsets.UTF_8))) {
+      writer.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\r\n");
+      writer.write("<Overrides xmlns=\"" + OVERRIDES_NAMESPACE + "\">\r\n");
+
+      int index = 0;
+      for (String categoryId : categoryIds) {
+        builder.setLength(0);
+        builder.append("  <InspectCodeCategoryOverride");
+        appendAttribute(builder, "InspectCodeCategoryId", categoryId);
+        appendAttribute(builder, "SonarRuleType", RULE_TYPES[index++ % RULE_TYPES.length]);
+        builder.append(" />\r\n");
+        writer.append(builder);
+      }
+
+      index = 0;
+      for (int copy = 0; copy < scale; copy++) {
+        for (String prefix : prefixes) {
+          if (index++ % 8 != 0) {
+            continue;
+          }
+          builder.setLength(0);
+          builder.append("  <PatternOverride");
+          appendAttribute(builder, "SonarRuleKey", copy == 0 ? prefix + "*" : "regex:" + Pattern.quote(prefix) + ".*\\.Synthetic0*" + copy);
+          appendAttribute(builder, "Priority", Integer.toString(copy));
+          appendAttribute(builder, "SonarSeverity", SEVERITIES[index % SEVERITIES.length]);
+          builder.append(" />\r\n");
+          writer.append(builder);
+        }
+      }
+
+      index = 0;
+      for (int copy = 0; copy < scale; copy++) {
+        for (Map<String, String> issueType : this.issueTypes) {
+          if (index++ % 4 != 0 || issueType.get("Id") == null) {
+            continue;
+          }
+          builder.setLength(0);
+          builder.append("  <SonarRuleOverride");
+          appendAttribute(builder, "SonarRuleKey", copy == 0 ? issueType.get("Id") : getCopiedIssueTypeId(issueType.get("Id"), copy));
+          appendAttribute(builder, "SonarRuleType", RULE_TYPES[index % RULE_TYPES.length]);
+          appendAttribute(builder, "SonarSeverity", SEVERITIES[index % SEVERITIES.length]);
+          builder.append(" />\r\n");
+          writer.append(builder);
+        }
+      }
+      writer.write("</Overrides>\r\n");
+    }
+  }
+
+  /**
+   * Gets the identifier of a copy of an issue type, which starts with the identifier of the original issue type, so that the copy is
+   * assigned to the same language.
+   *
+   * @param issueTypeId
+   *     The identifier of the original issue type.
+   * @param copy
+   *     The number of the copy, which is greater than {@code 0}.
+   *
+   * @return The identifier of the copy of the issue type.
+   */
+  @NotNull
+  private static String getCopiedIssueTypeId(@NotNull final String issueTypeId, final int copy) {
+    return String.format("%s.Synthetic%02d", issueTypeId, copy);
+  }
+
+  /**
+   * Appends an XML attribute to the supplied {@code builder}, where the value is escaped.
+   *
+   * @param builder
+   *     The {@link StringBuilder} to append the attribute to.
+   * @param name
+   *     The name of the attribute.
+   * @param value
+   *     The unescaped value of the attribute.
+   */
+  private static void appendAttribute(@NotNull final StringBuilder builder, @NotNull final String name, @NotNull final String value) {
+    builder.append(' ').append(name).append("=\"");
+    for (int index = 0; index < value.length(); index++) {
+      final char character = value.charAt(index);
+      switch (character) {
+        case '&':
+          builder.append("&amp;");
+          break;
+        case '<':
+          builder.append("&lt;");
+          break;
+        case '>':
+          builder.append("&gt;");
+          break;
+        case '"':
+          builder.append("&quot;");
+          break;
+        default:
+          builder.append(character);
+          break;
+      }
+    }
+    builder.append('"');
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.sonar.api.config.Configuration;
+import org.sonar.api.config.internal.MapSettings;
+import org.sonar.api.server.rule.RulesDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work done by the plugin on each start of the SonarQube server: loading the rules catalog and registering its rules within
+ * the repositories of the {@link CSharpRulesDefinition} and the {@link VBNetRulesDefinition}. The catalog is either read from the
+ * precompiled format used for the bundled files, or parsed from the XML files like issue definition and override files supplied by the
+ * user. Besides the bundled catalog, synthetic catalogs with a multiple of the rules and large override files generated by the {@link
+ * RulesCatalogFileGenerator} are measured, so that growing catalogs of future ReSharper versions can be assessed. The allocations are
+ * reported by the GC profiler, which is enabled by default, while the {@code repositoriesHeapBytes} and {@code catalogHeapBytes} counters
+ * report the heap retained by the repositories and by the catalog, which stays loaded while the server is running.
+ * <p/>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="RulesDefinitionStartupBenchmark -prof gc"}. The first call in a
+ * fresh JVM is measured by adding {@code -bm ss -f 10 -wi 0 -i 1} to the arguments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class RulesDefinitionStartupBenchmark {
+
+  /** The format the catalog is loaded from, which is either {@code precompiled} or {@code xml}. */
+  @Param({"precompiled", "xml"})
+  public String source;
+
+  /** The size of the catalog as multiple of the bundled catalog, where {@code 1} denotes the bundled files themselves. */
+  @Param({"1", "10"})
+  public int scale;
+
+  /** The directory of the generated issue definition and override files, or {@code null} if the bundled files are used. */
+  @Nullable
+  private Path directory;
+
+  /** The issue definition file to parse, or {@code null} if the bundled file is used. */
+  @Nullable
+  private File issueDefinitionFile;
+
+  /** The override file to parse, or {@code null} if the bundled file is used. */
+  @Nullable
+  private File overrideFile;
+
+  /** The precompiled catalog, which is read from memory, so that reading the resource or file does not distort the results. */
+  private byte[] precompiledRulesCatalog;
+
+  /** The configuration of the server, which does not set any property of the plugin. */
+  private Configuration configuration;
+
+  /**
+   * Records the heap retained by the repositories and by the catalog of each execution, which is reported as is instead of being
+   * normalized by the time of the iteration. Since JMH sums the events of all iterations, the averages of all measurement iterations are
+   * reported by the last one only.
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class HeapCounters {
+
+    /** The average heap retained by the repositories, which is {@code 0} unless this is the last measurement iteration. */
+    public long repositoriesHeapBytes;
+
+    /** The average heap retained by the catalog, which is {@code 0} unless this is the last measurement iteration. */
+    public long catalogHeapBytes;
+
+    /** The context containing the repositories of the current execution, which is retained until it has been measured. */
+    @Nullable
+    private RulesDefinition.Context context = null;
+
+    /** The used heap after collecting the garbage of the previous execution. */
+    private long baselineHeapBytes = 0;
+
+    /** The sum of the heap retained by the repositories of all measured executions. */
+    private long repositoriesHeapBytesSum = 0;
+
+    /** The sum of the heap retained by the catalogs of all measured executions. */
+    private long catalogHeapBytesSum = 0;
+
+    /** The amount of measured executions. */
+    private long measuredExecutionCount = 0;
+
+    /** The amount of measurement iterations started so far. */
+    private int measurementIterationCount = 0;
+
+    /** Indicates whether the current iteration is a measurement iteration. */
+    private boolean isMeasurementIteration = false;
+
+    /** Indicates whether the current iteration is the last measurement iteration. */
+    private boolean isLastMeasurementIteration = false;
+
+    /**
+     * Resets the counters before each iteration.
+     *
+     * @param iterationParams
+     *     The parameters of the current iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset(final IterationParams iterationParams) {
+      this.repositoriesHeapBytes = 0;
+      this.catalogHeapBytes = 0;
+      this.isMeasurementIteration = iterationParams.getType() == IterationType.MEASUREMENT;
+      this.isLastMeasurementIteration = this.isMeasurementIteration && ++this.measurementIterationCount == iterationParams.getCount();
+    }
+
+    /**
+     * Discards the catalog and the repositories of the previous execution, so that the next execution loads the catalog again, and
+     * records the used heap afterwards.
+     *
+     * @throws ReflectiveOperationException
+     *     If the catalog could not be discarded.
+     */
+    @Setup(Level.Invocation)
+    public void discardPreviousExecution() throws ReflectiveOperationException {
+      this.context = null;
+      setSharedRulesCatalog(null);
+      this.baselineHeapBytes = getUsedHeapBytesAfterGarbageCollection();
+    }
+
+    /** Records the heap retained by the repositories and by the catalog of the current execution. */
+    @TearDown(Level.Invocation)
+    public void measureRetainedHeap() {
+      final long usedHeapBytes = getUsedHeapBytesAfterGarbageCollection();
+      this.context = null;
+      final long catalogUsedHeapBytes = getUsedHeapBytesAfterGarbageCollection();
+
+      if (this.isMeasurementIteration) {
+        this.repositoriesHeapBytesSum += usedHeapBytes - catalogUsedHeapBytes;
+        this.catalogHeapBytesSum += catalogUsedHeapBytes - this.baselineHeapBytes;
+        this.measuredExecutionCount++;
+      }
+      if (this.isLastMeasurementIteration) {
+        this.repositoriesHeapBytes = this.repositoriesHeapBytesSum / this.measuredExecutionCount;
+        this.catalogHeapBytes = this.catalogHeapBytesSum / this.measuredExecutionCount;
+      }
+    }
+  }
+
+  /**
+   * Generates the issue definition and override files of the requested scale and precompiles the catalog.
+   *
+   * @throws IOException
+   *     If the files could not be written or read.
+   */
+  @Setup(Level.Trial)
+  public void generateRulesCatalog() throws IOException {
+    this.configuration = new MapSettings().asConfig();
+    if (this.scale > 1) {
+      final RulesCatalogFileGenerator generator = new RulesCatalogFileGenerator();
+      this.directory = Files.createTempDirectory("inspectcode-rules-");
+      this.issueDefinitionFile = this.directory.resolve("inspectcode_issue_definitions.xml").toFile();
+      this.overrideFile = this.directory.resolve("sonarqube_rule_overrides.xml").toFile();
+      generator.writeIssueDefinitions(this.issueDefinitionFile.toPath(), this.scale);
+      generator.writeOverrides(this.overrideFile.toPath(), this.scale);
+
+      final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      RulesCatalogSerializer.write(RulesCatalog.loadXml(this.issueDefinitionFile, this.overrideFile, false), outputStream);
+      this.precompiledRulesCatalog = outputStream.toByteArray();
+    } else {
+      try (InputStream inputStream = RulesCatalog.class.getResourceAsStream(RulesCatalog.PRECOMPILED_RESOURCE_NAME)) {
+        if (inputStream == null) {
+          throw new IllegalStateException("Could not find resource " + RulesCatalog.PRECOMPILED_RESOURCE_NAME + ".");
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        for (int length = inputStream.read(buffer); length >= 0; length = inputStream.read(buffer)) {
+          outputStream.write(buffer, 0, length);
+        }
+        this.precompiledRulesCatalog = outputStream.toByteArray();
+      }
+    }
+  }
+
+  /**
+   * Deletes the generated issue definition and override files.
+   *
+   * @throws IOException
+   *     If the files could not be deleted.
+   */
+  @TearDown(Level.Trial)
+  public void deleteRulesCatalog() throws IOException {
+    if (this.directory != null) {
+      Files.deleteIfExists(this.issueDefinitionFile.toPath());
+      Files.deleteIfExists(this.overrideFile.toPath());
+      Files.deleteIfExists(this.directory);
+    }
+  }
+
+  /**
+   * Loads the catalog and defines the repositories of both languages, like the SonarQube server does on each start.
+   *
+   * @param heapCounters
+   *     The {@link HeapCounters} retaining the repositories until the retained heap has been measured.
+   *
+   * @return The {@link RulesDefinition.Context} containing the repositories of both languages.
+   *
+   * @throws Exception
+   *     If the catalog could not be loaded.
+   */
+  @Benchmark
+  public RulesDefinition.Context define(final HeapCounters heapCounters) throws Exception {
+    final RulesCatalog rulesCatalog = "precompiled".equals(this.source)
+        ? RulesCatalogSerializer.read(new ByteArrayInputStream(this.precompiledRulesCatalog))
+        : RulesCatalog.loadXml(this.issueDefinitionFile, this.overrideFile, false);
+    setSharedRulesCatalog(rulesCatalog);
+
+    final RulesDefinition.Context context = new RulesDefinition.Context();
+    new CSharpRulesDefinition(this.configuration).define(context);
+    new VBNetRulesDefinition(this.configuration).define(context);
+    heapCounters.context = context;
+    return context;
+  }
+
+  /**
+   * Replaces the catalog shared by all languages, which is otherwise loaded only once per JVM from the bundled files or the files supplied
+   * via environment variables.
+   *
+   * @param rulesCatalog
+   *     The catalog used by the next rules definitions, or {@code null} if the next rules definition should load the bundled catalog.
+   *
+   * @throws ReflectiveOperationException
+   *     If the catalog could not be replaced.
+   */
+  private static void setSharedRulesCatalog(@Nullable final RulesCatalog rulesCatalog) throws ReflectiveOperationException {
+    final Field rulesCatalogField = RulesCatalog.class.getDeclaredField("rulesCatalog");
+    rulesCatalogField.setAccessible(true);
+    rulesCatalogField.set(null, rulesCatalog);
+  }
+
+  /**
+   * Collects the garbage and gets the used heap afterwards.
+   *
+   * @return The used heap in bytes.
+   */
+  private static long getUsedHeapBytesAfterGarbageCollection() {
+    System.gc();
+    System.gc();
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,515 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Package visible class used by the benchmarks to generate InspectCode XML report files of a synthetic solution. The issues are distributed
+ * like in reports of real solutions: few source code files contain most of the issues, few issue types account for most of the issues and
+ * the lengths of the messages vary. The issue types are taken from the {@code InspectCode} issue definition file contained within the
+ * resources of the plugin. Each source code file consists of lines of {@value LINE_LENGTH} characters separated by {@code \r\n}, so that
+ * the offsets stated within the report can be resolved against a source tree generated with the same layout. The same seed always results
+ * in the same solution and report.
+ */
+final class InspectCodeReportGenerator {
+
+  /** The amount of characters of each line of the synthetic source code files, excluding the line break. */
+  static final int LINE_LENGTH = 60;
+
+  /** The line break of the synthetic source code files. */
+  static final String LINE_BREAK = "\r\n";
+
+  /** The name of the resource containing the {@code InspectCode} issue definitions of all languages. */
+  private static final String ISSUE_DEFINITIONS_RESOURCE_NAME = "/com/jetbrains/resharper/inspectcode/inspectcode_issue_definitions.xml";
+
+  /** The maximum amount of distinct issue types stated within a report, since a single solution never triggers all inspections. */
+  private static final int MAX_ISSUE_TYPE_COUNT = 250;
+
+  /** The maximum amount of source code files of the synthetic solution. */
+  private static final int MAX_FILE_COUNT = 100_000;
+
+  /** The average amount of source code files per project of the synthetic solution. */
+  private static final int FILES_PER_PROJECT = 120;
+
+  /** The exponent of the Zipf distribution of the issues over the source code files. */
+  private static final double FILE_DISTRIBUTION_EXPONENT = 0.8;
+
+  /** The exponent of the Zipf distribution of the issues over the issue types. */
+  private static final double ISSUE_TYPE_DISTRIBUTION_EXPONENT = 1.1;
+
+  /** The templates of the issue messages, where {@code {0}} is replaced by an identifier of random length. */
+  private static final String[] MESSAGE_TEMPLATES = {
+      "Field '{0}' is never used",
+      "Possible 'System.NullReferenceException'",
+      "Method '{0}' is never used",
+      "Local variable '{0}' is never used",
+      "Name '{0}' does not match rule 'Methods, properties and events'. Suggested name is '{0}Async'.",
+      "Parameter '{0}' is only used for precondition check(s)",
+      "Type cast is redundant",
+      "Redundant cast to 'IEnumerable<{0}>'",
+      "Use object initializer",
+      "Convert into 'using' declaration",
+      "Auto-property can be made get-only",
+      "Possible multiple enumeration of 'IEnumerable<{0}>' & its elements",
+  };
+
+  /** The amount of issues of the report. */
+  private final int issueCount;
+
+  /** The extension of the source code files, e.g. {@code cs}. */
+  @NotNull
+  private final String fileExtension;
+
+  /** The seed of all random values, so that the same seed always results in the same solution and report. */
+  private final long seed;
+
+  /** The names of the projects of the synthetic solution. */
+  @NotNull
+  private final List<String> projectNames = new ArrayList<>();
+
+  /** The paths of the source code files relative to the solution directory, as stated within the report, grouped by project. */
+  @NotNull
+  private final List<String> filePaths = new ArrayList<>();
+
+  /** The index of the project of each source code file. */
+  @NotNull
+  private final int[] fileProjectIndices;
+
+  /** The amount of lines of each source code file. */
+  @NotNull
+  private final int[] fileLineCounts;
+
+  /** The amount of issues of each source code file. */
+  @NotNull
+  private final int[] fileIssueCounts;
+
+  /** The attributes of the issue types stated within the report, ordered by their frequency. */
+  @NotNull
+  private final List<Map<String, String>> issueTypes;
+
+  /**
+   * Creates a new instance of the {@link InspectCodeReportGenerator} class, which lays out a synthetic solution with an amount of source
+   * code files and projects growing with the supplied {@code issueCount}.
+   *
+   * @param issueCount
+   *     The amount of issues of the report.
+   * @param fileExtension
+   *     The extension of the source code files, e.g. {@code cs} or {@code vb}.
+   * @param seed
+   *     The seed of all random values.
+   */
+  InspectCodeReportGenerator(final int issueCount, @NotNull final String fileExtension, final long seed) {
+    this.issueCount = issueCount;
+    this.fileExtension = fileExtension;
+    this.seed = seed;
+
+    final SplittableRandom random = new SplittableRandom(seed);
+    final int fileCount = Math.max(1, Math.min(MAX_FILE_COUNT, issueCount / 10));
+    final int projectCount = Math.max(1, fileCount / FILES_PER_PROJECT);
+    for (int projectIndex = 0; projectIndex < projectCount; projectIndex++) {
+      this.projectNames.add(String.format("Synthetic.Module%03d", projectIndex));
+    }
+
+    this.fileProjectIndices = new int[fileCount];
+    this.fileLineCounts = new int[fileCount];
+    for (int fileIndex = 0; fileIndex < fileCount; fileIndex++) {
+      final int projectIndex = (int) ((long) fileIndex * projectCount / fileCount);
+      this.fileProjectIndices[fileIndex] = projectIndex;
+      this.filePaths.add(String.format("%s\\Folder%02d\\Type%06d.%s",
+          this.projectNames.get(projectIndex), fileIndex % 16, fileIndex, fileExtension));
+      // The lengths of source code files are roughly log-normal distributed with a median of about 150 lines
+      this.fileLineCounts[fileIndex] = (int) Math.max(20, Math.min(5_000, Math.exp(5.0 + 0.8 * nextGaussian(random))));
+    }
+
+    // Distribute the issues over the files, where the rank of each file is random so that large files are spread over all projects
+    this.fileIssueCounts = new int[fileCount];
+    final int[] fileRanks = shuffledIndices(fileCount, random);
+    final ZipfDistribution fileDistribution = new ZipfDistribution(fileCount, FILE_DISTRIBUTION_EXPONENT);
+    for (int index = 0; index < issueCount; index++) {
+      this.fileIssueCounts[fileRanks[fileDistribution.sample(random)]]++;
+    }
+
+    final List<Map<String, String>> allIssueTypes = readIssueTypes();
+    Collections.shuffle(allIssueTypes, new Random(seed));
+    this.issueTypes = new ArrayList<>(allIssueTypes.subList(0, Math.min(MAX_ISSUE_TYPE_COUNT, allIssueTypes.size())));
+  }
+
+  /**
+   * Gets the amount of issues of the report.
+   *
+   * @return The amount of issues of the report.
+   */
+  int getIssueCount() {
+    return this.issueCount;
+  }
+
+  /**
+   * Gets the paths of the source code files relative to the solution directory, as stated within the report.
+   *
+   * @return An unmodifiable {@link List} of the paths of all source code files, using backslashes as separator.
+   */
+  @NotNull
+  List<String> getFilePaths() {
+    return Collections.unmodifiableList(this.filePaths);
+  }
+
+  /**
+   * Gets the amount of lines of a source code file.
+   *
+   * @param fileIndex
+   *     The index of the source code file within {@link #getFilePaths()}.
+   *
+   * @return The amount of lines of the source code file.
+   */
+  int getLineCount(final int fileIndex) {
+    return this.fileLineCounts[fileIndex];
+  }
+
+  /**
+   * Gets the identifiers of the issue types stated within the report.
+   *
+   * @return A new {@link List} of the identifiers of all issue types, ordered by their frequency.
+   */
+  @NotNull
+  List<String> getIssueTypeIds() {
+    final List<String> issueTypeIds = new ArrayList<>(this.issueTypes.size());
+    for (Map<String, String> issueType : this.issueTypes) {
+      issueTypeIds.add(issueType.get("Id"));
+    }
+    return issueTypeIds;
+  }
+
+  /**
+   * Creates the contents of a source code file, which consists of {@link #getLineCount(int)} lines of {@value LINE_LENGTH} characters.
+   *
+   * @param fileIndex
+   *     The index of the source code file within {@link #getFilePaths()}.
+   *
+   * @return The contents of the source code file.
+   */
+  @NotNull
+  String getSourceFileContent(final int fileIndex) {
+    final int lineCount = this.fileLineCounts[fileIndex];
+    final StringBuilder builder = new StringBuilder(lineCount * (LINE_LENGTH + LINE_BREAK.length()));
+    for (int line = 1; line <= lineCount; line++) {
+      final int lineStart = builder.length();
+      builder.append("    private static readonly int Field").append(line).append(" = ").append(fileIndex).append(';');
+      while (builder.length() - lineStart < LINE_LENGTH) {
+        builder.append(' ');
+      }
+      builder.setLength(lineStart + LINE_LENGTH);
+      builder.append(LINE_BREAK);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Writes the solution file of the synthetic solution, which states the project files of all projects. The project files are located in
+   * the directory of the solution file, so that the issues of all projects are imported into a module located in that directory.
+   *
+   * @param solutionFile
+   *     The path of the solution file to write.
+   *
+   * @throws IOException
+   *     If the solution file could not be written.
+   */
+  void writeSolution(@NotNull final Path solutionFile) throws IOException {
+    final StringBuilder builder = new StringBuilder(128 * (this.projectNames.size() + 4));
+    builder.append("Microsoft Visual Studio Solution File, Format Version 12.00\r\n");
+    for (int projectIndex = 0; projectIndex < this.projectNames.size(); projectIndex++) {
+      final String projectName = this.projectNames.get(projectIndex);
+      builder.append("Project(\"{9A19103F-16F7-4668-BE54-9A1E7A4F7556}\") = \"").append(projectName).append("\", \"")
+          .append(projectName).append('.').append(this.fileExtension).append("proj\", \"")
+          .append(String.format("{00000000-0000-0000-0000-%012d}", projectIndex)).append("\"\r\nEndProject\r\n");
+    }
+    Files.write(solutionFile, builder.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes the InspectCode XML report file of the synthetic solution, while the issues are generated on the fly, so that reports of
+   * millions of issues can be written without holding them in memory.
+   *
+   * @param reportFile
+   *     The path of the report file to write.
+   *
+   * @throws IOException
+   *     If the report file could not be written.
+   */
+  void writeReport(@NotNull final Path reportFile) throws IOException {
+    final SplittableRandom random = new SplittableRandom(this.seed ^ 0x5DEECE66DL);
+    final ZipfDistribution issueTypeDistribution = new ZipfDistribution(this.issueTypes.size(), ISSUE_TYPE_DISTRIBUTION_EXPONENT);
+    final StringBuilder builder = new StringBuilder(512);
+
+    try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(reportFile), StandardCharsets.UTF_8), 1 << 20)) {
+      writer.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\r\n");
+      writer.write("<Report ToolsVersion=\"253.0.20251209.162704\">\r\n");
+      writer.write("  <Information>\r\n    <Solution>Synthetic.sln</Solution>\r\n");
+      writer.write("    <InspectionScope>\r\n      <Element>Solution</Element>\r\n    </InspectionScope>\r\n  </Information>\r\n");
+
+      writer.write("  <IssueTypes>\r\n");
+      for (Map<String, String> issueType : this.issueTypes) {
+        builder.setLength(0);
+        builder.append("    <IssueType");
+        issueType.forEach((name, value) -> appendAttribute(builder, name, value));
+        builder.append(" />\r\n");
+        writer.append(builder);
+      }
+      writer.write("  </IssueTypes>\r\n");
+
+      writer.write("  <Issues>\r\n");
+      int fileIndex = 0;
+      for (int projectIndex = 0; projectIndex < this.projectNames.size(); projectIndex++) {
+        builder.setLength(0);
+        builder.append("    <Project");
+        appendAttribute(builder, "Name", this.projectNames.get(projectIndex));
+        builder.append(">\r\n");
+        writer.append(builder);
+
+        for (; fileIndex < this.filePaths.size() && this.fileProjectIndices[fileIndex] == projectIndex; fileIndex++) {
+          for (int index = 0; index < this.fileIssueCounts[fileIndex]; index++) {
+            builder.setLength(0);
+            this.appendIssue(builder, fileIndex, issueTypeDistribution.sample(random), random);
+            writer.append(builder);
+          }
+        }
+        writer.write("    </Project>\r\n");
+      }
+      writer.write("  </Issues>\r\n</Report>\r\n");
+    }
+  }
+
+  /**
+   * Appends a single {@code Issue} element of the supplied source code file and issue type to the supplied {@code builder}.
+   *
+   * @param builder
+   *     The {@link StringBuilder} to append the element to.
+   * @param fileIndex
+   *     The index of the source code file of the issue.
+   * @param issueTypeIndex
+   *     The index of the issue type of the issue.
+   * @param random
+   *     The source of the random location and message of the issue.
+   */
+  private void appendIssue(
+      @NotNull final StringBuilder builder,
+      final int fileIndex,
+      final int issueTypeIndex,
+      @NotNull final SplittableRandom random) {
+    final int line = 1 + random.nextInt(this.fileLineCounts[fileIndex]);
+    final int column = random.nextInt(LINE_LENGTH - 10);
+    final int offsetStart = (line - 1) * (LINE_LENGTH + LINE_BREAK.length()) + column;
+    final int offsetEnd = offsetStart + 1 + random.nextInt(10);
+
+    // The message depends on the issue type, like in real reports, while the identifiers have a log-normal distributed length
+    final String template = MESSAGE_TEMPLATES[issueTypeIndex % MESSAGE_TEMPLATES.length];
+    final String identifier = randomIdentifier(random, (int) Math.max(3, Math.min(60, Math.exp(2.3 + 0.6 * nextGaussian(random)))));
+
+    builder.append("      <Issue");
+    appendAttribute(builder, "TypeId", this.issueTypes.get(issueTypeIndex).get("Id"));
+    appendAttribute(builder, "File", this.filePaths.get(fileIndex));
+    builder.append(" Offset=\"").append(offsetStart).append('-').append(offsetEnd).append('"');
+    builder.append(" Line=\"").append(line).append('"');
+    appendAttribute(builder, "Message", template.replace("{0}", identifier));
+    builder.append(" />\r\n");
+  }
+
+  /**
+   * Appends an XML attribute to the supplied {@code builder}, where the value is escaped.
+   *
+   * @param builder
+   *     The {@link StringBuilder} to append the attribute to.
+   * @param name
+   *     The name of the attribute.
+   * @param value
+   *     The unescaped value of the attribute.
+   */
+  private static void appendAttribute(@NotNull final StringBuilder builder, @NotNull final String name, @NotNull final String value) {
+    builder.append(' ').append(name).append("=\"");
+    for (int index = 0; index < value.length(); index++) {
+      final char character = value.charAt(index);
+      switch (character) {
+        case '&':
+          builder.append("&amp;");
+          break;
+        case '<':
+          builder.append("&lt;");
+          break;
+        case '>':
+          builder.append("&gt;");
+          break;
+        case '"':
+          builder.append("&quot;");
+          break;
+        default:
+          builder.append(character);
+          break;
+      }
+    }
+    builder.append('"');
+  }
+
+  /**
+   * Creates an identifier in camel case of the supplied {@code length}.
+   *
+   * @param random
+   *     The source of the characters of the identifier.
+   * @param length
+   *     The length of the identifier.
+   *
+   * @return A new identifier of the supplied {@code length}.
+   */
+  @NotNull
+  private static String randomIdentifier(@NotNull final SplittableRandom random, final int length) {
+    final char[] characters = new char[length];
+    for (int index = 0; index < length; index++) {
+      final char character = (char) ('a' + random.nextInt(26));
+      characters[index] = index == 0 || random.nextInt(6) == 0 ? Character.toUpperCase(character) : character;
+    }
+    return new String(characters);
+  }
+
+  /**
+   * Gets a normal distributed value with mean {@code 0} and standard deviation {@code 1}, using the Box-Muller transform.
+   *
+   * @param random
+   *     The source of the uniform distributed values.
+   *
+   * @return A normal distributed value.
+   */
+  private static double nextGaussian(@NotNull final SplittableRandom random) {
+    return Math.sqrt(-2.0 * Math.log(1.0 - random.nextDouble())) * Math.cos(2.0 * Math.PI * random.nextDouble());
+  }
+
+  /**
+   * Creates a random permutation of the indices {@code 0} to {@code count - 1}.
+   *
+   * @param count
+   *     The amount of indices.
+   * @param random
+   *     The source of the permutation.
+   *
+   * @return A new array containing each index exactly once.
+   */
+  @NotNull
+  private static int[] shuffledIndices(final int count, @NotNull final SplittableRandom random) {
+    final int[] indices = new int[count];
+    for (int index = 0; index < count; index++) {
+      indices[index] = index;
+    }
+    for (int index = count - 1; index > 0; index--) {
+      final int otherIndex = random.nextInt(index + 1);
+      final int value = indices[index];
+      indices[index] = indices[otherIndex];
+      indices[otherIndex] = value;
+    }
+    return indices;
+  }
+
+  /**
+   * Reads the attributes of all issue types of the {@code InspectCode} issue definition file contained within the resources of the plugin.
+   *
+   * @return A new {@link List} of the attributes of each issue type, in the order of the file.
+   */
+  @NotNull
+  private static List<Map<String, String>> readIssueTypes() {
+    final List<Map<String, String>> issueTypes = new ArrayList<>();
+    try (InputStream inputStream = InspectCodeReportGenerator.class.getResourceAsStream(ISSUE_DEFINITIONS_RESOURCE_NAME)) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Could not find resource " + ISSUE_DEFINITIONS_RESOURCE_NAME + ".");
+      }
+      SAXParserFactory.newInstance().newSAXParser().parse(inputStream, new DefaultHandler() {
+        @Override
+        public void startElement(String uri, String localName, String qualifiedName, Attributes attributes) {
+          if ("IssueType".equals(qualifiedName)) {
+            final Map<String, String> issueType = new LinkedHashMap<>();
+            for (int index = 0; index < attributes.getLength(); index++) {
+              issueType.put(attributes.getQName(index), attributes.getValue(index));
+            }
+            issueTypes.add(issueType);
+          }
+        }
+      });
+    } catch (ParserConfigurationException | SAXException | IOException exception) {
+      throw new IllegalStateException("Could not read resource " + ISSUE_DEFINITIONS_RESOURCE_NAME + ".", exception);
+    }
+    return issueTypes;
+  }
+
+  /** Samples ranks {@code 0} to {@code n - 1} of a Zipf distribution, where rank {@code 0} is the most frequent one. */
+  private static final class ZipfDistribution {
+
+    /** The cumulative probability of each rank. */
+    @NotNull
+    private final double[] cumulativeProbabilities;
+
+    /**
+     * Creates a new instance of the {@link ZipfDistribution} class.
+     *
+     * @param rankCount
+     *     The amount of ranks.
+     * @param exponent
+     *     The exponent of the distribution, where higher values result in a more skewed distribution.
+     */
+    ZipfDistribution(final int rankCount, final double exponent) {
+      this.cumulativeProbabilities = new double[rankCount];
+      double sum = 0.0;
+      for (int rank = 0; rank < rankCount; rank++) {
+        sum += 1.0 / Math.pow(rank + 1, exponent);
+        this.cumulativeProbabilities[rank] = sum;
+      }
+      for (int rank = 0; rank < rankCount; rank++) {
+        this.cumulativeProbabilities[rank] /= sum;
+      }
+    }
+
+    /**
+     * Samples a single rank.
+     *
+     * @param random
+     *     The source of the uniform distributed values.
+     *
+     * @return The sampled rank.
+     */
+    int sample(@NotNull final SplittableRandom random) {
+      final int index = Arrays.binarySearch(this.cumulativeProbabilities, random.nextDouble());
+      return Math.min(this.cumulativeProbabilities.length - 1, index >= 0 ? index : -index - 1);
+    }
+  }
+}
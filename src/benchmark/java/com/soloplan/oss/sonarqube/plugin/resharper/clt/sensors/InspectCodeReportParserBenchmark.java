@@ -0,0 +1,234 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.converters.InspectCodeIssueDefinitionToSonarQubeRuleDefinitionConverter;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.converters.InspectCodeIssueToSonarQubeIssueConverter;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.InspectCodePredicates;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.ObjectPredicates;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.xml.InspectCodeXmlFileParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.parsers.SAXParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Measures the ingestion of InspectCode XML report files by the {@link InspectCodeXmlFileParser}, configured like the sensors do, on
+ * synthetic reports generated by the {@link InspectCodeReportGenerator}. Each parsing mode of the sensors is measured separately: parsing
+ * and converting all issues, counting the issues per file and issue type if only measures are saved, and parsing the issues of few changed
+ * files only. Besides the time per report, the throughput and time per issue are reported by the {@code issues} counter, while the
+ * allocation rate is reported by the GC profiler, which is enabled by default.
+ * <p/>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="InspectCodeReportParserBenchmark -p issueCount=10000 -prof gc"}.
+ * Reports of 10 million issues are larger than 1 GB and require a heap of several GB when all issues are parsed.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class InspectCodeReportParserBenchmark {
+
+  /** The share of the source code files which are considered changed by {@link #parseIssuesOfChangedFiles(IssueCounters, Blackhole)}. */
+  private static final int CHANGED_FILES_PERCENTAGE = 5;
+
+  /** The amount of issues of the generated report. */
+  @Param({"10000", "100000", "1000000", "10000000"})
+  public int issueCount;
+
+  /** The generated report file, which is deleted after all iterations. */
+  private Path reportFile;
+
+  /** The paths of the source code files which are considered changed, as stated within the report. */
+  private Set<String> changedFilePaths;
+
+  /**
+   * Counts the parsed issues of each operation, so that JMH reports the throughput of issues and the time per issue besides the results
+   * per report.
+   */
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class IssueCounters {
+
+    /** The amount of issues parsed or counted. */
+    public long issues;
+
+    /** Resets the counter before each iteration. */
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.issues = 0;
+    }
+  }
+
+  /**
+   * Generates the report file of the requested size and selects the changed source code files.
+   *
+   * @throws IOException
+   *     If the report file could not be written.
+   */
+  @Setup(Level.Trial)
+  public void generateReport() throws IOException {
+    final InspectCodeReportGenerator generator = new InspectCodeReportGenerator(this.issueCount, "cs", 42L);
+    this.reportFile = Files.createTempFile("inspectcode-report-", ".xml");
+    generator.writeReport(this.reportFile);
+
+    final List<String> filePaths = generator.getFilePaths();
+    this.changedFilePaths = new HashSet<>();
+    for (int index = 0; index < filePaths.size(); index += 100 / CHANGED_FILES_PERCENTAGE) {
+      this.changedFilePaths.add(filePaths.get(index));
+    }
+  }
+
+  /**
+   * Deletes the report file.
+   *
+   * @throws IOException
+   *     If the report file could not be deleted.
+   */
+  @TearDown(Level.Trial)
+  public void deleteReport() throws IOException {
+    Files.deleteIfExists(this.reportFile);
+  }
+
+  /**
+   * Parses and converts all issues and issue types of the report, like the sensors do if issues are saved.
+   *
+   * @param counters
+   *     The {@link IssueCounters} receiving the amount of parsed issues.
+   * @param blackhole
+   *     The {@link Blackhole} consuming the results.
+   *
+   * @throws Exception
+   *     If the report could not be parsed.
+   */
+  @Benchmark
+  public void parseIssues(final IssueCounters counters, final Blackhole blackhole) throws Exception {
+    final InspectCodeXmlFileParser xmlFileParser = this.parse(null, null);
+    final int parsedIssueCount = xmlFileParser.getIssues().size();
+    counters.issues += parsedIssueCount;
+    blackhole.consume(parsedIssueCount);
+    blackhole.consume(xmlFileParser.getRuleDefinitions());
+  }
+
+  /**
+   * Counts the issues per source code file and issue type using an {@link IssueMeasureCounter}, like the sensors do if only measures are
+   * saved.
+   *
+   * @param counters
+   *     The {@link IssueCounters} receiving the amount of counted issues.
+   * @param blackhole
+   *     The {@link Blackhole} consuming the results.
+   *
+   * @throws Exception
+   *     If the report could not be parsed.
+   */
+  @Benchmark
+  public void countIssues(final IssueCounters counters, final Blackhole blackhole) throws Exception {
+    final IssueMeasureCounter issueMeasureCounter = new IssueMeasureCounter();
+    final InspectCodeXmlFileParser xmlFileParser = this.parse(null, issueMeasureCounter);
+    counters.issues += issueMeasureCounter.getIssueCount();
+    blackhole.consume(issueMeasureCounter.getCountsByFilePath());
+    blackhole.consume(xmlFileParser.getRuleDefinitions());
+  }
+
+  /**
+   * Parses and converts the issues of few changed source code files only, like the sensors do if only changed files are analyzed.
+   *
+   * @param counters
+   *     The {@link IssueCounters} receiving the amount of parsed issues.
+   * @param blackhole
+   *     The {@link Blackhole} consuming the results.
+   *
+   * @throws Exception
+   *     If the report could not be parsed.
+   */
+  @Benchmark
+  public void parseIssuesOfChangedFiles(final IssueCounters counters, final Blackhole blackhole) throws Exception {
+    final InspectCodeXmlFileParser xmlFileParser = this.parse(this.changedFilePaths::contains, null);
+    final int parsedIssueCount = xmlFileParser.getIssues().size();
+    counters.issues += parsedIssueCount;
+    blackhole.consume(parsedIssueCount);
+    blackhole.consume(xmlFileParser.getRuleDefinitions());
+  }
+
+  /**
+   * Parses the report file using an {@link InspectCodeXmlFileParser} which is configured like the one of the sensors.
+   *
+   * @param filePathPredicate
+   *     The {@link Predicate} deciding whether the issues of a source code file are parsed, or {@code null} if all issues are parsed.
+   * @param issueCounter
+   *     The {@link BiConsumer} counting the issues instead of parsing them, or {@code null} if the issues are parsed.
+   *
+   * @return The {@link InspectCodeXmlFileParser} which parsed the report file.
+   *
+   * @throws Exception
+   *     If the report could not be parsed.
+   */
+  @NotNull
+  private InspectCodeXmlFileParser parse(
+      @Nullable final Predicate<String> filePathPredicate,
+      @Nullable final BiConsumer<String, String> issueCounter) throws Exception {
+    final InspectCodeXmlFileParser xmlFileParser = new InspectCodeXmlFileParser(
+        new InspectCodeIssueDefinitionToSonarQubeRuleDefinitionConverter(),
+        new InspectCodeIssueToSonarQubeIssueConverter(),
+        Arrays.asList(
+            ObjectPredicates.isNotNullPredicate(),
+            InspectCodePredicates.hasNonEmptyIssueDescription()),
+        Arrays.asList(
+            ObjectPredicates.isNotNullPredicate(),
+            InspectCodePredicates.hasValidIssueOffset(),
+            InspectCodePredicates.isValidLineNumber()),
+        Arrays.asList(
+            ObjectPredicates.isNotNullPredicate(),
+            projectName -> !projectName.isEmpty()),
+        filePathPredicate != null ? Collections.singletonList(filePathPredicate) : null);
+    xmlFileParser.setIssueCounter(issueCounter);
+
+    try (InputStream inputStream = Files.newInputStream(this.reportFile)) {
+      SAXParserFactory.newInstance().newSAXParser().parse(inputStream, xmlFileParser);
+    }
+    return xmlFileParser;
+  }
+}
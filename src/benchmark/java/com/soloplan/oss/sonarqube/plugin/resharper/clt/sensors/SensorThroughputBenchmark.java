@@ -0,0 +1,273 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.CSharpLanguage;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.VBNetLanguage;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.sonar.api.batch.rule.ActiveRules;
+import org.sonar.api.batch.rule.internal.ActiveRulesBuilder;
+import org.sonar.api.batch.rule.internal.NewActiveRule;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.sonar.api.config.internal.MapSettings;
+import org.sonar.api.rule.RuleKey;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the end-to-end ingestion of an InspectCode XML report file by the {@link CSharpSensor} and the {@link VBNetSensor}, including
+ * the resolution of source code files, the creation of text ranges and saving the issues, on a synthetic source tree and report generated
+ * by the {@link InspectCodeReportGenerator}. The source tree consists of thousands of files, while the rules of all issue types of the
+ * report are active. The throughput and time per issue are reported by the {@code issues} counter, while the {@code peakHeapBytes}
+ * counter reports the high-water mark of the heap during all measurement iterations, as sum of the peak usages of all heap memory pools.
+ * <p/>
+ * Run using {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="SensorThroughputBenchmark -p language=cs"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class SensorThroughputBenchmark {
+
+  /** The name of the language whose sensor is measured. */
+  @Param({CSharpLanguage.LANGUAGE_NAME, VBNetLanguage.LANGUAGE_NAME})
+  public String language;
+
+  /** The amount of issues of the generated report, where the source tree contains one file per ten issues. */
+  @Param({"20000", "200000"})
+  public int issueCount;
+
+  /** The directory of the generated source tree, solution file and report file, which is the base directory of the module. */
+  private Path baseDirectory;
+
+  /** The input files of the generated source tree, which are shared by all executions of the sensor. */
+  private List<DefaultInputFile> inputFiles;
+
+  /** The rules of all issue types of the generated report. */
+  private ActiveRules activeRules;
+
+  /** The settings of the module. */
+  private MapSettings settings;
+
+  /** The sensor which is measured. */
+  private BaseSensor sensor;
+
+  /** The context of the next execution of the sensor, which is created before each execution. */
+  private SensorContextTester context;
+
+  /** Counts the saved issues of each operation, so that JMH reports the throughput of issues and the time per issue. */
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class IssueCounters {
+
+    /** The amount of saved issues. */
+    public long issues;
+
+    /** Resets the counter before each iteration. */
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.issues = 0;
+    }
+  }
+
+  /**
+   * Records the high-water mark of the heap, which is reported as is instead of being normalized by the time of the iteration. Since JMH
+   * sums the events of all iterations, the high-water mark of all measurement iterations is reported by the last one only.
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class HeapCounters {
+
+    /** The high-water mark of the heap during all measurement iterations, which is {@code 0} unless this is the last one. */
+    public long peakHeapBytes;
+
+    /** The high-water mark of the heap during all measurement iterations so far. */
+    private long maxPeakHeapBytes = 0;
+
+    /** The amount of measurement iterations started so far. */
+    private int measurementIterationCount = 0;
+
+    /** Indicates whether the current iteration is a measurement iteration. */
+    private boolean isMeasurementIteration = false;
+
+    /** Indicates whether the current iteration is the last measurement iteration. */
+    private boolean isLastMeasurementIteration = false;
+
+    /**
+     * Resets the counter before each iteration.
+     *
+     * @param iterationParams
+     *     The parameters of the current iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset(final IterationParams iterationParams) {
+      this.peakHeapBytes = 0;
+      this.isMeasurementIteration = iterationParams.getType() == IterationType.MEASUREMENT;
+      this.isLastMeasurementIteration = this.isMeasurementIteration && ++this.measurementIterationCount == iterationParams.getCount();
+    }
+
+    /**
+     * Records the high-water mark of the heap during a single execution of the sensor.
+     *
+     * @param peakHeapBytes
+     *     The high-water mark of the heap during the execution.
+     */
+    void record(final long peakHeapBytes) {
+      if (this.isMeasurementIteration) {
+        this.maxPeakHeapBytes = Math.max(this.maxPeakHeapBytes, peakHeapBytes);
+      }
+      this.peakHeapBytes = this.isLastMeasurementIteration ? this.maxPeakHeapBytes : 0;
+    }
+  }
+
+  /**
+   * Generates the source tree, solution file and report file and prepares the input files, rules and settings of the module.
+   *
+   * @throws IOException
+   *     If the files could not be written.
+   */
+  @Setup(Level.Trial)
+  public void generateSourceTree() throws IOException {
+    final boolean isCSharp = CSharpLanguage.LANGUAGE_NAME.equals(this.language);
+    final InspectCodeReportGenerator generator = new InspectCodeReportGenerator(this.issueCount, isCSharp ? "cs" : "vb", 42L);
+    this.baseDirectory = Files.createTempDirectory("inspectcode-sources-");
+    Files.createDirectories(this.baseDirectory.resolve("work"));
+
+    final List<String> filePaths = generator.getFilePaths();
+    this.inputFiles = new ArrayList<>(filePaths.size());
+    for (int fileIndex = 0; fileIndex < filePaths.size(); fileIndex++) {
+      final Path file = this.baseDirectory.resolve(filePaths.get(fileIndex).replace('\\', '/'));
+      final String content = generator.getSourceFileContent(fileIndex);
+      Files.createDirectories(file.getParent());
+      Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+      this.inputFiles.add(TestInputFileBuilder.create("module", this.baseDirectory.toFile(), file.toFile())
+          .setLanguage(this.language)
+          .setCharset(StandardCharsets.UTF_8)
+          .initMetadata(content)
+          .build());
+    }
+
+    final Path reportFile = this.baseDirectory.resolve("inspectcode.xml");
+    generator.writeSolution(this.baseDirectory.resolve("Synthetic.sln"));
+    generator.writeReport(reportFile);
+
+    final String repositoryKey =
+        isCSharp ? ReSharperCltConfiguration.RULES_REPOSITORY_CSHARP_KEY : ReSharperCltConfiguration.RULES_REPOSITORY_VBNET_KEY;
+    final ActiveRulesBuilder activeRulesBuilder = new ActiveRulesBuilder();
+    for (String issueTypeId : generator.getIssueTypeIds()) {
+      activeRulesBuilder.addRule(new NewActiveRule.Builder().setRuleKey(RuleKey.of(repositoryKey, issueTypeId)).build());
+    }
+    this.activeRules = activeRulesBuilder.build();
+
+    this.settings = new MapSettings();
+    this.settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_SONAR_PROJECT_NAME, "Synthetic");
+    this.settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_SOLUTION_FILE, "Synthetic.sln");
+    this.settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_USER_DIRECTORY, this.baseDirectory.toString());
+    this.settings.setProperty(
+        isCSharp ? ReSharperCltConfiguration.PROPERTY_KEY_CS_REPORT_PATH : ReSharperCltConfiguration.PROPERTY_KEY_VBNET_REPORT_PATH,
+        reportFile.toString());
+    this.sensor = isCSharp ? new CSharpSensor() : new VBNetSensor();
+  }
+
+  /**
+   * Deletes the source tree, solution file and report file.
+   *
+   * @throws IOException
+   *     If the files could not be deleted.
+   */
+  @TearDown(Level.Trial)
+  public void deleteSourceTree() throws IOException {
+    try (Stream<Path> paths = Files.walk(this.baseDirectory)) {
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  /**
+   * Creates the context of the next execution of the sensor, which does not contain any issue, and resets the peak usage of the heap after
+   * collecting the garbage of the previous execution.
+   */
+  @Setup(Level.Invocation)
+  public void createContext() {
+    this.context = SensorContextTester.create(this.baseDirectory);
+    this.context.fileSystem().setWorkDir(this.baseDirectory.resolve("work"));
+    this.inputFiles.forEach(this.context.fileSystem()::add);
+    this.context.setActiveRules(this.activeRules);
+    this.context.setSettings(this.settings);
+
+    System.gc();
+    for (MemoryPoolMXBean memoryPoolMxBean : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (memoryPoolMxBean.getType() == MemoryType.HEAP) {
+        memoryPoolMxBean.resetPeakUsage();
+      }
+    }
+  }
+
+  /**
+   * Executes the sensor, which parses the report file and saves the issues of all source code files.
+   *
+   * @param issueCounters
+   *     The {@link IssueCounters} receiving the amount of saved issues.
+   * @param heapCounters
+   *     The {@link HeapCounters} receiving the high-water mark of the heap.
+   */
+  @Benchmark
+  public void execute(final IssueCounters issueCounters, final HeapCounters heapCounters) {
+    this.sensor.execute(this.context);
+    issueCounters.issues += this.context.allIssues().size();
+
+    long peakHeapBytes = 0;
+    for (MemoryPoolMXBean memoryPoolMxBean : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (memoryPoolMxBean.getType() == MemoryType.HEAP) {
+        peakHeapBytes += memoryPoolMxBean.getPeakUsage().getUsed();
+      }
+    }
+    heapCounters.record(peakHeapBytes);
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.soloplan.oss.sonarqube.plugin.resharper.clt;
 
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.measures.IssueMeasureComputer;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.measures.ReSharperCltMetrics;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.properties.*;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.rules.CSharpRulesDefinition;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.rules.VBNetRulesDefinition;
@@ -45,7 +47,23 @@ public class ReSharperCltPlugin
         new ProjectNameProperty().buildPropertyDefinition(),
         new InspectCodePathProperty().buildPropertyDefinition(),
         new InspectCodeVersionProperty().buildPropertyDefinition(),
-        new InspectCodeXmlFileSchemaValidationProperty().buildPropertyDefinition());
+        new InspectCodeXmlFileSchemaValidationProperty().buildPropertyDefinition(),
+        new ChangedFilesOnlyProperty().buildPropertyDefinition(),
+        new TimeBudgetProperty().buildPropertyDefinition(),
+        new TimeBudgetPrioritizeSeverityProperty().buildPropertyDefinition(),
+        new DuplicateRuleKeysProperty().buildPropertyDefinition(),
+        new CSharpBaselinePathProperty().buildPropertyDefinition(),
+        new VisualBasicNetBaselinePathProperty().buildPropertyDefinition(),
+        new BaselineUpdateProperty().buildPropertyDefinition(),
+        new ExternalIssuesProperty().buildPropertyDefinition(),
+        new MeasuresOnlyProperty().buildPropertyDefinition(),
+        new CSharpSolutionReportPathsProperty().buildPropertyDefinition(),
+        new VisualBasicNetSolutionReportPathsProperty().buildPropertyDefinition(),
+        new RulesIncludedProperty().buildPropertyDefinition(),
+        new RulesExcludedProperty().buildPropertyDefinition());
+
+    // Register the metrics saved if only measures of the issues are imported, which are aggregated to the project by the measure computer
+    context.addExtensions(ReSharperCltMetrics.class, IssueMeasureComputer.class);
 
     // Register sensor extension which parses the resulting XML file and creates SonarQube issues
     context.addExtension(CSharpSensor.class);
@@ -54,6 +54,71 @@ public final class ReSharperCltConfiguration {
   /** SonarQube property defining the location of the InspectCode report XML file for VisualBasic.NET issues. */
   public static final String PROPERTY_KEY_VBNET_REPORT_PATH = "resharper.clt.vbnet.reportPath";
 
+  /**
+   * SonarQube property defining a comma separated list of solution files and the InspectCode report XML files for C# issues created for
+   * them, in the form {@code Solution.sln=report.xml}. If set, properties {@value #PROPERTY_KEY_SOLUTION_FILE} and {@value
+   * #PROPERTY_KEY_CS_REPORT_PATH} are ignored.
+   */
+  public static final String PROPERTY_KEY_CS_SOLUTION_REPORT_PATHS = "resharper.clt.cs.solutionReportPaths";
+
+  /**
+   * SonarQube property defining a comma separated list of solution files and the InspectCode report XML files for VisualBasic.NET issues
+   * created for them, in the form {@code Solution.sln=report.xml}. If set, properties {@value #PROPERTY_KEY_SOLUTION_FILE} and {@value
+   * #PROPERTY_KEY_VBNET_REPORT_PATH} are ignored.
+   */
+  public static final String PROPERTY_KEY_VBNET_SOLUTION_REPORT_PATHS = "resharper.clt.vbnet.solutionReportPaths";
+
+  /**
+   * This property defines whether issues should be imported as external issues, using the rule type and severity stated within the issue
+   * types of the InspectCode XML report file, instead of issues of the rule repositories of this plugin. If enabled on the server, no rules
+   * are registered within the rule repositories.
+   */
+  public static final String PROPERTY_KEY_EXTERNAL_ISSUES = "resharper.clt.externalIssues";
+
+  /**
+   * This property defines whether only the amount of issues per severity, category and rule should be saved as measures, instead of saving
+   * each issue of the InspectCode XML report file.
+   */
+  public static final String PROPERTY_KEY_MEASURES_ONLY = "resharper.clt.measuresOnly";
+
+  /** The engine identifier of external issues imported from InspectCode XML report files. */
+  public static final String EXTERNAL_ISSUES_ENGINE_ID = "resharper-clt";
+
+  /** SonarQube property defining the location of the baseline file containing the fingerprints of accepted C# issues. */
+  public static final String PROPERTY_KEY_CS_BASELINE_PATH = "resharper.clt.cs.baselinePath";
+
+  /** SonarQube property defining the location of the baseline file containing the fingerprints of accepted VisualBasic.NET issues. */
+  public static final String PROPERTY_KEY_VBNET_BASELINE_PATH = "resharper.clt.vbnet.baselinePath";
+
+  /**
+   * This property defines whether the baseline files should be written from the issues of the current analysis instead of suppressing the
+   * issues contained within them.
+   */
+  public static final String PROPERTY_KEY_BASELINE_UPDATE = "resharper.clt.baselineUpdate";
+
+  /** SonarQube property defining the locations of the Roslyn SARIF files for C#, which are set by the SonarScanner for MSBuild. */
+  public static final String PROPERTY_KEY_CS_ROSLYN_REPORT_PATHS = "sonar.cs.roslyn.reportFilePaths";
+
+  /** SonarQube property defining the locations of the Roslyn SARIF files for VisualBasic.NET, set by the SonarScanner for MSBuild. */
+  public static final String PROPERTY_KEY_VBNET_ROSLYN_REPORT_PATHS = "sonar.vbnet.roslyn.reportFilePaths";
+
+  /**
+   * This property defines a comma separated list of InspectCode issue type identifiers and the keys of equivalent rules of other analyzers
+   * (e.g. SonarC# or Roslyn analyzers) in the form {@code IssueTypeId=RuleKey|RuleKey}. InspectCode issues are not saved if an equivalent
+   * rule reported an issue on the same file and line within the Roslyn SARIF files.
+   */
+  public static final String PROPERTY_KEY_DUPLICATE_RULE_KEYS = "resharper.clt.duplicateRuleKeys";
+
+  /** The default equivalences of InspectCode issue types and the rules of SonarC#, SonarVB and the Roslyn compiler. */
+  public static final String PROPERTY_KEY_DUPLICATE_RULE_KEYS_DEFAULT_VALUE =
+      "RedundantUsingDirective=S1128|CS8019|IDE0005,"
+      + "UnusedVariable=S1481|CS0168|CS0219|BC42024,"
+      + "UnusedVariable.Compiler=S1481|CS0168|CS0219|BC42024,"
+      + "UnusedParameter.Local=S1172|IDE0060,"
+      + "UnusedMember.Local=S1144|IDE0051|IDE0052,"
+      + "EmptyStatement=S1116,"
+      + "EmptyGeneralCatchClause=S2486|S108";
+
   /** SonarQube property containing the name of the project currently being processed. */
   public static final String PROPERTY_KEY_SONAR_PROJECT_NAME = "sonar.projectName";
 
@@ -69,6 +134,51 @@ public final class ReSharperCltConfiguration {
    */
   public static final String PROPERTY_KEY_ENABLE_XML_SCHEMA_VALIDATION = "resharper.clt.xsd.validation";
 
+  /** SonarQube property containing the key of the pull request currently being analyzed, which is only set for pull request analyses. */
+  public static final String PROPERTY_KEY_SONAR_PULL_REQUEST_KEY = "sonar.pullrequest.key";
+
+  /**
+   * This property defines a {@code boolean} value, indicating whether only issues on source code files that have been added or changed
+   * should be imported, e.g. for the analysis of short-lived branches. This is always done for pull request analyses.
+   */
+  public static final String PROPERTY_KEY_CHANGED_FILES_ONLY = "resharper.clt.changedFilesOnly";
+
+  /**
+   * This property defines the maximum amount of seconds the import of the issues of a single InspectCode XML file might take. Once this
+   * time budget is exceeded, parsing or saving issues is stopped. A value of {@code 0} disables the time budget.
+   */
+  public static final String PROPERTY_KEY_TIME_BUDGET = "resharper.clt.timeBudget";
+
+  /**
+   * This property defines a {@code boolean} value, indicating whether the issues of source code files should be saved in the order of the
+   * most important severity of their rules, so that the most important issues are saved first if the time budget defined by {@value
+   * #PROPERTY_KEY_TIME_BUDGET} is exceeded. All issues of a file are saved together, so that each file is only read once.
+   */
+  public static final String PROPERTY_KEY_TIME_BUDGET_PRIORITIZE_SEVERITY = "resharper.clt.timeBudget.prioritizeSeverity";
+
+  /**
+   * This server property defines a comma separated list of patterns selecting the rules to be registered within the rule repositories. A
+   * pattern matches the rule key, unless prefixed with {@value #RULE_FILTER_PREFIX_CATEGORY}, {@value #RULE_FILTER_PREFIX_SUBCATEGORY} or
+   * {@value #RULE_FILTER_PREFIX_SEVERITY} to match the category identifier, sub category or severity of the InspectCode issue type. If
+   * empty, all rules are registered unless excluded by {@value #PROPERTY_KEY_RULES_EXCLUDED}.
+   */
+  public static final String PROPERTY_KEY_RULES_INCLUDED = "resharper.clt.rules.included";
+
+  /**
+   * This server property defines a comma separated list of patterns selecting rules which should not be registered within the rule
+   * repositories, using the same syntax as {@value #PROPERTY_KEY_RULES_INCLUDED}. Exclusions take precedence over inclusions.
+   */
+  public static final String PROPERTY_KEY_RULES_EXCLUDED = "resharper.clt.rules.excluded";
+
+  /** The prefix of rule filter patterns matching the category identifier of the InspectCode issue type. */
+  public static final String RULE_FILTER_PREFIX_CATEGORY = "category:";
+
+  /** The prefix of rule filter patterns matching the sub category of the InspectCode issue type. */
+  public static final String RULE_FILTER_PREFIX_SUBCATEGORY = "subcategory:";
+
+  /** The prefix of rule filter patterns matching the severity of the InspectCode issue type. */
+  public static final String RULE_FILTER_PREFIX_SEVERITY = "severity:";
+
   // region Private constructor to prevent instances of this class
 
   /** Private constructor of the utility class {@link ReSharperCltConfiguration} in order to prevent the creation of instances. */
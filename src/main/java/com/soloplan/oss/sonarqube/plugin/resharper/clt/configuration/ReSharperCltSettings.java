@@ -0,0 +1,480 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.CSharpLanguage;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.VBNetLanguage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.config.Configuration;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An immutable snapshot of the typed values of all properties used by the languages, sensors and rules definitions of this plugin, which
+ * is created once per {@link Configuration} instance by {@link #of(Configuration)} and shared by all of them. The values are read and
+ * sanitized once, so that frequently called methods like {@link org.sonar.api.resources.Language#getFileSuffixes()} do not access the
+ * {@link Configuration} at all. The {@link Configuration} of a scanner does not change during an analysis, while changes of the server
+ * configuration take effect after a restart of the server.
+ */
+public final class ReSharperCltSettings {
+
+  /** The {@link Logger} used to print log messages about invalid property values. */
+  private static final Logger LOGGER = Loggers.get(ReSharperCltSettings.class);
+
+  /** Contains the snapshot of each {@link Configuration} instance, which is compared by identity and not retained by the cache. */
+  private static final Map<Configuration, ReSharperCltSettings> SNAPSHOTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /** The snapshot containing the default values of all properties, used if no {@link Configuration} is available. */
+  private static final ReSharperCltSettings DEFAULTS = new ReSharperCltSettings(null);
+
+  // region Member variables
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_SONAR_PROJECT_NAME}. */
+  @NotNull
+  private final String projectName;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_SOLUTION_FILE}. */
+  @NotNull
+  private final String solutionFileName;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_USER_DIRECTORY}. */
+  @NotNull
+  private final String userDir;
+  /**
+   * Indicates whether only issues on added or changed files should be imported, which is the case for pull request analyses or if property
+   * {@value ReSharperCltConfiguration#PROPERTY_KEY_CHANGED_FILES_ONLY} is enabled.
+   */
+  private final boolean isChangedFilesOnly;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_TIME_BUDGET}, where {@code 0} disables the time budget. */
+  private final long timeBudgetSeconds;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_TIME_BUDGET_PRIORITIZE_SEVERITY}. */
+  private final boolean isSeverityPrioritized;
+  /**
+   * The entries of property {@value ReSharperCltConfiguration#PROPERTY_KEY_DUPLICATE_RULE_KEYS}, each mapping an InspectCode issue type to
+   * equivalent rules of other analyzers.
+   */
+  @NotNull
+  private final String[] duplicateRuleKeys;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_BASELINE_UPDATE}. */
+  private final boolean isBaselineUpdate;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_EXTERNAL_ISSUES}. */
+  private final boolean isExternalIssues;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_MEASURES_ONLY}. */
+  private final boolean isMeasuresOnly;
+  /** The value of property {@value ReSharperCltConfiguration#PROPERTY_KEY_ENABLE_XML_SCHEMA_VALIDATION}. */
+  private final boolean isXmlSchemaValidationEnabled;
+  /** The patterns of property {@value ReSharperCltConfiguration#PROPERTY_KEY_RULES_INCLUDED}. */
+  @NotNull
+  private final String[] includedRulePatterns;
+  /** The patterns of property {@value ReSharperCltConfiguration#PROPERTY_KEY_RULES_EXCLUDED}. */
+  @NotNull
+  private final String[] excludedRulePatterns;
+  /** The values of the properties specific to the C# language. */
+  @NotNull
+  private final LanguageSettings cSharpSettings;
+  /** The values of the properties specific to the VisualBasic.NET language. */
+  @NotNull
+  private final LanguageSettings visualBasicNetSettings;
+  //endregion
+
+  /**
+   * Creates a new instance of the {@link ReSharperCltSettings} class, reading the values of all properties from the supplied {@code
+   * configuration}.
+   *
+   * @param configuration
+   *     The {@link Configuration} from which the values of the properties are read, or {@code null} to use the default values.
+   */
+  private ReSharperCltSettings(@Nullable final Configuration configuration) {
+    this.projectName = getString(configuration, ReSharperCltConfiguration.PROPERTY_KEY_SONAR_PROJECT_NAME);
+    this.solutionFileName = getString(configuration, ReSharperCltConfiguration.PROPERTY_KEY_SOLUTION_FILE);
+    this.userDir = getString(configuration, ReSharperCltConfiguration.PROPERTY_KEY_USER_DIRECTORY);
+    this.isChangedFilesOnly = configuration != null && configuration.hasKey(ReSharperCltConfiguration.PROPERTY_KEY_SONAR_PULL_REQUEST_KEY)
+        || getBoolean(configuration, ReSharperCltConfiguration.PROPERTY_KEY_CHANGED_FILES_ONLY);
+    this.timeBudgetSeconds = Math.max(0L, getLong(configuration, ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET));
+    this.isSeverityPrioritized = getBoolean(configuration, ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET_PRIORITIZE_SEVERITY);
+    this.duplicateRuleKeys = configuration != null && configuration.hasKey(ReSharperCltConfiguration.PROPERTY_KEY_DUPLICATE_RULE_KEYS)
+        ? configuration.getStringArray(ReSharperCltConfiguration.PROPERTY_KEY_DUPLICATE_RULE_KEYS)
+        : ReSharperCltConfiguration.PROPERTY_KEY_DUPLICATE_RULE_KEYS_DEFAULT_VALUE.split(",");
+    this.isBaselineUpdate = getBoolean(configuration, ReSharperCltConfiguration.PROPERTY_KEY_BASELINE_UPDATE);
+    this.isExternalIssues = getBoolean(configuration, ReSharperCltConfiguration.PROPERTY_KEY_EXTERNAL_ISSUES);
+    this.isMeasuresOnly = getBoolean(configuration, ReSharperCltConfiguration.PROPERTY_KEY_MEASURES_ONLY);
+    this.isXmlSchemaValidationEnabled = getBoolean(configuration, ReSharperCltConfiguration.PROPERTY_KEY_ENABLE_XML_SCHEMA_VALIDATION);
+    this.includedRulePatterns = getStrings(configuration, ReSharperCltConfiguration.PROPERTY_KEY_RULES_INCLUDED);
+    this.excludedRulePatterns = getStrings(configuration, ReSharperCltConfiguration.PROPERTY_KEY_RULES_EXCLUDED);
+    this.cSharpSettings = new LanguageSettings(
+        configuration,
+        ReSharperCltConfiguration.PROPERTY_KEY_CS_FILE_SUFFIXES,
+        ReSharperCltConfiguration.PROPERTY_KEY_CS_FILE_SUFFIXES_DEFAULT_VALUE,
+        ReSharperCltConfiguration.PROPERTY_KEY_CS_REPORT_PATH,
+        ReSharperCltConfiguration.PROPERTY_KEY_CS_SOLUTION_REPORT_PATHS,
+        ReSharperCltConfiguration.PROPERTY_KEY_CS_ROSLYN_REPORT_PATHS,
+        ReSharperCltConfiguration.PROPERTY_KEY_CS_BASELINE_PATH);
+    this.visualBasicNetSettings = new LanguageSettings(
+        configuration,
+        ReSharperCltConfiguration.PROPERTY_KEY_VBNET_FILE_SUFFIXES,
+        ReSharperCltConfiguration.PROPERTY_KEY_VBNET_FILE_SUFFIXES_DEFAULT_VALUE,
+        ReSharperCltConfiguration.PROPERTY_KEY_VBNET_REPORT_PATH,
+        ReSharperCltConfiguration.PROPERTY_KEY_VBNET_SOLUTION_REPORT_PATHS,
+        ReSharperCltConfiguration.PROPERTY_KEY_VBNET_ROSLYN_REPORT_PATHS,
+        ReSharperCltConfiguration.PROPERTY_KEY_VBNET_BASELINE_PATH);
+  }
+
+  /**
+   * Gets the snapshot of the supplied {@code configuration}, which is created on the first call for each {@link Configuration} instance.
+   *
+   * @param configuration
+   *     The {@link Configuration} provided by SonarQube, or {@code null} to get a snapshot of the default values of all properties.
+   *
+   * @return The {@link ReSharperCltSettings} containing the values of all properties of the supplied {@code configuration}.
+   */
+  @NotNull
+  public static ReSharperCltSettings of(@Nullable final Configuration configuration) {
+    if (configuration == null) {
+      return DEFAULTS;
+    }
+    return SNAPSHOTS.computeIfAbsent(configuration, ReSharperCltSettings::new);
+  }
+
+  /**
+   * Validates the values of the properties mandatory for importing issues, printing log messages using the supplied {@code logger} if any
+   * of them is not set.
+   *
+   * @param logger
+   *     An implementation of the {@link Logger} interface used to print log messages about invalid property values.
+   * @param isSolutionFileMandatory
+   *     Indicates whether property {@value ReSharperCltConfiguration#PROPERTY_KEY_SOLUTION_FILE} is mandatory, which is not the case if the
+   *     solution files are defined along with their report files.
+   *
+   * @return {@code True} if the validation succeeded, {@code false} if any of the mandatory property values are invalid.
+   */
+  public boolean validateMandatoryProperties(@NotNull final Logger logger, final boolean isSolutionFileMandatory) {
+    // Initialize the resulting variable
+    boolean isAnyPropertyNotSet = false;
+
+    // Verify that the mandatory properties are set
+    if (this.projectName.isEmpty()) {
+      logger.warn("Property {} is not defined. Could not get the name of the current project.",
+          ReSharperCltConfiguration.PROPERTY_KEY_SONAR_PROJECT_NAME);
+      isAnyPropertyNotSet = true;
+    }
+    if (this.userDir.isEmpty()) {
+      logger.warn("Property {} is not defined. Could not get the base directory of the InspectCode analysis.",
+          ReSharperCltConfiguration.PROPERTY_KEY_USER_DIRECTORY);
+      isAnyPropertyNotSet = true;
+    }
+    if (isSolutionFileMandatory && this.solutionFileName.isEmpty()) {
+      logger.warn("Property {} is not defined. Could not get the path to the solution file inspected by InspectCode.",
+          ReSharperCltConfiguration.PROPERTY_KEY_SOLUTION_FILE);
+      isAnyPropertyNotSet = true;
+    }
+
+    // Return true if all of the mandatory properties are set to indicate a successful validation
+    return !isAnyPropertyNotSet;
+  }
+
+  // region Getters
+
+  @NotNull
+  public String getProjectName() {
+    return this.projectName;
+  }
+
+  @NotNull
+  public String getSolutionFileName() {
+    return this.solutionFileName;
+  }
+
+  @NotNull
+  public String getUserDir() {
+    return this.userDir;
+  }
+
+  public boolean isChangedFilesOnly() {
+    return this.isChangedFilesOnly;
+  }
+
+  public long getTimeBudgetSeconds() {
+    return this.timeBudgetSeconds;
+  }
+
+  public boolean isSeverityPrioritized() {
+    return this.isSeverityPrioritized;
+  }
+
+  @NotNull
+  public String[] getDuplicateRuleKeys() {
+    return this.duplicateRuleKeys.clone();
+  }
+
+  public boolean isBaselineUpdate() {
+    return this.isBaselineUpdate;
+  }
+
+  public boolean isExternalIssues() {
+    return this.isExternalIssues;
+  }
+
+  public boolean isMeasuresOnly() {
+    return this.isMeasuresOnly;
+  }
+
+  public boolean isXmlSchemaValidationEnabled() {
+    return this.isXmlSchemaValidationEnabled;
+  }
+
+  @NotNull
+  public String[] getIncludedRulePatterns() {
+    return this.includedRulePatterns.clone();
+  }
+
+  @NotNull
+  public String[] getExcludedRulePatterns() {
+    return this.excludedRulePatterns.clone();
+  }
+
+  /**
+   * Gets the values of the properties specific to the language identified by the supplied {@code languageName}.
+   *
+   * @param languageName
+   *     The name of the language, either {@value CSharpLanguage#LANGUAGE_NAME} or {@value VBNetLanguage#LANGUAGE_NAME}.
+   *
+   * @return The {@link LanguageSettings} of the language identified by the supplied {@code languageName}.
+   *
+   * @throws IllegalArgumentException
+   *     If the supplied {@code languageName} is not supported by this plugin.
+   */
+  @NotNull
+  public LanguageSettings getLanguageSettings(@NotNull final String languageName) {
+    switch (languageName) {
+      case CSharpLanguage.LANGUAGE_NAME:
+        return this.cSharpSettings;
+      case VBNetLanguage.LANGUAGE_NAME:
+        return this.visualBasicNetSettings;
+      default:
+        throw new IllegalArgumentException("Unsupported language: " + languageName);
+    }
+  }
+
+  // endregion
+
+  /**
+   * Gets the trimmed value of the property identified by the supplied {@code key}.
+   *
+   * @param configuration
+   *     The {@link Configuration} from which the value is read, or {@code null} if no value is available.
+   * @param key
+   *     The key of the property.
+   *
+   * @return The trimmed value of the property, or an empty {@link String} if the property is not set.
+   */
+  @NotNull
+  private static String getString(@Nullable final Configuration configuration, @NotNull final String key) {
+    return configuration == null ? "" : configuration.get(key).orElse("").trim();
+  }
+
+  /**
+   * Gets the trimmed, non-empty values of the multi-value property identified by the supplied {@code key}.
+   *
+   * @param configuration
+   *     The {@link Configuration} from which the values are read, or {@code null} if no value is available.
+   * @param key
+   *     The key of the property.
+   *
+   * @return The trimmed, non-empty values of the property, which is empty if the property is not set.
+   */
+  @NotNull
+  private static String[] getStrings(@Nullable final Configuration configuration, @NotNull final String key) {
+    return configuration == null ? new String[0] : Arrays.stream(configuration.getStringArray(key))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Gets the value of the boolean property identified by the supplied {@code key}.
+   *
+   * @param configuration
+   *     The {@link Configuration} from which the value is read, or {@code null} if no value is available.
+   * @param key
+   *     The key of the property.
+   *
+   * @return The value of the property, or {@code false} if the property is not set.
+   */
+  private static boolean getBoolean(@Nullable final Configuration configuration, @NotNull final String key) {
+    final String value = getString(configuration, key);
+    if (value.isEmpty()) {
+      return false;
+    }
+    if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+      LOGGER.warn("Property {} has the invalid value '{}', which is not a boolean. Using the default value 'false' instead.", key, value);
+      return false;
+    }
+    return Boolean.parseBoolean(value);
+  }
+
+  /**
+   * Gets the value of the numeric property identified by the supplied {@code key}. The value is parsed here instead of using {@link
+   * Configuration#getLong(String)}, which throws an {@link IllegalStateException} on an invalid value and would thereby prevent the creation
+   * of the languages of this plugin.
+   *
+   * @param configuration
+   *     The {@link Configuration} from which the value is read, or {@code null} if no value is available.
+   * @param key
+   *     The key of the property.
+   *
+   * @return The value of the property, or {@code 0} if the property is not set or its value is not a number.
+   */
+  private static long getLong(@Nullable final Configuration configuration, @NotNull final String key) {
+    final String value = getString(configuration, key);
+    if (value.isEmpty()) {
+      return 0L;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      LOGGER.warn("Property {} has the invalid value '{}', which is not a number. Using the default value '0' instead.", key, value);
+      return 0L;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ReSharperCltSettings{" +
+        "projectName='" + this.projectName + '\'' +
+        ", solutionFileName='" + this.solutionFileName + '\'' +
+        ", userDir='" + this.userDir + '\'' +
+        ", isChangedFilesOnly=" + this.isChangedFilesOnly +
+        ", timeBudgetSeconds=" + this.timeBudgetSeconds +
+        ", isSeverityPrioritized=" + this.isSeverityPrioritized +
+        ", duplicateRuleKeys[" + this.duplicateRuleKeys.length + "]" +
+        ", isBaselineUpdate=" + this.isBaselineUpdate +
+        ", isExternalIssues=" + this.isExternalIssues +
+        ", isMeasuresOnly=" + this.isMeasuresOnly +
+        ", isXmlSchemaValidationEnabled=" + this.isXmlSchemaValidationEnabled +
+        ", includedRulePatterns=" + Arrays.toString(this.includedRulePatterns) +
+        ", excludedRulePatterns=" + Arrays.toString(this.excludedRulePatterns) +
+        ", cSharpSettings=" + this.cSharpSettings +
+        ", visualBasicNetSettings=" + this.visualBasicNetSettings +
+        '}';
+  }
+
+  /** An immutable snapshot of the values of the properties specific to a single language. */
+  public static final class LanguageSettings {
+
+    /** The sanitized file suffixes of the language, which are never empty since the default suffixes are used if none are configured. */
+    @NotNull
+    private final String[] fileSuffixes;
+
+    /** The path to the InspectCode report file of the language, which is empty if not set. */
+    @NotNull
+    private final String reportPath;
+
+    /** The entries mapping solution files to the InspectCode report files of the language created for them. */
+    @NotNull
+    private final String[] solutionReportPaths;
+
+    /** The paths to the Roslyn SARIF files of the language, containing the issues of other analyzers. */
+    @NotNull
+    private final String[] roslynReportPaths;
+
+    /** The path to the baseline file of the language, which is empty if not set. */
+    @NotNull
+    private final String baselinePath;
+
+    /**
+     * Creates a new instance of the {@link LanguageSettings} class, reading the values of the supplied property keys from the supplied
+     * {@code configuration}.
+     *
+     * @param configuration
+     *     The {@link Configuration} from which the values of the properties are read, or {@code null} to use the default values.
+     * @param fileSuffixesKey
+     *     The key of the property defining the file suffixes of the language.
+     * @param fileSuffixesDefaultValue
+     *     The comma separated default file suffixes of the language, used if the property does not define any suffix.
+     * @param reportPathKey
+     *     The key of the property defining the path to the InspectCode report file.
+     * @param solutionReportPathsKey
+     *     The key of the property mapping solution files to InspectCode report files.
+     * @param roslynReportPathsKey
+     *     The key of the property defining the paths to the Roslyn SARIF files.
+     * @param baselinePathKey
+     *     The key of the property defining the path to the baseline file.
+     */
+    private LanguageSettings(
+        @Nullable final Configuration configuration,
+        @NotNull final String fileSuffixesKey,
+        @NotNull final String fileSuffixesDefaultValue,
+        @NotNull final String reportPathKey,
+        @NotNull final String solutionReportPathsKey,
+        @NotNull final String roslynReportPathsKey,
+        @NotNull final String baselinePathKey) {
+      // Use the default file suffixes for the language if the configuration did not provide any
+      final String[] configuredFileSuffixes = getStrings(configuration, fileSuffixesKey);
+      this.fileSuffixes = configuredFileSuffixes.length > 0
+          ? configuredFileSuffixes
+          : Arrays.stream(fileSuffixesDefaultValue.split(",")).map(String::trim).filter(value -> !value.isEmpty()).toArray(String[]::new);
+      this.reportPath = getString(configuration, reportPathKey);
+      this.solutionReportPaths = getStrings(configuration, solutionReportPathsKey);
+      this.roslynReportPaths = getStrings(configuration, roslynReportPathsKey);
+      this.baselinePath = getString(configuration, baselinePathKey);
+    }
+
+    /**
+     * Gets the file suffixes of the language.
+     *
+     * @return A copy of the file suffixes of the language, which are neither empty nor contain blank values.
+     */
+    @NotNull
+    public String[] getFileSuffixes() {
+      return this.fileSuffixes.clone();
+    }
+
+    @NotNull
+    public String getReportPath() {
+      return this.reportPath;
+    }
+
+    @NotNull
+    public String[] getSolutionReportPaths() {
+      return this.solutionReportPaths.clone();
+    }
+
+    @NotNull
+    public String[] getRoslynReportPaths() {
+      return this.roslynReportPaths.clone();
+    }
+
+    @NotNull
+    public String getBaselinePath() {
+      return this.baselinePath;
+    }
+
+    @Override
+    public String toString() {
+      return "LanguageSettings{" +
+          "fileSuffixes=" + Arrays.toString(this.fileSuffixes) +
+          ", reportPath='" + this.reportPath + '\'' +
+          ", solutionReportPaths[" + this.solutionReportPaths.length + "]" +
+          ", roslynReportPaths[" + this.roslynReportPaths.length + "]" +
+          ", baselinePath='" + this.baselinePath + '\'' +
+          '}';
+    }
+  }
+}
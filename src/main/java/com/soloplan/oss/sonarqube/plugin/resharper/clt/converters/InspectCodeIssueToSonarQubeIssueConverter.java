@@ -43,6 +43,7 @@ public class InspectCodeIssueToSonarQubeIssueConverter
     sonarQubeIssueModel.setMessage(instance.getMessage());
     sonarQubeIssueModel.setRuleKey(instance.getIssueTypeId());
     sonarQubeIssueModel.setTextRange(instance.getLine(), instance.getOffsetStart(), instance.getOffsetEnd());
+    sonarQubeIssueModel.setFileOffsets(instance.getOffsetStart(), instance.getOffsetEnd());
 
     // TODO Fill more SonarQube properties like the gap for the debt remediation function?
 
@@ -53,12 +54,13 @@ public class InspectCodeIssueToSonarQubeIssueConverter
   public Collection<SonarQubeIssueModel> convert(final Collection<InspectCodeIssueModel> issueCollection) {
     // Return an empty collection if the supplied collection is either null or empty
     if (issueCollection == null || issueCollection.isEmpty()) {
-      return java.util.Collections.emptySet();
+      return java.util.Collections.emptyList();
     }
 
-    // Convert the entire collection in parallel using the Java Stream API and return the converted collection
+    // Convert the entire collection in parallel using the Java Stream API and return the converted collection, keeping the order of the
+    // supplied collection so that issues can be processed in a deterministic order
     return issueCollection.parallelStream()
         .map(this::convert)
-        .collect(Collectors.toSet());
+        .collect(Collectors.toList());
   }
 }
@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Package visible JDK Flight Recorder event containing the hit and miss counters of a cache used by the plugin. This class must only be
+ * loaded by {@link FlightRecorderEvents} if the JDK Flight Recorder API is available.
+ */
+@Name("com.soloplan.resharper.clt.CacheStatistics")
+@Label("Cache Statistics")
+@Description("Hit and miss counters of a cache used by the plugin.")
+@Category(FlightRecorderEvents.CATEGORY_NAME)
+@StackTrace(false)
+final class CacheStatisticsEvent
+    extends Event {
+
+  /** The name of the cache. */
+  @Label("Cache Name")
+  String cacheName;
+
+  /** The amount of requests answered by the cache. */
+  @Label("Hit Count")
+  long hitCount;
+
+  /** The amount of requests which required computing the cached value. */
+  @Label("Miss Count")
+  long missCount;
+
+  /**
+   * Commits a new {@link CacheStatisticsEvent} with the supplied values, if the event is enabled within a running recording.
+   *
+   * @param cacheName
+   *     The name of the cache.
+   * @param hitCount
+   *     The amount of requests answered by the cache.
+   * @param missCount
+   *     The amount of requests which required computing the cached value.
+   */
+  static void commitEvent(@NotNull final String cacheName, final long hitCount, final long missCount) {
+    final CacheStatisticsEvent event = new CacheStatisticsEvent();
+    if (event.shouldCommit()) {
+      event.cacheName = cacheName;
+      event.hitCount = hitCount;
+      event.missCount = missCount;
+      event.commit();
+    }
+  }
+}
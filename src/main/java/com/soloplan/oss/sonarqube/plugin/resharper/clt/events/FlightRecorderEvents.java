@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.events;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Provides access to the custom JDK Flight Recorder events of this plugin, so that the work done by the plugin can be correlated with
+ * garbage collection and I/O within a single recording. The events are only created if the {@code jdk.jfr} API is available at runtime
+ * (i.e. Java 11 or later, or a Java 8 runtime with backported Flight Recorder support). On all other runtimes, the methods of this class
+ * do nothing and the event classes are never loaded, so the plugin still runs on Java 8.
+ */
+public final class FlightRecorderEvents {
+
+  /** The name of the category containing all events of this plugin. */
+  static final String CATEGORY_NAME = "ReSharper CLT Plugin";
+
+  /** Indicates whether the JDK Flight Recorder API is available within the current runtime. */
+  private static final boolean IS_AVAILABLE = isFlightRecorderApiAvailable();
+
+  /** A {@link Span} that does nothing, which is returned if the JDK Flight Recorder API is not available. */
+  private static final Span NO_OP_SPAN = (subject, count) -> {
+  };
+
+  /** Prevents instantiation of this static utility class. */
+  private FlightRecorderEvents() {
+  }
+
+  /**
+   * Begins an event measuring the duration of parsing a single {@code Project} element of an InspectCode XML report file.
+   *
+   * @return A {@link Span}, which must be completed with the name of the project and the amount of parsed issues.
+   */
+  @NotNull
+  public static Span beginReportProjectParse() {
+    return IS_AVAILABLE ? ReportProjectParseEvent.beginEvent() : NO_OP_SPAN;
+  }
+
+  /**
+   * Begins an event measuring the duration of resolving the source code file and preparing the locations of its issues.
+   *
+   * @return A {@link Span}, which must be completed with the file path and the amount of prepared issues.
+   */
+  @NotNull
+  public static Span beginIssueBatchResolve() {
+    return IS_AVAILABLE ? IssueBatchResolveEvent.beginEvent() : NO_OP_SPAN;
+  }
+
+  /**
+   * Begins an event measuring the duration of saving the issues of a single source code file within SonarQube.
+   *
+   * @return A {@link Span}, which must be completed with the file path and the amount of saved issues.
+   */
+  @NotNull
+  public static Span beginIssueBatchSave() {
+    return IS_AVAILABLE ? IssueBatchSaveEvent.beginEvent() : NO_OP_SPAN;
+  }
+
+  /**
+   * Begins an event measuring the duration of loading a rules catalog and defining the rules of a SonarQube rule repository.
+   *
+   * @return A {@link Span}, which must be completed with the key of the rule repository and the amount of defined rules.
+   */
+  @NotNull
+  public static Span beginRulesCatalogLoad() {
+    return IS_AVAILABLE ? RulesCatalogLoadEvent.beginEvent() : NO_OP_SPAN;
+  }
+
+  /**
+   * Commits an event containing the hit and miss counters of a cache used by the plugin.
+   *
+   * @param cacheName
+   *     The name of the cache.
+   * @param hitCount
+   *     The amount of requests answered by the cache.
+   * @param missCount
+   *     The amount of requests which required computing the cached value.
+   */
+  public static void commitCacheStatistics(@NotNull final String cacheName, final long hitCount, final long missCount) {
+    if (IS_AVAILABLE) {
+      CacheStatisticsEvent.commitEvent(cacheName, hitCount, missCount);
+    }
+  }
+
+  /**
+   * Checks whether the JDK Flight Recorder API can be loaded within the current runtime.
+   *
+   * @return {@code true} if the class {@code jdk.jfr.Event} is available, otherwise {@code false}.
+   */
+  private static boolean isFlightRecorderApiAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /** A running event, which measures the time from its creation until {@link #complete(String, long)} is called. */
+  @FunctionalInterface
+  public interface Span {
+
+    /**
+     * Ends the measurement and commits the event, if it is enabled within a running recording.
+     *
+     * @param subject
+     *     The subject of the event, e.g. the name of a project or the path of a file.
+     * @param count
+     *     The amount of items processed during the event, e.g. issues or rules.
+     */
+    void complete(@NotNull String subject, long count);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Package visible JDK Flight Recorder event measuring the duration of parsing a single {@code Project} element of an InspectCode XML report
+ * file. This class must only be loaded by {@link FlightRecorderEvents} if the JDK Flight Recorder API is available.
+ */
+@Name("com.soloplan.resharper.clt.ReportProjectParse")
+@Label("Report Project Parse")
+@Description("Parsing of a single Project element of an InspectCode XML report file.")
+@Category(FlightRecorderEvents.CATEGORY_NAME)
+@StackTrace(false)
+final class ReportProjectParseEvent
+    extends Event
+    implements FlightRecorderEvents.Span {
+
+  /** The name of the parsed project. */
+  @Label("Project Name")
+  String projectName;
+
+  /** The amount of issues parsed for the project. */
+  @Label("Issue Count")
+  long issueCount;
+
+  /**
+   * Creates a new instance of the {@link ReportProjectParseEvent} class and begins the measurement.
+   *
+   * @return The new {@link ReportProjectParseEvent} as {@link FlightRecorderEvents.Span}.
+   */
+  @NotNull
+  static FlightRecorderEvents.Span beginEvent() {
+    final ReportProjectParseEvent event = new ReportProjectParseEvent();
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void complete(@NotNull final String subject, final long count) {
+    this.end();
+    if (this.shouldCommit()) {
+      this.projectName = subject;
+      this.issueCount = count;
+      this.commit();
+    }
+  }
+}
@@ -17,7 +17,10 @@
 package com.soloplan.oss.sonarqube.plugin.resharper.clt.interfaces;
 
 import org.jetbrains.annotations.NotNull;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 /** Simple interface for XML data validation. */
@@ -32,4 +35,22 @@ public interface XmlDataValidator {
    * @return {@code True}, if the supplied XML data has been validated successfully, {@code false} otherwise.
    */
   boolean validateXmlData(@NotNull final InputStream xmlDataInputStream);
+
+  /**
+   * Parses the supplied XML data input stream, passing its content to the supplied {@code contentHandler} while validating it in the same
+   * pass. Since the content is passed on before the end of the data has been validated, the results of the {@code contentHandler} should
+   * be discarded if an exception is thrown.
+   *
+   * @param xmlDataInputStream
+   *     The {@link InputStream} of the XML data to be parsed and validated.
+   * @param contentHandler
+   *     The {@link ContentHandler} receiving the content of the XML data.
+   *
+   * @throws SAXException
+   *     If the XML data could not be parsed or is invalid.
+   * @throws IOException
+   *     If reading the XML data failed.
+   */
+  void parseXmlData(@NotNull final InputStream xmlDataInputStream, @NotNull final ContentHandler contentHandler)
+      throws SAXException, IOException;
 }
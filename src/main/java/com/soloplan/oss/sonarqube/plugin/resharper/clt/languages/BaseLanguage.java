@@ -16,13 +16,11 @@
 
 package com.soloplan.oss.sonarqube.plugin.resharper.clt.languages;
 
-import org.apache.commons.lang.StringUtils;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltSettings;
 import org.jetbrains.annotations.NotNull;
 import org.sonar.api.config.Configuration;
 import org.sonar.api.resources.AbstractLanguage;
 
-import java.util.Arrays;
-
 /** This class provides a common base class for languages supported by this plugin. */
 public abstract class BaseLanguage
     extends AbstractLanguage {
@@ -33,6 +31,9 @@ public abstract class BaseLanguage
   /** An implementation of the {@link Configuration} interface provided to the constructor. */
   protected final Configuration configuration;
 
+  /** The values of the properties of this language, taken from the {@link ReSharperCltSettings} of the supplied {@link Configuration}. */
+  private final ReSharperCltSettings.LanguageSettings languageSettings;
+
   /**
    * Creates a new instance of the {@link BaseLanguage} class using the supplied arguments.
    *
@@ -45,20 +46,14 @@ public abstract class BaseLanguage
     super(languageConfiguration.languageKey, languageConfiguration.languageName);
     this.languageConfiguration = languageConfiguration;
     this.configuration = configuration;
+    this.languageSettings = ReSharperCltSettings.of(configuration).getLanguageSettings(languageConfiguration.languageName);
   }
 
   @Override
   public String[] getFileSuffixes() {
-    // Remove all null or empty strings from the array retrieved from the configuration
-    String[] suffixes =
-        Arrays.stream(StringUtils.stripAll(this.configuration.getStringArray(this.languageConfiguration.fileSuffixesPropertyIdentifier)))
-            .filter(StringUtils::isNotBlank)
-            .toArray(String[]::new);
-    // Use the default file suffixes for the language if the configuration did not provide any
-    if (suffixes.length == 0) {
-      suffixes = StringUtils.split(this.languageConfiguration.fileSuffixesPropertyIdentifierDefaultValues, ",");
-    }
-    return suffixes;
+    // The sanitized suffixes, which fall back to the default file suffixes of the language, are computed once by the settings snapshot,
+    // since the scanner calls this method frequently
+    return this.languageSettings.getFileSuffixes();
   }
 
   @Override
@@ -85,15 +80,6 @@ public abstract class BaseLanguage
     /** The human-readable name of the language as can be seen within the SonarQube web dashboard. */
     final String languageName;
 
-    /** The property identifier used to retrieve the valid file suffixes for this language from the SonarQube {@link Configuration}. */
-    final String fileSuffixesPropertyIdentifier;
-
-    /**
-     * The property identifier used to retrieve the default file suffixes for this language from the SonarQube {@link Configuration} if no
-     * valid file suffixes could be retrieved using the {@link #fileSuffixesPropertyIdentifier}.
-     */
-    final String fileSuffixesPropertyIdentifierDefaultValues;
-
     /**
      * Creates a new instance of the {@link LanguageConfiguration} class with the supplied arguments. All supplied {@link String} arguments
      * will be trimmed before stored internally.
@@ -102,21 +88,10 @@ public abstract class BaseLanguage
      *     The key used to uniquely identify the language within SonarQube.
      * @param languageName
      *     The human-readable name of the language as can be seen within the SonarQube web dashboard.
-     * @param fileSuffixesPropertyIdentifier
-     *     The property identifier used to retrieve the valid file suffixes for this language from the SonarQube {@link Configuration}.
-     * @param fileSuffixesPropertyIdentifierDefaultValues
-     *     The property identifier used to retrieve the default file suffixes for this language from the SonarQube {@link Configuration} if
-     *     no valid file suffixes could be retrieved using the {@link #fileSuffixesPropertyIdentifier}.
      */
-    LanguageConfiguration(
-        @NotNull final String languageKey,
-        @NotNull final String languageName,
-        @NotNull final String fileSuffixesPropertyIdentifier,
-        @NotNull final String fileSuffixesPropertyIdentifierDefaultValues) {
+    LanguageConfiguration(@NotNull final String languageKey, @NotNull final String languageName) {
       this.languageKey = languageKey.trim();
       this.languageName = languageName.trim();
-      this.fileSuffixesPropertyIdentifier = fileSuffixesPropertyIdentifier.trim();
-      this.fileSuffixesPropertyIdentifierDefaultValues = fileSuffixesPropertyIdentifierDefaultValues.trim();
     }
   }
 }
@@ -16,7 +16,6 @@
 
 package com.soloplan.oss.sonarqube.plugin.resharper.clt.languages;
 
-import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
 import org.jetbrains.annotations.NotNull;
 import org.sonar.api.config.Configuration;
 
@@ -51,9 +50,7 @@ public final class VBNetLanguage
     super(
         new LanguageConfiguration(
             LANGUAGE_KEY,
-            LANGUAGE_NAME,
-            ReSharperCltConfiguration.PROPERTY_KEY_VBNET_FILE_SUFFIXES,
-            ReSharperCltConfiguration.PROPERTY_KEY_VBNET_FILE_SUFFIXES_DEFAULT_VALUE),
+            LANGUAGE_NAME),
         configuration);
   }
 }
@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.measures;
+
+import org.sonar.api.ce.measure.Component;
+import org.sonar.api.ce.measure.Measure;
+import org.sonar.api.ce.measure.MeasureComputer;
+import org.sonar.api.measures.Metric;
+
+/**
+ * An implementation of the {@link MeasureComputer} interface aggregating the measures of the {@link ReSharperCltMetrics} saved on source
+ * code files to directories and the project, since the scanner does not store measures on modules. Counts are summed up.
+ */
+public class IssueMeasureComputer
+    implements MeasureComputer {
+
+  @Override
+  public MeasureComputerDefinition define(MeasureComputerDefinitionContext defContext) {
+    final String[] metricKeys = new String[ReSharperCltMetrics.COUNT_METRICS.size()];
+    int index = 0;
+    for (Metric<?> metric : ReSharperCltMetrics.COUNT_METRICS) {
+      metricKeys[index++] = metric.getKey();
+    }
+
+    return defContext.newDefinitionBuilder()
+        .setInputMetrics(metricKeys)
+        .setOutputMetrics(metricKeys)
+        .build();
+  }
+
+  @Override
+  public void compute(MeasureComputerContext context) {
+    // The measures of files are saved by the sensors
+    if (context.getComponent().getType() == Component.Type.FILE) {
+      return;
+    }
+
+    for (Metric<?> metric : ReSharperCltMetrics.COUNT_METRICS) {
+      boolean hasChildMeasure = false;
+      int sum = 0;
+      for (Measure childMeasure : context.getChildrenMeasures(metric.getKey())) {
+        sum += childMeasure.getIntValue();
+        hasChildMeasure = true;
+      }
+      if (hasChildMeasure) {
+        context.addMeasure(metric.getKey(), sum);
+      }
+    }
+  }
+}
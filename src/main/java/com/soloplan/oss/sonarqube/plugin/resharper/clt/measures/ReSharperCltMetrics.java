@@ -0,0 +1,236 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.measures;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.InspectCodeIssueSeverity;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.CSharpLanguage;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.VBNetLanguage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.measures.Metric;
+import org.sonar.api.measures.Metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An implementation of the {@link Metrics} interface defining the metrics saved by the sensors if only measures of the issues of the
+ * InspectCode XML report files should be imported instead of the issues themselves. The counts are saved on source code files and
+ * aggregated to directories and the project by the {@link IssueMeasureComputer}, whereas the distributions per category and per rule are
+ * saved once per sensor on the module. The distributions are defined per language, since the sensors of both languages save them.
+ */
+public class ReSharperCltMetrics
+    implements Metrics {
+
+  /** The domain of all metrics defined by this plugin. */
+  public static final String DOMAIN = "ReSharper";
+
+  /** The total amount of InspectCode issues. */
+  public static final Metric<Integer> ISSUES = new Metric.Builder("resharper_clt_issues", "ReSharper Issues", Metric.ValueType.INT)
+      .setDescription("Number of issues reported by the InspectCode command line tool")
+      .setDirection(Metric.DIRECTION_WORST)
+      .setQualitative(false)
+      .setDomain(DOMAIN)
+      .create();
+
+  /** The amount of InspectCode issues of severity {@link InspectCodeIssueSeverity#ERROR}. */
+  public static final Metric<Integer> ERROR_ISSUES = createSeverityMetric(InspectCodeIssueSeverity.ERROR, "Error");
+
+  /** The amount of InspectCode issues of severity {@link InspectCodeIssueSeverity#WARNING}. */
+  public static final Metric<Integer> WARNING_ISSUES = createSeverityMetric(InspectCodeIssueSeverity.WARNING, "Warning");
+
+  /** The amount of InspectCode issues of severity {@link InspectCodeIssueSeverity#SUGGESTION}. */
+  public static final Metric<Integer> SUGGESTION_ISSUES = createSeverityMetric(InspectCodeIssueSeverity.SUGGESTION, "Suggestion");
+
+  /** The amount of InspectCode issues of severity {@link InspectCodeIssueSeverity#HINT}. */
+  public static final Metric<Integer> HINT_ISSUES = createSeverityMetric(InspectCodeIssueSeverity.HINT, "Hint");
+
+  /** The amount of InspectCode issues on C# files per category, formatted by {@link #formatCounts(Map)}. */
+  public static final Metric<String> CS_ISSUES_BY_CATEGORY =
+      createDistributionMetric(CSharpLanguage.LANGUAGE_NAME, "C#", "category", "Category");
+
+  /** The amount of InspectCode issues on C# files per issue type, formatted by {@link #formatCounts(Map)}. */
+  public static final Metric<String> CS_ISSUES_BY_RULE = createDistributionMetric(CSharpLanguage.LANGUAGE_NAME, "C#", "rule", "Rule");
+
+  /** The amount of InspectCode issues on VB.NET files per category, formatted by {@link #formatCounts(Map)}. */
+  public static final Metric<String> VBNET_ISSUES_BY_CATEGORY =
+      createDistributionMetric(VBNetLanguage.LANGUAGE_NAME, "VB.NET", "category", "Category");
+
+  /** The amount of InspectCode issues on VB.NET files per issue type, formatted by {@link #formatCounts(Map)}. */
+  public static final Metric<String> VBNET_ISSUES_BY_RULE = createDistributionMetric(VBNetLanguage.LANGUAGE_NAME, "VB.NET", "rule", "Rule");
+
+  /** Contains all metrics of type {@link Metric.ValueType#INT}, which are aggregated by summing up their values. */
+  static final List<Metric<Integer>> COUNT_METRICS =
+      Collections.unmodifiableList(Arrays.asList(ISSUES, ERROR_ISSUES, WARNING_ISSUES, SUGGESTION_ISSUES, HINT_ISSUES));
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public List<Metric> getMetrics() {
+    return Arrays.asList(ISSUES, ERROR_ISSUES, WARNING_ISSUES, SUGGESTION_ISSUES, HINT_ISSUES,
+        CS_ISSUES_BY_CATEGORY, CS_ISSUES_BY_RULE, VBNET_ISSUES_BY_CATEGORY, VBNET_ISSUES_BY_RULE);
+  }
+
+  /**
+   * Gets the metric containing the amount of issues per category on the source code files of the supplied {@code languageName}.
+   *
+   * @param languageName
+   *     The name of the language, either {@value CSharpLanguage#LANGUAGE_NAME} or {@value VBNetLanguage#LANGUAGE_NAME}.
+   *
+   * @return The metric of the supplied {@code languageName} or {@code null} if the language is not supported.
+   */
+  @Nullable
+  public static Metric<String> getCategoryDistributionMetric(@NotNull final String languageName) {
+    switch (languageName) {
+      case CSharpLanguage.LANGUAGE_NAME:
+        return CS_ISSUES_BY_CATEGORY;
+      case VBNetLanguage.LANGUAGE_NAME:
+        return VBNET_ISSUES_BY_CATEGORY;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Gets the metric containing the amount of issues per issue type on the source code files of the supplied {@code languageName}.
+   *
+   * @param languageName
+   *     The name of the language, either {@value CSharpLanguage#LANGUAGE_NAME} or {@value VBNetLanguage#LANGUAGE_NAME}.
+   *
+   * @return The metric of the supplied {@code languageName} or {@code null} if the language is not supported.
+   */
+  @Nullable
+  public static Metric<String> getRuleDistributionMetric(@NotNull final String languageName) {
+    switch (languageName) {
+      case CSharpLanguage.LANGUAGE_NAME:
+        return CS_ISSUES_BY_RULE;
+      case VBNetLanguage.LANGUAGE_NAME:
+        return VBNET_ISSUES_BY_RULE;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Gets the metric containing the amount of issues of the supplied {@code severity}.
+   *
+   * @param severity
+   *     The {@link InspectCodeIssueSeverity} for which the metric is requested.
+   *
+   * @return The metric of the supplied {@code severity} or {@code null} if issues of the supplied {@code severity} are not counted
+   *     separately.
+   */
+  @Nullable
+  public static Metric<Integer> getSeverityMetric(@NotNull final InspectCodeIssueSeverity severity) {
+    switch (severity) {
+      case ERROR:
+        return ERROR_ISSUES;
+      case WARNING:
+        return WARNING_ISSUES;
+      case SUGGESTION:
+        return SUGGESTION_ISSUES;
+      case HINT:
+        return HINT_ISSUES;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Formats the supplied {@code counts} as value of a metric of type {@link Metric.ValueType#DATA}, i.e. {@code key=count;key=count}, where
+   * the keys are sorted and the separator characters are removed from the keys.
+   *
+   * @param counts
+   *     The counts to format.
+   *
+   * @return The formatted counts.
+   */
+  @NotNull
+  public static String formatCounts(@NotNull final Map<String, ? extends Number> counts) {
+    final Map<String, Long> sortedCounts = new TreeMap<>();
+    counts.forEach((key, count) -> sortedCounts.merge(key.replace('=', '_').replace(';', '_'), count.longValue(), Long::sum));
+
+    final StringBuilder sb = new StringBuilder(sortedCounts.size() * 24);
+    sortedCounts.forEach((key, count) -> {
+      if (sb.length() > 0) {
+        sb.append(';');
+      }
+      sb.append(key).append('=').append(count);
+    });
+    return sb.toString();
+  }
+
+  /**
+   * Creates the metric containing the amount of issues of the supplied {@code severity}.
+   *
+   * @param severity
+   *     The {@link InspectCodeIssueSeverity} of the counted issues.
+   * @param severityName
+   *     The human readable name of the supplied {@code severity}.
+   *
+   * @return A new metric of type {@link Metric.ValueType#INT}.
+   */
+  @NotNull
+  private static Metric<Integer> createSeverityMetric(
+      @NotNull final InspectCodeIssueSeverity severity,
+      @NotNull final String severityName) {
+    return new Metric.Builder(
+        "resharper_clt_" + severity.name().toLowerCase(Locale.ROOT) + "_issues",
+        "ReSharper " + severityName + " Issues",
+        Metric.ValueType.INT)
+        .setDescription("Number of issues of severity " + severityName + " reported by the InspectCode command line tool")
+        .setDirection(Metric.DIRECTION_WORST)
+        .setQualitative(false)
+        .setDomain(DOMAIN)
+        .create();
+  }
+
+  /**
+   * Creates the metric containing the distribution of the issues on the source code files of a single language.
+   *
+   * @param languageName
+   *     The name of the language, which is part of the metric key.
+   * @param languageDisplayName
+   *     The human readable name of the language.
+   * @param distributionKey
+   *     The property by which the issues are distributed, which is part of the metric key, i.e. {@code category} or {@code rule}.
+   * @param distributionName
+   *     The human readable name of the property by which the issues are distributed.
+   *
+   * @return A new metric of type {@link Metric.ValueType#DATA}.
+   */
+  @NotNull
+  private static Metric<String> createDistributionMetric(
+      @NotNull final String languageName,
+      @NotNull final String languageDisplayName,
+      @NotNull final String distributionKey,
+      @NotNull final String distributionName) {
+    return new Metric.Builder(
+        "resharper_clt_" + languageName + "_issues_by_" + distributionKey,
+        "ReSharper " + languageDisplayName + " Issues by " + distributionName,
+        Metric.ValueType.DATA)
+        .setDescription("Number of issues reported by the InspectCode command line tool on " + languageDisplayName + " files per "
+            + distributionKey)
+        .setDirection(Metric.DIRECTION_NONE)
+        .setQualitative(false)
+        .setDomain(DOMAIN)
+        .create();
+  }
+}
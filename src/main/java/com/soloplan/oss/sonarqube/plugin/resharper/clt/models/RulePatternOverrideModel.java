@@ -0,0 +1,210 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.models;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeRuleType;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeSeverity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A model class that is used to override the type and severity of all {@link SonarQubeRuleDefinitionModel} instances matching a set of
+ * patterns, instead of a single rule key or category. Each pattern is either a wildcard pattern, where {@code *} matches any sequence of
+ * characters and {@code ?} matches a single character, or a regular expression if prefixed with {@code regex:}. Patterns are matched
+ * ignoring case, while a pattern which is not set matches any value. If several overrides match the same rule definition, the one with the
+ * highest priority wins, while overrides of equal priority are applied in the order of declaration.
+ */
+public class RulePatternOverrideModel {
+
+  /** The pattern matching the key of the SonarQube rule, or {@code null} if any key matches. */
+  @Nullable
+  private String ruleKeyPattern;
+
+  /** The pattern matching the category identifier of the {@code InspectCode} issue type, or {@code null} if any category matches. */
+  @Nullable
+  private String categoryIdPattern;
+
+  /** The pattern matching the sub category of the {@code InspectCode} issue type, or {@code null} if any sub category matches. */
+  @Nullable
+  private String subCategoryPattern;
+
+  /** The pattern matching the severity of the {@code InspectCode} issue type, or {@code null} if any severity matches. */
+  @Nullable
+  private String inspectCodeSeverityPattern;
+
+  /** The priority of this override, where overrides of higher priority take precedence. */
+  private int priority = 0;
+
+  /** The SonarQube compatible rule type to set, or {@code null} if the rule type should not be overridden. */
+  @Nullable
+  private SonarQubeRuleType sonarQubeRuleType;
+
+  /** The SonarQube compatible severity to set, or {@code null} if the severity should not be overridden. */
+  @Nullable
+  private SonarQubeSeverity sonarQubeSeverity;
+
+  /**
+   * Gets the pattern matching the key of the SonarQube rule.
+   *
+   * @return The pattern matching the key of the SonarQube rule, or {@code null} if any key matches.
+   */
+  @Nullable
+  public String getRuleKeyPattern() {
+    return this.ruleKeyPattern;
+  }
+
+  /**
+   * Sets the pattern matching the key of the SonarQube rule.
+   *
+   * @param ruleKeyPattern
+   *     The pattern matching the key of the SonarQube rule, or {@code null} if any key matches.
+   */
+  public void setRuleKeyPattern(@Nullable final String ruleKeyPattern) {
+    this.ruleKeyPattern = ruleKeyPattern;
+  }
+
+  /**
+   * Gets the pattern matching the category identifier of the {@code InspectCode} issue type.
+   *
+   * @return The pattern matching the category identifier, or {@code null} if any category matches.
+   */
+  @Nullable
+  public String getCategoryIdPattern() {
+    return this.categoryIdPattern;
+  }
+
+  /**
+   * Sets the pattern matching the category identifier of the {@code InspectCode} issue type.
+   *
+   * @param categoryIdPattern
+   *     The pattern matching the category identifier, or {@code null} if any category matches.
+   */
+  public void setCategoryIdPattern(@Nullable final String categoryIdPattern) {
+    this.categoryIdPattern = categoryIdPattern;
+  }
+
+  /**
+   * Gets the pattern matching the sub category of the {@code InspectCode} issue type.
+   *
+   * @return The pattern matching the sub category, or {@code null} if any sub category matches.
+   */
+  @Nullable
+  public String getSubCategoryPattern() {
+    return this.subCategoryPattern;
+  }
+
+  /**
+   * Sets the pattern matching the sub category of the {@code InspectCode} issue type.
+   *
+   * @param subCategoryPattern
+   *     The pattern matching the sub category, or {@code null} if any sub category matches.
+   */
+  public void setSubCategoryPattern(@Nullable final String subCategoryPattern) {
+    this.subCategoryPattern = subCategoryPattern;
+  }
+
+  /**
+   * Gets the pattern matching the severity of the {@code InspectCode} issue type.
+   *
+   * @return The pattern matching the severity, or {@code null} if any severity matches.
+   */
+  @Nullable
+  public String getInspectCodeSeverityPattern() {
+    return this.inspectCodeSeverityPattern;
+  }
+
+  /**
+   * Sets the pattern matching the severity of the {@code InspectCode} issue type.
+   *
+   * @param inspectCodeSeverityPattern
+   *     The pattern matching the severity, or {@code null} if any severity matches.
+   */
+  public void setInspectCodeSeverityPattern(@Nullable final String inspectCodeSeverityPattern) {
+    this.inspectCodeSeverityPattern = inspectCodeSeverityPattern;
+  }
+
+  /**
+   * Gets the priority of this override, where overrides of higher priority take precedence. Defaults to {@code 0}.
+   *
+   * @return The priority of this override.
+   */
+  public int getPriority() {
+    return this.priority;
+  }
+
+  /**
+   * Sets the priority of this override, where overrides of higher priority take precedence.
+   *
+   * @param priority
+   *     The priority of this override.
+   */
+  public void setPriority(final int priority) {
+    this.priority = priority;
+  }
+
+  /**
+   * Gets the SonarQube compatible rule type to set.
+   *
+   * @return The SonarQube compatible rule type, or {@code null} if the rule type should not be overridden.
+   */
+  @Nullable
+  public SonarQubeRuleType getSonarQubeRuleType() {
+    return this.sonarQubeRuleType;
+  }
+
+  /**
+   * Sets the SonarQube compatible rule type by parsing the supplied string representation to a matching enumeration value.
+   *
+   * @param ruleTypeValue
+   *     The string representation of the {@link SonarQubeRuleType} to set, or {@code null} if the rule type should not be overridden.
+   */
+  public void setSonarQubeRuleType(@Nullable final String ruleTypeValue) {
+    this.sonarQubeRuleType = ruleTypeValue != null ? SonarQubeRuleType.fromRuleTypeValue(ruleTypeValue) : null;
+  }
+
+  /**
+   * Gets the SonarQube compatible severity to set.
+   *
+   * @return The SonarQube compatible severity, or {@code null} if the severity should not be overridden.
+   */
+  @Nullable
+  public SonarQubeSeverity getSonarQubeSeverity() {
+    return this.sonarQubeSeverity;
+  }
+
+  /**
+   * Sets the SonarQube compatible severity by parsing the supplied string representation to a matching enumeration value.
+   *
+   * @param severityValue
+   *     The string representation of the {@link SonarQubeSeverity} to set, or {@code null} if the severity should not be overridden.
+   */
+  public void setSonarQubeSeverity(@Nullable final String severityValue) {
+    this.sonarQubeSeverity = severityValue != null ? SonarQubeSeverity.fromSeverityValue(severityValue) : null;
+  }
+
+  @Override
+  public String toString() {
+    return "RulePatternOverrideModel{" +
+        "ruleKeyPattern='" + ruleKeyPattern + '\'' +
+        ", categoryIdPattern='" + categoryIdPattern + '\'' +
+        ", subCategoryPattern='" + subCategoryPattern + '\'' +
+        ", inspectCodeSeverityPattern='" + inspectCodeSeverityPattern + '\'' +
+        ", priority=" + priority +
+        ", sonarQubeRuleType=" + sonarQubeRuleType +
+        ", sonarQubeSeverity=" + sonarQubeSeverity +
+        '}';
+  }
+}
@@ -43,6 +43,12 @@ public class SonarQubeIssueModel {
    */
   private TextRange textRange;
 
+  /** The offset of the first character of the issue, counted from the start of the source code file. */
+  private int fileOffsetStart = -1;
+
+  /** The offset after the last character of the issue, counted from the start of the source code file. */
+  private int fileOffsetEnd = -1;
+
   // endregion
 
   /**
@@ -141,4 +147,37 @@ public class SonarQubeIssueModel {
         new DefaultTextPointer(line, start),
         new DefaultTextPointer(line, end));
   }
+
+  /**
+   * Gets the offset of the first character of the issue, counted from the start of the source code file. Negative values indicate an
+   * invalid offset.
+   *
+   * @return The offset of the first character of the issue, counted from the start of the source code file.
+   */
+  public int getFileOffsetStart() {
+    return fileOffsetStart;
+  }
+
+  /**
+   * Gets the offset after the last character of the issue, counted from the start of the source code file. Negative values indicate an
+   * invalid offset.
+   *
+   * @return The offset after the last character of the issue, counted from the start of the source code file.
+   */
+  public int getFileOffsetEnd() {
+    return fileOffsetEnd;
+  }
+
+  /**
+   * Sets the offsets of the first and after the last character of the issue, counted from the start of the source code file.
+   *
+   * @param fileOffsetStart
+   *     The offset of the first character of the issue, counted from the start of the source code file.
+   * @param fileOffsetEnd
+   *     The offset after the last character of the issue, counted from the start of the source code file.
+   */
+  public void setFileOffsets(int fileOffsetStart, int fileOffsetEnd) {
+    this.fileOffsetStart = fileOffsetStart;
+    this.fileOffsetEnd = fileOffsetEnd;
+  }
 }
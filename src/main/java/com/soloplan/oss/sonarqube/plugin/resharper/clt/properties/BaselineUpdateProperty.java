@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a property accessible within SonarQube to indicate whether the baseline files should be written from the issues of the current
+ * analysis, instead of suppressing the issues contained within them.
+ */
+public class BaselineUpdateProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_BASELINE_UPDATE;
+  }
+
+  @Override
+  protected String getName() {
+    return "Update baseline files";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Write the fingerprints of all issues of the current analysis to the baseline files, replacing their contents. All issues are "
+        + "imported during such an analysis.";
+  }
+
+  @Override
+  protected @NotNull String getDefaultValue() {
+    return Boolean.FALSE.toString();
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a property accessible within SonarQube to indicate whether only issues on added or changed source code files should be imported
+ * from the {@code InspectCode} XML file. Pull request analyses always import issues on changed files only.
+ */
+public class ChangedFilesOnlyProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_CHANGED_FILES_ONLY;
+  }
+
+  @Override
+  protected String getName() {
+    return "Import issues on changed files only";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Only import issues on source code files that have been added or changed, e.g. for the analysis of short-lived branches. "
+        + "Issues on unchanged files are ignored while parsing the InspectCode XML file. Pull request analyses always behave this way.";
+  }
+
+  @Override
+  protected @NotNull String getDefaultValue() {
+    return Boolean.FALSE.toString();
+  }
+}
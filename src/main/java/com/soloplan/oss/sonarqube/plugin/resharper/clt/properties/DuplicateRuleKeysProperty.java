@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a property accessible within SonarQube to map {@code InspectCode} issue types to equivalent rules of other analyzers, whose
+ * issues are read from the Roslyn SARIF files in order to suppress duplicate issues.
+ */
+public class DuplicateRuleKeysProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_DUPLICATE_RULE_KEYS;
+  }
+
+  @Override
+  protected String getName() {
+    return "Equivalent rules of other analyzers";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Comma separated list of InspectCode issue types and equivalent rule keys of other analyzers, e.g. "
+        + "<code>UnusedVariable=S1481|CS0168</code>. An InspectCode issue is not saved, if the Roslyn SARIF files of the analysis contain "
+        + "an issue of an equivalent rule on the same file and line. Leave empty to save all issues.";
+  }
+
+  @Override
+  protected @NotNull String getDefaultValue() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_DUPLICATE_RULE_KEYS_DEFAULT_VALUE;
+  }
+}
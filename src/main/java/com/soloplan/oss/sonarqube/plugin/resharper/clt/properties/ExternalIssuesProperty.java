@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a property accessible within SonarQube to indicate whether issues should be imported as external issues, which do not require
+ * rules to be registered and activated within a quality profile.
+ */
+public class ExternalIssuesProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_EXTERNAL_ISSUES;
+  }
+
+  @Override
+  protected String getName() {
+    return "Import external issues";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Import all issues as external issues of engine '" + ReSharperCltConfiguration.EXTERNAL_ISSUES_ENGINE_ID + "', using the type "
+        + "and severity of the issue types stated within the InspectCode report, instead of issues of the ReSharper rule repositories. "
+        + "Quality profiles have no effect on external issues. If enabled on the server, the ReSharper rules are not registered.";
+  }
+
+  @Override
+  protected @NotNull String getDefaultValue() {
+    return Boolean.FALSE.toString();
+  }
+}
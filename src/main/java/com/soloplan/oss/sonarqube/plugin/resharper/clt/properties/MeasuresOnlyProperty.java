@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a property accessible within SonarQube to indicate whether only the amount of issues should be saved as measures, instead of
+ * saving each issue.
+ */
+public class MeasuresOnlyProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_MEASURES_ONLY;
+  }
+
+  @Override
+  protected String getName() {
+    return "Import measures only";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Save the number of InspectCode issues per severity, category and rule as measures of the source code files, which are "
+        + "aggregated to the project, instead of saving each issue. Useful to track the trend of large legacy code bases.";
+  }
+
+  @Override
+  protected @NotNull String getDefaultValue() {
+    return Boolean.FALSE.toString();
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defines a server property accessible within SonarQube to exclude {@code InspectCode} rules from being registered within the rule
+ * repositories of this plugin on startup of the server.
+ */
+public class RulesExcludedProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_RULES_EXCLUDED;
+  }
+
+  @Override
+  protected String getName() {
+    return "Excluded rules";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Comma separated list of patterns selecting rules which are not registered, using the same syntax as property <code>"
+        + ReSharperCltConfiguration.PROPERTY_KEY_RULES_INCLUDED + "</code>, e.g. <code>severity:DO_NOT_SHOW,severity:HINT</code>. "
+        + "Exclusions take precedence over inclusions. Changes take effect after a restart of the server.";
+  }
+
+  @Override
+  protected @NotNull List<String> getQualifiers() {
+    // Rules are registered on startup of the server, hence the property is not available for projects
+    return new ArrayList<>();
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defines a server property accessible within SonarQube to select the {@code InspectCode} rules which are registered within the rule
+ * repositories of this plugin on startup of the server.
+ */
+public class RulesIncludedProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_RULES_INCLUDED;
+  }
+
+  @Override
+  protected String getName() {
+    return "Included rules";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Comma separated list of patterns selecting the rules to register, where <code>*</code> and <code>?</code> are wildcards and "
+        + "patterns prefixed with <code>regex:</code> are regular expressions. A pattern matches the rule key, unless prefixed with "
+        + "<code>" + ReSharperCltConfiguration.RULE_FILTER_PREFIX_CATEGORY + "</code>, "
+        + "<code>" + ReSharperCltConfiguration.RULE_FILTER_PREFIX_SUBCATEGORY + "</code> or "
+        + "<code>" + ReSharperCltConfiguration.RULE_FILTER_PREFIX_SEVERITY + "</code> to match the InspectCode category identifier, "
+        + "sub category or severity, e.g. <code>category:CodeSmell,Redundant*</code>. "
+        + "Leave empty to register all rules. Changes take effect after a restart of the server.";
+  }
+
+  @Override
+  protected @NotNull List<String> getQualifiers() {
+    // Rules are registered on startup of the server, hence the property is not available for projects
+    return new ArrayList<>();
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a property accessible within SonarQube to indicate whether issues should be saved in the order of their severity, so that the
+ * most important issues are saved within the time budget of the import.
+ */
+public class TimeBudgetPrioritizeSeverityProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET_PRIORITIZE_SEVERITY;
+  }
+
+  @Override
+  protected String getName() {
+    return "Save issues by severity";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Save the issues of source code files in the order of the most important severity of their rules, starting with files "
+        + "containing blocker issues, so that the most important issues are saved before the time budget is exceeded.";
+  }
+
+  @Override
+  protected @NotNull String getDefaultValue() {
+    return Boolean.FALSE.toString();
+  }
+}
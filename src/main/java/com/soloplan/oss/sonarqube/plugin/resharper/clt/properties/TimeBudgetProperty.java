@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a property accessible within SonarQube to limit the time spent on importing the issues of a single {@code InspectCode} XML file.
+ */
+public class TimeBudgetProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET;
+  }
+
+  @Override
+  protected String getName() {
+    return "Time budget in seconds";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Maximum amount of seconds spent on parsing an InspectCode XML file and saving its issues. Once exceeded, the import stops "
+        + "and all issues saved so far are kept. Set to 0 to disable the time budget.";
+  }
+
+  @Override
+  protected @NotNull String getDefaultValue() {
+    return "0";
+  }
+}
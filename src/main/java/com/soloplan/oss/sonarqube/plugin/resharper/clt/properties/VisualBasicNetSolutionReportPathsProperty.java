@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.properties;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.sonar.api.resources.Qualifiers;
+
+import java.util.List;
+
+public final class VisualBasicNetSolutionReportPathsProperty
+    extends BasePluginProperty {
+
+  @Override
+  protected String getKey() {
+    return ReSharperCltConfiguration.PROPERTY_KEY_VBNET_SOLUTION_REPORT_PATHS;
+  }
+
+  @Override
+  protected String getName() {
+    return "ReSharper report paths of multiple solutions for Visual Basic .NET";
+  }
+
+  @Override
+  protected String getDescription() {
+    return "Comma separated list of solution files and the ReSharper reports for Visual Basic .NET created for them, i.e. "
+        + "<code>src/A.sln=reports/A-vbnet-report.xml,src/B.sln=reports/B-vbnet-report.xml</code>. The reports are parsed "
+        + "concurrently and the issues of a project contained within multiple solutions are imported from the first solution only. "
+        + "Overrides the solution file and the report path if set.";
+  }
+
+  @NotNull
+  @Override
+  protected String getSubCategory() {
+    return ReSharperCltConfiguration.PLUGIN_CONFIGURATION_PROPERTY_VBNET_SUBCATEGORY;
+  }
+
+  @Override
+  protected @NotNull List<String> getQualifiers() {
+    final List<String> qualifiers = super.getQualifiers();
+    qualifiers.add(Qualifiers.MODULE);
+    return qualifiers;
+  }
+}
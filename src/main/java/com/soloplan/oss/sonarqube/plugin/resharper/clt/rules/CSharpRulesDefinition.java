@@ -21,18 +21,31 @@ import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.CSharpLanguage;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.InspectCodePredicates;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.ObjectPredicates;
-import org.jetbrains.annotations.Nullable;
 import org.sonar.api.config.Configuration;
 import org.sonar.api.server.rule.RulesDefinition;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Predicate;
 
 public class CSharpRulesDefinition
     extends BaseRulesDefinition
     implements RulesDefinition {
 
+  /**
+   * The {@link Predicate}s which are combined using a logical {@code and} to decide whether an {@code InspectCode} issue definition of the
+   * {@link RulesCatalog} is meaningful for the C# language.
+   */
+  static final Collection<Predicate<InspectCodeIssueDefinitionModel>> ISSUE_DEFINITION_FILTER_PREDICATES =
+      Collections.unmodifiableList(Arrays.asList(
+          ObjectPredicates.isNotNullPredicate(),
+          InspectCodePredicates.hasValidIssueSeverity(),
+          InspectCodePredicates.hasNonEmptyIssueDescription(),
+          InspectCodePredicates.isCSharpIssueDefinition(),
+          InspectCodePredicates.isVisualBasicIssueDefinition().negate(),
+          InspectCodePredicates.isWebRelatedCategory().negate()));
+
   /**
    * Creates a new instance of the {@link CSharpRulesDefinition} class storing a reference to the supplied {@link Configuration} instance
    * internally. The {@link Configuration} instance is provided via dependency injection. Visit the
@@ -51,15 +64,4 @@ public class CSharpRulesDefinition
         configuration
     );
   }
-
-  @Override
-  protected @Nullable Collection<Predicate<InspectCodeIssueDefinitionModel>> getIssueDefinitionFilterPredicates() {
-    return Arrays.asList(
-        ObjectPredicates.isNotNullPredicate(),
-        InspectCodePredicates.hasValidIssueSeverity(),
-        InspectCodePredicates.hasNonEmptyIssueDescription(),
-        InspectCodePredicates.isCSharpIssueDefinition(),
-        InspectCodePredicates.isVisualBasicIssueDefinition().negate(),
-        InspectCodePredicates.isWebRelatedCategory().negate());
-  }
 }
@@ -0,0 +1,611 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeRuleType;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeSeverity;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeCategoryOverrideModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.RulePatternOverrideModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionOverrideModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Package visible class used internally to apply rule definition overrides to rule definitions. All overrides are compiled once when
+ * creating the matcher, so that the costs of matching a rule definition do not depend on the amount of overrides declaring an exact value
+ * or a prefix pattern. Overrides are applied using the following precedence:
+ * <ol>
+ * <li>An override of the exact rule key.</li>
+ * <li>All matching pattern overrides, ordered by their priority descending and their declaration.</li>
+ * <li>An override of the exact category identifier.</li>
+ * </ol>
+ * The rule type and the severity are resolved independently, so that the first override declaring a value wins. Instances of this class are
+ * immutable once created and keep their scratch state per thread, hence they are safe to be shared by multiple threads.
+ */
+final class RuleOverrideMatcher {
+
+  /**
+   * Gets an implementation of the {@link Logger} interface for this class.
+   * <p/>
+   * Please note, that message arguments are defined with {@code {}}, but not with
+   * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/Formatter.html">Formatter</a> syntax.
+   *
+   * @see Logger
+   */
+  private static final Logger LOGGER = Loggers.get(RuleOverrideMatcher.class);
+
+  /** The prefix of patterns which should be interpreted as regular expression instead of a wildcard pattern. */
+  private static final String REGEX_PATTERN_PREFIX = "regex:";
+
+  /** Contains the overrides of exact rule keys, keyed by the rule key. */
+  @NotNull
+  private final Map<String, SonarQubeRuleDefinitionOverrideModel> ruleKeyOverrides = new HashMap<>();
+
+  /** Contains the overrides of exact category identifiers, keyed by the category identifier. */
+  @NotNull
+  private final Map<String, InspectCodeCategoryOverrideModel> categoryOverrides = new HashMap<>();
+
+  /** Contains the pattern overrides ordered by their precedence, where the index is used as bit within the {@link FieldIndex}es. */
+  @NotNull
+  private final List<RulePatternOverrideModel> patternOverrides;
+
+  /** The index of the rule key patterns of the {@link #patternOverrides}. */
+  @NotNull
+  private final FieldIndex ruleKeyIndex;
+
+  /** The index of the category identifier patterns of the {@link #patternOverrides}. */
+  @NotNull
+  private final FieldIndex categoryIdIndex;
+
+  /** The index of the sub category patterns of the {@link #patternOverrides}. */
+  @NotNull
+  private final FieldIndex subCategoryIndex;
+
+  /** The index of the {@code InspectCode} severity patterns of the {@link #patternOverrides}. */
+  @NotNull
+  private final FieldIndex inspectCodeSeverityIndex;
+
+  /** The {@link MatchBuffers} of each thread, which are reused for all rule definitions matched by the thread. */
+  @NotNull
+  private final ThreadLocal<MatchBuffers> matchBuffers = ThreadLocal.withInitial(MatchBuffers::new);
+
+  /**
+   * Creates a new instance of the {@link RuleOverrideMatcher} class, compiling all supplied overrides.
+   *
+   * @param ruleKeyOverrides
+   *     The overrides of exact rule keys.
+   * @param categoryOverrides
+   *     The overrides of exact category identifiers.
+   * @param patternOverrides
+   *     The pattern overrides in the order of their declaration.
+   */
+  RuleOverrideMatcher(
+      @NotNull final Collection<SonarQubeRuleDefinitionOverrideModel> ruleKeyOverrides,
+      @NotNull final Collection<InspectCodeCategoryOverrideModel> categoryOverrides,
+      @NotNull final Collection<RulePatternOverrideModel> patternOverrides) {
+    // Later declarations of the same key replace earlier ones, which are ignored
+    for (SonarQubeRuleDefinitionOverrideModel ruleKeyOverride : ruleKeyOverrides) {
+      if (ruleKeyOverride != null) {
+        this.ruleKeyOverrides.put(ruleKeyOverride.getRuleDefinitionKey(), ruleKeyOverride);
+      }
+    }
+    for (InspectCodeCategoryOverrideModel categoryOverride : categoryOverrides) {
+      if (categoryOverride != null) {
+        this.categoryOverrides.put(categoryOverride.getCategoryId(), categoryOverride);
+      }
+    }
+
+    // The sort is stable, hence overrides of the same priority keep the order of their declaration
+    this.patternOverrides = new ArrayList<>(patternOverrides.size());
+    for (RulePatternOverrideModel patternOverride : patternOverrides) {
+      if (patternOverride != null) {
+        this.patternOverrides.add(patternOverride);
+      }
+    }
+    this.patternOverrides.sort(Comparator.comparingInt(RulePatternOverrideModel::getPriority).reversed());
+
+    this.ruleKeyIndex = new FieldIndex(this.patternOverrides, RulePatternOverrideModel::getRuleKeyPattern);
+    this.categoryIdIndex = new FieldIndex(this.patternOverrides, RulePatternOverrideModel::getCategoryIdPattern);
+    this.subCategoryIndex = new FieldIndex(this.patternOverrides, RulePatternOverrideModel::getSubCategoryPattern);
+    this.inspectCodeSeverityIndex = new FieldIndex(this.patternOverrides, RulePatternOverrideModel::getInspectCodeSeverityPattern);
+
+    LOGGER.debug("Compiled {} rule overrides, {} category overrides and {} pattern overrides.",
+        this.ruleKeyOverrides.size(), this.categoryOverrides.size(), this.patternOverrides.size());
+  }
+
+  /**
+   * Applies the rule type and severity of the overrides matching the supplied {@code ruleDefinition}.
+   *
+   * @param ruleDefinition
+   *     The {@link SonarQubeRuleDefinitionModel} to update.
+   *
+   * @return {@code true} if any override matched the supplied {@code ruleDefinition}, otherwise {@code false}.
+   */
+  boolean apply(@NotNull final SonarQubeRuleDefinitionModel ruleDefinition) {
+    final SonarQubeRuleDefinitionOverrideModel ruleKeyOverride = this.ruleKeyOverrides.get(ruleDefinition.getRuleDefinitionKey());
+    if (ruleKeyOverride != null) {
+      // Overrides of exact rule keys always declare both values, hence no other override needs to be considered
+      ruleDefinition.setSonarQubeRuleType(ruleKeyOverride.getSonarQubeRuleType());
+      ruleDefinition.setSonarQubeSeverity(ruleKeyOverride.getSonarQubeSeverity());
+      return true;
+    }
+
+    final InspectCodeIssueDefinitionModel inspectCodeModel = ruleDefinition.getInspectcodeModel();
+    SonarQubeRuleType ruleType = null;
+    SonarQubeSeverity severity = null;
+
+    if (!this.patternOverrides.isEmpty()) {
+      final BitSet matches = this.matchPatternOverrides(ruleDefinition);
+
+      // The bits are ordered by precedence, hence the first override declaring a value wins
+      for (int bit = matches.nextSetBit(0); bit >= 0 && (ruleType == null || severity == null); bit = matches.nextSetBit(bit + 1)) {
+        final RulePatternOverrideModel patternOverride = this.patternOverrides.get(bit);
+        if (ruleType == null) {
+          ruleType = patternOverride.getSonarQubeRuleType();
+        }
+        if (severity == null) {
+          severity = patternOverride.getSonarQubeSeverity();
+        }
+      }
+    }
+
+    if ((ruleType == null || severity == null) && inspectCodeModel != null && inspectCodeModel.getCategoryId() != null) {
+      final InspectCodeCategoryOverrideModel categoryOverride = this.categoryOverrides.get(inspectCodeModel.getCategoryId());
+      if (categoryOverride != null) {
+        if (ruleType == null) {
+          ruleType = categoryOverride.getSonarQubeRuleType();
+        }
+        if (severity == null) {
+          severity = categoryOverride.getSonarQubeSeverity();
+        }
+      }
+    }
+
+    if (ruleType != null) {
+      ruleDefinition.setSonarQubeRuleType(ruleType);
+    }
+    if (severity != null) {
+      ruleDefinition.setSonarQubeSeverity(severity);
+    }
+    return ruleType != null || severity != null;
+  }
+
+  /**
+   * Indicates whether any pattern override matches the supplied {@code ruleDefinition}, regardless of the values it declares.
+   *
+   * @param ruleDefinition
+   *     The {@link SonarQubeRuleDefinitionModel} to match.
+   *
+   * @return {@code true} if any pattern override matches the supplied {@code ruleDefinition}, otherwise {@code false}.
+   */
+  boolean matchesAnyPatternOverride(@NotNull final SonarQubeRuleDefinitionModel ruleDefinition) {
+    return !this.patternOverrides.isEmpty() && !this.matchPatternOverrides(ruleDefinition).isEmpty();
+  }
+
+  /**
+   * Gets the pattern overrides matching the supplied {@code ruleDefinition}, where all fields of an override have to match.
+   *
+   * @param ruleDefinition
+   *     The {@link SonarQubeRuleDefinitionModel} to match.
+   *
+   * @return The {@link BitSet} of the indices of the matching {@link #patternOverrides}, which is reused by the next call of the thread.
+   */
+  @NotNull
+  private BitSet matchPatternOverrides(@NotNull final SonarQubeRuleDefinitionModel ruleDefinition) {
+    final InspectCodeIssueDefinitionModel inspectCodeModel = ruleDefinition.getInspectcodeModel();
+    final MatchBuffers buffers = this.matchBuffers.get();
+    final BitSet matches = buffers.matches;
+    final BitSet fieldMatches = buffers.fieldMatches;
+    this.ruleKeyIndex.match(ruleDefinition.getRuleDefinitionKey(), matches, buffers.candidates);
+    if (!matches.isEmpty()) {
+      this.categoryIdIndex.match(inspectCodeModel != null ? inspectCodeModel.getCategoryId() : null, fieldMatches, buffers.candidates);
+      matches.and(fieldMatches);
+    }
+    if (!matches.isEmpty()) {
+      this.subCategoryIndex.match(inspectCodeModel != null ? inspectCodeModel.getSubCategory() : null, fieldMatches, buffers.candidates);
+      matches.and(fieldMatches);
+    }
+    if (!matches.isEmpty()) {
+      this.inspectCodeSeverityIndex.match(inspectCodeModel != null && inspectCodeModel.getSeverity() != null
+          ? inspectCodeModel.getSeverity().getInspectCodeSeverityValue()
+          : null, fieldMatches, buffers.candidates);
+      matches.and(fieldMatches);
+    }
+    return matches;
+  }
+
+  @Override
+  public String toString() {
+    return "RuleOverrideMatcher{" +
+        "ruleKeyOverrides[" + ruleKeyOverrides.size() + "]" +
+        ", categoryOverrides[" + categoryOverrides.size() + "]" +
+        ", patternOverrides[" + patternOverrides.size() + "]" +
+        '}';
+  }
+
+  /**
+   * Index of the patterns of a single field of all pattern overrides, which resolves the set of overrides matching a value of the field.
+   * Patterns without wildcards are resolved by a hash lookup and patterns consisting of a prefix followed by a single trailing {@code *}
+   * are resolved by walking a trie. All other wildcard patterns are resolved by a single {@link WildcardAutomaton}, so that only regular
+   * expressions have to be evaluated one by one.
+   */
+  private static final class FieldIndex {
+
+    /** The overrides whose pattern matches any value, including {@code null}. */
+    @NotNull
+    private final BitSet unconstrained = new BitSet();
+
+    /** The overrides whose pattern matches a single value, keyed by the lower case value. */
+    @NotNull
+    private final Map<String, BitSet> exactValues = new HashMap<>();
+
+    /** The root of the trie containing the overrides whose pattern matches all values starting with a prefix. */
+    @NotNull
+    private final TrieNode prefixes = new TrieNode();
+
+    /** The automaton of the wildcard patterns which can neither be resolved by a hash lookup nor by the trie. */
+    @NotNull
+    private final WildcardAutomaton wildcards = new WildcardAutomaton();
+
+    /** The compiled regular expressions. */
+    @NotNull
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    /** The bits of the overrides of the {@link #patterns}, using the same index. */
+    @NotNull
+    private final List<Integer> patternBits = new ArrayList<>();
+
+    /**
+     * Creates a new instance of the {@link FieldIndex} class.
+     *
+     * @param patternOverrides
+     *     The pattern overrides ordered by their precedence.
+     * @param patternFunction
+     *     The {@link Function} retrieving the pattern of the field from a pattern override.
+     */
+    FieldIndex(
+        @NotNull final List<RulePatternOverrideModel> patternOverrides,
+        @NotNull final Function<RulePatternOverrideModel, String> patternFunction) {
+      for (int bit = 0; bit < patternOverrides.size(); bit++) {
+        final String pattern = patternFunction.apply(patternOverrides.get(bit));
+        if (pattern == null || pattern.isEmpty() || "*".equals(pattern)) {
+          this.unconstrained.set(bit);
+        } else if (pattern.startsWith(REGEX_PATTERN_PREFIX)) {
+          this.addPattern(bit, pattern.substring(REGEX_PATTERN_PREFIX.length()), pattern);
+        } else {
+          final String lowerCasePattern = pattern.toLowerCase(Locale.ROOT);
+          final int wildcardIndex = indexOfWildcard(lowerCasePattern);
+          if (wildcardIndex < 0) {
+            this.exactValues.computeIfAbsent(lowerCasePattern, key -> new BitSet()).set(bit);
+          } else if (wildcardIndex == lowerCasePattern.length() - 1 && lowerCasePattern.charAt(wildcardIndex) == '*') {
+            this.prefixes.getOrCreate(lowerCasePattern, wildcardIndex).bits.set(bit);
+          } else {
+            this.wildcards.add(bit, lowerCasePattern);
+          }
+        }
+      }
+      this.wildcards.compile();
+    }
+
+    /**
+     * Gets the overrides whose pattern matches the supplied {@code value}.
+     *
+     * @param value
+     *     The value of the field, which might be {@code null}.
+     * @param matches
+     *     The {@link BitSet} which is cleared and receives the matching overrides.
+     * @param candidates
+     *     The {@link BitSet} used as scratch space by the {@link WildcardAutomaton}.
+     */
+    void match(@Nullable final String value, @NotNull final BitSet matches, @NotNull final BitSet candidates) {
+      matches.clear();
+      matches.or(this.unconstrained);
+      if (value == null) {
+        return;
+      }
+
+      final String lowerCaseValue = value.toLowerCase(Locale.ROOT);
+      final BitSet exactMatches = this.exactValues.get(lowerCaseValue);
+      if (exactMatches != null) {
+        matches.or(exactMatches);
+      }
+
+      // Walk the trie along the value, where each node on the way belongs to a matching prefix
+      TrieNode node = this.prefixes;
+      for (int index = 0; node != null; index++) {
+        matches.or(node.bits);
+        node = index < lowerCaseValue.length() ? node.children.get(lowerCaseValue.charAt(index)) : null;
+      }
+
+      this.wildcards.match(lowerCaseValue, matches, candidates);
+
+      for (int index = 0; index < this.patterns.size(); index++) {
+        if (this.patterns.get(index).matcher(value).matches()) {
+          matches.set(this.patternBits.get(index));
+        }
+      }
+    }
+
+    /**
+     * Compiles the supplied {@code regularExpression} ignoring case and adds it to the {@link #patterns}. Invalid regular expressions are
+     * logged, while the override will not match any value.
+     *
+     * @param bit
+     *     The bit of the override.
+     * @param regularExpression
+     *     The regular expression to compile.
+     * @param pattern
+     *     The pattern as declared by the override, which is used for logging.
+     */
+    private void addPattern(final int bit, @NotNull final String regularExpression, @NotNull final String pattern) {
+      try {
+        this.patterns.add(Pattern.compile(regularExpression, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+        this.patternBits.add(bit);
+      } catch (PatternSyntaxException e) {
+        LOGGER.warn("Ignoring override with invalid pattern '{}': {}", pattern, e.getMessage());
+      }
+    }
+
+    /**
+     * Gets the index of the first wildcard character within the supplied {@code pattern}.
+     *
+     * @param pattern
+     *     The wildcard pattern.
+     *
+     * @return The index of the first {@code *} or {@code ?} character, or {@code -1} if there is none.
+     */
+    private static int indexOfWildcard(@NotNull final String pattern) {
+      for (int index = 0; index < pattern.length(); index++) {
+        final char character = pattern.charAt(index);
+        if (character == '*' || character == '?') {
+          return index;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * Aho-Corasick automaton over the longest literal segment of each wildcard pattern of a field. A single pass over a value yields the
+   * patterns whose segment occurs within the value, so that only these candidates have to be matched against the value.
+   */
+  private static final class WildcardAutomaton {
+
+    /** The root of the trie of the literal segments, whose nodes are linked to their failure nodes by {@link #compile()}. */
+    @NotNull
+    private final TrieNode root = new TrieNode();
+
+    /** The lower case wildcard patterns, where the index is used as bit within the {@link TrieNode}s. */
+    @NotNull
+    private final List<String> patterns = new ArrayList<>();
+
+    /** The bits of the overrides of the {@link #patterns}, using the same index. */
+    @NotNull
+    private final List<Integer> patternBits = new ArrayList<>();
+
+    /** The {@link #patterns} without any literal segment, which are candidates for all values. */
+    @NotNull
+    private final BitSet patternsWithoutSegment = new BitSet();
+
+    /**
+     * Adds the supplied wildcard {@code pattern} to the automaton, which requires {@link #compile()} to be called afterwards.
+     *
+     * @param bit
+     *     The bit of the override.
+     * @param lowerCasePattern
+     *     The lower case wildcard pattern.
+     */
+    void add(final int bit, @NotNull final String lowerCasePattern) {
+      final int index = this.patterns.size();
+      this.patterns.add(lowerCasePattern);
+      this.patternBits.add(bit);
+
+      // Find the longest literal segment, since it occurs within the fewest values
+      int segmentStart = 0;
+      int segmentLength = 0;
+      int start = 0;
+      for (int position = 0; position <= lowerCasePattern.length(); position++) {
+        if (position == lowerCasePattern.length() || lowerCasePattern.charAt(position) == '*' || lowerCasePattern.charAt(position) == '?') {
+          if (position - start > segmentLength) {
+            segmentStart = start;
+            segmentLength = position - start;
+          }
+          start = position + 1;
+        }
+      }
+
+      if (segmentLength == 0) {
+        this.patternsWithoutSegment.set(index);
+      } else {
+        this.root.getOrCreate(lowerCasePattern.substring(segmentStart), segmentLength).bits.set(index);
+      }
+    }
+
+    /**
+     * Links all nodes to their failure nodes, which is the node of the longest proper suffix of their segment contained within the trie.
+     * The bits of the failure nodes are merged into each node, since their segments occur as well whenever the node is reached.
+     */
+    void compile() {
+      final Deque<TrieNode> queue = new ArrayDeque<>();
+      for (TrieNode child : this.root.children.values()) {
+        child.failure = this.root;
+        queue.add(child);
+      }
+
+      // The nodes are visited breadth first, hence the failure nodes have been completed before their bits are merged
+      while (!queue.isEmpty()) {
+        final TrieNode node = queue.poll();
+        for (Map.Entry<Character, TrieNode> entry : node.children.entrySet()) {
+          final TrieNode child = entry.getValue();
+          TrieNode failure = node.failure;
+          while (failure != null && !failure.children.containsKey(entry.getKey())) {
+            failure = failure.failure;
+          }
+          child.failure = failure != null ? failure.children.get(entry.getKey()) : this.root;
+          child.bits.or(child.failure.bits);
+          queue.add(child);
+        }
+      }
+    }
+
+    /**
+     * Adds the overrides whose wildcard pattern matches the supplied {@code lowerCaseValue} to the supplied {@code matches}.
+     *
+     * @param lowerCaseValue
+     *     The lower case value of the field.
+     * @param matches
+     *     The {@link BitSet} receiving the matching overrides.
+     * @param candidates
+     *     The {@link BitSet} which is cleared and used as scratch space for the candidate patterns.
+     */
+    void match(@NotNull final String lowerCaseValue, @NotNull final BitSet matches, @NotNull final BitSet candidates) {
+      if (this.patterns.isEmpty()) {
+        return;
+      }
+
+      candidates.clear();
+      candidates.or(this.patternsWithoutSegment);
+      TrieNode node = this.root;
+      for (int position = 0; position < lowerCaseValue.length(); position++) {
+        final Character character = lowerCaseValue.charAt(position);
+        TrieNode next = node.children.get(character);
+        while (next == null && node.failure != null) {
+          node = node.failure;
+          next = node.children.get(character);
+        }
+        node = next != null ? next : this.root;
+        candidates.or(node.bits);
+      }
+
+      for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+        if (matchesWildcardPattern(this.patterns.get(index), lowerCaseValue)) {
+          matches.set(this.patternBits.get(index));
+        }
+      }
+    }
+
+    /**
+     * Indicates whether the supplied wildcard {@code pattern} matches the whole supplied {@code value}, where {@code *} matches any
+     * sequence of characters and {@code ?} matches a single character.
+     *
+     * @param pattern
+     *     The lower case wildcard pattern.
+     * @param value
+     *     The lower case value.
+     *
+     * @return {@code true} if the supplied {@code pattern} matches the supplied {@code value}, otherwise {@code false}.
+     */
+    private static boolean matchesWildcardPattern(@NotNull final String pattern, @NotNull final String value) {
+      int patternPosition = 0;
+      int valuePosition = 0;
+      int starPosition = -1;
+      int starValuePosition = 0;
+      while (valuePosition < value.length()) {
+        final char patternCharacter = patternPosition < pattern.length() ? pattern.charAt(patternPosition) : '\0';
+        if (patternCharacter == '*') {
+          // Let the star match nothing at first, while remembering where to continue if the remaining pattern does not match
+          starPosition = patternPosition++;
+          starValuePosition = valuePosition;
+        } else if (patternPosition < pattern.length() && (patternCharacter == '?' || patternCharacter == value.charAt(valuePosition))) {
+          patternPosition++;
+          valuePosition++;
+        } else if (starPosition >= 0) {
+          patternPosition = starPosition + 1;
+          valuePosition = ++starValuePosition;
+        } else {
+          return false;
+        }
+      }
+      while (patternPosition < pattern.length() && pattern.charAt(patternPosition) == '*') {
+        patternPosition++;
+      }
+      return patternPosition == pattern.length();
+    }
+  }
+
+  /** Scratch {@link BitSet}s of a single thread, which are reused for all rule definitions matched by the thread. */
+  private static final class MatchBuffers {
+
+    /** The pattern overrides matching all fields evaluated so far. */
+    @NotNull
+    private final BitSet matches = new BitSet();
+
+    /** The pattern overrides matching the field which is currently evaluated. */
+    @NotNull
+    private final BitSet fieldMatches = new BitSet();
+
+    /** The candidates of the {@link WildcardAutomaton} of the field which is currently evaluated. */
+    @NotNull
+    private final BitSet candidates = new BitSet();
+  }
+
+  /**
+   * A node of a trie keyed by lower case characters, which is used for the prefix patterns and the literal segments of the {@link
+   * WildcardAutomaton}.
+   */
+  private static final class TrieNode {
+
+    /** The child nodes keyed by the next character. */
+    @NotNull
+    private final Map<Character, TrieNode> children = new HashMap<>(4);
+
+    /** The overrides whose prefix ends at this node, or the wildcard patterns whose segment is a suffix of the path to this node. */
+    @NotNull
+    private final BitSet bits = new BitSet();
+
+    /** The failure node of the {@link WildcardAutomaton}, which is {@code null} for the root and all nodes of the prefix trie. */
+    @Nullable
+    private TrieNode failure;
+
+    /**
+     * Gets the node of the supplied {@code prefix}, creating all missing nodes on the way.
+     *
+     * @param prefix
+     *     The string starting with the prefix.
+     * @param length
+     *     The length of the prefix.
+     *
+     * @return The {@link TrieNode} of the prefix.
+     */
+    @NotNull
+    TrieNode getOrCreate(@NotNull final String prefix, final int length) {
+      TrieNode node = this;
+      for (int index = 0; index < length; index++) {
+        node = node.children.computeIfAbsent(prefix.charAt(index), key -> new TrieNode());
+      }
+      return node;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltSettings;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.RulePatternOverrideModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Package visible class used internally to decide which rule definitions of the {@link RulesCatalog} are registered within the rule
+ * repositories, according to the properties {@value ReSharperCltConfiguration#PROPERTY_KEY_RULES_INCLUDED} and {@value
+ * ReSharperCltConfiguration#PROPERTY_KEY_RULES_EXCLUDED}. The patterns of both properties are compiled once into a {@link
+ * RuleOverrideMatcher} each, using the same pattern syntax as the pattern overrides. Instances of this class are immutable once created.
+ */
+final class RuleRegistrationFilter
+    implements Predicate<SonarQubeRuleDefinitionModel> {
+
+  /** The matcher of the included patterns, or {@code null} if all rule definitions are included. */
+  @Nullable
+  private final RuleOverrideMatcher includedRulesMatcher;
+
+  /** The matcher of the excluded patterns, or {@code null} if no rule definition is excluded. */
+  @Nullable
+  private final RuleOverrideMatcher excludedRulesMatcher;
+
+  /**
+   * Creates a new instance of the {@link RuleRegistrationFilter} class.
+   *
+   * @param includedRulePatterns
+   *     The patterns selecting the rule definitions to register, which registers all rule definitions if empty.
+   * @param excludedRulePatterns
+   *     The patterns selecting the rule definitions not to register.
+   */
+  private RuleRegistrationFilter(@NotNull final String[] includedRulePatterns, @NotNull final String[] excludedRulePatterns) {
+    this.includedRulesMatcher = createMatcher(includedRulePatterns);
+    this.excludedRulesMatcher = createMatcher(excludedRulePatterns);
+  }
+
+  /**
+   * Creates a new {@link RuleRegistrationFilter} using the included and excluded rule patterns of the supplied {@code settings}.
+   *
+   * @param settings
+   *     The {@link ReSharperCltSettings} of the server.
+   *
+   * @return A new {@link RuleRegistrationFilter}.
+   */
+  @NotNull
+  static RuleRegistrationFilter of(@NotNull final ReSharperCltSettings settings) {
+    return new RuleRegistrationFilter(settings.getIncludedRulePatterns(), settings.getExcludedRulePatterns());
+  }
+
+  /**
+   * Indicates whether all rule definitions are registered, since neither included nor excluded patterns are defined.
+   *
+   * @return {@code true} if all rule definitions are registered, otherwise {@code false}.
+   */
+  boolean isUnfiltered() {
+    return this.includedRulesMatcher == null && this.excludedRulesMatcher == null;
+  }
+
+  /**
+   * Indicates whether the supplied {@code ruleDefinition} should be registered.
+   *
+   * @param ruleDefinition
+   *     The {@link SonarQubeRuleDefinitionModel} to test.
+   *
+   * @return {@code true} if the supplied {@code ruleDefinition} is included and not excluded, otherwise {@code false}.
+   */
+  @Override
+  public boolean test(@NotNull final SonarQubeRuleDefinitionModel ruleDefinition) {
+    return (this.includedRulesMatcher == null || this.includedRulesMatcher.matchesAnyPatternOverride(ruleDefinition))
+        && (this.excludedRulesMatcher == null || !this.excludedRulesMatcher.matchesAnyPatternOverride(ruleDefinition));
+  }
+
+  /**
+   * Compiles the supplied {@code rulePatterns} into a {@link RuleOverrideMatcher}, where each pattern is converted to a pattern override
+   * matching a single field of the rule definitions.
+   *
+   * @param rulePatterns
+   *     The patterns to compile.
+   *
+   * @return A new {@link RuleOverrideMatcher}, or {@code null} if no patterns are supplied.
+   */
+  @Nullable
+  private static RuleOverrideMatcher createMatcher(@NotNull final String[] rulePatterns) {
+    if (rulePatterns.length == 0) {
+      return null;
+    }
+
+    final List<RulePatternOverrideModel> patternOverrides = new ArrayList<>(rulePatterns.length);
+    for (String rulePattern : rulePatterns) {
+      final RulePatternOverrideModel patternOverride = new RulePatternOverrideModel();
+      if (rulePattern.startsWith(ReSharperCltConfiguration.RULE_FILTER_PREFIX_CATEGORY)) {
+        patternOverride.setCategoryIdPattern(rulePattern.substring(ReSharperCltConfiguration.RULE_FILTER_PREFIX_CATEGORY.length()).trim());
+      } else if (rulePattern.startsWith(ReSharperCltConfiguration.RULE_FILTER_PREFIX_SUBCATEGORY)) {
+        patternOverride.setSubCategoryPattern(
+            rulePattern.substring(ReSharperCltConfiguration.RULE_FILTER_PREFIX_SUBCATEGORY.length()).trim());
+      } else if (rulePattern.startsWith(ReSharperCltConfiguration.RULE_FILTER_PREFIX_SEVERITY)) {
+        patternOverride.setInspectCodeSeverityPattern(
+            rulePattern.substring(ReSharperCltConfiguration.RULE_FILTER_PREFIX_SEVERITY.length()).trim());
+      } else {
+        patternOverride.setRuleKeyPattern(rulePattern);
+      }
+      patternOverrides.add(patternOverride);
+    }
+    return new RuleOverrideMatcher(Collections.emptyList(), Collections.emptyList(), patternOverrides);
+  }
+
+  @Override
+  public String toString() {
+    return "RuleRegistrationFilter{" +
+        "includedRulesMatcher=" + includedRulesMatcher +
+        ", excludedRulesMatcher=" + excludedRulesMatcher +
+        '}';
+  }
+}
@@ -0,0 +1,514 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.converters.InspectCodeIssueDefinitionToSonarQubeRuleDefinitionConverter;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.converters.InspectCodeIssueToSonarQubeIssueConverter;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.interfaces.XmlDataValidator;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.CSharpLanguage;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.VBNetLanguage;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionOverrideModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.InspectCodePredicates;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.ObjectPredicates;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.xml.InspectCodeXmlFileParser;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.xml.InspectCodeXmlFileValidator;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.xml.RuleOverrideXmlFileParser;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.xml.SonarQubeRuleDefinitionOverrideXmlFileValidator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Package visible class used internally to hold the rule definitions of the {@code InspectCode} issue definition file of all supported
+ * languages, after the rule definition overrides have been applied. The catalog is loaded only once per JVM on first request, while each
+ * rules definition retrieves the rule definitions of its language. Unless the user supplies an issue definition file or an override file,
+ * the catalog is read from a binary resource created by {@link RulesCatalogCompiler} during the build, so that neither XML parsing nor
+ * classification of the issue definitions is required at runtime. Instances of this class are immutable once created, hence they are safe
+ * to be shared by multiple threads.
+ */
+final class RulesCatalog {
+
+  /**
+   * Gets an implementation of the {@link Logger} interface for this class.
+   * <p/>
+   * Please note, that message arguments are defined with {@code {}}, but not with
+   * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/Formatter.html">Formatter</a> syntax.
+   *
+   * @see Logger
+   */
+  private static final Logger LOGGER = Loggers.get(RulesCatalog.class);
+
+  /** The name of the resource containing the {@code InspectCode} issue definitions of all languages. */
+  static final String ISSUE_DEFINITIONS_RESOURCE_NAME = "/com/jetbrains/resharper/inspectcode/inspectcode_issue_definitions.xml";
+
+  /** The name of the resource containing the catalog precompiled from the bundled issue definition and override files. */
+  static final String PRECOMPILED_RESOURCE_NAME = "/com/jetbrains/resharper/inspectcode/inspectcode_issue_definitions.bin";
+
+  /** The name of the file containing the rule definition overrides, which is also contained within the resources of the plugin. */
+  private static final String OVERRIDES_FILE_NAME = "sonarqube_rule_overrides.xml";
+
+  /** The name of the environment variable containing the path of an issue definition file supplied by the user. */
+  private static final String ENVIRONMENT_VARIABLE_ISSUE_DEFINITIONS_FILE = "SONAR_PLUGIN_INSPECTCODE_DEFINITIONFILE";
+
+  /** The name of the environment variable containing the path of an override file supplied by the user. */
+  private static final String ENVIRONMENT_VARIABLE_OVERRIDES_FILE = "SONAR_PLUGIN_INSPECTCODE_OVERRIDEFILE";
+
+  /** Contains the {@link Predicate}s deciding whether an issue definition belongs to a language, keyed by the name of the language. */
+  private static final Map<String, Collection<Predicate<InspectCodeIssueDefinitionModel>>> LANGUAGE_FILTER_PREDICATES;
+
+  static {
+    final Map<String, Collection<Predicate<InspectCodeIssueDefinitionModel>>> languageFilterPredicates = new LinkedHashMap<>();
+    languageFilterPredicates.put(CSharpLanguage.LANGUAGE_NAME, CSharpRulesDefinition.ISSUE_DEFINITION_FILTER_PREDICATES);
+    languageFilterPredicates.put(VBNetLanguage.LANGUAGE_NAME, VBNetRulesDefinition.ISSUE_DEFINITION_FILTER_PREDICATES);
+    LANGUAGE_FILTER_PREDICATES = Collections.unmodifiableMap(languageFilterPredicates);
+  }
+
+  /** The catalog shared by all languages, which is {@code null} until it has been requested for the first time. */
+  @Nullable
+  private static volatile RulesCatalog rulesCatalog = null;
+
+  /** Contains all rule definitions of the catalog, ordered by their key. */
+  @NotNull
+  private final List<SonarQubeRuleDefinitionModel> ruleDefinitions;
+
+  /** Contains the rule definitions of each language, keyed by the name of the language. */
+  @NotNull
+  private final Map<String, List<SonarQubeRuleDefinitionModel>> ruleDefinitionsByLanguage;
+
+  /** Contains all rule definitions of the catalog, keyed by their key. */
+  @NotNull
+  private final Map<String, SonarQubeRuleDefinitionModel> ruleDefinitionsByKey;
+
+  /**
+   * Creates a new instance of the {@link RulesCatalog} class.
+   *
+   * @param ruleDefinitions
+   *     All rule definitions of the catalog, ordered by their key.
+   * @param ruleDefinitionsByLanguage
+   *     The rule definitions of each language, keyed by the name of the language.
+   */
+  RulesCatalog(
+      @NotNull final List<SonarQubeRuleDefinitionModel> ruleDefinitions,
+      @NotNull final Map<String, List<SonarQubeRuleDefinitionModel>> ruleDefinitionsByLanguage) {
+    this.ruleDefinitions = Collections.unmodifiableList(ruleDefinitions);
+    final Map<String, List<SonarQubeRuleDefinitionModel>> unmodifiableRuleDefinitionsByLanguage = new LinkedHashMap<>();
+    ruleDefinitionsByLanguage.forEach((language, languageRuleDefinitions) ->
+        unmodifiableRuleDefinitionsByLanguage.put(language, Collections.unmodifiableList(languageRuleDefinitions)));
+    this.ruleDefinitionsByLanguage = Collections.unmodifiableMap(unmodifiableRuleDefinitionsByLanguage);
+    final Map<String, SonarQubeRuleDefinitionModel> ruleDefinitionsByKey = new HashMap<>(ruleDefinitions.size() * 4 / 3 + 1);
+    for (SonarQubeRuleDefinitionModel ruleDefinition : ruleDefinitions) {
+      ruleDefinitionsByKey.putIfAbsent(ruleDefinition.getRuleDefinitionKey(), ruleDefinition);
+    }
+    this.ruleDefinitionsByKey = ruleDefinitionsByKey;
+  }
+
+  /**
+   * Gets the catalog shared by all languages, which is loaded on the first call only. Since the catalog is shared by all languages, the
+   * supplied {@code isXmlSchemaValidationEnabled} is only considered on the first call.
+   *
+   * @param isXmlSchemaValidationEnabled
+   *     Indicates whether XML files should be validated using their XML schema definition before parsing.
+   *
+   * @return The {@link RulesCatalog} shared by all languages, which is empty if the issue definition file could not be parsed.
+   */
+  @NotNull
+  static RulesCatalog getRulesCatalog(final boolean isXmlSchemaValidationEnabled) {
+    RulesCatalog catalog = rulesCatalog;
+    if (catalog == null) {
+      synchronized (RulesCatalog.class) {
+        catalog = rulesCatalog;
+        if (catalog == null) {
+          catalog = load(isXmlSchemaValidationEnabled);
+          rulesCatalog = catalog;
+        }
+      }
+    }
+    return catalog;
+  }
+
+  /**
+   * Gets all rule definitions of this catalog, regardless of their language.
+   *
+   * @return An unmodifiable {@link List} of all {@link SonarQubeRuleDefinitionModel} instances, ordered by their key.
+   */
+  @NotNull
+  List<SonarQubeRuleDefinitionModel> getRuleDefinitions() {
+    return this.ruleDefinitions;
+  }
+
+  /**
+   * Gets the rule definitions of this catalog which belong to the supplied {@code languageName}.
+   *
+   * @param languageName
+   *     The name of the language whose rule definitions are requested.
+   *
+   * @return An unmodifiable {@link List} of the {@link SonarQubeRuleDefinitionModel} instances of the supplied {@code languageName},
+   *     ordered by their key, which is empty for unknown languages.
+   */
+  @NotNull
+  List<SonarQubeRuleDefinitionModel> getRuleDefinitions(@NotNull final String languageName) {
+    return this.ruleDefinitionsByLanguage.getOrDefault(languageName, Collections.emptyList());
+  }
+
+  /**
+   * Gets the rule definition identified by the supplied {@code ruleDefinitionKey}, regardless of its language.
+   *
+   * @param ruleDefinitionKey
+   *     The key of the rule definition, which is derived from the identifier of the {@code InspectCode} issue type.
+   *
+   * @return The {@link SonarQubeRuleDefinitionModel} identified by the supplied {@code ruleDefinitionKey}, or {@code null} if this catalog
+   *     does not contain it.
+   */
+  @Nullable
+  SonarQubeRuleDefinitionModel getRuleDefinition(@NotNull final String ruleDefinitionKey) {
+    return this.ruleDefinitionsByKey.get(ruleDefinitionKey);
+  }
+
+  /**
+   * Gets the names of all languages of this catalog.
+   *
+   * @return An unmodifiable {@link Collection} of the names of all languages.
+   */
+  @NotNull
+  Collection<String> getLanguageNames() {
+    return this.ruleDefinitionsByLanguage.keySet();
+  }
+
+  /**
+   * Loads the catalog from the precompiled resource, unless the user supplied an issue definition file or an override file, in which case
+   * the catalog is parsed from the XML files. The XML files are also parsed if the precompiled resource is not available.
+   *
+   * @param isXmlSchemaValidationEnabled
+   *     Indicates whether XML files should be validated using their XML schema definition before parsing.
+   *
+   * @return A new {@link RulesCatalog} containing the rule definitions of all languages.
+   */
+  @NotNull
+  private static RulesCatalog load(final boolean isXmlSchemaValidationEnabled) {
+    final File issueDefinitionFile = getUserFile(ENVIRONMENT_VARIABLE_ISSUE_DEFINITIONS_FILE, null);
+    // the override file is either located directly in the application folder or at a path that is specified as environment variable
+    final File overrideFile = getUserFile(ENVIRONMENT_VARIABLE_OVERRIDES_FILE, OVERRIDES_FILE_NAME);
+
+    if (issueDefinitionFile == null && overrideFile == null) {
+      final long startNanos = System.nanoTime();
+      try (InputStream inputStream = RulesCatalog.class.getResourceAsStream(PRECOMPILED_RESOURCE_NAME)) {
+        if (inputStream != null) {
+          final RulesCatalog catalog = RulesCatalogSerializer.read(inputStream);
+          LOGGER.debug("Loaded {} precompiled rule definitions in {} ms.",
+              catalog.ruleDefinitions.size(), (System.nanoTime() - startNanos) / 1_000_000L);
+          return catalog;
+        }
+        // Neither an issue definition file nor an override file has been supplied, hence the plugin has been packaged incompletely
+        LOGGER.warn("Could not find resource '{}', hence the InspectCode issue definition file is parsed.", PRECOMPILED_RESOURCE_NAME);
+      } catch (IOException ioe) {
+        LOGGER.warn("Could not read resource " + PRECOMPILED_RESOURCE_NAME + ", hence the InspectCode issue definition file is parsed.",
+            ioe);
+      }
+    }
+
+    return loadXml(issueDefinitionFile, overrideFile, isXmlSchemaValidationEnabled);
+  }
+
+  /**
+   * Gets the file supplied by the user via the supplied {@code environmentVariableName} or located at the supplied {@code
+   * defaultFileName}.
+   *
+   * @param environmentVariableName
+   *     The name of the environment variable containing the path of the file.
+   * @param defaultFileName
+   *     The path of the file used if the environment variable is not set, or {@code null} if there is no default location.
+   *
+   * @return The {@link File} supplied by the user or {@code null} if it does not exist.
+   */
+  @Nullable
+  private static File getUserFile(@NotNull final String environmentVariableName, @Nullable final String defaultFileName) {
+    final String environmentVariableValue = System.getenv(environmentVariableName);
+    final String fileName = environmentVariableValue != null ? environmentVariableValue : defaultFileName;
+    if (fileName == null) {
+      return null;
+    }
+
+    final File file = new File(fileName);
+    return file.exists() ? file : null;
+  }
+
+  /**
+   * Parses and converts the supplied {@code issueDefinitionFile}, applies the rule definition overrides of the supplied {@code
+   * overrideFile} to the resulting rule definitions and assigns each of them to the languages whose predicates it matches.
+   *
+   * @param issueDefinitionFile
+   *     The {@code InspectCode} issue definition file supplied by the user, or {@code null} if the file contained within the resources of
+   *     the plugin should be parsed.
+   * @param overrideFile
+   *     The override file supplied by the user, or {@code null} if the file contained within the resources of the plugin should be parsed.
+   * @param isXmlSchemaValidationEnabled
+   *     Indicates whether the XML files should be validated using their XML schema definition before parsing.
+   *
+   * @return A new {@link RulesCatalog} containing the rule definitions of all languages.
+   */
+  @NotNull
+  static RulesCatalog loadXml(
+      @Nullable final File issueDefinitionFile,
+      @Nullable final File overrideFile,
+      final boolean isXmlSchemaValidationEnabled) {
+    final long startNanos = System.nanoTime();
+    final List<SonarQubeRuleDefinitionModel> ruleDefinitions =
+        new ArrayList<>(getSonarQubeRuleDefinitionsFromInspectCodeFile(issueDefinitionFile, isXmlSchemaValidationEnabled));
+    ruleDefinitions.sort(Comparator.comparing(SonarQubeRuleDefinitionModel::getRuleDefinitionKey));
+
+    // Apply the overrides once, since they are keyed by rule and category, but not by language
+    if (!ruleDefinitions.isEmpty()) {
+      applySonarQubeRuleDefinitionOverrides(ruleDefinitions, overrideFile, isXmlSchemaValidationEnabled);
+    }
+
+    final Map<String, List<SonarQubeRuleDefinitionModel>> ruleDefinitionsByLanguage = new LinkedHashMap<>();
+    LANGUAGE_FILTER_PREDICATES.forEach((language, filterPredicates) -> {
+      final Predicate<InspectCodeIssueDefinitionModel> filterPredicate = filterPredicates.stream().reduce(x -> true, Predicate::and);
+      ruleDefinitionsByLanguage.put(language, ruleDefinitions.stream()
+          .filter(ruleDefinition -> filterPredicate.test(ruleDefinition.getInspectcodeModel()))
+          .collect(Collectors.toList()));
+    });
+
+    LOGGER.debug("Loaded {} rule definitions of the InspectCode issue definition file in {} ms.",
+        ruleDefinitions.size(), (System.nanoTime() - startNanos) / 1_000_000L);
+    return new RulesCatalog(ruleDefinitions, ruleDefinitionsByLanguage);
+  }
+
+  /**
+   * Retrieves a collection of {@link SonarQubeRuleDefinitionModel} instances from the supplied {@code InspectCode} issue definition file or
+   * the one contained within the resources of the plugin.
+   *
+   * @param issueDefinitionFile
+   *     The {@code InspectCode} issue definition file supplied by the user, or {@code null} if the file contained within the resources of
+   *     the plugin should be parsed.
+   * @param isXmlSchemaValidationEnabled
+   *     Indicates whether the XML file should be validated using its XML schema definition before parsing.
+   *
+   * @return A collection of {@link SonarQubeRuleDefinitionModel} instances parsed from the {@code InspectCode} issue definition file.
+   */
+  @NotNull
+  private static Collection<SonarQubeRuleDefinitionModel> getSonarQubeRuleDefinitionsFromInspectCodeFile(
+      @Nullable final File issueDefinitionFile,
+      final boolean isXmlSchemaValidationEnabled) {
+    if (issueDefinitionFile != null) {
+      LOGGER.info("Using InspectCode issue definition file '{}'.", issueDefinitionFile.getAbsolutePath());
+    }
+
+    // Retrieve the XML file or resource to parse
+    try (InputStream inputStream = issueDefinitionFile != null
+        ? new FileInputStream(issueDefinitionFile)
+        : RulesCatalog.class.getResourceAsStream(ISSUE_DEFINITIONS_RESOURCE_NAME)) {
+      if (inputStream == null) {
+        LOGGER.error("Could not find resource '{}'.", ISSUE_DEFINITIONS_RESOURCE_NAME);
+        return Collections.emptyList();
+      }
+
+      // Parse XML file containing all declared inspect code issues, which is validated in the same pass if enabled
+      return parseInspectCodeIssueDefinitions(inputStream, isXmlSchemaValidationEnabled ? new InspectCodeXmlFileValidator() : null);
+    } catch (IOException e) {
+      LOGGER.error("An exception occurred while trying to read the XML file.", e);
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Parses all {@code InspectCode} issue definitions that seem to have a meaningful usage for any supported language from the supplied
+   * {@code xmlFileInputStream} and converts them to valid {@link SonarQubeRuleDefinitionModel} instances.
+   *
+   * @param xmlFileInputStream
+   *     An {@link InputStream} of an XML file which contains {@code InspectCode} issue definitions to be parsed and converted to SonarQube
+   *     rule definitions.
+   * @param xmlDataValidator
+   *     The {@link XmlDataValidator} validating the XML file while parsing, or {@code null} if the file should not be validated.
+   *
+   * @return A {@link Collection} of {@link SonarQubeRuleDefinitionModel} instances of all supported languages, which is empty if the
+   *     validation of the XML file failed.
+   */
+  @NotNull
+  private static Collection<SonarQubeRuleDefinitionModel> parseInspectCodeIssueDefinitions(
+      @NotNull final InputStream xmlFileInputStream,
+      @Nullable final XmlDataValidator xmlDataValidator) {
+    // Create a new SAX parser implementation that will parse and convert the XML file of the InspectCode command line tool, keeping the
+    // issue definitions of all languages, which are filtered per language afterwards
+    final InspectCodeXmlFileParser xmlFileParser = new InspectCodeXmlFileParser(
+        new InspectCodeIssueDefinitionToSonarQubeRuleDefinitionConverter(),
+        new InspectCodeIssueToSonarQubeIssueConverter(),
+        Arrays.asList(
+            ObjectPredicates.isNotNullPredicate(),
+            InspectCodePredicates.hasValidIssueSeverity(),
+            InspectCodePredicates.hasNonEmptyIssueDescription()),
+        Collections.singletonList(x -> false),  // Rule definitions should not parse any actual issues
+        Collections.singletonList(x -> false)); // Rule definitions should not parse any actual issues
+    try {
+      parseXmlData(xmlFileInputStream, xmlFileParser, xmlDataValidator);
+    } catch (ParserConfigurationException | SAXException | IOException e) {
+      if (xmlDataValidator != null) {
+        LOGGER.error("Verification of XML file using the internal XML Schema Definition has failed.", e);
+        return Collections.emptyList();
+      }
+      LOGGER.error("An exception occurred while trying to parse the data stream of the XML file.", e);
+    }
+    return xmlFileParser.getRuleDefinitions();
+  }
+
+  /**
+   * Parses all {@code SonarQube} compatible rule definition overrides from the supplied {@code overrideFile} or the file {@value
+   * OVERRIDES_FILE_NAME} contained within the resources of the plugin.
+   *
+   * @param overrideFile
+   *     The override file supplied by the user, or {@code null} if the file contained within the resources of the plugin should be parsed.
+   * @param isXmlSchemaValidationEnabled
+   *     Indicates whether the XML file should be validated using its XML schema definition before parsing.
+   *
+   * @return The {@link RuleOverrideXmlFileParser} containing the parsed rule definition and category overrides.
+   */
+  @NotNull
+  private static RuleOverrideXmlFileParser parseOverridesXml(
+      @Nullable final File overrideFile,
+      final boolean isXmlSchemaValidationEnabled) {
+    final String resourceName = "/com/jetbrains/resharper/inspectcode/" + OVERRIDES_FILE_NAME;
+    if (overrideFile != null) {
+      LOGGER.info("Using rule override file '{}'.", overrideFile.getAbsolutePath());
+    }
+
+    // if a local override file exists: use it, otherwise use the default one from the plugin
+    try (InputStream inputStream = overrideFile != null
+        ? new FileInputStream(overrideFile)
+        : RulesCatalog.class.getResourceAsStream(resourceName)) {
+      if (inputStream == null) {
+        LOGGER.error("Could not find resource '{}'.", resourceName);
+        return new RuleOverrideXmlFileParser();
+      }
+
+      // Parse XML file containing all rule definition overrides, which is validated in the same pass if enabled
+      final RuleOverrideXmlFileParser xmlFileParser = new RuleOverrideXmlFileParser();
+      final XmlDataValidator xmlDataValidator = isXmlSchemaValidationEnabled ? new SonarQubeRuleDefinitionOverrideXmlFileValidator() : null;
+      try {
+        parseXmlData(inputStream, xmlFileParser, xmlDataValidator);
+      } catch (ParserConfigurationException | SAXException e) {
+        if (xmlDataValidator != null) {
+          LOGGER.error("Verification of overrides XML file using the internal XML Schema Definition has failed.", e);
+          return new RuleOverrideXmlFileParser();
+        }
+        LOGGER.error("An exception occurred while trying to parse the data stream of the XML file.", e);
+      }
+      return xmlFileParser;
+    } catch (IOException e) {
+      LOGGER.error("An exception occurred while trying to read the overrides XML file.", e);
+      return new RuleOverrideXmlFileParser();
+    }
+  }
+
+  /**
+   * Parses the SonarQube overrides XML file and applies its values to the supplied collection of {@link SonarQubeRuleDefinitionModel}s,
+   * using the precedence defined by {@link RuleOverrideMatcher}.
+   *
+   * @param sonarQubeRuleDefinitionModels
+   *     The collection of {@link SonarQubeRuleDefinitionModel} instances that will be updated using {@link
+   *     SonarQubeRuleDefinitionOverrideModel} instances parsed from the XML file.
+   * @param overrideFile
+   *     The override file supplied by the user, or {@code null} if the file contained within the resources of the plugin should be parsed.
+   * @param isXmlSchemaValidationEnabled
+   *     Indicates whether the XML file should be validated using its XML schema definition before parsing.
+   */
+  private static void applySonarQubeRuleDefinitionOverrides(
+      @NotNull final Collection<SonarQubeRuleDefinitionModel> sonarQubeRuleDefinitionModels,
+      @Nullable final File overrideFile,
+      final boolean isXmlSchemaValidationEnabled) {
+    try {
+      final RuleOverrideXmlFileParser xmlFileParser = parseOverridesXml(overrideFile, isXmlSchemaValidationEnabled);
+
+      // Compile all overrides once, so that each rule definition is matched against all of them in a single pass
+      final RuleOverrideMatcher ruleOverrideMatcher = new RuleOverrideMatcher(
+          xmlFileParser.getRuleDefinitionOverrides(), xmlFileParser.getCategoryOverrides(), xmlFileParser.getPatternOverrides());
+
+      int overriddenRuleDefinitionCount = 0;
+      for (SonarQubeRuleDefinitionModel sonarQubeRuleDefinitionModel : sonarQubeRuleDefinitionModels) {
+        if (ruleOverrideMatcher.apply(sonarQubeRuleDefinitionModel)) {
+          overriddenRuleDefinitionCount++;
+        }
+      }
+
+      LOGGER.debug("Application of rule definition overrides has finished, {} of {} rule definitions have been overridden.",
+          overriddenRuleDefinitionCount, sonarQubeRuleDefinitionModels.size());
+
+    } catch (Exception exception) {
+      LOGGER.error("An unhandled exception occurred during application of the rule definition overrides.", exception);
+    }
+  }
+
+  /**
+   * Parses the supplied XML data using the supplied {@code contentHandler}, validating it in the same pass if an {@code xmlDataValidator}
+   * is supplied.
+   *
+   * @param xmlDataInputStream
+   *     The {@link InputStream} containing the XML data to parse.
+   * @param contentHandler
+   *     The {@link DefaultHandler} receiving the content of the XML data.
+   * @param xmlDataValidator
+   *     The {@link XmlDataValidator} used to validate the XML data while parsing, or {@code null} if the data should not be validated.
+   *
+   * @throws ParserConfigurationException
+   *     If no SAX parser could be created.
+   * @throws SAXException
+   *     If the XML data could not be parsed or is invalid.
+   * @throws IOException
+   *     If reading the XML data failed.
+   */
+  private static void parseXmlData(
+      @NotNull final InputStream xmlDataInputStream,
+      @NotNull final DefaultHandler contentHandler,
+      @Nullable final XmlDataValidator xmlDataValidator)
+      throws ParserConfigurationException, SAXException, IOException {
+    if (xmlDataValidator != null) {
+      xmlDataValidator.parseXmlData(xmlDataInputStream, contentHandler);
+    } else {
+      SAXParserFactory.newInstance().newSAXParser().parse(xmlDataInputStream, contentHandler);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "RulesCatalog{" +
+        "ruleDefinitions[" + ruleDefinitions.size() + "]" +
+        ", languages=" + ruleDefinitionsByLanguage.keySet() +
+        '}';
+  }
+}
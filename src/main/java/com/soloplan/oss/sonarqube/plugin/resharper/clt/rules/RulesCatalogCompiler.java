@@ -0,0 +1,200 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiles the {@code InspectCode} issue definition files and the rule definition overrides contained within the resources of the
+ * plugin to the binary resources read by {@link RulesCatalog} and {@link VersionedRulesCatalogs}. Besides the default issue definition
+ * file, each file named like {@code inspectcode_issue_definitions-<version>.xml} is precompiled to a catalog of its own, while the resource
+ * {@value VersionedRulesCatalogs#VERSION_INDEX_RESOURCE_NAME} maps the {@code ToolsVersion} of each file to its catalog. This class is
+ * executed by the Maven build after compiling the plugin and is not used at runtime.
+ */
+public final class RulesCatalogCompiler {
+
+  /**
+   * Gets an implementation of the {@link Logger} interface for this class.
+   * <p/>
+   * Please note, that message arguments are defined with {@code {}}, but not with
+   * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/Formatter.html">Formatter</a> syntax.
+   *
+   * @see Logger
+   */
+  private static final Logger LOGGER = Loggers.get(RulesCatalogCompiler.class);
+
+  /** The {@link Pattern} matching the names of the issue definition files of additional versions. */
+  private static final Pattern VERSIONED_ISSUE_DEFINITIONS_FILE_NAME_PATTERN = Pattern.compile("inspectcode_issue_definitions-[^.]+\\.xml");
+
+  /** Class-private constructor to prevent instantiations of this class. */
+  private RulesCatalogCompiler() { /* Do nothing */ }
+
+  /**
+   * Parses the bundled XML files and writes the resulting catalogs and the version index to the output directory supplied as first
+   * argument.
+   *
+   * @param args
+   *     The command line arguments, whose first element is the directory containing the compiled classes and resources of the plugin.
+   *
+   * @throws IOException
+   *     If an issue definition file could not be read or a precompiled resource could not be written.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: RulesCatalogCompiler <output directory>");
+    }
+
+    final File resourceDirectory = new File(args[0], VersionedRulesCatalogs.RESOURCE_DIRECTORY_NAME.substring(1));
+    final Map<Integer, String> versionIndex = new TreeMap<>();
+
+    // The bundled files are trusted, hence they are not validated again
+    final File outputFile = new File(args[0], RulesCatalog.PRECOMPILED_RESOURCE_NAME.substring(1));
+    writeRulesCatalog(RulesCatalog.loadXml(null, null, false), outputFile);
+    addVersion(versionIndex, new File(args[0], RulesCatalog.ISSUE_DEFINITIONS_RESOURCE_NAME.substring(1)), outputFile);
+
+    // Each additional version is precompiled to a catalog of its own, which is only read if requested by a report of that version
+    final File[] issueDefinitionFiles =
+        resourceDirectory.listFiles((directory, name) -> VERSIONED_ISSUE_DEFINITIONS_FILE_NAME_PATTERN.matcher(name).matches());
+    if (issueDefinitionFiles != null) {
+      Arrays.sort(issueDefinitionFiles);
+      for (File issueDefinitionFile : issueDefinitionFiles) {
+        final String fileName = issueDefinitionFile.getName();
+        final File versionOutputFile = new File(resourceDirectory, fileName.substring(0, fileName.length() - ".xml".length()) + ".bin");
+        writeRulesCatalog(RulesCatalog.loadXml(issueDefinitionFile, null, false), versionOutputFile);
+        addVersion(versionIndex, issueDefinitionFile, versionOutputFile);
+      }
+    }
+
+    final File versionIndexFile = new File(args[0], VersionedRulesCatalogs.VERSION_INDEX_RESOURCE_NAME.substring(1));
+    try (Writer writer = new OutputStreamWriter(new FileOutputStream(versionIndexFile), StandardCharsets.UTF_8)) {
+      writer.write("# Maps the versions of the InspectCode issue definition files to their precompiled rules catalogs\n");
+      for (Map.Entry<Integer, String> versionEntry : versionIndex.entrySet()) {
+        writer.write(versionEntry.getKey() + "=" + versionEntry.getValue() + "\n");
+      }
+    }
+    LOGGER.info("Indexed the rules catalogs of versions {} in {}.", versionIndex.keySet(), versionIndexFile);
+  }
+
+  /**
+   * Writes the supplied {@code rulesCatalog} to the supplied {@code outputFile}.
+   *
+   * @param rulesCatalog
+   *     The {@link RulesCatalog} to write, which must not be empty.
+   * @param outputFile
+   *     The file to write the precompiled catalog to.
+   *
+   * @throws IOException
+   *     If the precompiled resource could not be written.
+   */
+  private static void writeRulesCatalog(@NotNull final RulesCatalog rulesCatalog, @NotNull final File outputFile) throws IOException {
+    if (rulesCatalog.getRuleDefinitions().isEmpty()) {
+      throw new IllegalStateException("The issue definition file precompiled to " + outputFile + " does not contain any rule definition.");
+    }
+
+    final File outputDirectory = outputFile.getParentFile();
+    if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+      throw new IOException("Could not create directory " + outputDirectory + ".");
+    }
+
+    try (OutputStream outputStream = new FileOutputStream(outputFile)) {
+      RulesCatalogSerializer.write(rulesCatalog, outputStream);
+    }
+
+    LOGGER.info("Precompiled {} rule definitions to {} ({} bytes).",
+        rulesCatalog.getRuleDefinitions().size(), outputFile, outputFile.length());
+  }
+
+  /**
+   * Adds the precompiled catalog of the supplied {@code issueDefinitionFile} to the supplied {@code versionIndex}, using the version key of
+   * the {@code ToolsVersion} stated within the file.
+   *
+   * @param versionIndex
+   *     The {@link Map} of the version keys and the names of the precompiled catalogs.
+   * @param issueDefinitionFile
+   *     The issue definition file which has been precompiled.
+   * @param outputFile
+   *     The file containing the precompiled catalog.
+   *
+   * @throws IOException
+   *     If the issue definition file could not be read.
+   */
+  private static void addVersion(
+      @NotNull final Map<Integer, String> versionIndex,
+      @NotNull final File issueDefinitionFile,
+      @NotNull final File outputFile) throws IOException {
+    final String toolsVersion = readToolsVersion(issueDefinitionFile);
+    final int versionKey = VersionedRulesCatalogs.getVersionKey(toolsVersion);
+    if (versionKey < 0) {
+      throw new IllegalStateException("The issue definition file " + issueDefinitionFile + " does not state a valid ToolsVersion.");
+    }
+
+    final String previousFileName = versionIndex.putIfAbsent(versionKey, outputFile.getName());
+    if (previousFileName != null) {
+      throw new IllegalStateException(
+          "The issue definition file " + issueDefinitionFile + " has the same version " + versionKey + " as " + previousFileName + ".");
+    }
+  }
+
+  /**
+   * Reads the {@code ToolsVersion} attribute of the root element of the supplied {@code issueDefinitionFile}, without parsing the
+   * remaining file.
+   *
+   * @param issueDefinitionFile
+   *     The issue definition file to read.
+   *
+   * @return The {@code ToolsVersion} stated within the file, or {@code null} if it is not stated.
+   *
+   * @throws IOException
+   *     If the file could not be read.
+   */
+  @Nullable
+  private static String readToolsVersion(@NotNull final File issueDefinitionFile) throws IOException {
+    final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    try (InputStream inputStream = new FileInputStream(issueDefinitionFile)) {
+      final XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream);
+      try {
+        xmlStreamReader.nextTag();
+        return xmlStreamReader.getAttributeValue(null, "ToolsVersion");
+      } finally {
+        xmlStreamReader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Could not read the root element of " + issueDefinitionFile + ".", e);
+    }
+  }
+}
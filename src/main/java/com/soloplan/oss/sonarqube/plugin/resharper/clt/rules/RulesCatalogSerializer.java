@@ -0,0 +1,226 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeRuleDescriptionSyntax;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeRuleType;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeSeverity;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.rule.RuleStatus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Package visible class used internally to write a {@link RulesCatalog} to and read it from the compact binary format of the precompiled
+ * resource. Each rule definition is stored with its converted severity and type, its rendered description and the languages it belongs
+ * to, so that reading the catalog requires neither XML parsing nor evaluating the language predicates. The category of the {@code
+ * InspectCode} issue definition is kept, so that overrides can still be matched on it. The data is compressed using GZIP.
+ */
+final class RulesCatalogSerializer {
+
+  /** The magic number at the start of the binary format, which are the ASCII characters {@code RCLT}. */
+  private static final int MAGIC_NUMBER = 0x52434C54;
+
+  /** The version of the binary format, which has to be incremented whenever the format changes. */
+  private static final int FORMAT_VERSION = 1;
+
+  /** Class-private constructor to prevent instantiations of this class. */
+  private RulesCatalogSerializer() { /* Do nothing */ }
+
+  /**
+   * Writes the supplied {@code rulesCatalog} to the supplied {@code outputStream}, which is not closed.
+   *
+   * @param rulesCatalog
+   *     The {@link RulesCatalog} to write.
+   * @param outputStream
+   *     The {@link OutputStream} to write the binary format to.
+   *
+   * @throws IOException
+   *     If writing to the {@code outputStream} failed or a value exceeds the limits of the binary format.
+   */
+  static void write(@NotNull final RulesCatalog rulesCatalog, @NotNull final OutputStream outputStream) throws IOException {
+    final List<String> languageNames = new ArrayList<>(rulesCatalog.getLanguageNames());
+    if (languageNames.size() > Integer.SIZE) {
+      throw new IOException("The binary format supports at most " + Integer.SIZE + " languages.");
+    }
+
+    // Collect the languages of each rule definition as bit mask of the indices of the language names
+    final Map<SonarQubeRuleDefinitionModel, Integer> languageMasks = new IdentityHashMap<>();
+    for (int languageIndex = 0; languageIndex < languageNames.size(); languageIndex++) {
+      final int languageBit = 1 << languageIndex;
+      for (SonarQubeRuleDefinitionModel ruleDefinition : rulesCatalog.getRuleDefinitions(languageNames.get(languageIndex))) {
+        languageMasks.merge(ruleDefinition, languageBit, (left, right) -> left | right);
+      }
+    }
+
+    final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+    final DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(gzipOutputStream));
+    dataOutputStream.writeInt(MAGIC_NUMBER);
+    dataOutputStream.writeInt(FORMAT_VERSION);
+
+    dataOutputStream.writeInt(languageNames.size());
+    for (String languageName : languageNames) {
+      dataOutputStream.writeUTF(languageName);
+    }
+
+    dataOutputStream.writeInt(rulesCatalog.getRuleDefinitions().size());
+    for (SonarQubeRuleDefinitionModel ruleDefinition : rulesCatalog.getRuleDefinitions()) {
+      final InspectCodeIssueDefinitionModel issueDefinition = ruleDefinition.getInspectcodeModel();
+      dataOutputStream.writeUTF(issueDefinition != null ? issueDefinition.getIssueTypeId() : ruleDefinition.getRuleDefinitionKey());
+      dataOutputStream.writeUTF(ruleDefinition.getRuleName());
+      dataOutputStream.writeUTF(ruleDefinition.getRuleDescription());
+      dataOutputStream.writeByte(ruleDefinition.getRuleDescriptionSyntax().ordinal());
+      dataOutputStream.writeByte(ruleDefinition.getSonarQubeSeverity().ordinal());
+      dataOutputStream.writeByte(ruleDefinition.getSonarQubeRuleType().ordinal());
+      dataOutputStream.writeUTF(ruleDefinition.getRuleStatus().name());
+      dataOutputStream.writeBoolean(ruleDefinition.isActivatedByDefault());
+      writeNullableString(dataOutputStream, issueDefinition != null ? issueDefinition.getCategory() : null);
+      writeNullableString(dataOutputStream, issueDefinition != null ? issueDefinition.getCategoryId() : null);
+      writeNullableString(dataOutputStream, issueDefinition != null ? issueDefinition.getSubCategory() : null);
+      writeNullableString(dataOutputStream, issueDefinition != null ? issueDefinition.getSeverity().getInspectCodeSeverityValue() : null);
+      dataOutputStream.writeInt(languageMasks.getOrDefault(ruleDefinition, 0));
+    }
+
+    dataOutputStream.flush();
+    gzipOutputStream.finish();
+  }
+
+  /**
+   * Reads a {@link RulesCatalog} from the supplied {@code inputStream}, which is not closed.
+   *
+   * @param inputStream
+   *     The {@link InputStream} containing the binary format written by {@link #write(RulesCatalog, OutputStream)}.
+   *
+   * @return A new {@link RulesCatalog} containing the rule definitions read from the supplied {@code inputStream}.
+   *
+   * @throws IOException
+   *     If reading from the {@code inputStream} failed or it does not contain the expected version of the binary format.
+   */
+  @NotNull
+  static RulesCatalog read(@NotNull final InputStream inputStream) throws IOException {
+    final DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(inputStream)));
+    if (dataInputStream.readInt() != MAGIC_NUMBER) {
+      throw new IOException("The data does not contain a precompiled rules catalog.");
+    }
+    final int formatVersion = dataInputStream.readInt();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new IOException("Unsupported version " + formatVersion + " of the precompiled rules catalog.");
+    }
+
+    final int languageCount = dataInputStream.readInt();
+    final List<String> languageNames = new ArrayList<>(languageCount);
+    final Map<String, List<SonarQubeRuleDefinitionModel>> ruleDefinitionsByLanguage = new LinkedHashMap<>();
+    for (int languageIndex = 0; languageIndex < languageCount; languageIndex++) {
+      final String languageName = dataInputStream.readUTF();
+      languageNames.add(languageName);
+      ruleDefinitionsByLanguage.put(languageName, new ArrayList<>());
+    }
+
+    final SonarQubeRuleDescriptionSyntax[] ruleDescriptionSyntaxes = SonarQubeRuleDescriptionSyntax.values();
+    final SonarQubeSeverity[] sonarQubeSeverities = SonarQubeSeverity.values();
+    final SonarQubeRuleType[] sonarQubeRuleTypes = SonarQubeRuleType.values();
+
+    final int ruleDefinitionCount = dataInputStream.readInt();
+    final List<SonarQubeRuleDefinitionModel> ruleDefinitions = new ArrayList<>(ruleDefinitionCount);
+    for (int ruleIndex = 0; ruleIndex < ruleDefinitionCount; ruleIndex++) {
+      final InspectCodeIssueDefinitionModel issueDefinition = new InspectCodeIssueDefinitionModel(dataInputStream.readUTF());
+      issueDefinition.setDescription(dataInputStream.readUTF());
+      final String ruleDescription = dataInputStream.readUTF();
+      final SonarQubeRuleDescriptionSyntax ruleDescriptionSyntax = ruleDescriptionSyntaxes[dataInputStream.readUnsignedByte()];
+      final SonarQubeSeverity sonarQubeSeverity = sonarQubeSeverities[dataInputStream.readUnsignedByte()];
+      final SonarQubeRuleType sonarQubeRuleType = sonarQubeRuleTypes[dataInputStream.readUnsignedByte()];
+      final RuleStatus ruleStatus = RuleStatus.valueOf(dataInputStream.readUTF());
+      final boolean isActivatedByDefault = dataInputStream.readBoolean();
+      issueDefinition.setCategory(readNullableString(dataInputStream));
+      issueDefinition.setCategoryId(readNullableString(dataInputStream));
+      issueDefinition.setSubCategory(readNullableString(dataInputStream));
+      final String inspectCodeSeverity = readNullableString(dataInputStream);
+      if (inspectCodeSeverity != null) {
+        issueDefinition.setSeverity(inspectCodeSeverity);
+      }
+      final int languageMask = dataInputStream.readInt();
+
+      // The name of the rule is taken from the description of the issue definition
+      final SonarQubeRuleDefinitionModel ruleDefinition = new SonarQubeRuleDefinitionModel(issueDefinition);
+      ruleDefinition.setRuleDescription(ruleDescription, ruleDescriptionSyntax);
+      ruleDefinition.setSonarQubeSeverity(sonarQubeSeverity);
+      ruleDefinition.setSonarQubeRuleType(sonarQubeRuleType);
+      ruleDefinition.setRuleStatus(ruleStatus);
+      ruleDefinition.setActivatedByDefault(isActivatedByDefault);
+      ruleDefinitions.add(ruleDefinition);
+
+      for (int languageIndex = 0; languageIndex < languageCount; languageIndex++) {
+        if ((languageMask & (1 << languageIndex)) != 0) {
+          ruleDefinitionsByLanguage.get(languageNames.get(languageIndex)).add(ruleDefinition);
+        }
+      }
+    }
+
+    return new RulesCatalog(ruleDefinitions, ruleDefinitionsByLanguage);
+  }
+
+  /**
+   * Writes the supplied {@code value}, which might be {@code null}, to the supplied {@code dataOutputStream}.
+   *
+   * @param dataOutputStream
+   *     The {@link DataOutputStream} to write to.
+   * @param value
+   *     The value to write.
+   *
+   * @throws IOException
+   *     If writing failed.
+   */
+  private static void writeNullableString(@NotNull final DataOutputStream dataOutputStream, @Nullable final String value)
+      throws IOException {
+    dataOutputStream.writeBoolean(value != null);
+    if (value != null) {
+      dataOutputStream.writeUTF(value);
+    }
+  }
+
+  /**
+   * Reads a value written by {@link #writeNullableString(DataOutputStream, String)} from the supplied {@code dataInputStream}.
+   *
+   * @param dataInputStream
+   *     The {@link DataInputStream} to read from.
+   *
+   * @return The value read, which might be {@code null}.
+   *
+   * @throws IOException
+   *     If reading failed.
+   */
+  @Nullable
+  private static String readNullableString(@NotNull final DataInputStream dataInputStream) throws IOException {
+    return dataInputStream.readBoolean() ? dataInputStream.readUTF() : null;
+  }
+}
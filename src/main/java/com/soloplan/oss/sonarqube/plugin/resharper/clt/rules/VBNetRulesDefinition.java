@@ -21,12 +21,12 @@ import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.VBNetLanguage;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.InspectCodePredicates;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.ObjectPredicates;
-import org.jetbrains.annotations.Nullable;
 import org.sonar.api.config.Configuration;
 import org.sonar.api.server.rule.RulesDefinition;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Predicate;
 
 /**
@@ -37,6 +37,18 @@ import java.util.function.Predicate;
 public class VBNetRulesDefinition
     extends BaseRulesDefinition {
 
+  /**
+   * The {@link Predicate}s which are combined using a logical {@code and} to decide whether an {@code InspectCode} issue definition of the
+   * {@link RulesCatalog} is meaningful for the Visual Basic .NET language.
+   */
+  static final Collection<Predicate<InspectCodeIssueDefinitionModel>> ISSUE_DEFINITION_FILTER_PREDICATES =
+      Collections.unmodifiableList(Arrays.asList(
+          ObjectPredicates.isNotNullPredicate(),
+          InspectCodePredicates.hasValidIssueSeverity(),
+          InspectCodePredicates.hasNonEmptyIssueDescription(),
+          InspectCodePredicates.isVisualBasicIssueDefinition(),
+          InspectCodePredicates.isWebRelatedCategory().negate()));
+
   /**
    * Creates a new instance of the {@link VBNetRulesDefinition} class storing a reference to the supplied {@link Configuration} instance
    * internally. The {@link Configuration} instance is provided via dependency injection. Visit the
@@ -54,14 +66,4 @@ public class VBNetRulesDefinition
             VBNetLanguage.LANGUAGE_NAME),
         configuration);
   }
-
-  @Override
-  protected @Nullable Collection<Predicate<InspectCodeIssueDefinitionModel>> getIssueDefinitionFilterPredicates() {
-    return Arrays.asList(
-        ObjectPredicates.isNotNullPredicate(),
-        InspectCodePredicates.hasValidIssueSeverity(),
-        InspectCodePredicates.hasNonEmptyIssueDescription(),
-        InspectCodePredicates.isVisualBasicIssueDefinition(),
-        InspectCodePredicates.isWebRelatedCategory().negate());
-  }
 }
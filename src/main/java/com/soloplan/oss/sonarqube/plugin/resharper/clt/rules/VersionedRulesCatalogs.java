@@ -0,0 +1,232 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Provides the rule definitions of the catalogs precompiled by {@link RulesCatalogCompiler} for each bundled version of the {@code
+ * InspectCode} issue definition file, so that issue types which are not stated within a report file can be resolved using the catalog
+ * matching the version of the InspectCode command line tool which created it. The versions are identified by the major part of the {@code
+ * ToolsVersion} stated within the report files (e.g. {@code 253} for ReSharper 2025.3), while a report is resolved using the newest bundled
+ * catalog not newer than the report. Each catalog is only read on its first request and cached afterwards, hence bundling additional
+ * versions neither affects the startup time nor the memory consumption of analyses not requesting them.
+ */
+public final class VersionedRulesCatalogs {
+
+  /**
+   * Gets an implementation of the {@link Logger} interface for this class.
+   * <p/>
+   * Please note, that message arguments are defined with {@code {}}, but not with
+   * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/Formatter.html">Formatter</a> syntax.
+   *
+   * @see Logger
+   */
+  private static final Logger LOGGER = Loggers.get(VersionedRulesCatalogs.class);
+
+  /** The name of the resource directory containing the issue definition files and the precompiled catalogs. */
+  static final String RESOURCE_DIRECTORY_NAME = "/com/jetbrains/resharper/inspectcode/";
+
+  /** The name of the resource mapping the version keys to the names of the precompiled catalogs within {@link #RESOURCE_DIRECTORY_NAME}. */
+  static final String VERSION_INDEX_RESOURCE_NAME = RESOURCE_DIRECTORY_NAME + "inspectcode_issue_definitions.versions";
+
+  /** Contains the catalogs which have been read so far, keyed by their version key. */
+  private static final ConcurrentMap<Integer, RulesCatalog> RULES_CATALOGS = new ConcurrentHashMap<>();
+
+  /** Class-private constructor to prevent instantiations of this class. */
+  private VersionedRulesCatalogs() { /* Do nothing */ }
+
+  /**
+   * Gets the rule definitions identified by the supplied {@code ruleDefinitionKeys} from the catalog matching the supplied {@code
+   * toolsVersion}.
+   *
+   * @param toolsVersion
+   *     The {@code ToolsVersion} stated within the report file, or {@code null} to use the newest bundled catalog.
+   * @param ruleDefinitionKeys
+   *     The keys of the requested rule definitions.
+   *
+   * @return A {@link Map} of the keys and the rule definitions found within the catalog, which does not contain keys unknown to it.
+   */
+  @NotNull
+  public static Map<String, SonarQubeRuleDefinitionModel> getRuleDefinitions(
+      @Nullable final String toolsVersion,
+      @NotNull final Collection<String> ruleDefinitionKeys) {
+    if (ruleDefinitionKeys.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    final RulesCatalog rulesCatalog = getRulesCatalog(toolsVersion);
+    final Map<String, SonarQubeRuleDefinitionModel> ruleDefinitions = new HashMap<>(ruleDefinitionKeys.size() * 4 / 3 + 1);
+    for (String ruleDefinitionKey : ruleDefinitionKeys) {
+      final SonarQubeRuleDefinitionModel ruleDefinition = rulesCatalog.getRuleDefinition(ruleDefinitionKey);
+      if (ruleDefinition != null) {
+        ruleDefinitions.put(ruleDefinitionKey, ruleDefinition);
+      }
+    }
+    return ruleDefinitions;
+  }
+
+  /**
+   * Gets the catalog matching the supplied {@code toolsVersion}, which is the newest bundled catalog not newer than it, or the oldest one
+   * if all of them are newer. If no versioned catalog is bundled, the catalog shared with the rules definitions is returned.
+   *
+   * @param toolsVersion
+   *     The {@code ToolsVersion} stated within the report file, or {@code null} to use the newest bundled catalog.
+   *
+   * @return The {@link RulesCatalog} matching the supplied {@code toolsVersion}.
+   */
+  @NotNull
+  static RulesCatalog getRulesCatalog(@Nullable final String toolsVersion) {
+    final NavigableMap<Integer, String> versionIndex = VersionIndexHolder.VERSION_INDEX;
+    if (versionIndex.isEmpty()) {
+      return RulesCatalog.getRulesCatalog(false);
+    }
+
+    final Map.Entry<Integer, String> versionEntry = getVersionEntry(versionIndex, toolsVersion);
+    final String resourceName = versionEntry.getValue();
+    return RULES_CATALOGS.computeIfAbsent(versionEntry.getKey(), key -> {
+      LOGGER.debug("Using the rules catalog of version {} for InspectCode version '{}'.", key, toolsVersion);
+      return readRulesCatalog(resourceName);
+    });
+  }
+
+  /**
+   * Gets the entry of the supplied {@code versionIndex} matching the supplied {@code toolsVersion}, which is the entry of the newest
+   * version not newer than it, or the entry of the oldest version if all of them are newer. If the {@code toolsVersion} is {@code null}
+   * or invalid, the entry of the newest version is returned.
+   *
+   * @param versionIndex
+   *     The version keys and the resource names of the precompiled catalogs, which must not be empty.
+   * @param toolsVersion
+   *     The {@code ToolsVersion} stated within the report file, or {@code null} to use the newest version.
+   *
+   * @return The entry of the {@code versionIndex} matching the supplied {@code toolsVersion}.
+   */
+  @NotNull
+  static Map.Entry<Integer, String> getVersionEntry(
+      @NotNull final NavigableMap<Integer, String> versionIndex,
+      @Nullable final String toolsVersion) {
+    final int versionKey = getVersionKey(toolsVersion);
+    final Map.Entry<Integer, String> versionEntry = versionKey < 0 ? versionIndex.lastEntry() : versionIndex.floorEntry(versionKey);
+    return versionEntry != null ? versionEntry : versionIndex.firstEntry();
+  }
+
+  /**
+   * Gets the version key of the supplied {@code toolsVersion}, which is its major part. Versions stated as year and release (e.g. {@code
+   * 2023.3}) are converted to the format used by recent versions of the InspectCode command line tool (e.g. {@code 233}).
+   *
+   * @param toolsVersion
+   *     The {@code ToolsVersion} stated within a report or issue definition file.
+   *
+   * @return The version key of the supplied {@code toolsVersion}, or {@code -1} if it is {@code null} or invalid.
+   */
+  static int getVersionKey(@Nullable final String toolsVersion) {
+    if (toolsVersion == null) {
+      return -1;
+    }
+
+    final String[] versionParts = toolsVersion.trim().split("\\.");
+    try {
+      final int majorVersion = Integer.parseInt(versionParts[0]);
+      if (majorVersion >= 2000 && versionParts.length > 1) {
+        return (majorVersion - 2000) * 10 + Integer.parseInt(versionParts[1]);
+      }
+      return majorVersion >= 0 ? majorVersion : -1;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Reads the resource mapping the version keys to the names of the precompiled catalogs.
+   *
+   * @return A {@link NavigableMap} of the version keys and the resource names of the catalogs, which is empty if the resource is missing.
+   */
+  @NotNull
+  private static NavigableMap<Integer, String> readVersionIndex() {
+    final NavigableMap<Integer, String> versionIndex = new TreeMap<>();
+    try (InputStream inputStream = VersionedRulesCatalogs.class.getResourceAsStream(VERSION_INDEX_RESOURCE_NAME)) {
+      if (inputStream == null) {
+        // The index is written during the build, hence the plugin has been packaged incompletely
+        LOGGER.warn("Could not find resource '{}', hence no versioned rules catalog is available.", VERSION_INDEX_RESOURCE_NAME);
+        return versionIndex;
+      }
+
+      final Properties properties = new Properties();
+      try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+      }
+      for (String versionKey : properties.stringPropertyNames()) {
+        try {
+          versionIndex.put(Integer.parseInt(versionKey.trim()), RESOURCE_DIRECTORY_NAME + properties.getProperty(versionKey).trim());
+        } catch (NumberFormatException e) {
+          LOGGER.warn("Ignoring invalid version '{}' of resource '{}'.", versionKey, VERSION_INDEX_RESOURCE_NAME);
+        }
+      }
+    } catch (IOException ioe) {
+      LOGGER.warn("Could not read resource " + VERSION_INDEX_RESOURCE_NAME + ", hence no versioned rules catalog is available.", ioe);
+    }
+    return Collections.unmodifiableNavigableMap(versionIndex);
+  }
+
+  /**
+   * Reads the precompiled catalog contained within the supplied {@code resourceName}.
+   *
+   * @param resourceName
+   *     The name of the resource containing the precompiled catalog.
+   *
+   * @return The {@link RulesCatalog} read from the resource, which is empty if it could not be read.
+   */
+  @NotNull
+  private static RulesCatalog readRulesCatalog(@NotNull final String resourceName) {
+    try (InputStream inputStream = VersionedRulesCatalogs.class.getResourceAsStream(resourceName)) {
+      if (inputStream != null) {
+        return RulesCatalogSerializer.read(inputStream);
+      }
+      LOGGER.warn("Could not find resource '{}' of a versioned rules catalog.", resourceName);
+    } catch (IOException ioe) {
+      LOGGER.warn("Could not read resource " + resourceName + " of a versioned rules catalog.", ioe);
+    }
+    return new RulesCatalog(Collections.emptyList(), Collections.emptyMap());
+  }
+
+  /** Holds the version index, which is read once on first access of the holder class. */
+  private static final class VersionIndexHolder {
+
+    /** The version keys and the resource names of the precompiled catalogs. */
+    static final NavigableMap<Integer, String> VERSION_INDEX = readVersionIndex();
+  }
+}
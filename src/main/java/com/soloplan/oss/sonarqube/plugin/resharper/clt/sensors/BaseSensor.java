@@ -16,13 +16,21 @@
 
 package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
 
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltConfiguration;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration.ReSharperCltSettings;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.converters.InspectCodeIssueDefinitionToSonarQubeRuleDefinitionConverter;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.converters.InspectCodeIssueToSonarQubeIssueConverter;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.events.FlightRecorderEvents;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.measures.IssueMeasureComputer;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.measures.ReSharperCltMetrics;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeIssueModel;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.InspectCodePredicates;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.predicates.ObjectPredicates;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.rules.VersionedRulesCatalogs;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.xml.InspectCodeXmlFileParser;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.xml.XmlParsingCancelledException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.sonar.api.batch.fs.FileSystem;
@@ -32,10 +40,12 @@ import org.sonar.api.batch.rule.ActiveRule;
 import org.sonar.api.batch.sensor.Sensor;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.SensorDescriptor;
-import org.sonar.api.batch.sensor.issue.NewIssueLocation;
-import org.sonar.api.batch.sensor.issue.internal.DefaultIssueLocation;
+import org.sonar.api.batch.sensor.issue.NewExternalIssue;
+import org.sonar.api.batch.sensor.issue.NewIssue;
 import org.sonar.api.config.Configuration;
+import org.sonar.api.measures.Metric;
 import org.sonar.api.rule.RuleKey;
+import org.sonar.api.rule.Severity;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.LoggerLevel;
 import org.sonar.api.utils.log.Loggers;
@@ -47,10 +57,31 @@ import javax.xml.parsers.SAXParserFactory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -61,6 +92,21 @@ import java.util.stream.Collectors;
 public abstract class BaseSensor
     implements Sensor {
 
+  /** The maximum amount of bytes retained by the line indices of source code files, which are used to calculate issue locations. */
+  private static final long LINE_OFFSET_INDEX_CACHE_MAXIMUM_BYTES = 32L * 1024L * 1024L;
+
+  /** The amount of threads used to prepare the locations of issues of different source code files concurrently. */
+  private static final int ISSUE_PREPARATION_THREAD_COUNT = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
+  /** The maximum amount of source code files whose issues are prepared ahead of the thread saving the issues. */
+  private static final int ISSUE_PREPARATION_MAXIMUM_PENDING_BATCHES = ISSUE_PREPARATION_THREAD_COUNT * 4;
+
+  /** The maximum amount of rules and files listed within the summary of skipped issues. */
+  private static final int SKIPPED_ISSUE_SUMMARY_TOP_COUNT = 10;
+
+  /** The remediation effort of each external issue, which matches the debt remediation function of the rules of the repositories. */
+  private static final long EXTERNAL_ISSUE_REMEDIATION_EFFORT_MINUTES = 15L;
+
   /**
    * Gets an implementation of the {@link Logger} interface for this class.
    * <p/>
@@ -87,30 +133,39 @@ public abstract class BaseSensor
 
   @Override
   public void describe(SensorDescriptor descriptor) {
-    // Describe the purpose of the Sensor and restrict it to files of the correct language
-    // and rules contained within the correct issue repository
+    // Describe the purpose of the Sensor and restrict it to files of the correct language. The sensor is not restricted to the rule
+    // repository, since external issues are imported without any active rule, while the active rules are checked by 'execute()' otherwise.
     descriptor.name(this.sensorConfiguration.sensorDescription)
-        .onlyOnLanguage(this.sensorConfiguration.languageName)
-        .createIssuesForRuleRepository(this.sensorConfiguration.repositoryKey);
+        .onlyOnLanguage(this.sensorConfiguration.languageName);
   }
 
   @Override
   public void execute(SensorContext context) {
+    // The snapshot of the configuration is shared by the sensors of all languages of the current module
+    final ReSharperCltSettings settings = ReSharperCltSettings.of(context.config());
+    final ReSharperCltSettings.LanguageSettings languageSettings = settings.getLanguageSettings(this.sensorConfiguration.languageName);
+
+    // The reports of multiple solutions replace the single report file of the solution file defined by the configuration
+    final String[] solutionReportEntries = languageSettings.getSolutionReportPaths();
+    final boolean isSolutionReportMapping = solutionReportEntries.length > 0;
+
     // Retrieve the path to the XML output file of the InspectCode command line tool from the configuration and try to access the file
-    final File inspectCodeReportFile = this.getInspectCodeReportFile(
-        context.config().get(this.sensorConfiguration.propertyIdentifierReportFilePath).orElse(""));
-    // Stop if the report file could not be retrieved
-    if (inspectCodeReportFile == null) {
-      // Error logging is done within method 'getInspectCodeReportFile()'
-      return;
+    File inspectCodeReportFile = null;
+    if (!isSolutionReportMapping) {
+      inspectCodeReportFile = this.getInspectCodeReportFile(languageSettings.getReportPath());
+      // Stop if the report file could not be retrieved
+      if (inspectCodeReportFile == null) {
+        // Error logging is done within method 'getInspectCodeReportFile()'
+        return;
+      }
     }
 
     // Retrieve all active SonarQube rules from the repository used by this sensor
     final Collection<ActiveRule> activeRuleCollection =
         context.activeRules().findByRepository(this.sensorConfiguration.repositoryKey);
 
-    // Stop if no rules are activated for the SonarQube rule repository used by this sensor
-    if (activeRuleCollection.isEmpty()) {
+    // Stop if no rules are activated for the SonarQube rule repository used by this sensor, unless external issues or measures are imported
+    if (activeRuleCollection.isEmpty() && !settings.isExternalIssues() && !settings.isMeasuresOnly()) {
       this.logger.info("There are no active rules for repository '{}'.", this.sensorConfiguration.repositoryKey);
       return;
     }
@@ -122,94 +177,1051 @@ public abstract class BaseSensor
       return;
     }
 
-    // Retrieve and validate all mandatory properties from the SonarQube configuration
-    final SonarQubeSensorProperties sonarQubeProperties = new SonarQubeSensorProperties(context.config());
-    if (!sonarQubeProperties.validatePropertyValues(this.logger)) {
+    // Validate all mandatory properties from the SonarQube configuration
+    if (!settings.validateMandatoryProperties(this.logger, !isSolutionReportMapping)) {
       this.logger.warn("Not all mandatory properties are set, skipping issue parsing for the current project.");
       return;
     }
 
-    // Create a predicate to match the project name for the issues
-    final Predicate<String> projectNamePredicate =
-        element -> element != null && element.trim().equalsIgnoreCase(sonarQubeProperties.projectName);
+    // TODO: Create method to get the relative base directory of the InspectCode executable
+    //       It might be necessary to check whether the solution file name stored within the SonarQube properties is relative or absolute.
+    //       Additionally, the XML file generated by InspectCode contains a path to the solution file, too. But the latter is always
+    //       stored relative to the directory where the InspectCode executable has been run.
 
-    // Parse and convert the XML file of the InspectCode command line tool
-    final SonarQubeSensorXmlParserResults sonarQubeSensorXmlParserResults =
-        this.parseInspectCodeXmlReportFile(inspectCodeReportFile, projectNamePredicate);
-
-    // If null is returned, an error has occurred during parsing, hence abort the creation of issues for this project
-    if (sonarQubeSensorXmlParserResults == null) {
-      this.logger.warn("An error occurred during parsing of InspectCode XML file '{}'. Aborting scan for project '{}'.",
-          inspectCodeReportFile.getAbsolutePath(),
-          sonarQubeProperties.projectName);
+    // Build the absolute path to each solution file, whose directory is the base directory of the file paths within its report file
+    final List<SolutionReport> solutionReports = isSolutionReportMapping
+        ? SolutionReport.parse(solutionReportEntries, settings.getUserDir(), this.logger)
+        : Collections.singletonList(new SolutionReport(
+            new File(settings.getUserDir() + File.separator + settings.getSolutionFileName()), inspectCodeReportFile));
+    if (solutionReports.isEmpty()) {
+      this.logger.warn("Property {} does not define any existing report file, skipping issue parsing for the current project.",
+          this.sensorConfiguration.propertyIdentifierSolutionReportFilePaths);
+      return;
+    }
+
+    // Collect metrics of each phase of the ingestion, which are reported even if the ingestion is aborted
+    final SensorMetrics sensorMetrics = new SensorMetrics();
+    final SkippedIssueStatistics skippedIssueStatistics = new SkippedIssueStatistics();
+    try {
+      this.ingestInspectCodeXmlReportFiles(
+          context, solutionReports, activeRuleCollection, settings, sensorMetrics, skippedIssueStatistics);
+    } finally {
+      skippedIssueStatistics.logSummary(this.logger, SKIPPED_ISSUE_SUMMARY_TOP_COUNT);
+      sensorMetrics.report(this.logger, fileSystem.workDir(), this.sensorConfiguration.repositoryKey);
+    }
+  }
+
+  /**
+   * Parses the report files of the supplied {@code solutionReports} and saves all issues of the current project for which a rule is active,
+   * while recording the duration and throughput of each phase within the supplied {@code sensorMetrics}. If the current project is
+   * contained within multiple solutions, its issues are imported from the report file of the first solution containing any of its issues.
+   *
+   * @param context
+   *     The {@link SensorContext} used to resolve source code files and to save the issues.
+   * @param solutionReports
+   *     The solution files and the XML report files generated by the InspectCode command line tool for them.
+   * @param activeRuleCollection
+   *     All active rules of the SonarQube rule repository used by this sensor.
+   * @param settings
+   *     The validated {@link ReSharperCltSettings} of the current module.
+   * @param sensorMetrics
+   *     The {@link SensorMetrics} recording the duration and throughput of each phase.
+   * @param skippedIssueStatistics
+   *     The {@link SkippedIssueStatistics} counting the issues that could not be saved.
+   */
+  private void ingestInspectCodeXmlReportFiles(
+      @NotNull final SensorContext context,
+      @NotNull final List<SolutionReport> solutionReports,
+      @NotNull final Collection<ActiveRule> activeRuleCollection,
+      @NotNull final ReSharperCltSettings settings,
+      @NotNull final SensorMetrics sensorMetrics,
+      @NotNull final SkippedIssueStatistics skippedIssueStatistics) {
+    // Parsing and saving check the deadline cooperatively and stop cleanly once the time budget is exceeded
+    final IngestionDeadline ingestionDeadline = new IngestionDeadline(settings.getTimeBudgetSeconds());
+
+    // Parse the report files of all solutions, while only the results of a single solution are imported
+    final ParsedSolutionReport parsedSolutionReport =
+        this.parseSolutionReports(context, solutionReports, settings, ingestionDeadline, sensorMetrics);
+    if (parsedSolutionReport == null) {
+      // Logging is done within method 'parseSolutionReports()'
+      return;
+    }
+    final File solutionFile = parsedSolutionReport.solutionReport.solutionFile;
+    final SonarQubeSensorXmlParserResults sonarQubeSensorXmlParserResults = parsedSolutionReport.parserResults;
+    final IssueMeasureCounter issueMeasureCounter = parsedSolutionReport.issueMeasureCounter;
+
+    // Issue types which are referenced by issues, but not stated within the report file, are resolved using the bundled rules catalog
+    final Collection<SonarQubeRuleDefinitionModel> ruleDefinitions =
+        this.getRuleDefinitions(sonarQubeSensorXmlParserResults, issueMeasureCounter);
+
+    if (issueMeasureCounter != null) {
+      this.saveIssueMeasures(context, issueMeasureCounter, ruleDefinitions, solutionFile, sensorMetrics, skippedIssueStatistics);
       return;
     }
 
     // Retrieve a collection of all issued found by InspectCode for the current project
+    sensorMetrics.issuesSeen.set(sonarQubeSensorXmlParserResults.parsedIssues.size());
     if (sonarQubeSensorXmlParserResults.parsedIssues.isEmpty()) {
-      this.logger.debug("No issues have been parsed for project {}. Skipping project...", sonarQubeProperties.projectName);
+      this.logger.debug("No issues have been parsed for project {}. Skipping project...", settings.getProjectName());
       return;
     }
 
+    final SensorMetrics.PhaseTimer ruleJoinTimer = sensorMetrics.start(SensorMetrics.Phase.RULE_JOIN);
+
     // Retrieve the issue type definition identifiers from the parsed InspectCode XML file, which are used as rule keys
-    final Set<String> occurredIssueDefinitions = sonarQubeSensorXmlParserResults.ruleDefinitions
+    final Set<String> occurredIssueDefinitions = ruleDefinitions
         .parallelStream()
         .map(SonarQubeRuleDefinitionModel::getRuleDefinitionKey)
         .collect(Collectors.toSet());
 
+    // External issues use the rule type and severity of the issue types stated within the InspectCode report XML file, hence neither rules
+    // nor active rules are required
+    final Map<String, SonarQubeRuleDefinitionModel> externalRuleDefinitions = !settings.isExternalIssues() ? null :
+        ruleDefinitions
+            .stream()
+            .collect(Collectors.toMap(SonarQubeRuleDefinitionModel::getRuleDefinitionKey, Function.identity(), (first, second) -> first));
+
     // Create a map consisting of the InspectCode issue type definition identifier as key and the corresponding SonarQube RuleKey,
     // but only for those issue definitions, that are contained within the InspectCode report XML file
-    final Map<String, RuleKey> ruleKeyMap =
-        activeRuleCollection.parallelStream()
+    final Map<String, RuleKey> ruleKeyMap = externalRuleDefinitions != null
+        ? externalRuleDefinitions.keySet()
+            .stream()
+            .collect(Collectors.toMap(Function.identity(), ruleKey -> RuleKey.of(this.sensorConfiguration.repositoryKey, ruleKey)))
+        : activeRuleCollection.parallelStream()
             .filter(activeRule -> occurredIssueDefinitions.contains(activeRule.ruleKey().rule()))
             .collect(Collectors.toMap(activeRule -> activeRule.ruleKey().rule(), ActiveRule::ruleKey));
 
-    // TODO: Create method to get the relative base directory of the InspectCode executable
-    //       It might be necessary to check whether the solution file name stored within the SonarQube properties is relative or absolute.
-    //       Additionally, the XML file generated by InspectCode contains a path to the solution file, too. But the latter is always
-    //       stored relative to the directory where the InspectCode executable has been run.
-
-    // Build the absolute path to the solution file
-    final File solutionFile = new File(sonarQubeProperties.userDir + File.separator + sonarQubeProperties.solutionFileName);
-    final String inspectCodeRelativeBaseDir = solutionFile.getParent() + File.separator;
+    // If the severity should be prioritized, the rank of the severity of each rule is determined, where 0 is the rank of blocker issues
+    final Map<String, Integer> severityRankByRule = new HashMap<>(ruleKeyMap.size());
+    if (settings.isSeverityPrioritized()) {
+      // Severity.ALL is ordered from the least to the most important severity, unknown severities are saved last
+      if (externalRuleDefinitions != null) {
+        for (SonarQubeRuleDefinitionModel ruleDefinition : externalRuleDefinitions.values()) {
+          final int severityIndex = Math.max(0, Severity.ALL.indexOf(ruleDefinition.getSonarQubeSeverity().getSonarQubeSeverityValue()));
+          severityRankByRule.put(ruleDefinition.getRuleDefinitionKey(), Severity.ALL.size() - 1 - severityIndex);
+        }
+      } else {
+        for (ActiveRule activeRule : activeRuleCollection) {
+          final int severityIndex = Math.max(0, Severity.ALL.indexOf(activeRule.severity()));
+          severityRankByRule.put(activeRule.ruleKey().rule(), Severity.ALL.size() - 1 - severityIndex);
+        }
+      }
+    }
 
-    // Iterate all issues found within the InspectCode report XML file matching the project name predicate
+    // Group all issues found within the InspectCode report XML file matching the project name predicate by their source file, so that
+    // each file is resolved and read only once and all of its issues are saved together
+    final Map<String, List<SonarQubeIssueModel>> issuesByFilePath = new TreeMap<>();
+    long acceptedIssueCount = 0;
     for (SonarQubeIssueModel sonarQubeIssueModel : sonarQubeSensorXmlParserResults.parsedIssues) {
       // Skip this issue if its rule definition is not activated in the quality profile of this project
       if (!ruleKeyMap.containsKey(sonarQubeIssueModel.getRuleKey())) {
-        final String reason = String.format(
-            "Could not find rule definition identifier %s within the set of active SonarQube rules.",
-            sonarQubeIssueModel.getRuleKey());
-        this.logSkippedIssue(sonarQubeIssueModel, reason, LoggerLevel.DEBUG);
+        skippedIssueStatistics.add(
+            SkippedIssueStatistics.Reason.INACTIVE_RULE, sonarQubeIssueModel.getRuleKey(), sonarQubeIssueModel.getFilePath());
+        if (this.logger.isTraceEnabled()) {
+          this.logSkippedIssue(sonarQubeIssueModel, String.format(
+              "Could not find rule definition identifier %s within the set of active SonarQube rules.",
+              sonarQubeIssueModel.getRuleKey()));
+        }
+        sensorMetrics.issuesFiltered.incrementAndGet();
+        continue;
+      }
+
+      issuesByFilePath.computeIfAbsent(sonarQubeIssueModel.getFilePath(), filePath -> new ArrayList<>()).add(sonarQubeIssueModel);
+      acceptedIssueCount++;
+    }
+
+    // The files are saved in the order of their paths, unless they are ordered by the most important severity of their issues
+    sensorMetrics.distinctFiles.set(issuesByFilePath.size());
+    final Map<String, List<SonarQubeIssueModel>> orderedIssuesByFilePath =
+        settings.isSeverityPrioritized() ? orderIssuesBySeverity(issuesByFilePath, severityRankByRule) : issuesByFilePath;
+    ruleJoinTimer.stop();
+
+    // Index all input files once, so that the source code files of the issues can be resolved without querying the file system
+    final SensorMetrics.PhaseTimer resolveTimer = sensorMetrics.start(SensorMetrics.Phase.RESOLVE);
+    final InputFileResolver inputFileResolver = new InputFileResolver(context.fileSystem(), solutionFile.getParent());
+
+    // Index the issues of other analyzers reported by rules equivalent to InspectCode issue types, in order to suppress duplicate issues
+    final DuplicateIssueIndex duplicateIssueIndex = DuplicateIssueIndex.create(
+        settings.getDuplicateRuleKeys(),
+        this.getRoslynReportFiles(context, settings),
+        this.logger);
+
+    // Either suppress the issues contained within the baseline file, or collect the fingerprints of all issues to update the baseline file
+    final File baselineFile = this.getBaselineFile(context, settings);
+    final IssueBaseline issueBaseline =
+        baselineFile != null && !settings.isBaselineUpdate() ? this.loadIssueBaseline(baselineFile) : IssueBaseline.EMPTY;
+    final LongArrayBuilder baselineFingerprints =
+        baselineFile != null && settings.isBaselineUpdate() ? new LongArrayBuilder((int) acceptedIssueCount) : null;
+    resolveTimer.stop();
+
+    // Line indices are created lazily, so only the contents of files with at least one issue are read, while the contents of each line are
+    // only hashed if fingerprints of the issues are required
+    final LineOffsetIndexCache lineOffsetIndexCache = new LineOffsetIndexCache(
+        LINE_OFFSET_INDEX_CACHE_MAXIMUM_BYTES, !issueBaseline.isEmpty() || baselineFingerprints != null);
+    final long issuesFilteredBeforeSaving = sensorMetrics.issuesFiltered.get();
+
+    // Prepare the issues of different files concurrently, while saving them in the order of the files on the sensor thread
+    final AtomicInteger threadCounter = new AtomicInteger();
+    final ExecutorService executorService = Executors.newFixedThreadPool(ISSUE_PREPARATION_THREAD_COUNT, runnable -> {
+      final Thread thread = new Thread(runnable, "resharper-clt-issue-preparation-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      this.saveIssues(context, executorService, orderedIssuesByFilePath, ruleKeyMap, externalRuleDefinitions, inputFileResolver,
+          lineOffsetIndexCache, duplicateIssueIndex, issueBaseline, baselineFingerprints, ingestionDeadline, sensorMetrics,
+          skippedIssueStatistics);
+    } finally {
+      executorService.shutdownNow();
+      sensorMetrics.sourceCharactersRead.set(lineOffsetIndexCache.getCharactersRead());
+      FlightRecorderEvents.commitCacheStatistics(
+          "InputFileResolver", inputFileResolver.getHitCount(), inputFileResolver.getMissCount());
+      FlightRecorderEvents.commitCacheStatistics(
+          "LineOffsetIndexCache", lineOffsetIndexCache.getHitCount(), lineOffsetIndexCache.getMissCount());
+    }
+
+    // Report the issues that have been neither saved nor skipped due to an exceeded time budget
+    if (ingestionDeadline.isExpired()) {
+      final long cancelledIssueCount =
+          Math.max(0L, acceptedIssueCount - sensorMetrics.issuesSaved.get() - sensorMetrics.issuesSkipped.get()
+              - sensorMetrics.issuesSuppressed.get() - sensorMetrics.issuesInBaseline.get()
+              - (sensorMetrics.issuesFiltered.get() - issuesFilteredBeforeSaving));
+      sensorMetrics.issuesCancelled.set(cancelledIssueCount);
+      this.logger.warn("The time budget of {} seconds has been exceeded. {} issues have been saved, {} issues have not been saved.",
+          ingestionDeadline.getTimeBudgetSeconds(), sensorMetrics.issuesSaved.get(), cancelledIssueCount);
+    }
+
+    if (baselineFile != null && baselineFingerprints != null) {
+      this.writeIssueBaseline(baselineFile, baselineFingerprints, ingestionDeadline);
+    }
+  }
+
+  /**
+   * Orders the supplied {@code issuesByFilePath} by the most important severity of the issues of each file, i.e. starting with the files
+   * containing blocker issues, while the issues of each file are ordered by their severity as well. Files and issues of the same severity
+   * keep their order. Since all issues of a file are saved together, less important issues of a file are saved along with its most
+   * important ones, but each file is resolved and read only once.
+   *
+   * @param issuesByFilePath
+   *     The issues to be saved, grouped by the file path stated within the InspectCode XML file, where each group contains any issue.
+   * @param severityRankByRule
+   *     A {@link Map} of the InspectCode issue type identifiers and the rank of the severity of their rules, where {@code 0} is the rank of
+   *     the most important severity.
+   *
+   * @return A new {@link Map} of the supplied {@code issuesByFilePath} in the order in which they should be saved.
+   */
+  @NotNull
+  private static Map<String, List<SonarQubeIssueModel>> orderIssuesBySeverity(
+      @NotNull final Map<String, List<SonarQubeIssueModel>> issuesByFilePath,
+      @NotNull final Map<String, Integer> severityRankByRule) {
+    final Comparator<SonarQubeIssueModel> severityComparator =
+        Comparator.comparingInt(issue -> severityRankByRule.getOrDefault(issue.getRuleKey(), Severity.ALL.size()));
+
+    // Both sorts are stable, and the first issue of each sorted group is one of the most important severity of its file
+    final List<Map.Entry<String, List<SonarQubeIssueModel>>> fileIssuesEntries = new ArrayList<>(issuesByFilePath.entrySet());
+    for (Map.Entry<String, List<SonarQubeIssueModel>> fileIssuesEntry : fileIssuesEntries) {
+      fileIssuesEntry.getValue().sort(severityComparator);
+    }
+    fileIssuesEntries.sort((first, second) -> severityComparator.compare(first.getValue().get(0), second.getValue().get(0)));
+
+    final Map<String, List<SonarQubeIssueModel>> orderedIssuesByFilePath = new LinkedHashMap<>(fileIssuesEntries.size() * 4 / 3 + 1);
+    for (Map.Entry<String, List<SonarQubeIssueModel>> fileIssuesEntry : fileIssuesEntries) {
+      orderedIssuesByFilePath.put(fileIssuesEntry.getKey(), fileIssuesEntry.getValue());
+    }
+    return orderedIssuesByFilePath;
+  }
+
+  /**
+   * Parses the report files of the supplied {@code solutionReports} concurrently and selects the results of the first solution in the
+   * supplied order, whose report file contains any issue of the current project. Shared projects contained within multiple solutions are
+   * thereby imported only once, while the parsing of report files following the selected one is cancelled. Report files of solutions which
+   * do not contain any project located within the current module are not parsed at all, see {@link #getModuleSolutionReports}. All errors
+   * are logged, while a report file whose parsing failed is ignored.
+   *
+   * @param context
+   *     The {@link SensorContext} providing the file system of the current module.
+   * @param solutionReports
+   *     The solution files and the XML report files generated by the InspectCode command line tool for them.
+   * @param settings
+   *     The validated {@link ReSharperCltSettings} of the current module.
+   * @param ingestionDeadline
+   *     The {@link IngestionDeadline} cancelling the parsing once the time budget is exceeded.
+   * @param sensorMetrics
+   *     The {@link SensorMetrics} recording the time spent opening, parsing and converting the XML report files.
+   *
+   * @return The {@link ParsedSolutionReport} of the selected solution, which is the first successfully parsed one if no report file
+   *     contains any issue of the current project, or {@code null} if parsing has been cancelled or failed for all report files.
+   */
+  @Nullable
+  private ParsedSolutionReport parseSolutionReports(
+      @NotNull final SensorContext context,
+      @NotNull final List<SolutionReport> solutionReports,
+      @NotNull final ReSharperCltSettings settings,
+      @NotNull final IngestionDeadline ingestionDeadline,
+      @NotNull final SensorMetrics sensorMetrics) {
+    // The sensors of all modules read the same report files, hence only the report files of solutions containing the module are parsed
+    final List<SolutionReport> moduleSolutionReports = this.getModuleSolutionReports(context, solutionReports);
+
+    // The index of the first solution whose report file contains issues of the project, parsing any later report file is cancelled
+    final AtomicInteger selectedSolutionIndex = new AtomicInteger(Integer.MAX_VALUE);
+    final List<Callable<ParsedSolutionReport>> parseTasks = new ArrayList<>(moduleSolutionReports.size());
+    for (int index = 0; index < moduleSolutionReports.size(); index++) {
+      final int solutionIndex = index;
+      final SolutionReport solutionReport = moduleSolutionReports.get(index);
+      parseTasks.add(() -> {
+        final ParsedSolutionReport parsedSolutionReport = this.parseSolutionReport(context, solutionReport, settings,
+            () -> ingestionDeadline.isExpired() || selectedSolutionIndex.get() < solutionIndex, sensorMetrics);
+        if (parsedSolutionReport.hasIssues()) {
+          selectedSolutionIndex.accumulateAndGet(solutionIndex, Math::min);
+        }
+        return parsedSolutionReport;
+      });
+    }
+
+    final List<ParsedSolutionReport> parsedSolutionReports = new ArrayList<>(moduleSolutionReports.size());
+    if (parseTasks.size() == 1) {
+      // Parse the report file of a single solution on the sensor thread
+      try {
+        parsedSolutionReports.add(parseTasks.get(0).call());
+      } catch (Exception exception) {
+        this.logger.error("An exception occurred while parsing the InspectCode XML report file.", exception);
+        parsedSolutionReports.add(new ParsedSolutionReport(moduleSolutionReports.get(0), null, null));
+      }
+    } else {
+      final AtomicInteger threadCounter = new AtomicInteger();
+      final ExecutorService executorService =
+          Executors.newFixedThreadPool(Math.min(parseTasks.size(), ISSUE_PREPARATION_THREAD_COUNT), runnable -> {
+            final Thread thread = new Thread(runnable, "resharper-clt-report-parsing-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+      try {
+        final List<Future<ParsedSolutionReport>> parseResults = executorService.invokeAll(parseTasks);
+        for (int index = 0; index < parseResults.size(); index++) {
+          // A report file whose parsing failed is ignored like a report file containing errors, while the other solutions are imported
+          try {
+            parsedSolutionReports.add(parseResults.get(index).get());
+          } catch (ExecutionException executionException) {
+            this.logger.error("An exception occurred while parsing InspectCode XML file '"
+                + moduleSolutionReports.get(index).reportFile.getAbsolutePath() + "'.", executionException.getCause());
+            parsedSolutionReports.add(new ParsedSolutionReport(moduleSolutionReports.get(index), null, null));
+          }
+        }
+      } catch (InterruptedException interruptedException) {
+        Thread.currentThread().interrupt();
+        this.logger.warn("The sensor has been interrupted while parsing the InspectCode XML report files. No issue has been saved.");
+        return null;
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+
+    if (ingestionDeadline.isExpired()) {
+      this.logger.warn("The time budget of {} seconds has been exceeded while parsing the InspectCode XML report files. "
+          + "No issue has been saved.", ingestionDeadline.getTimeBudgetSeconds());
+      return null;
+    }
+
+    // Log the reports that could not be parsed and select the first solution containing issues of the project
+    ParsedSolutionReport selectedSolutionReport = null;
+    for (int index = 0; index < parsedSolutionReports.size(); index++) {
+      final ParsedSolutionReport parsedSolutionReport = parsedSolutionReports.get(index);
+      if (index > selectedSolutionIndex.get()) {
+        this.logger.debug("Ignoring InspectCode XML file '{}', since project '{}' is imported from solution '{}'.",
+            parsedSolutionReport.solutionReport.reportFile.getAbsolutePath(),
+            settings.getProjectName(),
+            parsedSolutionReports.get(selectedSolutionIndex.get()).solutionReport.solutionFile.getPath());
+      } else if (parsedSolutionReport.parserResults == null) {
+        this.logger.warn("An error occurred during parsing of InspectCode XML file '{}'. Ignoring the issues of solution '{}'.",
+            parsedSolutionReport.solutionReport.reportFile.getAbsolutePath(),
+            parsedSolutionReport.solutionReport.solutionFile.getPath());
+      } else if (selectedSolutionReport == null || index == selectedSolutionIndex.get()) {
+        selectedSolutionReport = parsedSolutionReport;
+      }
+    }
+
+    if (selectedSolutionReport == null) {
+      this.logger.warn("No InspectCode XML file could be parsed. Aborting scan for project '{}'.", settings.getProjectName());
+    } else if (moduleSolutionReports.size() > 1) {
+      this.logger.info("Importing the issues of project '{}' from InspectCode XML file '{}' of solution '{}'.",
+          settings.getProjectName(),
+          selectedSolutionReport.solutionReport.reportFile.getAbsolutePath(),
+          selectedSolutionReport.solutionReport.solutionFile.getPath());
+    }
+    return selectedSolutionReport;
+  }
+
+  /**
+   * Gets the supplied {@code solutionReports} of all solutions containing a project located within the base directory of the current
+   * module, in their original order. Solution files which could not be read are kept, since their projects are matched by name. If no
+   * solution contains a project located within the module, all supplied {@code solutionReports} are returned, since the projects of all
+   * solutions are matched by the name of the current project then.
+   *
+   * @param context
+   *     The {@link SensorContext} providing the base directory of the current module.
+   * @param solutionReports
+   *     The solution files and the XML report files generated by the InspectCode command line tool for them.
+   *
+   * @return The {@link SolutionReport}s whose report files might contain issues of the current module.
+   */
+  @NotNull
+  private List<SolutionReport> getModuleSolutionReports(
+      @NotNull final SensorContext context,
+      @NotNull final List<SolutionReport> solutionReports) {
+    if (solutionReports.size() <= 1) {
+      return solutionReports;
+    }
+
+    final String moduleBaseDirectory = context.fileSystem().baseDir().getAbsolutePath();
+    final List<SolutionReport> moduleSolutionReports = new ArrayList<>(solutionReports.size());
+    for (SolutionReport solutionReport : solutionReports) {
+      final SolutionProjectIndex projectIndex = SolutionProjectIndex.of(solutionReport.solutionFile, this.logger);
+      if (projectIndex == SolutionProjectIndex.EMPTY || !projectIndex.getProjectNamesWithin(moduleBaseDirectory).isEmpty()) {
+        moduleSolutionReports.add(solutionReport);
+      } else {
+        this.logger.debug("Skipping InspectCode XML file '{}', since solution '{}' does not contain any project located in '{}'.",
+            solutionReport.reportFile.getAbsolutePath(), solutionReport.solutionFile.getPath(), moduleBaseDirectory);
+      }
+    }
+
+    if (moduleSolutionReports.isEmpty()) {
+      this.logger.debug("No solution contains a project located in directory '{}', hence all InspectCode XML files are parsed.",
+          moduleBaseDirectory);
+      return solutionReports;
+    }
+    return moduleSolutionReports;
+  }
+
+  /**
+   * Parses the report file of the supplied {@code solutionReport}, resolving the file paths stated within it against the directory of its
+   * solution file. Only the issues of the projects located in the base directory of the current module are imported, or of the projects
+   * named like the current project if the solution file does not state any project located there.
+   *
+   * @param context
+   *     The {@link SensorContext} providing the file system of the current module.
+   * @param solutionReport
+   *     The solution file and the XML report file generated by the InspectCode command line tool for it.
+   * @param settings
+   *     The validated {@link ReSharperCltSettings} of the current module.
+   * @param cancellationCheck
+   *     A {@link BooleanSupplier} evaluated periodically during parsing, which cancels parsing as soon as it returns {@code true}.
+   * @param sensorMetrics
+   *     The {@link SensorMetrics} recording the time spent opening, parsing and converting the XML report file.
+   *
+   * @return A new {@link ParsedSolutionReport}, whose parser results are {@code null} if parsing has been cancelled or failed.
+   */
+  @NotNull
+  private ParsedSolutionReport parseSolutionReport(
+      @NotNull final SensorContext context,
+      @NotNull final SolutionReport solutionReport,
+      @NotNull final ReSharperCltSettings settings,
+      @NotNull final BooleanSupplier cancellationCheck,
+      @NotNull final SensorMetrics sensorMetrics) {
+    // Match the projects of the solution whose project file is located in the base directory of the module, or the project name
+    final Predicate<String> projectNamePredicate = SolutionProjectIndex.of(solutionReport.solutionFile, this.logger)
+        .createProjectNamePredicate(context.fileSystem().baseDir().getAbsolutePath(), settings.getProjectName(), this.logger);
+
+    // SonarQube only displays issues on changed files for pull requests, hence issues on unchanged files are dropped while parsing
+    ChangedFilesPathPredicate changedFilesPathPredicate = null;
+    if (settings.isChangedFilesOnly()) {
+      changedFilesPathPredicate = new ChangedFilesPathPredicate(context.fileSystem(), solutionReport.getBaseDirectory());
+      this.logger.info("Importing issues on {} added or changed files only.", changedFilesPathPredicate.getChangedFileCount());
+    }
+
+    // Issues are only counted while parsing if only measures should be saved, hence no issue model is created at all
+    final IssueMeasureCounter issueMeasureCounter = settings.isMeasuresOnly() ? new IssueMeasureCounter() : null;
+
+    // Parse and convert the XML file of the InspectCode command line tool
+    final SonarQubeSensorXmlParserResults sonarQubeSensorXmlParserResults = this.parseInspectCodeXmlReportFile(
+        solutionReport.reportFile, projectNamePredicate, changedFilesPathPredicate, issueMeasureCounter, cancellationCheck, sensorMetrics);
+
+    if (changedFilesPathPredicate != null) {
+      this.logger.info("Ignored {} issues on unchanged files.", changedFilesPathPredicate.getRejectedCount());
+    }
+
+    return new ParsedSolutionReport(solutionReport, sonarQubeSensorXmlParserResults, issueMeasureCounter);
+  }
+
+  /**
+   * Gets the rule definitions of all issue types stated within the parsed XML report file, supplemented by the rule definitions of the
+   * issue types referenced by issues but not stated within the report file. The latter are resolved using the bundled rules catalog
+   * matching the {@code ToolsVersion} of the report file, which is only read if any issue type is missing.
+   *
+   * @param parserResults
+   *     The {@link SonarQubeSensorXmlParserResults} of the XML report file.
+   * @param issueMeasureCounter
+   *     The {@link IssueMeasureCounter} which counted the issues while parsing, or {@code null} if the issues have been parsed.
+   *
+   * @return A {@link Collection} of the rule definitions of all issue types stated within or referenced by the XML report file, as far
+   *     as they are known.
+   */
+  @NotNull
+  private Collection<SonarQubeRuleDefinitionModel> getRuleDefinitions(
+      @NotNull final SonarQubeSensorXmlParserResults parserResults,
+      @Nullable final IssueMeasureCounter issueMeasureCounter) {
+    final Set<String> missingRuleDefinitionKeys = new HashSet<>();
+    if (issueMeasureCounter != null) {
+      issueMeasureCounter.getCountsByFilePath().values().forEach(counts -> missingRuleDefinitionKeys.addAll(counts.keySet()));
+    } else {
+      for (SonarQubeIssueModel sonarQubeIssueModel : parserResults.parsedIssues) {
+        if (sonarQubeIssueModel.getRuleKey() != null) {
+          missingRuleDefinitionKeys.add(sonarQubeIssueModel.getRuleKey());
+        }
+      }
+    }
+    for (SonarQubeRuleDefinitionModel ruleDefinition : parserResults.ruleDefinitions) {
+      missingRuleDefinitionKeys.remove(ruleDefinition.getRuleDefinitionKey());
+    }
+    if (missingRuleDefinitionKeys.isEmpty()) {
+      return parserResults.ruleDefinitions;
+    }
+
+    final Map<String, SonarQubeRuleDefinitionModel> resolvedRuleDefinitions =
+        VersionedRulesCatalogs.getRuleDefinitions(parserResults.toolsVersion, missingRuleDefinitionKeys);
+    this.logger.info("Resolved {} of {} issue types not stated within the InspectCode report of version '{}' using the bundled rules.",
+        resolvedRuleDefinitions.size(), missingRuleDefinitionKeys.size(), parserResults.toolsVersion);
+    if (resolvedRuleDefinitions.isEmpty()) {
+      return parserResults.ruleDefinitions;
+    }
+
+    final List<SonarQubeRuleDefinitionModel> ruleDefinitions =
+        new ArrayList<>(parserResults.ruleDefinitions.size() + resolvedRuleDefinitions.size());
+    ruleDefinitions.addAll(parserResults.ruleDefinitions);
+    ruleDefinitions.addAll(resolvedRuleDefinitions.values());
+    return ruleDefinitions;
+  }
+
+  /**
+   * Saves the amount of issues counted by the supplied {@code issueMeasureCounter} as measures of the {@link ReSharperCltMetrics} on each
+   * source code file of the language of this sensor. The measures are aggregated to directories and the project by the {@link
+   * IssueMeasureComputer}, while the amounts per category and per rule of all files are saved once on the module.
+   *
+   * @param context
+   *     The {@link SensorContext} used to resolve the source code files and to save the measures.
+   * @param issueMeasureCounter
+   *     The {@link IssueMeasureCounter} containing the amount of issues per file and issue type.
+   * @param ruleDefinitions
+   *     The rule definitions of the issue types stated within the InspectCode XML file, providing the category and severity of the issues.
+   * @param solutionFile
+   *     The solution file, to whose directory the file paths stated within the InspectCode XML file are relative.
+   * @param sensorMetrics
+   *     The {@link SensorMetrics} recording the time spent resolving files and saving measures.
+   * @param skippedIssueStatistics
+   *     The {@link SkippedIssueStatistics} counting the issues whose source code file could not be resolved.
+   */
+  private void saveIssueMeasures(
+      @NotNull final SensorContext context,
+      @NotNull final IssueMeasureCounter issueMeasureCounter,
+      @NotNull final Collection<SonarQubeRuleDefinitionModel> ruleDefinitions,
+      @NotNull final File solutionFile,
+      @NotNull final SensorMetrics sensorMetrics,
+      @NotNull final SkippedIssueStatistics skippedIssueStatistics) {
+    sensorMetrics.issuesSeen.set(issueMeasureCounter.getIssueCount());
+    sensorMetrics.distinctFiles.set(issueMeasureCounter.getCountsByFilePath().size());
+
+    final Map<String, InspectCodeIssueDefinitionModel> issueDefinitionsByTypeId = new HashMap<>(ruleDefinitions.size() * 4 / 3 + 1);
+    for (SonarQubeRuleDefinitionModel ruleDefinition : ruleDefinitions) {
+      if (ruleDefinition.getInspectcodeModel() != null) {
+        issueDefinitionsByTypeId.put(ruleDefinition.getRuleDefinitionKey(), ruleDefinition.getInspectcodeModel());
+      }
+    }
+
+    // Different paths stated within the InspectCode XML file might reference the same source code file, but measures are saved once
+    final SensorMetrics.PhaseTimer resolveTimer = sensorMetrics.start(SensorMetrics.Phase.RESOLVE);
+    final InputFileResolver inputFileResolver = new InputFileResolver(context.fileSystem(), solutionFile.getParent());
+    final Map<InputFile, Map<String, Integer>> countsBySourceCodeFile = new LinkedHashMap<>();
+    for (Map.Entry<String, Map<String, int[]>> fileCountsEntry : issueMeasureCounter.getCountsByFilePath().entrySet()) {
+      final String filePath = fileCountsEntry.getKey();
+      final InputFile sourceCodeFile = inputFileResolver.resolve(filePath);
+      if (sourceCodeFile == null) {
+        fileCountsEntry.getValue().forEach((issueTypeId, count) -> {
+          sensorMetrics.issuesSkipped.addAndGet(count[0]);
+          skippedIssueStatistics.add(SkippedIssueStatistics.Reason.UNRESOLVED_FILE, issueTypeId, filePath, count[0]);
+        });
+        continue;
+      }
+
+      // Files of other languages are measured by their own sensor, since measures must only be saved once per file
+      if (!this.sensorConfiguration.languageName.equals(sourceCodeFile.language())) {
+        fileCountsEntry.getValue().values().forEach(count -> sensorMetrics.issuesFiltered.addAndGet(count[0]));
         continue;
       }
 
-      // Construct an absolute path from the filesystem root to the source file where the issue occurred,
-      // relative to the path where the solution file is located.
-      final String absoluteFilePath = inspectCodeRelativeBaseDir + sonarQubeIssueModel.getFilePath();
+      final Map<String, Integer> countsByIssueTypeId = countsBySourceCodeFile.computeIfAbsent(sourceCodeFile, key -> new HashMap<>(8));
+      fileCountsEntry.getValue().forEach((issueTypeId, count) -> countsByIssueTypeId.merge(issueTypeId, count[0], Integer::sum));
+    }
+    resolveTimer.stop();
+
+    final SensorMetrics.PhaseTimer saveTimer = sensorMetrics.start(SensorMetrics.Phase.SAVE);
+    long measuredIssueCount = 0;
+    final Map<String, Long> countsByCategory = new HashMap<>(32);
+    final Map<String, Long> countsByRule = new HashMap<>(issueDefinitionsByTypeId.size() * 4 / 3 + 1);
+    for (Map.Entry<InputFile, Map<String, Integer>> fileCountsEntry : countsBySourceCodeFile.entrySet()) {
+      final InputFile sourceCodeFile = fileCountsEntry.getKey();
+      int issueCount = 0;
+      final Map<Metric<Integer>, Integer> countsBySeverityMetric = new HashMap<>(8);
+      for (Map.Entry<String, Integer> issueTypeCountEntry : fileCountsEntry.getValue().entrySet()) {
+        final int count = issueTypeCountEntry.getValue();
+        final InspectCodeIssueDefinitionModel issueDefinition = issueDefinitionsByTypeId.get(issueTypeCountEntry.getKey());
+        final Metric<Integer> severityMetric =
+            issueDefinition != null ? ReSharperCltMetrics.getSeverityMetric(issueDefinition.getSeverity()) : null;
+        if (severityMetric != null) {
+          countsBySeverityMetric.merge(severityMetric, count, Integer::sum);
+        }
+        final String category =
+            issueDefinition != null && issueDefinition.getCategory() != null ? issueDefinition.getCategory() : "Unknown";
+        countsByCategory.merge(category, (long) count, Long::sum);
+        countsByRule.merge(issueTypeCountEntry.getKey(), (long) count, Long::sum);
+        issueCount += count;
+      }
+
+      context.<Integer>newMeasure().on(sourceCodeFile).forMetric(ReSharperCltMetrics.ISSUES).withValue(issueCount).save();
+      for (Map.Entry<Metric<Integer>, Integer> severityCountEntry : countsBySeverityMetric.entrySet()) {
+        context.<Integer>newMeasure()
+            .on(sourceCodeFile)
+            .forMetric(severityCountEntry.getKey())
+            .withValue(severityCountEntry.getValue())
+            .save();
+      }
+
+      measuredIssueCount += issueCount;
+    }
+
+    // The distributions are saved once on the module instead of on each file, using the metrics of the language of this sensor, since the
+    // sensors of both languages save them on the same module
+    final String languageName = this.sensorConfiguration.languageName;
+    final Metric<String> categoryDistributionMetric = ReSharperCltMetrics.getCategoryDistributionMetric(languageName);
+    final Metric<String> ruleDistributionMetric = ReSharperCltMetrics.getRuleDistributionMetric(languageName);
+    if (!countsByRule.isEmpty() && categoryDistributionMetric != null && ruleDistributionMetric != null) {
+      context.<String>newMeasure()
+          .on(context.module())
+          .forMetric(categoryDistributionMetric)
+          .withValue(ReSharperCltMetrics.formatCounts(countsByCategory))
+          .save();
+      context.<String>newMeasure()
+          .on(context.module())
+          .forMetric(ruleDistributionMetric)
+          .withValue(ReSharperCltMetrics.formatCounts(countsByRule))
+          .save();
+    }
+    saveTimer.stop();
+
+    this.logger.info("Saved the measures of {} issues on {} files.", measuredIssueCount, countsBySourceCodeFile.size());
+  }
+
+  /**
+   * Prepares the text ranges of the supplied issues concurrently for each source code file using a bounded amount of threads, while
+   * creating and saving the issues on the calling thread in the order of the supplied {@code issuesByFilePath}. This keeps the result
+   * reproducible, since issues must only be created and saved by the sensor thread.
+   *
+   * @param context
+   *     The {@link SensorContext} used to save the issues.
+   * @param executorService
+   *     The {@link ExecutorService} used to prepare the issues, which is shared by all calls of a single ingestion.
+   * @param issuesByFilePath
+   *     The issues to be saved, grouped by the file path stated within the InspectCode XML file and in the order they should be saved.
+   * @param ruleKeyMap
+   *     A {@link Map} of the InspectCode issue type identifiers and the {@link RuleKey}s of the corresponding active rules.
+   * @param externalRuleDefinitions
+   *     A {@link Map} of the InspectCode issue type identifiers and the rule definitions stated within the InspectCode XML file if the
+   *     issues should be saved as external issues, otherwise {@code null}.
+   * @param inputFileResolver
+   *     The {@link InputFileResolver} used to resolve the source code files.
+   * @param lineOffsetIndexCache
+   *     The {@link LineOffsetIndexCache} providing the {@link LineOffsetIndex} of the source code files.
+   * @param duplicateIssueIndex
+   *     The {@link DuplicateIssueIndex} used to suppress issues which duplicate issues of other analyzers.
+   * @param issueBaseline
+   *     The {@link IssueBaseline} used to suppress issues contained within the baseline file.
+   * @param baselineFingerprints
+   *     Collects the fingerprints of all prepared issues in order to update the baseline file, or {@code null} if not required.
+   * @param ingestionDeadline
+   *     The {@link IngestionDeadline} after which no more issues are saved.
+   * @param sensorMetrics
+   *     The {@link SensorMetrics} recording the time spent preparing and saving the issues.
+   * @param skippedIssueStatistics
+   *     The {@link SkippedIssueStatistics} counting the issues which have not been saved.
+   */
+  private void saveIssues(
+      @NotNull final SensorContext context,
+      @NotNull final ExecutorService executorService,
+      @NotNull final Map<String, List<SonarQubeIssueModel>> issuesByFilePath,
+      @NotNull final Map<String, RuleKey> ruleKeyMap,
+      @Nullable final Map<String, SonarQubeRuleDefinitionModel> externalRuleDefinitions,
+      @NotNull final InputFileResolver inputFileResolver,
+      @NotNull final LineOffsetIndexCache lineOffsetIndexCache,
+      @NotNull final DuplicateIssueIndex duplicateIssueIndex,
+      @NotNull final IssueBaseline issueBaseline,
+      @Nullable final LongArrayBuilder baselineFingerprints,
+      @NotNull final IngestionDeadline ingestionDeadline,
+      @NotNull final SensorMetrics sensorMetrics,
+      @NotNull final SkippedIssueStatistics skippedIssueStatistics) {
+    // The file path of each batch is kept, so that its issues can be counted if the preparation fails
+    final Deque<Map.Entry<String, Future<PreparedIssueBatch>>> pendingBatches = new ArrayDeque<>(ISSUE_PREPARATION_MAXIMUM_PENDING_BATCHES);
+    try {
+      final Iterator<Map.Entry<String, List<SonarQubeIssueModel>>> fileIssuesIterator = issuesByFilePath.entrySet().iterator();
+
+      while (fileIssuesIterator.hasNext() || !pendingBatches.isEmpty()) {
+        // Stop cleanly if the time budget is exceeded, the pending batches are cancelled before returning
+        if (ingestionDeadline.isExpired()) {
+          return;
+        }
+
+        // Keep a bounded amount of batches in preparation, so that prepared issues do not pile up in memory
+        while (fileIssuesIterator.hasNext() && pendingBatches.size() < ISSUE_PREPARATION_MAXIMUM_PENDING_BATCHES) {
+          final Map.Entry<String, List<SonarQubeIssueModel>> fileIssuesEntry = fileIssuesIterator.next();
+          pendingBatches.addLast(new AbstractMap.SimpleImmutableEntry<>(fileIssuesEntry.getKey(), executorService.submit(() -> {
+            // The time spent by each thread is summed up, hence the resolve phase might exceed the elapsed wall clock time
+            final SensorMetrics.PhaseTimer resolveTimer = sensorMetrics.start(SensorMetrics.Phase.RESOLVE);
+            final FlightRecorderEvents.Span resolveSpan = FlightRecorderEvents.beginIssueBatchResolve();
+            int preparedIssueCount = 0;
+            try {
+              final PreparedIssueBatch preparedIssueBatch = this.prepareIssueBatch(fileIssuesEntry.getKey(), fileIssuesEntry.getValue(),
+                  ruleKeyMap, externalRuleDefinitions != null, inputFileResolver, lineOffsetIndexCache, duplicateIssueIndex, issueBaseline,
+                  baselineFingerprints, skippedIssueStatistics);
+              preparedIssueCount = preparedIssueBatch.getPreparedIssues().size();
+              return preparedIssueBatch;
+            } finally {
+              resolveSpan.complete(fileIssuesEntry.getKey(), preparedIssueCount);
+              resolveTimer.stop();
+            }
+          })));
+        }
+
+        // Wait for the oldest batch, which keeps the order of the saved issues deterministic
+        final Map.Entry<String, Future<PreparedIssueBatch>> pendingBatch = pendingBatches.removeFirst();
+        final PreparedIssueBatch preparedIssueBatch;
+        try {
+          preparedIssueBatch = pendingBatch.getValue().get();
+        } catch (ExecutionException executionException) {
+          this.logger.error("An exception occurred while preparing issues of file " + pendingBatch.getKey() + " for saving.",
+              executionException.getCause());
+          final List<SonarQubeIssueModel> failedIssues = issuesByFilePath.get(pendingBatch.getKey());
+          sensorMetrics.issuesSkipped.addAndGet(failedIssues.size());
+          for (SonarQubeIssueModel failedIssue : failedIssues) {
+            skippedIssueStatistics.add(SkippedIssueStatistics.Reason.PREPARATION_FAILED, failedIssue.getRuleKey(), pendingBatch.getKey());
+          }
+          continue;
+        } catch (InterruptedException interruptedException) {
+          Thread.currentThread().interrupt();
+          this.logger.warn("The sensor has been interrupted while saving issues. Not all issues have been saved.");
+          return;
+        }
+
+        if (preparedIssueBatch.inputFile == null) {
+          sensorMetrics.issuesSkipped.addAndGet(issuesByFilePath.get(preparedIssueBatch.filePath).size());
+          continue;
+        }
+        sensorMetrics.issuesSuppressed.addAndGet(preparedIssueBatch.suppressedIssueCount);
+        sensorMetrics.issuesInBaseline.addAndGet(preparedIssueBatch.baselineIssueCount);
+        sensorMetrics.issuesFiltered.addAndGet(preparedIssueBatch.otherLanguageIssueCount);
+
+        // Create the new issues and their locations within SonarQube
+        final SensorMetrics.PhaseTimer saveTimer = sensorMetrics.start(SensorMetrics.Phase.SAVE);
+        final FlightRecorderEvents.Span saveSpan = FlightRecorderEvents.beginIssueBatchSave();
+        int savedIssueCount = 0;
+        for (PreparedIssueBatch.PreparedIssue preparedIssue : preparedIssueBatch.getPreparedIssues()) {
+          if (ingestionDeadline.isExpired()) {
+            break;
+          }
+          if (externalRuleDefinitions != null) {
+            this.saveExternalIssue(
+                context, preparedIssueBatch.inputFile, preparedIssue, externalRuleDefinitions.get(preparedIssue.ruleKey.rule()));
+          } else {
+            final NewIssue newIssue = context.newIssue();
+            newIssue
+                .at(newIssue.newLocation().on(preparedIssueBatch.inputFile).at(preparedIssue.textRange).message(preparedIssue.message))
+                .forRule(preparedIssue.ruleKey)
+                .save();
+          }
+          savedIssueCount++;
+        }
+        saveSpan.complete(preparedIssueBatch.filePath, savedIssueCount);
+        saveTimer.stop();
+        sensorMetrics.issuesSaved.addAndGet(savedIssueCount);
+      }
+    } finally {
+      // Batches which are not saved must not keep the threads of the executor busy until it is shut down by the caller
+      for (Map.Entry<String, Future<PreparedIssueBatch>> pendingBatch : pendingBatches) {
+        pendingBatch.getValue().cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Saves the supplied {@code preparedIssue} as external issue, using the rule type and severity of the supplied {@code ruleDefinition}
+   * stated within the InspectCode XML file.
+   *
+   * @param context
+   *     The {@link SensorContext} used to save the issue.
+   * @param inputFile
+   *     The {@link InputFile} on which the issue occurred.
+   * @param preparedIssue
+   *     The prepared issue to be saved.
+   * @param ruleDefinition
+   *     The rule definition of the issue type of the issue.
+   */
+  private void saveExternalIssue(
+      @NotNull final SensorContext context,
+      @NotNull final InputFile inputFile,
+      @NotNull final PreparedIssueBatch.PreparedIssue preparedIssue,
+      @NotNull final SonarQubeRuleDefinitionModel ruleDefinition) {
+    final NewExternalIssue newExternalIssue = context.newExternalIssue();
+    newExternalIssue
+        .engineId(ReSharperCltConfiguration.EXTERNAL_ISSUES_ENGINE_ID)
+        .ruleId(preparedIssue.ruleKey.rule())
+        .type(ruleDefinition.getSonarQubeRuleType().getRuleType())
+        .severity(org.sonar.api.batch.rule.Severity.valueOf(ruleDefinition.getSonarQubeSeverity().getSonarQubeSeverityValue()))
+        .remediationEffortMinutes(EXTERNAL_ISSUE_REMEDIATION_EFFORT_MINUTES)
+        .at(newExternalIssue.newLocation().on(inputFile).at(preparedIssue.textRange).message(preparedIssue.message))
+        .save();
+  }
+
+  /**
+   * Prepares the text ranges of all supplied {@code sonarQubeIssueModels} of a single source code file, which includes resolving the file
+   * and creating the line index of its contents. Issues which duplicate issues of other analyzers or which are contained within the
+   * baseline file are not prepared. This method is called concurrently for different files, while the issue locations are created by the
+   * sensor thread when saving the issues.
+   *
+   * @param filePath
+   *     The path of the source code file as stated within the InspectCode XML file.
+   * @param sonarQubeIssueModels
+   *     All issues of the source code file, in the order they should be saved.
+   * @param ruleKeyMap
+   *     A {@link Map} of the InspectCode issue type identifiers and the {@link RuleKey}s of the corresponding active rules.
+   * @param isOtherLanguageSkipped
+   *     Indicates whether the issues of a source code file of another language are skipped, which is the case for external issues.
+   * @param inputFileResolver
+   *     The {@link InputFileResolver} used to resolve the source code file.
+   * @param lineOffsetIndexCache
+   *     The {@link LineOffsetIndexCache} providing the {@link LineOffsetIndex} of the source code file.
+   * @param duplicateIssueIndex
+   *     The {@link DuplicateIssueIndex} used to suppress issues which duplicate issues of other analyzers.
+   * @param issueBaseline
+   *     The {@link IssueBaseline} used to suppress issues contained within the baseline file.
+   * @param baselineFingerprints
+   *     Collects the fingerprints of all prepared issues in order to update the baseline file, or {@code null} if not required.
+   * @param skippedIssueStatistics
+   *     The {@link SkippedIssueStatistics} counting the issues which have not been prepared.
+   *
+   * @return A {@link PreparedIssueBatch} containing the prepared issues, which is empty if the source code file could not be resolved.
+   */
+  @NotNull
+  private PreparedIssueBatch prepareIssueBatch(
+      @NotNull final String filePath,
+      @NotNull final List<SonarQubeIssueModel> sonarQubeIssueModels,
+      @NotNull final Map<String, RuleKey> ruleKeyMap,
+      final boolean isOtherLanguageSkipped,
+      @NotNull final InputFileResolver inputFileResolver,
+      @NotNull final LineOffsetIndexCache lineOffsetIndexCache,
+      @NotNull final DuplicateIssueIndex duplicateIssueIndex,
+      @NotNull final IssueBaseline issueBaseline,
+      @Nullable final LongArrayBuilder baselineFingerprints,
+      @NotNull final SkippedIssueStatistics skippedIssueStatistics) {
+    // Resolve the source file where the issues occurred, relative to the path where the solution file is located
+    final InputFile sourceCodeFile = inputFileResolver.resolve(filePath);
+    final PreparedIssueBatch preparedIssueBatch = new PreparedIssueBatch(filePath, sourceCodeFile, sonarQubeIssueModels.size());
+    if (sourceCodeFile == null) {
+      // Details on each skipped issue are only built if they are actually logged, since all issues of a module might be affected
+      final String reason = !this.logger.isTraceEnabled() ? null : String.format(
+          "Could not find source code file %s using the SonarQube FileSystem API.",
+          inputFileResolver.getAbsolutePath(filePath));
+      for (SonarQubeIssueModel sonarQubeIssueModel : sonarQubeIssueModels) {
+        skippedIssueStatistics.add(SkippedIssueStatistics.Reason.UNRESOLVED_FILE, sonarQubeIssueModel.getRuleKey(), filePath);
+        if (reason != null) {
+          this.logSkippedIssue(sonarQubeIssueModel, reason);
+        }
+      }
+      return preparedIssueBatch;
+    }
+
+    // External issues of all issue types are saved by the sensors of both languages, which may import the same report file of a mixed
+    // solution, hence files of other languages are left to their own sensor, since each issue must only be saved once
+    if (isOtherLanguageSkipped && !this.sensorConfiguration.languageName.equals(sourceCodeFile.language())) {
+      preparedIssueBatch.otherLanguageIssueCount = sonarQubeIssueModels.size();
+      return preparedIssueBatch;
+    }
 
-      final InputFile sourceCodeFile = fileSystem.inputFile(fileSystem.predicates().hasPath(absoluteFilePath));
-      if (sourceCodeFile == null || !sourceCodeFile.isFile()) {
-        final String reason = String.format(
-            "Could not find source code file %s using the SonarQube FileSystem API.",
-            absoluteFilePath);
-        this.logSkippedIssue(sonarQubeIssueModel, reason);
+    final String duplicateFilePathKey = duplicateIssueIndex.isEmpty() ? null : DuplicateIssueIndex.toFilePathKey(sourceCodeFile);
+    final boolean isFingerprintRequired = !issueBaseline.isEmpty() || baselineFingerprints != null;
+    final LineOffsetIndex lineOffsetIndex = isFingerprintRequired ? lineOffsetIndexCache.get(sourceCodeFile) : null;
+    for (SonarQubeIssueModel sonarQubeIssueModel : sonarQubeIssueModels) {
+      // Skip issues reported by an equivalent rule of another analyzer on the same line, e.g. unused variables reported by SonarC#
+      if (duplicateFilePathKey != null && duplicateIssueIndex.isDuplicate(
+          sonarQubeIssueModel.getRuleKey(), duplicateFilePathKey, sonarQubeIssueModel.getTextRange().start().line())) {
+        skippedIssueStatistics.add(SkippedIssueStatistics.Reason.DUPLICATE, sonarQubeIssueModel.getRuleKey(), filePath);
+        if (this.logger.isTraceEnabled()) {
+          this.logSkippedIssue(sonarQubeIssueModel, "Another analyzer reported an issue of an equivalent rule on the same line.");
+        }
+        preparedIssueBatch.suppressedIssueCount++;
         continue;
       }
 
-      // TODO: Create a better TextRange by calculating the start and end character
-      // Note: The InspectCode XML file contains the amount of characters since the start of the file as offset instead of the index within
-      //       the line, hence using sonarQubeIssueModel.getTextRange().start().lineOffset() leads to a runtime exception because there are
-      //       not enough characters within the supplied line
-      TextRange textRange = sourceCodeFile.selectLine(sonarQubeIssueModel.getTextRange().start().line());
+      if (isFingerprintRequired) {
+        // The contents of the line are hashed instead of its number, so that inserting lines above an issue does not change its fingerprint
+        final int line = sonarQubeIssueModel.getTextRange().start().line();
+        final long fingerprint = IssueBaseline.fingerprint(
+            sonarQubeIssueModel.getRuleKey(),
+            filePath,
+            lineOffsetIndex != null ? lineOffsetIndex.getLineContentHash(line) : 0,
+            String.valueOf(sonarQubeIssueModel.getMessage()));
+        if (baselineFingerprints != null) {
+          synchronized (baselineFingerprints) {
+            baselineFingerprints.add(fingerprint);
+          }
+        } else if (issueBaseline.contains(fingerprint)) {
+          skippedIssueStatistics.add(SkippedIssueStatistics.Reason.BASELINE, sonarQubeIssueModel.getRuleKey(), filePath);
+          if (this.logger.isTraceEnabled()) {
+            this.logSkippedIssue(sonarQubeIssueModel, "The issue is contained within the baseline file.");
+          }
+          preparedIssueBatch.baselineIssueCount++;
+          continue;
+        }
+      }
+
+      // Note: The InspectCode XML file contains the amount of characters since the start of the file as offset instead of the index
+      //       within the line, hence the offsets are converted using the line index of the file, falling back to the entire line
+      final TextRange textRange = this.createTextRange(sourceCodeFile, sonarQubeIssueModel, lineOffsetIndexCache);
+
+      preparedIssueBatch.add(textRange, sonarQubeIssueModel.getMessage(), ruleKeyMap.get(sonarQubeIssueModel.getRuleKey()));
+    }
+
+    return preparedIssueBatch;
+  }
+
+  /**
+   * Creates the {@link TextRange} of the supplied {@code sonarQubeIssueModel} within the supplied {@code sourceCodeFile} from the character
+   * offsets stated within the InspectCode XML file. If the offsets are invalid for the current contents of the file, or the contents could
+   * not be read, the entire line of the issue is selected instead.
+   *
+   * @param sourceCodeFile
+   *     The {@link InputFile} on which the issue occurred.
+   * @param sonarQubeIssueModel
+   *     The issue for which the {@link TextRange} is requested.
+   * @param lineOffsetIndexCache
+   *     The {@link LineOffsetIndexCache} providing the {@link LineOffsetIndex} of the supplied {@code sourceCodeFile}.
+   *
+   * @return The {@link TextRange} of the supplied {@code sonarQubeIssueModel} within the supplied {@code sourceCodeFile}.
+   */
+  @NotNull
+  private TextRange createTextRange(
+      @NotNull final InputFile sourceCodeFile,
+      @NotNull final SonarQubeIssueModel sonarQubeIssueModel,
+      @NotNull final LineOffsetIndexCache lineOffsetIndexCache) {
+    final int line = sonarQubeIssueModel.getTextRange().start().line();
+
+    final LineOffsetIndex lineOffsetIndex = lineOffsetIndexCache.get(sourceCodeFile);
+    if (lineOffsetIndex != null) {
+      final TextRange textRange = lineOffsetIndex.createTextRange(
+          sourceCodeFile,
+          sonarQubeIssueModel.getFileOffsetStart(),
+          sonarQubeIssueModel.getFileOffsetEnd(),
+          line);
+      if (textRange != null) {
+        return textRange;
+      }
+      this.logger.debug("Offsets {}-{} of an issue at line {} do not match the contents of file {}. Selecting the entire line instead.",
+          sonarQubeIssueModel.getFileOffsetStart(), sonarQubeIssueModel.getFileOffsetEnd(), line, sourceCodeFile);
+    }
+
+    return sourceCodeFile.selectLine(line);
+  }
+
+  /**
+   * Gets the Roslyn SARIF files of the language of this sensor, which are written by the compiler during the build and referenced by the
+   * language specific Roslyn SARIF file property of the {@link ReSharperCltSettings}. Files which do not exist are ignored.
+   *
+   * @param context
+   *     The {@link SensorContext} providing the file system of the current module.
+   * @param settings
+   *     The {@link ReSharperCltSettings} of the current module.
+   *
+   * @return A {@link List} of all existing Roslyn SARIF files, which is empty if the property is not set.
+   */
+  @NotNull
+  private List<File> getRoslynReportFiles(@NotNull final SensorContext context, @NotNull final ReSharperCltSettings settings) {
+    final List<File> roslynReportFiles = new ArrayList<>();
+    for (String roslynReportFilePath : settings.getLanguageSettings(this.sensorConfiguration.languageName).getRoslynReportPaths()) {
+      final File roslynReportFile = context.fileSystem().resolvePath(roslynReportFilePath);
+      if (roslynReportFile.isFile()) {
+        roslynReportFiles.add(roslynReportFile);
+      } else {
+        this.logger.debug("Ignoring Roslyn SARIF file '{}', which does not exist.", roslynReportFile.getAbsolutePath());
+      }
+    }
+    return roslynReportFiles;
+  }
+
+  /**
+   * Gets the baseline file of the language of this sensor, which is referenced by the language specific baseline property of the {@link
+   * ReSharperCltSettings}.
+   *
+   * @param context
+   *     The {@link SensorContext} providing the file system of the current module.
+   * @param settings
+   *     The {@link ReSharperCltSettings} of the current module.
+   *
+   * @return The baseline file, which might not exist yet, or {@code null} if the property is not set.
+   */
+  @Nullable
+  private File getBaselineFile(@NotNull final SensorContext context, @NotNull final ReSharperCltSettings settings) {
+    final String baselineFilePath = settings.getLanguageSettings(this.sensorConfiguration.languageName).getBaselinePath();
+    return baselineFilePath.isEmpty() ? null : context.fileSystem().resolvePath(baselineFilePath);
+  }
+
+  /**
+   * Loads the supplied {@code baselineFile}, logging a message if it does not exist or could not be read.
+   *
+   * @param baselineFile
+   *     The baseline file to load.
+   *
+   * @return The loaded {@link IssueBaseline} or {@link IssueBaseline#EMPTY} if the file does not exist or could not be read.
+   */
+  @NotNull
+  private IssueBaseline loadIssueBaseline(@NotNull final File baselineFile) {
+    if (!baselineFile.isFile()) {
+      this.logger.info("Baseline file '{}' does not exist, hence all issues are imported.", baselineFile.getAbsolutePath());
+      return IssueBaseline.EMPTY;
+    }
+
+    try {
+      return IssueBaseline.load(baselineFile, this.logger);
+    } catch (IOException ioe) {
+      this.logger.warn("Could not read baseline file " + baselineFile + ". All issues are imported.", ioe);
+      return IssueBaseline.EMPTY;
+    }
+  }
 
-      NewIssueLocation issueLocation = new DefaultIssueLocation()
-          .on(sourceCodeFile)
-          .at(textRange)
-          .message(sonarQubeIssueModel.getMessage());
+  /**
+   * Writes the supplied {@code baselineFingerprints} to the supplied {@code baselineFile}, unless the time budget has been exceeded and not
+   * all issues have been fingerprinted.
+   *
+   * @param baselineFile
+   *     The baseline file to write.
+   * @param baselineFingerprints
+   *     The fingerprints of all issues of the current analysis.
+   * @param ingestionDeadline
+   *     The {@link IngestionDeadline} of the current analysis.
+   */
+  private void writeIssueBaseline(
+      @NotNull final File baselineFile,
+      @NotNull final LongArrayBuilder baselineFingerprints,
+      @NotNull final IngestionDeadline ingestionDeadline) {
+    if (ingestionDeadline.isExpired()) {
+      this.logger.warn("The time budget has been exceeded, hence baseline file '{}' has not been updated.", baselineFile.getAbsolutePath());
+      return;
+    }
 
-      // Create a new issue within SonarQube
-      context.newIssue().at(issueLocation).forRule(ruleKeyMap.get(sonarQubeIssueModel.getRuleKey())).save();
+    final long[] fingerprints;
+    synchronized (baselineFingerprints) {
+      fingerprints = baselineFingerprints.toSortedDistinctArray();
+    }
+    try {
+      IssueBaseline.write(baselineFile, fingerprints);
+      this.logger.info("Updated baseline file '{}' with the fingerprints of {} issues.",
+          baselineFile.getAbsolutePath(), fingerprints.length);
+    } catch (IOException ioe) {
+      this.logger.error("Could not write baseline file " + baselineFile + ".", ioe);
     }
   }
 
@@ -261,10 +1273,10 @@ public abstract class BaseSensor
   }
 
   /**
-   * Logs a message that the supplied {@code sonarQubeIssueModel} has been skipped using the class-private {@link #logger}. Calls {@link
-   * #logSkippedIssue(SonarQubeIssueModel, String, LoggerLevel)} internally, supplying {@link LoggerLevel#INFO} as value, which is the
-   * least-concerning severity to include during logging by default. Levels {@link LoggerLevel#DEBUG} and {@link LoggerLevel#TRACE} can be
-   * enabled on demand with the property {@code sonar.log.level}.
+   * Logs a message that the supplied {@code sonarQubeIssueModel} has been skipped using the class-private {@link #logger} with level
+   * {@link LoggerLevel#TRACE}, which can be enabled on demand with the property {@code sonar.log.level}. Callers should check whether this
+   * level is enabled before building the {@code reason}, since the amount of skipped issues is aggregated by {@link SkippedIssueStatistics}
+   * anyway.
    *
    * @param sonarQubeIssueModel
    *     The issue that has been skipped.
@@ -272,22 +1284,10 @@ public abstract class BaseSensor
    *     The reason why this issue has been skipped. Might be {@code null} if no reason should be logged.
    */
   private void logSkippedIssue(@NotNull final SonarQubeIssueModel sonarQubeIssueModel, @Nullable String reason) {
-    this.logSkippedIssue(sonarQubeIssueModel, reason, LoggerLevel.INFO);
-  }
+    if (!this.logger.isTraceEnabled()) {
+      return;
+    }
 
-  /**
-   * Logs a message that the supplied {@code sonarQubeIssueModel} has been skipped using the class-private {@link #logger} and the supplied
-   * {@code logLevel}.
-   *
-   * @param sonarQubeIssueModel
-   *     The issue that has been skipped.
-   * @param reason
-   *     The reason why this issue has been skipped. Might be {@code null} if no reason should be logged.
-   * @param logLevel
-   *     Indicates the severity of the log entry which is used during logging.
-   */
-  private void logSkippedIssue(@NotNull final SonarQubeIssueModel sonarQubeIssueModel, @Nullable String reason,
-                               @NotNull final LoggerLevel logLevel) {
     // Sanitize the supplied reason
     reason = reason != null ? reason.trim() : "";
 
@@ -314,28 +1314,7 @@ public abstract class BaseSensor
       }
     }
 
-    // Log the message using the supplied log level
-    //noinspection ConstantConditions
-    switch (logLevel == null ? LoggerLevel.INFO : logLevel) {
-      case TRACE:
-        this.logger.trace(sb.toString());
-        break;
-      case DEBUG:
-        this.logger.debug(sb.toString());
-        break;
-      case INFO:
-        this.logger.info(sb.toString());
-        break;
-      case WARN:
-        this.logger.warn(sb.toString());
-        break;
-      case ERROR:
-        this.logger.error(sb.toString());
-        break;
-      default:
-        this.logger.info(sb.toString());
-        break;
-    }
+    this.logger.trace(sb.toString());
   }
 
   /**
@@ -350,6 +1329,16 @@ public abstract class BaseSensor
    * @param projectNamePredicate
    *     If set to {@code null}, all issues for all projects contained within the supplied InspectCode XML file are parsed. Otherwise, only
    *     issues for projects where the name matches the supplied {@link Predicate} will be parsed and returned by this method.
+   * @param filePathPredicate
+   *     If set to {@code null}, issues of all source code files are parsed. Otherwise, only issues where the file path stated within the
+   *     InspectCode XML file matches the supplied {@link Predicate} will be parsed and returned by this method.
+   * @param issueCounter
+   *     If set to {@code null}, issues are parsed. Otherwise, issues are only counted by the supplied {@link BiConsumer}, which receives
+   *     the issue type identifier and file path of each issue, while the returned results do not contain any issue.
+   * @param cancellationCheck
+   *     A {@link BooleanSupplier} evaluated periodically during parsing, which cancels parsing as soon as it returns {@code true}.
+   * @param sensorMetrics
+   *     The {@link SensorMetrics} recording the time spent opening, parsing and converting the XML report file.
    *
    * @return An instance of the {@link SonarQubeSensorXmlParserResults} class, containing a {@link Collection} of all issues parsed from the
    *     supplied {@code inspectCodeXmlReportFile} where the project name matches the supplied {@code projectNamePredicate} and another
@@ -359,7 +1348,11 @@ public abstract class BaseSensor
   @Nullable
   private SonarQubeSensorXmlParserResults parseInspectCodeXmlReportFile(
       @NotNull final File inspectCodeXmlReportFile,
-      @Nullable Predicate<String> projectNamePredicate) {
+      @Nullable Predicate<String> projectNamePredicate,
+      @Nullable final Predicate<String> filePathPredicate,
+      @Nullable final BiConsumer<String, String> issueCounter,
+      @NotNull final BooleanSupplier cancellationCheck,
+      @NotNull final SensorMetrics sensorMetrics) {
 
     // Sanitize the supplied predicate, so it is never null
     projectNamePredicate = projectNamePredicate != null ? projectNamePredicate : x -> !x.isEmpty();
@@ -377,29 +1370,97 @@ public abstract class BaseSensor
             InspectCodePredicates.isValidLineNumber()),
         Arrays.asList(
             ObjectPredicates.isNotNullPredicate(),
-            projectNamePredicate));
+            projectNamePredicate),
+        filePathPredicate != null ? Collections.singletonList(filePathPredicate) : null);
+    xmlFileParser.setCancellationCheck(cancellationCheck);
+    xmlFileParser.setIssueCounter(issueCounter);
 
     // Use 'try-with-resource' to automatically close the input stream on error or finish
+    SensorMetrics.PhaseTimer phaseTimer = sensorMetrics.start(SensorMetrics.Phase.OPEN);
     try (FileInputStream reportFileInputStream = new FileInputStream(inspectCodeXmlReportFile)) {
+      sensorMetrics.reportBytesRead.addAndGet(inspectCodeXmlReportFile.length());
       try {
         // Parse the input stream using the xmlFileParser created above which will store the results
         final SAXParser saxParser = SAXParserFactory.newInstance().newSAXParser();
+        phaseTimer.stop();
+        phaseTimer = sensorMetrics.start(SensorMetrics.Phase.PARSE);
         saxParser.parse(reportFileInputStream, xmlFileParser);
+      } catch (XmlParsingCancelledException cancelledException) {
+        // Logging is done by the caller, which is aware of the reason of the cancellation
+        this.logger.debug(cancelledException.getMessage());
+        return null;
       } catch (ParserConfigurationException | SAXException | IOException exception) {
         this.logger.error(
             "An exception occurred while trying to parse the data stream of the report XML file " + inspectCodeXmlReportFile + ".",
             exception);
+      } finally {
+        phaseTimer.stop();
       }
     } catch (IOException ioe) {
+      phaseTimer.stop();
       this.logger.error("Could not open file " + inspectCodeXmlReportFile + " for parsing.", ioe);
       return null;
     }
 
-    // Return a new instance of the resulting class which contains the items parsed from the InspectCode XML report file
-    return new SonarQubeSensorXmlParserResults(
-        xmlFileParser.getIssues(),
-        xmlFileParser.getRuleDefinitions()
-    );
+    // Return a new instance of the resulting class which contains the items parsed from the InspectCode XML report file, where the parsed
+    // InspectCode models are converted to SonarQube models on retrieval
+    final SensorMetrics.PhaseTimer convertTimer = sensorMetrics.start(SensorMetrics.Phase.CONVERT);
+    try {
+      return new SonarQubeSensorXmlParserResults(
+          xmlFileParser.getIssues(),
+          xmlFileParser.getRuleDefinitions(),
+          xmlFileParser.getToolsVersion()
+      );
+    } finally {
+      convertTimer.stop();
+    }
+  }
+
+  /** A private class containing the results of parsing the report file of a single solution. */
+  private static final class ParsedSolutionReport {
+
+    /** The solution file and the XML report file that has been parsed. */
+    @NotNull
+    final SolutionReport solutionReport;
+
+    /** The results of parsing the XML report file, which are {@code null} if parsing has been cancelled or failed. */
+    @Nullable
+    final SonarQubeSensorXmlParserResults parserResults;
+
+    /** The {@link IssueMeasureCounter} which counted the issues while parsing, if only measures should be saved. */
+    @Nullable
+    final IssueMeasureCounter issueMeasureCounter;
+
+    /**
+     * Creates a new instance of the {@link ParsedSolutionReport} class.
+     *
+     * @param solutionReport
+     *     The solution file and the XML report file that has been parsed.
+     * @param parserResults
+     *     The results of parsing the XML report file, which are {@code null} if parsing has been cancelled or failed.
+     * @param issueMeasureCounter
+     *     The {@link IssueMeasureCounter} which counted the issues while parsing, if only measures should be saved.
+     */
+    ParsedSolutionReport(
+        @NotNull final SolutionReport solutionReport,
+        @Nullable final SonarQubeSensorXmlParserResults parserResults,
+        @Nullable final IssueMeasureCounter issueMeasureCounter) {
+      this.solutionReport = solutionReport;
+      this.parserResults = parserResults;
+      this.issueMeasureCounter = issueMeasureCounter;
+    }
+
+    /**
+     * Checks whether the XML report file contains any issue of the current project.
+     *
+     * @return {@code true} if any issue has been parsed or counted, otherwise {@code false}.
+     */
+    boolean hasIssues() {
+      if (this.parserResults == null) {
+        return false;
+      }
+      return !this.parserResults.parsedIssues.isEmpty() || this.issueMeasureCounter != null && this.issueMeasureCounter.getIssueCount() > 0;
+    }
   }
 
   /**
@@ -420,6 +1481,12 @@ public abstract class BaseSensor
     /** The property identifier used to retrieve the path to the InspectCode report file from the SonarQube {@link Configuration}. */
     final String propertyIdentifierReportFilePath;
 
+    /**
+     * The property identifier used to retrieve the solution files and the paths to the InspectCode report files created for them from the
+     * SonarQube {@link Configuration}.
+     */
+    final String propertyIdentifierSolutionReportFilePaths;
+
     /**
      * Creates a new instance of the {@link SensorConfiguration} class with the supplied arguments. All supplied {@link String} arguments
      * will be trimmed before stored internally.
@@ -434,16 +1501,21 @@ public abstract class BaseSensor
      * @param propertyIdentifierReportFilePath
      *     The property identifier used to retrieve the path to the {@code InspectCode} report file from the SonarQube {@link
      *     Configuration}.
+     * @param propertyIdentifierSolutionReportFilePaths
+     *     The property identifier used to retrieve the solution files and the paths to the {@code InspectCode} report files created for
+     *     them from the SonarQube {@link Configuration}.
      */
     SensorConfiguration(
         @NotNull final String sensorDescription,
         @NotNull final String languageName,
         @NotNull final String repositoryKey,
-        @NotNull final String propertyIdentifierReportFilePath) {
+        @NotNull final String propertyIdentifierReportFilePath,
+        @NotNull final String propertyIdentifierSolutionReportFilePaths) {
       this.sensorDescription = sensorDescription.trim();
       this.languageName = languageName.trim();
       this.repositoryKey = repositoryKey.trim();
       this.propertyIdentifierReportFilePath = propertyIdentifierReportFilePath.trim();
+      this.propertyIdentifierSolutionReportFilePaths = propertyIdentifierSolutionReportFilePaths.trim();
     }
   }
 }
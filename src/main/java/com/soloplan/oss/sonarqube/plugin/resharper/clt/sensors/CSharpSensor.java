@@ -35,7 +35,8 @@ public class CSharpSensor
             "ReSharper Command line tools (InspectCode) C# Sensor",
             CSharpLanguage.LANGUAGE_NAME,
             ReSharperCltConfiguration.RULES_REPOSITORY_CSHARP_KEY,
-            ReSharperCltConfiguration.PROPERTY_KEY_CS_REPORT_PATH
+            ReSharperCltConfiguration.PROPERTY_KEY_CS_REPORT_PATH,
+            ReSharperCltConfiguration.PROPERTY_KEY_CS_SOLUTION_REPORT_PATHS
         ));
   }
 }
@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.sonar.api.batch.fs.FileSystem;
+import org.sonar.api.batch.fs.InputFile;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Package visible class used internally to filter the issues of an InspectCode XML report file by the path of their source code file while
+ * parsing, so that only issues on added or changed files are kept during pull request analyses. SonarQube only displays issues on changed
+ * files for pull requests, hence issues on unchanged files can be dropped before any model is created or any file is resolved. The file
+ * paths are expected to be relative to the base directory supplied to the constructor, as stated within the report file. This class is not
+ * thread-safe and meant to be used by a single parser.
+ */
+class ChangedFilesPathPredicate
+    implements Predicate<String> {
+
+  /** Contains the normalized absolute paths of all {@link InputFile}s whose status is not {@link InputFile.Status#SAME}. */
+  @NotNull
+  private final Set<String> changedFilePaths = new HashSet<>();
+
+  /** Contains the normalized, lower case absolute paths of all changed {@link InputFile}s, used if paths differ in case only. */
+  @NotNull
+  private final Set<String> changedFileLowerCasePaths = new HashSet<>();
+
+  /** Caches the result of {@link #test(String)} for each file path stated within the report file. */
+  @NotNull
+  private final Map<String, Boolean> resultsByFilePath = new HashMap<>(256);
+
+  /** The normalized absolute path of the directory to which the report file paths are relative, always ending with a {@code /}. */
+  @NotNull
+  private final String normalizedBaseDirectory;
+
+  /** The amount of issues rejected by this predicate, since their source code file has not changed. */
+  private long rejectedCount = 0;
+
+  /**
+   * Creates a new instance of the {@link ChangedFilesPathPredicate} class, collecting all added or changed {@link InputFile}s of the
+   * supplied {@code fileSystem}.
+   *
+   * @param fileSystem
+   *     The SonarQube {@link FileSystem} providing the status of all {@link InputFile}s of the current module.
+   * @param baseDirectory
+   *     The absolute path of the directory to which the file paths passed to {@link #test(String)} are relative, i.e. the directory of the
+   *     solution file inspected by the InspectCode command line tool.
+   */
+  ChangedFilesPathPredicate(@NotNull final FileSystem fileSystem, @NotNull final String baseDirectory) {
+    this.normalizedBaseDirectory = InputFileResolver.normalizePath(baseDirectory) + "/";
+
+    // Files without a status are considered changed, since it is unknown whether SonarQube displays their issues
+    for (InputFile inputFile : fileSystem.inputFiles(fileSystem.predicates().all())) {
+      if (inputFile.status() == InputFile.Status.SAME) {
+        continue;
+      }
+      final String normalizedPath = InputFileResolver.normalizePath(Paths.get(inputFile.uri()).toAbsolutePath().toString());
+      this.changedFilePaths.add(normalizedPath);
+      this.changedFileLowerCasePaths.add(normalizedPath.toLowerCase(Locale.ROOT));
+    }
+  }
+
+  /**
+   * Tests whether the source code file referenced by the supplied {@code relativeFilePath} has been added or changed.
+   *
+   * @param relativeFilePath
+   *     The path of a source code file relative to the base directory supplied to the constructor, as stated within the XML report file.
+   *
+   * @return {@code true} if the referenced source code file has been added or changed, otherwise {@code false}.
+   */
+  @Override
+  public boolean test(@NotNull final String relativeFilePath) {
+    final boolean isChanged = this.resultsByFilePath.computeIfAbsent(relativeFilePath, this::isChangedFile);
+    if (!isChanged) {
+      this.rejectedCount++;
+    }
+    return isChanged;
+  }
+
+  /**
+   * Checks whether the supplied {@code relativeFilePath} references an added or changed {@link InputFile}.
+   *
+   * @param relativeFilePath
+   *     The path of a source code file relative to the base directory supplied to the constructor.
+   *
+   * @return {@code true} if the referenced source code file has been added or changed, otherwise {@code false}.
+   */
+  private boolean isChangedFile(@NotNull final String relativeFilePath) {
+    final String normalizedPath = InputFileResolver.normalizePath(this.normalizedBaseDirectory + relativeFilePath);
+    return this.changedFilePaths.contains(normalizedPath)
+        || this.changedFileLowerCasePaths.contains(normalizedPath.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Gets the amount of added or changed {@link InputFile}s.
+   *
+   * @return The amount of added or changed {@link InputFile}s.
+   */
+  int getChangedFileCount() {
+    return this.changedFilePaths.size();
+  }
+
+  /**
+   * Gets the amount of issues rejected by this predicate, since their source code file has not changed.
+   *
+   * @return The amount of rejected issues.
+   */
+  long getRejectedCount() {
+    return this.rejectedCount;
+  }
+
+  @Override
+  public String toString() {
+    return "ChangedFilesPathPredicate{" +
+        "normalizedBaseDirectory='" + normalizedBaseDirectory + '\'' +
+        ", changedFilePaths[" + changedFilePaths.size() + "]" +
+        ", resultsByFilePath[" + resultsByFilePath.size() + "]" +
+        ", rejectedCount=" + rejectedCount +
+        '}';
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.utils.log.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Package visible class used internally to detect InspectCode issues which duplicate issues of other analyzers, e.g. SonarC#, SonarVB or
+ * the Roslyn compiler. An equivalence table maps InspectCode issue type identifiers to the rule identifiers of other analyzers, while the
+ * locations of the issues of those rules are read from the Roslyn SARIF files. Only results of rules contained within the equivalence table
+ * are indexed, each as a single {@code long} value of the rule index and the line within a sorted array per file, so that the index stays
+ * small and can be queried concurrently without locking once it has been created.
+ */
+final class DuplicateIssueIndex {
+
+  /** An empty {@link DuplicateIssueIndex}, which does not report any duplicate. */
+  static final DuplicateIssueIndex EMPTY = new DuplicateIssueIndex(Collections.emptyMap(), Collections.emptyMap());
+
+  /** Maps each InspectCode issue type identifier to the indices of its equivalent rules of other analyzers. */
+  @NotNull
+  private final Map<String, int[]> equivalentRuleIndicesByIssueType;
+
+  /** Maps the file path key of each file to the sorted, distinct locations of all indexed results within the file. */
+  @NotNull
+  private final Map<String, long[]> locationsByFilePathKey;
+
+  /**
+   * Creates a new instance of the {@link DuplicateIssueIndex} class.
+   *
+   * @param equivalentRuleIndicesByIssueType
+   *     Maps each InspectCode issue type identifier to the indices of its equivalent rules of other analyzers.
+   * @param locationsByFilePathKey
+   *     Maps the file path key of each file to the sorted, distinct locations of all indexed results within the file.
+   */
+  private DuplicateIssueIndex(
+      @NotNull final Map<String, int[]> equivalentRuleIndicesByIssueType,
+      @NotNull final Map<String, long[]> locationsByFilePathKey) {
+    this.equivalentRuleIndicesByIssueType = equivalentRuleIndicesByIssueType;
+    this.locationsByFilePathKey = locationsByFilePathKey;
+  }
+
+  /**
+   * Creates a new {@link DuplicateIssueIndex} from the supplied equivalence table and SARIF files. Invalid entries of the equivalence table
+   * and SARIF files which could not be read are logged and ignored.
+   *
+   * @param equivalenceEntries
+   *     The entries of the equivalence table, each in the form {@code IssueTypeId=RuleKey|RuleKey}. Rule keys might be prefixed by the key
+   *     of their repository (e.g. {@code csharpsquid:S1144}), which is ignored.
+   * @param sarifFiles
+   *     The Roslyn SARIF files containing the issues of other analyzers.
+   * @param logger
+   *     The {@link Logger} used to log invalid entries, unreadable files and the size of the index.
+   *
+   * @return A new {@link DuplicateIssueIndex}, or {@link #EMPTY} if either no equivalence or no SARIF file has been supplied.
+   */
+  @NotNull
+  static DuplicateIssueIndex create(
+      @NotNull final String[] equivalenceEntries,
+      @NotNull final Collection<File> sarifFiles,
+      @NotNull final Logger logger) {
+    if (equivalenceEntries.length == 0 || sarifFiles.isEmpty()) {
+      return EMPTY;
+    }
+
+    // Assign an index to each rule of other analyzers, so that a location can be stored as a single primitive value
+    final Map<String, Integer> ruleIndicesByRuleId = new HashMap<>();
+    final Map<String, int[]> equivalentRuleIndicesByIssueType = new HashMap<>();
+    for (String equivalenceEntry : equivalenceEntries) {
+      final int separatorIndex = equivalenceEntry.indexOf('=');
+      final String issueTypeId = separatorIndex > 0 ? equivalenceEntry.substring(0, separatorIndex).trim() : "";
+      final int[] ruleIndices = Arrays.stream(equivalenceEntry.substring(separatorIndex + 1).split("\\|"))
+          .map(ruleKey -> ruleKey.substring(ruleKey.lastIndexOf(':') + 1).trim())
+          .filter(ruleId -> !ruleId.isEmpty())
+          .mapToInt(ruleId -> ruleIndicesByRuleId.computeIfAbsent(ruleId, key -> ruleIndicesByRuleId.size()))
+          .distinct()
+          .toArray();
+      if (issueTypeId.isEmpty() || ruleIndices.length == 0) {
+        logger.warn("Ignoring invalid entry '{}' of equivalent rules, which must have the form 'IssueTypeId=RuleKey|RuleKey'.",
+            equivalenceEntry);
+        continue;
+      }
+      equivalentRuleIndicesByIssueType.put(issueTypeId, ruleIndices);
+    }
+
+    if (equivalentRuleIndicesByIssueType.isEmpty()) {
+      return EMPTY;
+    }
+
+    // Collect the locations of the results of equivalent rules only, all other results are not relevant
+    final Map<String, LongArrayBuilder> locationBuildersByFilePathKey = new HashMap<>(256);
+    int resultCount = 0;
+    for (File sarifFile : sarifFiles) {
+      try {
+        resultCount += SarifResultReader.read(sarifFile, (ruleId, uri, line) -> {
+          final Integer ruleIndex = ruleIndicesByRuleId.get(ruleId);
+          final String filePathKey = ruleIndex != null ? toFilePathKey(uri) : null;
+          if (filePathKey != null) {
+            locationBuildersByFilePathKey.computeIfAbsent(filePathKey, key -> new LongArrayBuilder(8))
+                .add(toLocation(ruleIndex, line));
+          }
+        });
+      } catch (IOException | RuntimeException exception) {
+        logger.warn("Could not read the issues of other analyzers from SARIF file " + sarifFile + ".", exception);
+      }
+    }
+
+    final Map<String, long[]> locationsByFilePathKey = new HashMap<>(locationBuildersByFilePathKey.size() * 4 / 3 + 1);
+    long locationCount = 0;
+    for (Map.Entry<String, LongArrayBuilder> locationBuilderEntry : locationBuildersByFilePathKey.entrySet()) {
+      final long[] locations = locationBuilderEntry.getValue().toSortedDistinctArray();
+      locationsByFilePathKey.put(locationBuilderEntry.getKey(), locations);
+      locationCount += locations.length;
+    }
+
+    logger.info("Indexed {} of {} issues of other analyzers on {} files from {} SARIF files to suppress duplicate issues.",
+        locationCount, resultCount, locationsByFilePathKey.size(), sarifFiles.size());
+    return new DuplicateIssueIndex(equivalentRuleIndicesByIssueType, locationsByFilePathKey);
+  }
+
+  /**
+   * Indicates whether this index is empty, i.e. {@link #isDuplicate(String, String, int)} always returns {@code false}.
+   *
+   * @return {@code true} if no location has been indexed, otherwise {@code false}.
+   */
+  boolean isEmpty() {
+    return this.locationsByFilePathKey.isEmpty();
+  }
+
+  /**
+   * Indicates whether another analyzer reported an issue of a rule equivalent to the supplied InspectCode issue type on the same file and
+   * line. This method is safe to be called by multiple threads.
+   *
+   * @param issueTypeId
+   *     The identifier of the InspectCode issue type.
+   * @param filePathKey
+   *     The key of the source code file of the issue, as returned by {@link #toFilePathKey(InputFile)}.
+   * @param line
+   *     The one-based line of the issue.
+   *
+   * @return {@code true} if the issue duplicates an issue of another analyzer, otherwise {@code false}.
+   */
+  boolean isDuplicate(@NotNull final String issueTypeId, @NotNull final String filePathKey, final int line) {
+    final int[] equivalentRuleIndices = this.equivalentRuleIndicesByIssueType.get(issueTypeId);
+    if (equivalentRuleIndices == null) {
+      return false;
+    }
+    final long[] locations = this.locationsByFilePathKey.get(filePathKey);
+    if (locations == null) {
+      return false;
+    }
+
+    for (int ruleIndex : equivalentRuleIndices) {
+      if (Arrays.binarySearch(locations, toLocation(ruleIndex, line)) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the key of the supplied {@code inputFile} used to look up the locations of the issues of other analyzers.
+   *
+   * @param inputFile
+   *     The {@link InputFile} for which the key is requested.
+   *
+   * @return The normalized, lower case absolute path of the supplied {@code inputFile}.
+   */
+  @NotNull
+  static String toFilePathKey(@NotNull final InputFile inputFile) {
+    return InputFileResolver.normalizePath(Paths.get(inputFile.uri()).toAbsolutePath().toString()).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Gets the key of the file referenced by the supplied URI or path of a SARIF file, which is either a {@code file:} URI or an absolute
+   * path.
+   *
+   * @param uri
+   *     The URI or path of the file as stated within a SARIF file.
+   *
+   * @return The normalized, lower case absolute path of the referenced file or {@code null} if the supplied {@code uri} is invalid.
+   */
+  @Nullable
+  private static String toFilePathKey(@NotNull final String uri) {
+    String path = uri;
+    if (uri.regionMatches(true, 0, "file:", 0, 5)) {
+      try {
+        path = URI.create(uri).getPath();
+      } catch (IllegalArgumentException iae) {
+        return null;
+      }
+      if (path == null) {
+        return null;
+      }
+      // The path of a URI of a Windows file starts with a slash in front of the drive letter, e.g. '/C:/Source/File.cs'
+      if (path.length() > 2 && path.charAt(0) == '/' && path.charAt(2) == ':') {
+        path = path.substring(1);
+      }
+    }
+    return InputFileResolver.normalizePath(path).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Combines the supplied rule index and line to a single location value, which is ordered by the rule index first.
+   *
+   * @param ruleIndex
+   *     The index of the rule of other analyzers.
+   * @param line
+   *     The one-based line of the issue.
+   *
+   * @return A single value containing both the supplied rule index and line.
+   */
+  private static long toLocation(final int ruleIndex, final int line) {
+    return ((long) ruleIndex << 32) | (line & 0xFFFFFFFFL);
+  }
+
+  @Override
+  public String toString() {
+    return "DuplicateIssueIndex{" +
+        "equivalentRuleIndicesByIssueType[" + equivalentRuleIndicesByIssueType.size() + "]" +
+        ", locationsByFilePathKey[" + locationsByFilePathKey.size() + "]" +
+        '}';
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Package visible class used internally to limit the time spent on importing the issues of an InspectCode XML report file. Long running
+ * operations check {@link #isExpired()} cooperatively and stop cleanly once the deadline has passed. Instances of this class are safe to be
+ * used by multiple threads.
+ */
+final class IngestionDeadline
+    implements BooleanSupplier {
+
+  /** The value of {@link System#nanoTime()} at which the deadline expires, only valid if {@link #isLimited} is {@code true}. */
+  private final long deadlineNanos;
+
+  /** Indicates whether the deadline is limited at all. */
+  private final boolean isLimited;
+
+  /** The time budget in seconds supplied to the constructor. */
+  private final long timeBudgetSeconds;
+
+  /** Indicates whether the deadline has been observed to be expired, so that it is not reset by a wrap-around of the nano time. */
+  private volatile boolean isExpired = false;
+
+  /**
+   * Creates a new instance of the {@link IngestionDeadline} class, which expires after the supplied amount of seconds from now.
+   *
+   * @param timeBudgetSeconds
+   *     The amount of seconds after which the deadline expires. A value of {@code 0} or less creates a deadline that never expires.
+   */
+  IngestionDeadline(final long timeBudgetSeconds) {
+    this.timeBudgetSeconds = timeBudgetSeconds;
+    this.isLimited = timeBudgetSeconds > 0;
+    this.deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(0L, timeBudgetSeconds));
+  }
+
+  /**
+   * Checks whether the deadline has passed.
+   *
+   * @return {@code true} if the deadline has passed, otherwise {@code false}.
+   */
+  boolean isExpired() {
+    if (this.isExpired) {
+      return true;
+    }
+    if (this.isLimited && System.nanoTime() - this.deadlineNanos >= 0) {
+      this.isExpired = true;
+    }
+    return this.isExpired;
+  }
+
+  /**
+   * Gets the time budget in seconds supplied to the constructor.
+   *
+   * @return The time budget in seconds, where {@code 0} or less indicates an unlimited time budget.
+   */
+  long getTimeBudgetSeconds() {
+    return this.timeBudgetSeconds;
+  }
+
+  /**
+   * Same as {@link #isExpired()}, which allows passing the deadline as cancellation check to classes outside of this package.
+   *
+   * @return {@code true} if the deadline has passed, otherwise {@code false}.
+   */
+  @Override
+  public boolean getAsBoolean() {
+    return this.isExpired();
+  }
+
+  @Override
+  public String toString() {
+    return "IngestionDeadline{" +
+        "timeBudgetSeconds=" + timeBudgetSeconds +
+        ", isExpired=" + isExpired +
+        '}';
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.batch.fs.FileSystem;
+import org.sonar.api.batch.fs.InputFile;
+
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Package visible class used internally to resolve the file paths stated within the XML report file generated by the InspectCode command
+ * line tool to {@link InputFile}s known to the SonarQube {@link FileSystem}. All input files are indexed once by their normalized absolute
+ * path, so that resolving a path does not require a {@link FileSystem} predicate query per issue. Results are cached per path supplied to
+ * {@link #resolve(String)}, including paths that could not be resolved (e.g. files outside of the current module). Instances of this class
+ * are safe to be used by multiple threads.
+ */
+class InputFileResolver {
+
+  /** Maps the normalized absolute path of each {@link InputFile} of the {@link FileSystem} to the corresponding {@link InputFile}. */
+  @NotNull
+  private final Map<String, InputFile> inputFilesByPath;
+
+  /**
+   * Maps the normalized, lower case absolute path of each {@link InputFile} to the corresponding {@link InputFile}, which is used as
+   * fallback if the report file and the file system differ in case only (i.e. the analysis is executed on a Windows machine).
+   */
+  @NotNull
+  private final Map<String, InputFile> inputFilesByLowerCasePath;
+
+  /**
+   * Caches the result of {@link #resolve(String)} for each supplied report file path. Values are {@link Optional#empty()} if a path could
+   * not be resolved.
+   */
+  @NotNull
+  private final Map<String, Optional<InputFile>> resolvedFilesCache = new ConcurrentHashMap<>(256);
+
+  /** The amount of calls of {@link #resolve(String)}. */
+  @NotNull
+  private final LongAdder resolveCount = new LongAdder();
+
+  /** The amount of calls of {@link #resolve(String)} which required looking up a path that was not cached yet. */
+  @NotNull
+  private final LongAdder lookUpCount = new LongAdder();
+
+  /** The normalized absolute path of the directory to which the report file paths are relative, always ending with a {@code /}. */
+  @NotNull
+  private final String normalizedBaseDirectory;
+
+  /**
+   * Creates a new instance of the {@link InputFileResolver} class, indexing all {@link InputFile}s of the supplied {@code fileSystem}.
+   *
+   * @param fileSystem
+   *     The SonarQube {@link FileSystem} providing all {@link InputFile}s of the current module.
+   * @param baseDirectory
+   *     The absolute path of the directory to which the file paths passed to {@link #resolve(String)} are relative, i.e. the directory of
+   *     the solution file inspected by the InspectCode command line tool.
+   */
+  InputFileResolver(@NotNull final FileSystem fileSystem, @NotNull final String baseDirectory) {
+    this.normalizedBaseDirectory = normalizePath(baseDirectory) + "/";
+    this.inputFilesByPath = new HashMap<>(1024);
+    this.inputFilesByLowerCasePath = new HashMap<>(1024);
+
+    // Index all input files of the file system once, keeping the first input file for colliding lower case paths
+    for (InputFile inputFile : fileSystem.inputFiles(fileSystem.predicates().all())) {
+      final String normalizedPath = normalizePath(Paths.get(inputFile.uri()).toAbsolutePath().toString());
+      this.inputFilesByPath.put(normalizedPath, inputFile);
+      this.inputFilesByLowerCasePath.putIfAbsent(normalizedPath.toLowerCase(Locale.ROOT), inputFile);
+    }
+  }
+
+  /**
+   * Resolves the supplied {@code relativeFilePath} to the corresponding {@link InputFile} of the SonarQube {@link FileSystem}.
+   *
+   * @param relativeFilePath
+   *     The path of a source code file relative to the base directory supplied to the constructor, as stated within the XML report file
+   *     generated by the InspectCode command line tool. Might contain backslashes as separators and {@code .} or {@code ..} segments.
+   *
+   * @return The {@link InputFile} referenced by the supplied {@code relativeFilePath} or {@code null} if the path does not reference any
+   *     {@link InputFile} of the current module.
+   */
+  @Nullable
+  InputFile resolve(@NotNull final String relativeFilePath) {
+    // Return cached results (including empty values for unresolvable paths) without normalizing the path again
+    this.resolveCount.increment();
+    return this.resolvedFilesCache.computeIfAbsent(relativeFilePath, this::lookUp).orElse(null);
+  }
+
+  /**
+   * Looks up the {@link InputFile} referenced by the supplied {@code relativeFilePath} within the index of all input files.
+   *
+   * @param relativeFilePath
+   *     The path of a source code file relative to the base directory supplied to the constructor.
+   *
+   * @return The {@link InputFile} referenced by the supplied {@code relativeFilePath} or {@link Optional#empty()} if the path does not
+   *     reference any {@link InputFile} of the current module.
+   */
+  @NotNull
+  private Optional<InputFile> lookUp(@NotNull final String relativeFilePath) {
+    this.lookUpCount.increment();
+    final String normalizedPath = normalizePath(this.normalizedBaseDirectory + relativeFilePath);
+    InputFile inputFile = this.inputFilesByPath.get(normalizedPath);
+    if (inputFile == null) {
+      inputFile = this.inputFilesByLowerCasePath.get(normalizedPath.toLowerCase(Locale.ROOT));
+    }
+    if (inputFile != null && !inputFile.isFile()) {
+      inputFile = null;
+    }
+
+    return Optional.ofNullable(inputFile);
+  }
+
+  /**
+   * Gets the amount of calls of {@link #resolve(String)} which have been answered from the cache of resolved paths.
+   *
+   * @return The amount of cache hits of {@link #resolve(String)}.
+   */
+  long getHitCount() {
+    return Math.max(0L, this.resolveCount.sum() - this.lookUpCount.sum());
+  }
+
+  /**
+   * Gets the amount of calls of {@link #resolve(String)} which required looking up a path that was not cached yet.
+   *
+   * @return The amount of cache misses of {@link #resolve(String)}.
+   */
+  long getMissCount() {
+    return this.lookUpCount.sum();
+  }
+
+  /**
+   * Gets the normalized absolute path of the supplied {@code relativeFilePath}, as used internally to look up the {@link InputFile}.
+   *
+   * @param relativeFilePath
+   *     The path of a source code file relative to the base directory supplied to the constructor.
+   *
+   * @return The normalized absolute path of the supplied {@code relativeFilePath}, which is useful for log messages.
+   */
+  @NotNull
+  String getAbsolutePath(@NotNull final String relativeFilePath) {
+    return normalizePath(this.normalizedBaseDirectory + relativeFilePath);
+  }
+
+  /**
+   * Normalizes the supplied {@code path} independently of the operating system: backslashes are replaced by slashes, duplicate separators
+   * and {@code .} segments are removed and {@code ..} segments are resolved against their preceding segment. A leading separator is kept.
+   *
+   * @param path
+   *     The path to normalize.
+   *
+   * @return The normalized {@code path} using slashes as separators and without a trailing separator.
+   */
+  @NotNull
+  static String normalizePath(@NotNull final String path) {
+    final String unifiedPath = path.trim().replace('\\', '/');
+    final Deque<String> segments = new ArrayDeque<>();
+
+    for (String segment : unifiedPath.split("/")) {
+      if (segment.isEmpty() || ".".equals(segment)) {
+        continue;
+      }
+      if ("..".equals(segment)) {
+        // Never remove the drive letter or the root of the path
+        if (!segments.isEmpty() && !segments.peekLast().endsWith(":")) {
+          segments.removeLast();
+        }
+        continue;
+      }
+      segments.addLast(segment);
+    }
+
+    final StringBuilder sb = new StringBuilder(unifiedPath.length());
+    if (unifiedPath.startsWith("/")) {
+      sb.append('/');
+    }
+    sb.append(String.join("/", segments));
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "InputFileResolver{" +
+        "normalizedBaseDirectory='" + normalizedBaseDirectory + '\'' +
+        ", inputFilesByPath[" + inputFilesByPath.size() + "]" +
+        ", resolvedFilesCache[" + resolvedFilesCache.size() + "]" +
+        '}';
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.sonar.api.utils.log.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Package visible class used internally to suppress issues contained within a baseline file, which has been written during a previous
+ * analysis, so that only new issues are imported for solutions with many accepted legacy issues. Each issue is identified by a 64 bit
+ * fingerprint of its rule, the normalized path of its file, a hash of the contents of its line and a hash of its message, which does not
+ * change if lines are inserted above the issue. The fingerprints are stored as sorted array and guarded by a Bloom filter, so that most new
+ * issues are rejected without a binary search. Instances of this class are immutable and safe to be used by multiple threads.
+ */
+final class IssueBaseline {
+
+  /** The first line of each baseline file, which identifies the format of the file. */
+  private static final String FILE_HEADER = "# ReSharper CLT issue baseline v1";
+
+  /** An empty {@link IssueBaseline}, which does not contain any issue. */
+  static final IssueBaseline EMPTY = new IssueBaseline(new long[0]);
+
+  /** The amount of bits of the Bloom filter per fingerprint, which results in a false positive rate of about one percent. */
+  private static final int BLOOM_FILTER_BITS_PER_FINGERPRINT = 10;
+
+  /** The amount of bits of the Bloom filter set per fingerprint. */
+  private static final int BLOOM_FILTER_HASH_COUNT = 7;
+
+  /** The offset basis of the 64 bit FNV-1a hash function. */
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  /** The prime of the 64 bit FNV-1a hash function. */
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /** The sorted, distinct fingerprints of all issues of the baseline. */
+  @NotNull
+  private final long[] fingerprints;
+
+  /** The bits of the Bloom filter of all {@link #fingerprints}. */
+  @NotNull
+  private final long[] bloomFilterBits;
+
+  /**
+   * Creates a new instance of the {@link IssueBaseline} class.
+   *
+   * @param fingerprints
+   *     The sorted, distinct fingerprints of all issues of the baseline.
+   */
+  private IssueBaseline(@NotNull final long[] fingerprints) {
+    this.fingerprints = fingerprints;
+    this.bloomFilterBits = new long[Math.max(1, (fingerprints.length * BLOOM_FILTER_BITS_PER_FINGERPRINT + 63) / 64)];
+    for (long fingerprint : fingerprints) {
+      final long secondHash = mix(fingerprint ^ FNV_OFFSET_BASIS) | 1L;
+      for (int hashIndex = 0; hashIndex < BLOOM_FILTER_HASH_COUNT; hashIndex++) {
+        final int bitIndex = this.toBloomFilterBitIndex(fingerprint + hashIndex * secondHash);
+        this.bloomFilterBits[bitIndex >>> 6] |= 1L << bitIndex;
+      }
+    }
+  }
+
+  /**
+   * Loads the supplied baseline file, which contains a single hexadecimal fingerprint per line. Empty lines, comments starting with {@code
+   * #} and invalid lines are ignored.
+   *
+   * @param baselineFile
+   *     The baseline file to load.
+   * @param logger
+   *     The {@link Logger} used to log invalid lines and the size of the baseline.
+   *
+   * @return A new {@link IssueBaseline} or {@link #EMPTY} if the file does not contain any fingerprint.
+   *
+   * @throws IOException
+   *     If the baseline file could not be read.
+   */
+  @NotNull
+  static IssueBaseline load(@NotNull final File baselineFile, @NotNull final Logger logger) throws IOException {
+    final LongArrayBuilder fingerprintBuilder = new LongArrayBuilder((int) Math.min(Integer.MAX_VALUE - 8, baselineFile.length() / 17 + 1));
+    int invalidLineCount = 0;
+    try (BufferedReader reader = Files.newBufferedReader(baselineFile.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        try {
+          fingerprintBuilder.add(Long.parseUnsignedLong(line, 16));
+        } catch (NumberFormatException nfe) {
+          invalidLineCount++;
+        }
+      }
+    }
+
+    if (invalidLineCount > 0) {
+      logger.warn("Ignored {} invalid lines of baseline file '{}'.", invalidLineCount, baselineFile.getAbsolutePath());
+    }
+    final long[] fingerprints = fingerprintBuilder.toSortedDistinctArray();
+    logger.info("Loaded {} fingerprints of baseline file '{}'.", fingerprints.length, baselineFile.getAbsolutePath());
+    return fingerprints.length == 0 ? EMPTY : new IssueBaseline(fingerprints);
+  }
+
+  /**
+   * Writes the supplied fingerprints as new baseline file, replacing an existing file.
+   *
+   * @param baselineFile
+   *     The baseline file to write.
+   * @param fingerprints
+   *     The sorted, distinct fingerprints of all issues of the baseline.
+   *
+   * @throws IOException
+   *     If the baseline file could not be written.
+   */
+  static void write(@NotNull final File baselineFile, @NotNull final long[] fingerprints) throws IOException {
+    final File parentDirectory = baselineFile.getAbsoluteFile().getParentFile();
+    if (parentDirectory != null) {
+      Files.createDirectories(parentDirectory.toPath());
+    }
+
+    try (BufferedWriter writer = Files.newBufferedWriter(baselineFile.toPath(), StandardCharsets.UTF_8)) {
+      writer.write(FILE_HEADER);
+      writer.newLine();
+      for (long fingerprint : fingerprints) {
+        writer.write(String.format(Locale.ROOT, "%016x", fingerprint));
+        writer.newLine();
+      }
+    }
+  }
+
+  /**
+   * Indicates whether this baseline does not contain any issue.
+   *
+   * @return {@code true} if this baseline is empty, otherwise {@code false}.
+   */
+  boolean isEmpty() {
+    return this.fingerprints.length == 0;
+  }
+
+  /**
+   * Gets the amount of fingerprints of this baseline.
+   *
+   * @return The amount of fingerprints of this baseline.
+   */
+  int size() {
+    return this.fingerprints.length;
+  }
+
+  /**
+   * Indicates whether this baseline contains the supplied {@code fingerprint}, where the Bloom filter rejects most fingerprints not
+   * contained within the baseline before a binary search is executed.
+   *
+   * @param fingerprint
+   *     The fingerprint of an issue, as returned by {@link #fingerprint(String, String, int, String)}.
+   *
+   * @return {@code true} if the baseline contains the supplied {@code fingerprint}, otherwise {@code false}.
+   */
+  boolean contains(final long fingerprint) {
+    if (this.fingerprints.length == 0) {
+      return false;
+    }
+
+    final long secondHash = mix(fingerprint ^ FNV_OFFSET_BASIS) | 1L;
+    for (int hashIndex = 0; hashIndex < BLOOM_FILTER_HASH_COUNT; hashIndex++) {
+      final int bitIndex = this.toBloomFilterBitIndex(fingerprint + hashIndex * secondHash);
+      if ((this.bloomFilterBits[bitIndex >>> 6] & (1L << bitIndex)) == 0) {
+        return false;
+      }
+    }
+    return Arrays.binarySearch(this.fingerprints, fingerprint) >= 0;
+  }
+
+  /**
+   * Calculates the fingerprint of an issue, which does not depend on the directory of the analysis or the position of its line.
+   *
+   * @param ruleKey
+   *     The InspectCode issue type identifier of the issue.
+   * @param filePath
+   *     The path of the source code file of the issue as stated within the InspectCode XML file, i.e. relative to the solution directory.
+   * @param lineContentHash
+   *     The hash of the contents of the line of the issue, as returned by {@link LineOffsetIndex#getLineContentHash(int)}.
+   * @param message
+   *     The message of the issue.
+   *
+   * @return The 64 bit fingerprint of the issue.
+   */
+  static long fingerprint(
+      @NotNull final String ruleKey,
+      @NotNull final String filePath,
+      final int lineContentHash,
+      @NotNull final String message) {
+    long hash = hash(FNV_OFFSET_BASIS, ruleKey);
+    hash = hash(hash, InputFileResolver.normalizePath(filePath).toLowerCase(Locale.ROOT));
+    hash = (hash ^ lineContentHash) * FNV_PRIME;
+    hash = hash(hash, message);
+    return mix(hash);
+  }
+
+  /**
+   * Adds the characters of the supplied {@code value} followed by a separator to the supplied FNV-1a {@code hash}.
+   *
+   * @param hash
+   *     The hash calculated so far.
+   * @param value
+   *     The value to add.
+   *
+   * @return The new hash.
+   */
+  private static long hash(long hash, @NotNull final String value) {
+    for (int index = 0; index < value.length(); index++) {
+      hash = (hash ^ value.charAt(index)) * FNV_PRIME;
+    }
+    // Separate the values, so that moving characters from one value to the next changes the hash
+    return (hash ^ 0xFFFFL) * FNV_PRIME;
+  }
+
+  /**
+   * Spreads the bits of the supplied {@code value} using the finalizer of the MurmurHash3 function.
+   *
+   * @param value
+   *     The value to mix.
+   *
+   * @return The mixed value.
+   */
+  private static long mix(long value) {
+    value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+    value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return value ^ (value >>> 33);
+  }
+
+  /**
+   * Maps the supplied hash to the index of a bit of the Bloom filter.
+   *
+   * @param hash
+   *     The hash to map.
+   *
+   * @return The index of a bit of {@link #bloomFilterBits}.
+   */
+  private int toBloomFilterBitIndex(final long hash) {
+    return (int) Long.remainderUnsigned(hash, (long) this.bloomFilterBits.length * 64L);
+  }
+
+  @Override
+  public String toString() {
+    return "IssueBaseline{" +
+        "fingerprints[" + fingerprints.length + "]" +
+        ", bloomFilterBits[" + bloomFilterBits.length + "]" +
+        '}';
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Package visible class used internally to count the issues of an InspectCode XML report file per source code file and issue type while
+ * parsing, if only measures should be saved instead of issues. No model is created per issue, while the file paths and issue type
+ * identifiers are only stored once, so that the memory required depends on the amount of files and issue types only. This class is not
+ * thread-safe and meant to be used by a single parser.
+ */
+final class IssueMeasureCounter
+    implements BiConsumer<String, String> {
+
+  /** Contains the amount of issues per issue type identifier for each file path stated within the InspectCode XML file. */
+  @NotNull
+  private final Map<String, Map<String, int[]>> countsByFilePath = new HashMap<>(256);
+
+  /** The total amount of counted issues. */
+  private long issueCount = 0;
+
+  /**
+   * Counts a single issue.
+   *
+   * @param issueTypeId
+   *     The identifier of the issue type of the issue.
+   * @param filePath
+   *     The path of the source code file of the issue, as stated within the InspectCode XML file.
+   */
+  @Override
+  public void accept(@NotNull final String issueTypeId, @NotNull final String filePath) {
+    this.countsByFilePath.computeIfAbsent(filePath, key -> new HashMap<>(8)).computeIfAbsent(issueTypeId, key -> new int[1])[0]++;
+    this.issueCount++;
+  }
+
+  /**
+   * Gets the amount of issues per issue type identifier for each file path stated within the InspectCode XML file.
+   *
+   * @return A {@link Map} of the file paths and the amount of issues per issue type identifier, where each amount is stored in an array of
+   *     length one.
+   */
+  @NotNull
+  Map<String, Map<String, int[]>> getCountsByFilePath() {
+    return this.countsByFilePath;
+  }
+
+  /**
+   * Gets the total amount of counted issues.
+   *
+   * @return The total amount of counted issues.
+   */
+  long getIssueCount() {
+    return this.issueCount;
+  }
+
+  @Override
+  public String toString() {
+    return "IssueMeasureCounter{" +
+        "countsByFilePath[" + countsByFilePath.size() + "]" +
+        ", issueCount=" + issueCount +
+        '}';
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.TextRange;
+
+import java.util.Arrays;
+
+/**
+ * Package visible class used internally to convert the character offsets stated within the XML report file generated by the InspectCode
+ * command line tool, which are counted from the start of the file, to line based {@link TextRange}s. The index stores the offset of the
+ * first and the last character of each line of a source code file, where line breaks ({@code \r\n}, {@code \n} or {@code \r}) are not
+ * considered part of the line.
+ */
+final class LineOffsetIndex {
+
+  /** Contains the offset of the first character of each line, where index {@code 0} corresponds to line {@code 1}. */
+  @NotNull
+  private final int[] lineStartOffsets;
+
+  /** Contains the offset after the last character of each line (excluding line breaks), where index {@code 0} corresponds to line 1. */
+  @NotNull
+  private final int[] lineEndOffsets;
+
+  /**
+   * Contains a hash of the contents of each line ignoring all whitespace, where index {@code 0} corresponds to line 1, or {@code null} if
+   * the hashes have not been calculated.
+   */
+  @Nullable
+  private final int[] lineContentHashes;
+
+  /**
+   * Creates a new instance of the {@link LineOffsetIndex} class using the supplied line offsets.
+   *
+   * @param lineStartOffsets
+   *     The offset of the first character of each line.
+   * @param lineEndOffsets
+   *     The offset after the last character of each line, excluding line breaks.
+   * @param lineContentHashes
+   *     The hash of the contents of each line or {@code null} if the hashes have not been calculated.
+   */
+  private LineOffsetIndex(
+      @NotNull final int[] lineStartOffsets,
+      @NotNull final int[] lineEndOffsets,
+      @Nullable final int[] lineContentHashes) {
+    this.lineStartOffsets = lineStartOffsets;
+    this.lineEndOffsets = lineEndOffsets;
+    this.lineContentHashes = lineContentHashes;
+  }
+
+  /**
+   * Creates a new {@link LineOffsetIndex} for the supplied {@code contents} of a source code file, which should have been decoded using the
+   * charset of the file and must not contain a byte order mark, as returned by {@link InputFile#contents()}.
+   *
+   * @param contents
+   *     The decoded contents of a source code file.
+   * @param isLineContentHashed
+   *     Indicates whether a hash of the contents of each line should be calculated, which is returned by {@link
+   *     #getLineContentHash(int)}.
+   *
+   * @return A new {@link LineOffsetIndex} for the supplied {@code contents}.
+   */
+  @NotNull
+  static LineOffsetIndex fromContents(@NotNull final String contents, final boolean isLineContentHashed) {
+    int[] starts = new int[64];
+    int[] ends = new int[64];
+    int[] hashes = isLineContentHashed ? new int[64] : null;
+    int lineCount = 0;
+    int lineStart = 0;
+    int lineHash = 0;
+
+    final int length = contents.length();
+    for (int index = 0; index < length; index++) {
+      final char character = contents.charAt(index);
+      if (character != '\n' && character != '\r') {
+        // Whitespace is ignored, so that changing the indentation of a line does not change its hash
+        if (hashes != null && !Character.isWhitespace(character)) {
+          lineHash = 31 * lineHash + character;
+        }
+        continue;
+      }
+
+      if (lineCount + 1 >= starts.length) {
+        starts = Arrays.copyOf(starts, starts.length * 2);
+        ends = Arrays.copyOf(ends, ends.length * 2);
+        if (hashes != null) {
+          hashes = Arrays.copyOf(hashes, hashes.length * 2);
+        }
+      }
+      starts[lineCount] = lineStart;
+      ends[lineCount] = index;
+      if (hashes != null) {
+        hashes[lineCount] = lineHash;
+        lineHash = 0;
+      }
+      lineCount++;
+
+      // Treat '\r\n' as a single line break
+      if (character == '\r' && index + 1 < length && contents.charAt(index + 1) == '\n') {
+        index++;
+      }
+      lineStart = index + 1;
+    }
+
+    // The last line does not end with a line break (and might be empty)
+    starts[lineCount] = lineStart;
+    ends[lineCount] = length;
+    if (hashes != null) {
+      hashes[lineCount] = lineHash;
+    }
+    lineCount++;
+
+    return new LineOffsetIndex(
+        Arrays.copyOf(starts, lineCount),
+        Arrays.copyOf(ends, lineCount),
+        hashes != null ? Arrays.copyOf(hashes, lineCount) : null);
+  }
+
+  /**
+   * Gets the amount of lines contained within this index.
+   *
+   * @return The amount of lines contained within this index.
+   */
+  int getLineCount() {
+    return this.lineStartOffsets.length;
+  }
+
+  /**
+   * Gets the approximate amount of bytes retained by this index, which is used to limit the size of the {@link LineOffsetIndexCache}.
+   *
+   * @return The approximate amount of bytes retained by this index.
+   */
+  long getRetainedBytes() {
+    return 32L + (this.lineContentHashes != null ? 3L : 2L) * (16L + 4L * this.lineStartOffsets.length);
+  }
+
+  /**
+   * Gets the hash of the contents of the supplied {@code line} ignoring all whitespace, which stays the same if the line is moved or its
+   * indentation changes.
+   *
+   * @param line
+   *     The one-based line for which the hash is requested.
+   *
+   * @return The hash of the contents of the supplied {@code line} or {@code 0} if the line does not exist or the hashes have not been
+   *     calculated.
+   */
+  int getLineContentHash(final int line) {
+    if (this.lineContentHashes == null || line < 1 || line > this.lineContentHashes.length) {
+      return 0;
+    }
+    return this.lineContentHashes[line - 1];
+  }
+
+  /**
+   * Creates a {@link TextRange} on the supplied {@code inputFile} ranging from {@code startOffset} to {@code endOffset}, which might span
+   * multiple lines. Returns {@code null} if the offsets do not describe a non-empty range within the file or if the range does not start at
+   * the supplied {@code expectedLine}, which indicates that the report file does not match the current contents of the file.
+   *
+   * @param inputFile
+   *     The {@link InputFile} for which this index has been created.
+   * @param startOffset
+   *     The offset of the first character of the range, counted from the start of the file.
+   * @param endOffset
+   *     The offset after the last character of the range, counted from the start of the file.
+   * @param expectedLine
+   *     The line at which the range is expected to start.
+   *
+   * @return A new {@link TextRange} for the supplied offsets or {@code null} if the offsets are invalid for the file.
+   */
+  @Nullable
+  TextRange createTextRange(@NotNull final InputFile inputFile, final int startOffset, final int endOffset, final int expectedLine) {
+    if (startOffset < 0 || endOffset <= startOffset) {
+      return null;
+    }
+
+    final int startLineIndex = this.findLineIndex(startOffset);
+    final int endLineIndex = this.findLineIndex(endOffset);
+    if (startLineIndex < 0 || endLineIndex < 0 || startLineIndex + 1 != expectedLine) {
+      return null;
+    }
+
+    // Offsets pointing at a line break are moved to the end of the line, since line breaks are not part of a line
+    final int startLineOffset =
+        Math.min(startOffset, this.lineEndOffsets[startLineIndex]) - this.lineStartOffsets[startLineIndex];
+    final int endLineOffset =
+        Math.min(endOffset, this.lineEndOffsets[endLineIndex]) - this.lineStartOffsets[endLineIndex];
+
+    if (startLineIndex == endLineIndex && endLineOffset <= startLineOffset) {
+      return null;
+    }
+    return inputFile.newRange(startLineIndex + 1, startLineOffset, endLineIndex + 1, endLineOffset);
+  }
+
+  /**
+   * Finds the index of the line containing the character at the supplied {@code offset} using a binary search.
+   *
+   * @param offset
+   *     The offset of a character, counted from the start of the file.
+   *
+   * @return The zero based index of the line containing the supplied {@code offset} or {@code -1} if the offset exceeds the file.
+   */
+  private int findLineIndex(final int offset) {
+    if (offset > this.lineEndOffsets[this.lineEndOffsets.length - 1]) {
+      return -1;
+    }
+
+    final int searchResult = Arrays.binarySearch(this.lineStartOffsets, offset);
+    return searchResult >= 0 ? searchResult : -searchResult - 2;
+  }
+}
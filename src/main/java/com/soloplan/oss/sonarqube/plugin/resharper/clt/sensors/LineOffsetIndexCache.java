@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Package visible class used internally to lazily create and cache a {@link LineOffsetIndex} for each {@link InputFile} on which issues are
+ * reported. The contents of a file are only read when its index is requested for the first time. The least recently used indices are
+ * evicted as soon as the total amount of retained bytes exceeds the limit supplied to the constructor. Instances of this class are safe to
+ * be used by multiple threads, while the contents of files are read without holding the lock of the cache.
+ */
+class LineOffsetIndexCache {
+
+  /**
+   * Gets an implementation of the {@link Logger} interface for this class.
+   * <p/>
+   * Please note, that message arguments are defined with {@code {}}, but not with
+   * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/Formatter.html">Formatter</a> syntax.
+   *
+   * @see Logger
+   */
+  private static final Logger LOGGER = Loggers.get(LineOffsetIndexCache.class);
+
+  /** The maximum amount of bytes retained by all cached {@link LineOffsetIndex} instances. */
+  private final long maximumRetainedBytes;
+
+  /** Contains the cached {@link LineOffsetIndex} instances in access order, so that the least recently used entry comes first. */
+  @NotNull
+  private final LinkedHashMap<InputFile, LineOffsetIndex> lineOffsetIndices = new LinkedHashMap<>(64, 0.75f, true);
+
+  /** Contains all {@link InputFile}s whose contents could not be read, so that they are not read again. */
+  @NotNull
+  private final Set<InputFile> unreadableFiles = new HashSet<>();
+
+  /** The total amount of characters read from the contents of files, including files that have been read more than once. */
+  @NotNull
+  private final AtomicLong charactersRead = new AtomicLong();
+
+  /** The amount of calls of {@link #get(InputFile)} which have been answered from the cache. */
+  @NotNull
+  private final LongAdder hitCount = new LongAdder();
+
+  /** The amount of calls of {@link #get(InputFile)} which required reading the contents of a file. */
+  @NotNull
+  private final LongAdder missCount = new LongAdder();
+
+  /** Indicates whether the created {@link LineOffsetIndex} instances contain a hash of the contents of each line. */
+  private final boolean isLineContentHashed;
+
+  /** The amount of bytes currently retained by all cached {@link LineOffsetIndex} instances. */
+  private long retainedBytes = 0;
+
+  /**
+   * Creates a new instance of the {@link LineOffsetIndexCache} class.
+   *
+   * @param maximumRetainedBytes
+   *     The maximum amount of bytes retained by all cached {@link LineOffsetIndex} instances, before the least recently used entries are
+   *     evicted.
+   * @param isLineContentHashed
+   *     Indicates whether the created {@link LineOffsetIndex} instances should contain a hash of the contents of each line.
+   */
+  LineOffsetIndexCache(final long maximumRetainedBytes, final boolean isLineContentHashed) {
+    this.maximumRetainedBytes = maximumRetainedBytes;
+    this.isLineContentHashed = isLineContentHashed;
+  }
+
+  /**
+   * Gets the {@link LineOffsetIndex} of the supplied {@code inputFile}, reading its contents if the index is not cached yet.
+   *
+   * @param inputFile
+   *     The {@link InputFile} for which the {@link LineOffsetIndex} is requested.
+   *
+   * @return The {@link LineOffsetIndex} of the supplied {@code inputFile} or {@code null} if its contents could not be read.
+   */
+  @Nullable
+  LineOffsetIndex get(@NotNull final InputFile inputFile) {
+    synchronized (this) {
+      final LineOffsetIndex lineOffsetIndex = this.lineOffsetIndices.get(inputFile);
+      if (lineOffsetIndex != null || this.unreadableFiles.contains(inputFile)) {
+        this.hitCount.increment();
+        return lineOffsetIndex;
+      }
+    }
+
+    this.missCount.increment();
+
+    final LineOffsetIndex lineOffsetIndex;
+    try {
+      // InputFile.contents() decodes the file using its charset and removes the byte order mark
+      final String contents = inputFile.contents();
+      this.charactersRead.addAndGet(contents.length());
+      lineOffsetIndex = LineOffsetIndex.fromContents(contents, this.isLineContentHashed);
+    } catch (IOException ioe) {
+      LOGGER.warn("Could not read the contents of file " + inputFile + ". Issues will be reported on entire lines.", ioe);
+      synchronized (this) {
+        this.unreadableFiles.add(inputFile);
+      }
+      return null;
+    }
+
+    synchronized (this) {
+      final LineOffsetIndex previousLineOffsetIndex = this.lineOffsetIndices.put(inputFile, lineOffsetIndex);
+      if (previousLineOffsetIndex != null) {
+        // Another thread has read the same file concurrently
+        this.retainedBytes -= previousLineOffsetIndex.getRetainedBytes();
+      }
+      this.retainedBytes += lineOffsetIndex.getRetainedBytes();
+      this.evictLeastRecentlyUsedEntries();
+    }
+
+    return lineOffsetIndex;
+  }
+
+  /**
+   * Gets the total amount of characters read from the contents of files, including files that have been read again after their index has
+   * been evicted.
+   *
+   * @return The total amount of characters read from the contents of files.
+   */
+  long getCharactersRead() {
+    return this.charactersRead.get();
+  }
+
+  /**
+   * Gets the amount of calls of {@link #get(InputFile)} which have been answered from the cache, including files known to be unreadable.
+   *
+   * @return The amount of cache hits.
+   */
+  long getHitCount() {
+    return this.hitCount.sum();
+  }
+
+  /**
+   * Gets the amount of calls of {@link #get(InputFile)} which required reading the contents of a file.
+   *
+   * @return The amount of cache misses.
+   */
+  long getMissCount() {
+    return this.missCount.sum();
+  }
+
+  /** Removes the least recently used entries until the retained bytes do not exceed {@link #maximumRetainedBytes} anymore. */
+  private void evictLeastRecentlyUsedEntries() {
+    // Always keep the most recently used entry, even if it exceeds the limit on its own
+    while (this.retainedBytes > this.maximumRetainedBytes && this.lineOffsetIndices.size() > 1) {
+      final Map.Entry<InputFile, LineOffsetIndex> eldestEntry = this.lineOffsetIndices.entrySet().iterator().next();
+      this.retainedBytes -= eldestEntry.getValue().getRetainedBytes();
+      this.lineOffsetIndices.remove(eldestEntry.getKey());
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "LineOffsetIndexCache{" +
+        "lineOffsetIndices[" + lineOffsetIndices.size() + "]" +
+        ", retainedBytes=" + retainedBytes +
+        ", maximumRetainedBytes=" + maximumRetainedBytes +
+        '}';
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Package visible class used internally to collect primitive {@code long} values without boxing each value, e.g. the locations of issues or
+ * the fingerprints of issues, which are finally converted to a sorted array suitable for binary searches. This class is not thread-safe.
+ */
+final class LongArrayBuilder {
+
+  /** The collected values, of which only the first {@link #size} values are valid. */
+  @NotNull
+  private long[] values;
+
+  /** The amount of collected values. */
+  private int size = 0;
+
+  /**
+   * Creates a new instance of the {@link LongArrayBuilder} class.
+   *
+   * @param initialCapacity
+   *     The amount of values which can be added before the internal array has to be grown.
+   */
+  LongArrayBuilder(final int initialCapacity) {
+    this.values = new long[Math.max(1, initialCapacity)];
+  }
+
+  /**
+   * Adds the supplied value.
+   *
+   * @param value
+   *     The value to add.
+   */
+  void add(final long value) {
+    if (this.size == this.values.length) {
+      this.values = Arrays.copyOf(this.values, this.size * 2);
+    }
+    this.values[this.size++] = value;
+  }
+
+  /**
+   * Gets the amount of values added so far, including duplicate values.
+   *
+   * @return The amount of values added so far.
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Creates a sorted array of all distinct values collected so far.
+   *
+   * @return A new sorted array without duplicate values.
+   */
+  @NotNull
+  long[] toSortedDistinctArray() {
+    final long[] sortedValues = Arrays.copyOf(this.values, this.size);
+    Arrays.sort(sortedValues);
+    int distinctCount = 0;
+    for (int index = 0; index < sortedValues.length; index++) {
+      if (index == 0 || sortedValues[index] != sortedValues[distinctCount - 1]) {
+        sortedValues[distinctCount++] = sortedValues[index];
+      }
+    }
+    return distinctCount == sortedValues.length ? sortedValues : Arrays.copyOf(sortedValues, distinctCount);
+  }
+
+  @Override
+  public String toString() {
+    return "LongArrayBuilder{" +
+        "size=" + size +
+        ", capacity=" + values.length +
+        '}';
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.TextRange;
+import org.sonar.api.rule.RuleKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Package visible class used internally to hand over the issues of a single source code file, which have been prepared concurrently, to
+ * the sensor thread which saves them. Creating the {@link TextRange}s requires resolving the file and reading its contents, which is
+ * independent for each file, whereas the issues and their locations must be created and saved on the sensor thread.
+ */
+final class PreparedIssueBatch {
+
+  /** The file path of the issues as stated within the InspectCode XML file. */
+  @NotNull
+  final String filePath;
+
+  /** The {@link InputFile} of the issues or {@code null} if the file could not be resolved. */
+  @Nullable
+  final InputFile inputFile;
+
+  /** Contains the prepared issues of the {@link #inputFile} in the order in which they should be saved. */
+  @NotNull
+  final List<PreparedIssue> preparedIssues;
+
+  /** The amount of issues of the {@link #inputFile} which have not been prepared, since they duplicate issues of another analyzer. */
+  int suppressedIssueCount = 0;
+
+  /** The amount of issues of the {@link #inputFile} which have not been prepared, since they are contained within the baseline file. */
+  int baselineIssueCount = 0;
+
+  /** The amount of issues of the {@link #inputFile} which have not been prepared, since the file is saved by the sensor of its language. */
+  int otherLanguageIssueCount = 0;
+
+  /**
+   * Creates a new instance of the {@link PreparedIssueBatch} class.
+   *
+   * @param filePath
+   *     The file path of the issues as stated within the InspectCode XML file.
+   * @param inputFile
+   *     The {@link InputFile} of the issues or {@code null} if the file could not be resolved.
+   * @param expectedSize
+   *     The expected amount of issues that will be added to this batch.
+   */
+  PreparedIssueBatch(@NotNull final String filePath, @Nullable final InputFile inputFile, final int expectedSize) {
+    this.filePath = filePath;
+    this.inputFile = inputFile;
+    this.preparedIssues = inputFile != null ? new ArrayList<>(expectedSize) : Collections.emptyList();
+  }
+
+  /**
+   * Adds a new prepared issue to this batch.
+   *
+   * @param textRange
+   *     The {@link TextRange} of the primary location of the issue within the {@link #inputFile}.
+   * @param message
+   *     The message of the primary location of the issue.
+   * @param ruleKey
+   *     The {@link RuleKey} of the active rule for which the issue is reported.
+   */
+  void add(@NotNull final TextRange textRange, @Nullable final String message, @NotNull final RuleKey ruleKey) {
+    this.preparedIssues.add(new PreparedIssue(textRange, message, ruleKey));
+  }
+
+  /**
+   * Gets a {@link Collection} of all prepared issues of this batch.
+   *
+   * @return A {@link Collection} of all prepared issues of this batch.
+   */
+  @NotNull
+  Collection<PreparedIssue> getPreparedIssues() {
+    return this.preparedIssues;
+  }
+
+  @Override
+  public String toString() {
+    return "PreparedIssueBatch{" +
+        "filePath='" + filePath + '\'' +
+        ", inputFile=" + inputFile +
+        ", preparedIssues[" + preparedIssues.size() + "]" +
+        '}';
+  }
+
+  /** An issue whose location has been prepared and which is ready to be saved. */
+  static final class PreparedIssue {
+
+    /** The {@link TextRange} of the primary location of the issue. */
+    @NotNull
+    final TextRange textRange;
+
+    /** The message of the primary location of the issue. */
+    @Nullable
+    final String message;
+
+    /** The {@link RuleKey} of the rule for which the issue is reported. */
+    @NotNull
+    final RuleKey ruleKey;
+
+    /**
+     * Creates a new instance of the {@link PreparedIssue} class.
+     *
+     * @param textRange
+     *     The {@link TextRange} of the primary location of the issue.
+     * @param message
+     *     The message of the primary location of the issue.
+     * @param ruleKey
+     *     The {@link RuleKey} of the active rule for which the issue is reported.
+     */
+    private PreparedIssue(@NotNull final TextRange textRange, @Nullable final String message, @NotNull final RuleKey ruleKey) {
+      this.textRange = textRange;
+      this.message = message;
+      this.ruleKey = ruleKey;
+    }
+  }
+}
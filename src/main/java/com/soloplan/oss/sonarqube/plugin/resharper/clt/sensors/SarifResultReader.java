@@ -0,0 +1,255 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Package visible class used internally to stream the results of a SARIF file written by the Roslyn compiler (e.g. containing the issues of
+ * SonarC#, SonarVB or the compiler itself), without building a document object model of the entire file. Both the SARIF version 1.0 format
+ * written by older compilers ({@code locations[].resultFile}) and the SARIF version 2.1 format ({@code locations[].physicalLocation}) are
+ * supported. Only the rule identifier, the file URI and the start line of the first location of each result are read, while results
+ * suppressed within the source code are ignored.
+ */
+final class SarifResultReader {
+
+  /** Receives the results read from a SARIF file. */
+  @FunctionalInterface
+  interface ResultConsumer {
+
+    /**
+     * Receives a single result of a SARIF file.
+     *
+     * @param ruleId
+     *     The identifier of the rule which reported the result, e.g. {@code S1144} or {@code CS0168}.
+     * @param uri
+     *     The URI or path of the file of the first location of the result, as stated within the SARIF file.
+     * @param line
+     *     The one-based start line of the first location of the result.
+     */
+    void accept(@NotNull String ruleId, @NotNull String uri, int line);
+  }
+
+  /** Private constructor, since this class only contains static members. */
+  private SarifResultReader() {
+  }
+
+  /**
+   * Reads all results of the supplied {@code sarifFile} and passes each result with a rule identifier, a file and a line to the supplied
+   * {@code resultConsumer}.
+   *
+   * @param sarifFile
+   *     The SARIF file to read.
+   * @param resultConsumer
+   *     The {@link ResultConsumer} receiving the results.
+   *
+   * @return The amount of results passed to the supplied {@code resultConsumer}.
+   *
+   * @throws IOException
+   *     If the file could not be read or does not contain valid JSON.
+   */
+  static int read(@NotNull final File sarifFile, @NotNull final ResultConsumer resultConsumer) throws IOException {
+    try (Reader reader = new InputStreamReader(Files.newInputStream(sarifFile.toPath()), StandardCharsets.UTF_8);
+         JsonReader jsonReader = new JsonReader(reader)) {
+      jsonReader.setLenient(true);
+      int resultCount = 0;
+
+      jsonReader.beginObject();
+      while (jsonReader.hasNext()) {
+        if (!"runs".equals(jsonReader.nextName()) || jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+          jsonReader.skipValue();
+          continue;
+        }
+
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+          resultCount += readRun(jsonReader, resultConsumer);
+        }
+        jsonReader.endArray();
+      }
+      jsonReader.endObject();
+
+      return resultCount;
+    }
+  }
+
+  /**
+   * Reads all results of a single run object.
+   *
+   * @param jsonReader
+   *     The {@link JsonReader} positioned in front of the run object.
+   * @param resultConsumer
+   *     The {@link ResultConsumer} receiving the results.
+   *
+   * @return The amount of results passed to the supplied {@code resultConsumer}.
+   *
+   * @throws IOException
+   *     If the run object could not be read.
+   */
+  private static int readRun(@NotNull final JsonReader jsonReader, @NotNull final ResultConsumer resultConsumer) throws IOException {
+    if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+      jsonReader.skipValue();
+      return 0;
+    }
+
+    int resultCount = 0;
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      if (!"results".equals(jsonReader.nextName()) || jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+        jsonReader.skipValue();
+        continue;
+      }
+
+      jsonReader.beginArray();
+      while (jsonReader.hasNext()) {
+        if (readResult(jsonReader, resultConsumer)) {
+          resultCount++;
+        }
+      }
+      jsonReader.endArray();
+    }
+    jsonReader.endObject();
+
+    return resultCount;
+  }
+
+  /**
+   * Reads a single result object and passes it to the supplied {@code resultConsumer}, if it is complete and not suppressed.
+   *
+   * @param jsonReader
+   *     The {@link JsonReader} positioned in front of the result object.
+   * @param resultConsumer
+   *     The {@link ResultConsumer} receiving the result.
+   *
+   * @return {@code true} if the result has been passed to the supplied {@code resultConsumer}, otherwise {@code false}.
+   *
+   * @throws IOException
+   *     If the result object could not be read.
+   */
+  private static boolean readResult(@NotNull final JsonReader jsonReader, @NotNull final ResultConsumer resultConsumer) throws IOException {
+    if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+      jsonReader.skipValue();
+      return false;
+    }
+
+    String ruleId = null;
+    final LocationValues locationValues = new LocationValues();
+    boolean isSuppressed = false;
+
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      final String name = jsonReader.nextName();
+      final JsonToken valueToken = jsonReader.peek();
+      if ("ruleId".equals(name) && valueToken == JsonToken.STRING) {
+        ruleId = jsonReader.nextString();
+      } else if ("locations".equals(name) && valueToken == JsonToken.BEGIN_ARRAY) {
+        // Only the first location is the primary location of the result
+        jsonReader.beginArray();
+        if (jsonReader.hasNext()) {
+          readLocationValues(jsonReader, locationValues);
+        }
+        while (jsonReader.hasNext()) {
+          jsonReader.skipValue();
+        }
+        jsonReader.endArray();
+      } else if (("suppressionStates".equals(name) || "suppressions".equals(name)) && valueToken == JsonToken.BEGIN_ARRAY) {
+        // SARIF 1.0 uses 'suppressionStates', SARIF 2.1 uses 'suppressions', both are empty or missing for active results
+        jsonReader.beginArray();
+        isSuppressed |= jsonReader.hasNext();
+        while (jsonReader.hasNext()) {
+          jsonReader.skipValue();
+        }
+        jsonReader.endArray();
+      } else {
+        jsonReader.skipValue();
+      }
+    }
+    jsonReader.endObject();
+
+    if (isSuppressed || ruleId == null || locationValues.uri == null || locationValues.startLine <= 0) {
+      return false;
+    }
+
+    resultConsumer.accept(ruleId, locationValues.uri, locationValues.startLine);
+    return true;
+  }
+
+  /**
+   * Reads the first {@code uri} and {@code startLine} values of the supplied location value recursively, which covers the nesting of both
+   * SARIF 1.0 ({@code resultFile.uri}, {@code resultFile.region.startLine}) and SARIF 2.1 ({@code physicalLocation.artifactLocation.uri},
+   * {@code physicalLocation.region.startLine}).
+   *
+   * @param jsonReader
+   *     The {@link JsonReader} positioned in front of the location value.
+   * @param locationValues
+   *     The {@link LocationValues} receiving the values found.
+   *
+   * @throws IOException
+   *     If the location value could not be read.
+   */
+  private static void readLocationValues(@NotNull final JsonReader jsonReader, @NotNull final LocationValues locationValues)
+      throws IOException {
+    switch (jsonReader.peek()) {
+      case BEGIN_OBJECT:
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+          final String name = jsonReader.nextName();
+          final JsonToken valueToken = jsonReader.peek();
+          if ("uri".equals(name) && valueToken == JsonToken.STRING && locationValues.uri == null) {
+            locationValues.uri = jsonReader.nextString();
+          } else if ("startLine".equals(name) && valueToken == JsonToken.NUMBER && locationValues.startLine <= 0) {
+            locationValues.startLine = jsonReader.nextInt();
+          } else {
+            readLocationValues(jsonReader, locationValues);
+          }
+        }
+        jsonReader.endObject();
+        break;
+      case BEGIN_ARRAY:
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+          readLocationValues(jsonReader, locationValues);
+        }
+        jsonReader.endArray();
+        break;
+      default:
+        jsonReader.skipValue();
+        break;
+    }
+  }
+
+  /** Contains the values read from the primary location of a result. */
+  private static final class LocationValues {
+
+    /** The URI or path of the file, or {@code null} if not found yet. */
+    @Nullable
+    private String uri;
+
+    /** The one-based start line, or {@code 0} if not found yet. */
+    private int startLine;
+  }
+}
@@ -0,0 +1,275 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.sonar.api.utils.log.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Package visible class used internally to collect metrics about each phase of the ingestion of an InspectCode XML report file, so that
+ * slow analyses can be attributed to parsing, converting, resolving files or saving issues. The metrics are logged as a single summary line
+ * and written as JSON file to the working directory of the scanner. Instances of this class are safe to be used by multiple threads, where
+ * the times of phases executed concurrently are summed up across all threads.
+ */
+final class SensorMetrics {
+
+  /** The phases of the ingestion of an InspectCode XML report file. */
+  enum Phase {
+    /** Opening the report file and creating the XML parser. */
+    OPEN,
+    /** Parsing the report file. */
+    PARSE,
+    /** Converting the parsed InspectCode models to SonarQube models. */
+    CONVERT,
+    /** Joining the parsed issues with the active rules. */
+    RULE_JOIN,
+    /** Resolving the source code files and preparing the issue locations. */
+    RESOLVE,
+    /** Saving the issues within SonarQube. */
+    SAVE
+  }
+
+  /** The {@link ThreadMXBean} used to measure the CPU time of the current thread. */
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  /** The {@link MemoryMXBean} used to sample the heap usage. */
+  private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+
+  /** Contains the accumulated wall clock time in nanoseconds of each {@link Phase}, indexed by its ordinal. */
+  private final AtomicLongArray wallTimeNanos = new AtomicLongArray(Phase.values().length);
+
+  /** Contains the accumulated CPU time in nanoseconds of each {@link Phase}, indexed by its ordinal. */
+  private final AtomicLongArray cpuTimeNanos = new AtomicLongArray(Phase.values().length);
+
+  /** The amount of bytes of the InspectCode XML report file. */
+  final AtomicLong reportBytesRead = new AtomicLong();
+
+  /** The amount of characters read from source code files in order to calculate issue locations. */
+  final AtomicLong sourceCharactersRead = new AtomicLong();
+
+  /** The amount of issues parsed from the InspectCode XML report file for the current project. */
+  final AtomicLong issuesSeen = new AtomicLong();
+
+  /** The amount of issues that have been filtered out because their rule is not active. */
+  final AtomicLong issuesFiltered = new AtomicLong();
+
+  /** The amount of issues that have been skipped, e.g. because their source code file could not be found. */
+  final AtomicLong issuesSkipped = new AtomicLong();
+
+  /** The amount of issues that have not been saved, since another analyzer reported an issue of an equivalent rule on the same line. */
+  final AtomicLong issuesSuppressed = new AtomicLong();
+
+  /** The amount of issues that have not been saved, since they are contained within the baseline file. */
+  final AtomicLong issuesInBaseline = new AtomicLong();
+
+  /** The amount of issues that have been saved within SonarQube. */
+  final AtomicLong issuesSaved = new AtomicLong();
+
+  /** The amount of issues that have not been saved, because the time budget of the import has been exceeded. */
+  final AtomicLong issuesCancelled = new AtomicLong();
+
+  /** The amount of distinct source code files on which issues have been reported. */
+  final AtomicLong distinctFiles = new AtomicLong();
+
+  /** The highest amount of used heap memory in bytes sampled at the end of each phase. */
+  private final AtomicLong peakHeapBytes = new AtomicLong();
+
+  /** Indicates whether the CPU time of threads can be measured by the current JVM. */
+  private final boolean isCpuTimeSupported;
+
+  /** Creates a new instance of the {@link SensorMetrics} class. */
+  SensorMetrics() {
+    boolean cpuTimeSupported;
+    try {
+      cpuTimeSupported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+    } catch (UnsupportedOperationException uoe) {
+      cpuTimeSupported = false;
+    }
+    this.isCpuTimeSupported = cpuTimeSupported;
+  }
+
+  /**
+   * Starts measuring the supplied {@code phase} on the current thread. The returned {@link PhaseTimer} must be stopped on the same thread.
+   *
+   * @param phase
+   *     The {@link Phase} to be measured.
+   *
+   * @return A new {@link PhaseTimer}, which adds the measured times to this instance when {@link PhaseTimer#stop()} is called.
+   */
+  @NotNull
+  PhaseTimer start(@NotNull final Phase phase) {
+    return new PhaseTimer(phase);
+  }
+
+  /** Samples the heap memory currently in use and stores it if it exceeds the highest sample so far. */
+  private void sampleHeap() {
+    final long usedHeapBytes = MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed();
+    this.peakHeapBytes.accumulateAndGet(usedHeapBytes, Math::max);
+  }
+
+  /**
+   * Gets the CPU time of the current thread in nanoseconds.
+   *
+   * @return The CPU time of the current thread in nanoseconds or {@code 0} if it can not be measured.
+   */
+  private long currentThreadCpuTimeNanos() {
+    return this.isCpuTimeSupported ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0L;
+  }
+
+  /**
+   * Logs the collected metrics as a single summary line using the supplied {@code logger} and writes them as JSON file named {@code
+   * resharper-clt-[repositoryKey]-metrics.json} into the supplied {@code workDirectory}.
+   *
+   * @param logger
+   *     The {@link Logger} used to log the summary line.
+   * @param workDirectory
+   *     The working directory of the scanner, into which the JSON file is written.
+   * @param repositoryKey
+   *     The key of the rule repository of the sensor, which is used to create a unique file name.
+   */
+  void report(@NotNull final Logger logger, @NotNull final File workDirectory, @NotNull final String repositoryKey) {
+    this.sampleHeap();
+
+    final StringBuilder summary = new StringBuilder(256).append("InspectCode ingestion metrics for repository ").append(repositoryKey);
+    for (Phase phase : Phase.values()) {
+      summary.append(", ")
+          .append(phase.name().toLowerCase(Locale.ROOT))
+          .append('=')
+          .append(TimeUnit.NANOSECONDS.toMillis(this.wallTimeNanos.get(phase.ordinal())))
+          .append("ms (cpu ")
+          .append(TimeUnit.NANOSECONDS.toMillis(this.cpuTimeNanos.get(phase.ordinal())))
+          .append("ms)");
+    }
+    summary.append(", reportBytes=").append(this.reportBytesRead.get())
+        .append(", sourceCharacters=").append(this.sourceCharactersRead.get())
+        .append(", issuesSeen=").append(this.issuesSeen.get())
+        .append(", issuesFiltered=").append(this.issuesFiltered.get())
+        .append(", issuesSkipped=").append(this.issuesSkipped.get())
+        .append(", issuesSuppressed=").append(this.issuesSuppressed.get())
+        .append(", issuesInBaseline=").append(this.issuesInBaseline.get())
+        .append(", issuesSaved=").append(this.issuesSaved.get())
+        .append(", issuesCancelled=").append(this.issuesCancelled.get())
+        .append(", distinctFiles=").append(this.distinctFiles.get())
+        .append(", peakHeapBytes=").append(this.peakHeapBytes.get());
+    logger.info(summary.toString());
+
+    final File metricsFile = new File(workDirectory, "resharper-clt-" + repositoryKey + "-metrics.json");
+    try {
+      Files.createDirectories(workDirectory.toPath());
+      try (Writer writer = new OutputStreamWriter(Files.newOutputStream(metricsFile.toPath()), StandardCharsets.UTF_8)) {
+        this.writeJson(writer, repositoryKey);
+      }
+    } catch (IOException ioe) {
+      logger.warn("Could not write the ingestion metrics to file " + metricsFile + ".", ioe);
+    }
+  }
+
+  /**
+   * Writes a JSON representation of the collected metrics to the supplied {@code writer}.
+   *
+   * @param writer
+   *     The {@link Writer} to which the JSON object is written, which is not closed by this method.
+   * @param repositoryKey
+   *     The key of the rule repository of the sensor.
+   *
+   * @throws IOException
+   *     If writing to the supplied {@code writer} failed.
+   */
+  void writeJson(@NotNull final Writer writer, @NotNull final String repositoryKey) throws IOException {
+    final JsonWriter jsonWriter = new JsonWriter(writer);
+    jsonWriter.setIndent("  ");
+    jsonWriter.beginObject().name("repositoryKey").value(repositoryKey);
+    jsonWriter.name("phases").beginObject();
+    for (Phase phase : Phase.values()) {
+      jsonWriter.name(phase.name().toLowerCase(Locale.ROOT)).beginObject()
+          .name("wallMs").value(TimeUnit.NANOSECONDS.toMillis(this.wallTimeNanos.get(phase.ordinal())))
+          .name("cpuMs").value(TimeUnit.NANOSECONDS.toMillis(this.cpuTimeNanos.get(phase.ordinal())))
+          .endObject();
+    }
+    jsonWriter.endObject()
+        .name("reportBytes").value(this.reportBytesRead.get())
+        .name("sourceCharacters").value(this.sourceCharactersRead.get())
+        .name("issuesSeen").value(this.issuesSeen.get())
+        .name("issuesFiltered").value(this.issuesFiltered.get())
+        .name("issuesSkipped").value(this.issuesSkipped.get())
+        .name("issuesSuppressed").value(this.issuesSuppressed.get())
+        .name("issuesInBaseline").value(this.issuesInBaseline.get())
+        .name("issuesSaved").value(this.issuesSaved.get())
+        .name("issuesCancelled").value(this.issuesCancelled.get())
+        .name("distinctFiles").value(this.distinctFiles.get())
+        .name("peakHeapBytes").value(this.peakHeapBytes.get())
+        .endObject();
+    jsonWriter.flush();
+    writer.write('\n');
+  }
+
+  /** Measures the wall clock and CPU time of a single execution of a {@link Phase} on the current thread. */
+  final class PhaseTimer {
+
+    /** The {@link Phase} being measured. */
+    @NotNull
+    private final Phase phase;
+
+    /** The value of {@link System#nanoTime()} when the measurement started. */
+    private final long startWallTimeNanos;
+
+    /** The CPU time of the current thread when the measurement started. */
+    private final long startCpuTimeNanos;
+
+    /** Indicates whether the measurement has already been stopped. */
+    private boolean isStopped = false;
+
+    /**
+     * Creates a new instance of the {@link PhaseTimer} class and starts the measurement.
+     *
+     * @param phase
+     *     The {@link Phase} being measured.
+     */
+    private PhaseTimer(@NotNull final Phase phase) {
+      this.phase = phase;
+      this.startCpuTimeNanos = currentThreadCpuTimeNanos();
+      this.startWallTimeNanos = System.nanoTime();
+    }
+
+    /** Stops the measurement and adds the measured times to the {@link SensorMetrics}. Subsequent calls have no effect. */
+    void stop() {
+      if (this.isStopped) {
+        return;
+      }
+      this.isStopped = true;
+
+      wallTimeNanos.addAndGet(this.phase.ordinal(), System.nanoTime() - this.startWallTimeNanos);
+      cpuTimeNanos.addAndGet(this.phase.ordinal(), currentThreadCpuTimeNanos() - this.startCpuTimeNanos);
+      sampleHeap();
+    }
+  }
+}
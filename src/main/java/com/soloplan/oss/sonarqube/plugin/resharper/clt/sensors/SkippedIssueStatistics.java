@@ -0,0 +1,181 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.sonar.api.utils.log.Logger;
+
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Package visible class used internally to count the issues that have been skipped by a sensor per reason, per rule and per source code
+ * file, so that a short summary can be logged at the end of the sensor instead of a log message per skipped issue. Instances of this class
+ * are safe to be used by multiple threads.
+ */
+final class SkippedIssueStatistics {
+
+  /** The reasons why an issue of the InspectCode XML report file might be skipped. */
+  enum Reason {
+    /** The rule of the issue is not activated within the quality profile of the project. */
+    INACTIVE_RULE("rule not active"),
+    /** The source code file of the issue could not be found using the SonarQube FileSystem API. */
+    UNRESOLVED_FILE("source code file not found"),
+    /** Another analyzer reported an issue of an equivalent rule on the same line of the source code file. */
+    DUPLICATE("duplicate of another analyzer"),
+    /** The issue is contained within the baseline file of accepted issues. */
+    BASELINE("contained in baseline"),
+    /** An exception occurred while preparing the issues of the source code file. */
+    PREPARATION_FAILED("preparation failed");
+
+    /** A short human-readable description of this reason, used within the summary. */
+    @NotNull
+    private final String description;
+
+    /**
+     * Creates a new {@link Reason}.
+     *
+     * @param description
+     *     A short human-readable description of the reason.
+     */
+    Reason(@NotNull final String description) {
+      this.description = description;
+    }
+  }
+
+  /** Contains the amount of skipped issues per {@link Reason}. */
+  @NotNull
+  private final Map<Reason, LongAdder> countsByReason = new EnumMap<>(Reason.class);
+
+  /** Contains the amount of skipped issues per rule key. */
+  @NotNull
+  private final Map<String, LongAdder> countsByRuleKey = new ConcurrentHashMap<>(64);
+
+  /** Contains the amount of skipped issues per file path, as stated within the InspectCode XML file. */
+  @NotNull
+  private final Map<String, LongAdder> countsByFilePath = new ConcurrentHashMap<>(256);
+
+  /** Creates a new instance of the {@link SkippedIssueStatistics} class. */
+  SkippedIssueStatistics() {
+    // The map is never modified afterwards, hence it can be read concurrently
+    for (Reason reason : Reason.values()) {
+      this.countsByReason.put(reason, new LongAdder());
+    }
+  }
+
+  /**
+   * Counts a single skipped issue.
+   *
+   * @param reason
+   *     The {@link Reason} why the issue has been skipped.
+   * @param ruleKey
+   *     The key of the rule of the skipped issue.
+   * @param filePath
+   *     The path of the source code file of the skipped issue, as stated within the InspectCode XML file.
+   */
+  void add(@NotNull final Reason reason, @NotNull final String ruleKey, @NotNull final String filePath) {
+    this.countsByReason.get(reason).increment();
+    this.countsByRuleKey.computeIfAbsent(ruleKey, key -> new LongAdder()).increment();
+    this.countsByFilePath.computeIfAbsent(filePath, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * Counts the supplied amount of skipped issues, which share the same reason, rule and source code file.
+   *
+   * @param reason
+   *     The {@link Reason} why the issues have been skipped.
+   * @param ruleKey
+   *     The key of the rule of the skipped issues.
+   * @param filePath
+   *     The path of the source code file of the skipped issues, as stated within the InspectCode XML file.
+   * @param count
+   *     The amount of skipped issues.
+   */
+  void add(@NotNull final Reason reason, @NotNull final String ruleKey, @NotNull final String filePath, final long count) {
+    this.countsByReason.get(reason).add(count);
+    this.countsByRuleKey.computeIfAbsent(ruleKey, key -> new LongAdder()).add(count);
+    this.countsByFilePath.computeIfAbsent(filePath, key -> new LongAdder()).add(count);
+  }
+
+  /**
+   * Gets the total amount of skipped issues.
+   *
+   * @return The total amount of skipped issues.
+   */
+  long getTotalCount() {
+    return this.countsByReason.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /**
+   * Logs a summary of the skipped issues using the supplied {@code logger}, containing the amount of skipped issues per {@link Reason} as
+   * well as the rules and files with the most skipped issues. Nothing is logged if no issue has been skipped.
+   *
+   * @param logger
+   *     The {@link Logger} used to log the summary.
+   * @param topCount
+   *     The maximum amount of rules and files listed within the summary.
+   */
+  void logSummary(@NotNull final Logger logger, final int topCount) {
+    final long totalCount = this.getTotalCount();
+    if (totalCount == 0) {
+      return;
+    }
+
+    final String reasonSummary = this.countsByReason.entrySet().stream()
+        .filter(entry -> entry.getValue().sum() > 0)
+        .map(entry -> entry.getValue().sum() + " " + entry.getKey().description)
+        .collect(Collectors.joining(", "));
+    logger.info("Skipped {} issues ({}). Enable log level TRACE for details on each skipped issue.", totalCount, reasonSummary);
+    logger.info("Rules with most skipped issues: {}", formatTopEntries(this.countsByRuleKey, topCount));
+    logger.info("Files with most skipped issues: {}", formatTopEntries(this.countsByFilePath, topCount));
+  }
+
+  /**
+   * Formats the {@code topCount} entries of the supplied {@code counts} with the highest values as comma separated list.
+   *
+   * @param counts
+   *     The counts to format.
+   * @param topCount
+   *     The maximum amount of entries to format.
+   *
+   * @return A comma separated list of the entries with the highest values, each followed by its value in parentheses.
+   */
+  @NotNull
+  private static String formatTopEntries(@NotNull final Map<String, LongAdder> counts, final int topCount) {
+    final String topEntries = counts.entrySet().stream()
+        .map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().sum()))
+        .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+        .limit(topCount)
+        .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+        .collect(Collectors.joining(", "));
+    return counts.size() > topCount ? topEntries + " and " + (counts.size() - topCount) + " more" : topEntries;
+  }
+
+  @Override
+  public String toString() {
+    return "SkippedIssueStatistics{" +
+        "totalCount=" + getTotalCount() +
+        ", countsByRuleKey[" + countsByRuleKey.size() + "]" +
+        ", countsByFilePath[" + countsByFilePath.size() + "]" +
+        '}';
+  }
+}
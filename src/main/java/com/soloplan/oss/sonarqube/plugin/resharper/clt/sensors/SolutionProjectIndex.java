@@ -0,0 +1,221 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.sonar.api.utils.log.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Package visible class used internally to map the projects of a solution file to the directories of their project files, so that the
+ * {@code Project} elements of an InspectCode XML report file can be matched with the SonarQube module whose base directory contains the
+ * project file, instead of relying on equal names. The directory of each project follows from the path of its project file stated
+ * within the solution file, hence the project files themselves are not read. Indices are cached per solution file and reused as long as
+ * the file is not modified, since the sensors of all modules of an analysis read the same solution files. Instances of this class are
+ * immutable.
+ */
+final class SolutionProjectIndex {
+
+  /** An empty index, used if the solution file could not be read. */
+  static final SolutionProjectIndex EMPTY = new SolutionProjectIndex(Collections.emptyMap(), 0L, 0L);
+
+  /**
+   * Matches a project entry of a solution file, e.g. {@code Project("{FAE04EC0-...}") = "Name", "Name\Name.csproj", "{...}"}, capturing
+   * the name of the project and the path of its project file.
+   */
+  private static final Pattern PROJECT_ENTRY_PATTERN =
+      Pattern.compile("^\\s*Project\\(\"[^\"]*\"\\)\\s*=\\s*\"([^\"]+)\"\\s*,\\s*\"([^\"]+)\"");
+
+  /** Contains the index of each solution file read so far, keyed by the normalized absolute path of the solution file. */
+  private static final Map<String, SolutionProjectIndex> INDICES_BY_SOLUTION_FILE_PATH = new ConcurrentHashMap<>();
+
+  /** Maps the lower case name of each project to the normalized, lower case absolute path of the directory of its project file. */
+  @NotNull
+  private final Map<String, String> projectDirectoriesByName;
+
+  /** The time of the last modification of the solution file when it has been read. */
+  private final long lastModified;
+
+  /** The length of the solution file when it has been read. */
+  private final long length;
+
+  /**
+   * Creates a new instance of the {@link SolutionProjectIndex} class.
+   *
+   * @param projectDirectoriesByName
+   *     Maps the lower case name of each project to the normalized, lower case absolute path of the directory of its project file.
+   * @param lastModified
+   *     The time of the last modification of the solution file when it has been read.
+   * @param length
+   *     The length of the solution file when it has been read.
+   */
+  private SolutionProjectIndex(@NotNull final Map<String, String> projectDirectoriesByName, final long lastModified, final long length) {
+    this.projectDirectoriesByName = projectDirectoriesByName;
+    this.lastModified = lastModified;
+    this.length = length;
+  }
+
+  /**
+   * Gets the index of the supplied {@code solutionFile}, which is read if it has not been read before or has been modified since.
+   *
+   * @param solutionFile
+   *     The solution file containing the projects to be indexed.
+   * @param logger
+   *     The {@link Logger} used to log a message if the solution file could not be read.
+   *
+   * @return The {@link SolutionProjectIndex} of the supplied {@code solutionFile} or {@link #EMPTY} if the file could not be read.
+   */
+  @NotNull
+  static SolutionProjectIndex of(@NotNull final File solutionFile, @NotNull final Logger logger) {
+    if (!solutionFile.isFile()) {
+      logger.debug("Solution file '{}' does not exist, hence projects are matched by name.", solutionFile.getPath());
+      return EMPTY;
+    }
+
+    final String solutionFilePath = InputFileResolver.normalizePath(solutionFile.getAbsolutePath());
+    final SolutionProjectIndex cachedIndex = INDICES_BY_SOLUTION_FILE_PATH.get(solutionFilePath);
+    if (cachedIndex != null && cachedIndex.lastModified == solutionFile.lastModified() && cachedIndex.length == solutionFile.length()) {
+      return cachedIndex;
+    }
+
+    try {
+      final SolutionProjectIndex solutionProjectIndex = read(solutionFile, solutionFilePath);
+      INDICES_BY_SOLUTION_FILE_PATH.put(solutionFilePath, solutionProjectIndex);
+      return solutionProjectIndex;
+    } catch (IOException ioe) {
+      logger.warn("Could not read solution file " + solutionFile + ". Projects are matched by name.", ioe);
+      return EMPTY;
+    }
+  }
+
+  /**
+   * Reads the project entries of the supplied {@code solutionFile}.
+   *
+   * @param solutionFile
+   *     The solution file to read.
+   * @param solutionFilePath
+   *     The normalized absolute path of the supplied {@code solutionFile}.
+   *
+   * @return A new {@link SolutionProjectIndex} containing all projects of the supplied {@code solutionFile}.
+   *
+   * @throws IOException
+   *     If the solution file could not be read.
+   */
+  @NotNull
+  private static SolutionProjectIndex read(@NotNull final File solutionFile, @NotNull final String solutionFilePath) throws IOException {
+    final long lastModified = solutionFile.lastModified();
+    final long length = solutionFile.length();
+    final String solutionDirectory = solutionFilePath.substring(0, Math.max(0, solutionFilePath.lastIndexOf('/')));
+    final Map<String, String> projectDirectoriesByName = new HashMap<>();
+
+    try (BufferedReader reader = Files.newBufferedReader(solutionFile.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        final Matcher matcher = PROJECT_ENTRY_PATTERN.matcher(line);
+        // Solution folders are stated like projects, but their path is not a project file
+        if (!matcher.find() || !matcher.group(2).toLowerCase(Locale.ROOT).endsWith("proj")) {
+          continue;
+        }
+        final String projectFilePath = InputFileResolver.normalizePath(solutionDirectory + "/" + matcher.group(2));
+        final String projectDirectory = projectFilePath.substring(0, Math.max(0, projectFilePath.lastIndexOf('/')));
+        projectDirectoriesByName.putIfAbsent(matcher.group(1).trim().toLowerCase(Locale.ROOT), projectDirectory.toLowerCase(Locale.ROOT));
+      }
+    }
+
+    return new SolutionProjectIndex(projectDirectoriesByName, lastModified, length);
+  }
+
+  /**
+   * Creates a {@link Predicate} matching the names of all projects whose project file is located within the supplied {@code
+   * moduleBaseDirectory} or any of its subdirectories. If no project of the solution is located there, the names are compared with the
+   * supplied {@code projectName} instead, which is the name of the SonarQube project. The projects of a nested module are matched by its
+   * parent module as well, but the files of a nested module are not indexed by the file system of its parent module, hence their issues are
+   * only saved by the nested module.
+   *
+   * @param moduleBaseDirectory
+   *     The absolute path of the base directory of the current SonarQube module.
+   * @param projectName
+   *     The name of the current SonarQube project, used if no project of the solution is located within the {@code moduleBaseDirectory}.
+   * @param logger
+   *     The {@link Logger} used to log which projects are matched.
+   *
+   * @return A {@link Predicate} matching the names of the {@code Project} elements of the InspectCode XML report file to import.
+   */
+  @NotNull
+  Predicate<String> createProjectNamePredicate(
+      @NotNull final String moduleBaseDirectory,
+      @NotNull final String projectName,
+      @NotNull final Logger logger) {
+    final Set<String> moduleProjectNames = this.getProjectNamesWithin(moduleBaseDirectory);
+
+    if (moduleProjectNames.isEmpty()) {
+      logger.debug("No project of the solution is located in directory '{}', hence projects named '{}' are imported.",
+          moduleBaseDirectory, projectName);
+      return element -> element != null && element.trim().equalsIgnoreCase(projectName);
+    }
+
+    logger.debug("Importing the issues of projects {} located in directory '{}'.", moduleProjectNames, moduleBaseDirectory);
+    return element -> element != null && moduleProjectNames.contains(element.trim().toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Gets the lower case names of all projects whose project file is located within the supplied {@code directory} or any of its
+   * subdirectories.
+   *
+   * @param directory
+   *     The absolute path of the directory.
+   *
+   * @return The lower case names of the projects located within the supplied {@code directory}, which is empty if there are none.
+   */
+  @NotNull
+  Set<String> getProjectNamesWithin(@NotNull final String directory) {
+    final String normalizedDirectory = InputFileResolver.normalizePath(directory).toLowerCase(Locale.ROOT);
+    // Compare whole path segments only, so that directory 'C:/src/App' does not contain the project located in 'C:/src/AppTests'
+    final String directoryPrefix = normalizedDirectory.endsWith("/") ? normalizedDirectory : normalizedDirectory + "/";
+
+    final Set<String> projectNames = new HashSet<>();
+    for (Map.Entry<String, String> projectDirectoryEntry : this.projectDirectoriesByName.entrySet()) {
+      final String projectDirectory = projectDirectoryEntry.getValue();
+      if (projectDirectory.equals(normalizedDirectory) || projectDirectory.startsWith(directoryPrefix)) {
+        projectNames.add(projectDirectoryEntry.getKey());
+      }
+    }
+    return projectNames;
+  }
+
+  @Override
+  public String toString() {
+    return "SolutionProjectIndex{" +
+        "projectDirectoriesByName[" + projectDirectoriesByName.size() + "]" +
+        '}';
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.jetbrains.annotations.NotNull;
+import org.sonar.api.utils.log.Logger;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Package visible class used internally to associate a solution file inspected by the InspectCode command line tool with the XML report
+ * file created for it, since the file paths stated within the report file are relative to the directory of the solution file. Instances of
+ * this class are immutable.
+ */
+final class SolutionReport {
+
+  /** The solution file inspected by the InspectCode command line tool. */
+  @NotNull
+  final File solutionFile;
+
+  /** The XML report file created by the InspectCode command line tool for the {@link #solutionFile}. */
+  @NotNull
+  final File reportFile;
+
+  /**
+   * Creates a new instance of the {@link SolutionReport} class.
+   *
+   * @param solutionFile
+   *     The solution file inspected by the InspectCode command line tool.
+   * @param reportFile
+   *     The XML report file created by the InspectCode command line tool for the supplied {@code solutionFile}.
+   */
+  SolutionReport(@NotNull final File solutionFile, @NotNull final File reportFile) {
+    this.solutionFile = solutionFile;
+    this.reportFile = reportFile;
+  }
+
+  /**
+   * Gets the absolute path of the directory of the {@link #solutionFile}, to which the file paths stated within the {@link #reportFile}
+   * are relative.
+   *
+   * @return The absolute path of the directory of the {@link #solutionFile}.
+   */
+  @NotNull
+  String getBaseDirectory() {
+    return this.solutionFile.getAbsoluteFile().getParent();
+  }
+
+  /**
+   * Parses the supplied {@code entries} of the form {@code Solution.sln=report.xml}, where relative paths are resolved against the supplied
+   * {@code baseDirectory}. Invalid entries, entries whose report file does not exist and further entries of the same solution file are
+   * logged and ignored, while the order of the remaining entries is kept.
+   *
+   * @param entries
+   *     The entries mapping solution files to the XML report files created for them.
+   * @param baseDirectory
+   *     The directory to which relative paths of the {@code entries} are relative.
+   * @param logger
+   *     The {@link Logger} used to log invalid entries.
+   *
+   * @return A {@link List} of the valid {@link SolutionReport}s in the order of the supplied {@code entries}.
+   */
+  @NotNull
+  static List<SolutionReport> parse(@NotNull final String[] entries, @NotNull final String baseDirectory, @NotNull final Logger logger) {
+    final List<SolutionReport> solutionReports = new ArrayList<>(entries.length);
+    final Set<String> solutionFilePaths = new HashSet<>(entries.length * 2);
+    for (String entry : entries) {
+      if (entry.trim().isEmpty()) {
+        continue;
+      }
+
+      final int separatorIndex = entry.indexOf('=');
+      if (separatorIndex <= 0 || entry.substring(separatorIndex + 1).trim().isEmpty()) {
+        logger.warn("Ignoring invalid solution report entry '{}', which should be of the form 'Solution.sln=report.xml'.", entry.trim());
+        continue;
+      }
+
+      final File solutionFile = resolve(baseDirectory, entry.substring(0, separatorIndex).trim());
+      final File reportFile = resolve(baseDirectory, entry.substring(separatorIndex + 1).trim());
+      if (!reportFile.isFile()) {
+        logger.error("Can't analyze InspectCode report of solution '{}' because the XML file does not exist: '{}'.",
+            solutionFile.getPath(), reportFile.getPath());
+        continue;
+      }
+      if (!solutionFilePaths.add(InputFileResolver.normalizePath(solutionFile.getPath()).toLowerCase(Locale.ROOT))) {
+        logger.warn("Ignoring report '{}', since another report of solution '{}' has already been defined.",
+            reportFile.getPath(), solutionFile.getPath());
+        continue;
+      }
+
+      solutionReports.add(new SolutionReport(solutionFile, reportFile));
+    }
+    return solutionReports;
+  }
+
+  /**
+   * Resolves the supplied {@code path} against the supplied {@code baseDirectory}, unless it is absolute.
+   *
+   * @param baseDirectory
+   *     The directory to which the supplied {@code path} is relative.
+   * @param path
+   *     The path to resolve.
+   *
+   * @return The {@link File} referenced by the supplied {@code path}.
+   */
+  @NotNull
+  private static File resolve(@NotNull final String baseDirectory, @NotNull final String path) {
+    final File file = new File(path);
+    return file.isAbsolute() ? file : new File(baseDirectory, path);
+  }
+
+  @Override
+  public String toString() {
+    return "SolutionReport{" +
+        "solutionFile=" + solutionFile +
+        ", reportFile=" + reportFile +
+        '}';
+  }
+}
@@ -35,10 +35,13 @@ class SonarQubeSensorXmlParserResults {
   /** Contains all {@link SonarQubeRuleDefinitionModel} instances parsed from the XML report file. */
   @NotNull
   final Collection<SonarQubeRuleDefinitionModel> ruleDefinitions;
+  /** The version of the InspectCode command line tool which created the XML report file, or {@code null} if it is not stated. */
+  @Nullable
+  final String toolsVersion;
 
   /**
-   * Creates a new instance of the {@link SonarQubeSensorXmlParserResults} class storing the supplied {@code parsedIssues} and {@code
-   * ruleDefinitions} internally.
+   * Creates a new instance of the {@link SonarQubeSensorXmlParserResults} class storing the supplied {@code parsedIssues}, {@code
+   * ruleDefinitions} and {@code toolsVersion} internally.
    *
    * @param parsedIssues
    *     A {@link Collection} of {@link SonarQubeIssueModel} instances parsed from an XML report file generated by the InspectCode command
@@ -46,12 +49,16 @@ class SonarQubeSensorXmlParserResults {
    * @param ruleDefinitions
    *     A {@link Collection} of {@link SonarQubeRuleDefinitionModel} instances parsed from an XML report file generated by the InspectCode
    *     command line tool.
+   * @param toolsVersion
+   *     The version of the InspectCode command line tool which created the XML report file, or {@code null} if it is not stated.
    */
   SonarQubeSensorXmlParserResults(
       @Nullable Collection<SonarQubeIssueModel> parsedIssues,
-      @Nullable Collection<SonarQubeRuleDefinitionModel> ruleDefinitions) {
+      @Nullable Collection<SonarQubeRuleDefinitionModel> ruleDefinitions,
+      @Nullable String toolsVersion) {
     this.parsedIssues = parsedIssues != null ? parsedIssues : Collections.emptyList();
     this.ruleDefinitions = ruleDefinitions != null ? ruleDefinitions : Collections.emptyList();
+    this.toolsVersion = toolsVersion;
   }
 
   @Override
@@ -59,6 +66,7 @@ class SonarQubeSensorXmlParserResults {
     return "SonarQubeSensorXmlParserResults{" +
         "parsedIssues[" + parsedIssues.size() + "]" +
         ", ruleDefinitions[" + ruleDefinitions.size() + "]" +
+        ", toolsVersion='" + toolsVersion + '\'' +
         '}';
   }
 }
@@ -35,7 +35,8 @@ public class VBNetSensor
             "ReSharper Command line tools (InspectCode) VisualBasic.NET Sensor",
             VBNetLanguage.LANGUAGE_NAME,
             ReSharperCltConfiguration.RULES_REPOSITORY_VBNET_KEY,
-            ReSharperCltConfiguration.PROPERTY_KEY_VBNET_REPORT_PATH
+            ReSharperCltConfiguration.PROPERTY_KEY_VBNET_REPORT_PATH,
+            ReSharperCltConfiguration.PROPERTY_KEY_VBNET_SOLUTION_REPORT_PATHS
         ));
   }
 }
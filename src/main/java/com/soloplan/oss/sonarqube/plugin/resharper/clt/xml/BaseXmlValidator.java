@@ -22,17 +22,25 @@ import org.jetbrains.annotations.Nullable;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
 import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 import org.xml.sax.helpers.XMLFilterImpl;
 
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
-import javax.xml.transform.Result;
-import javax.xml.transform.sax.SAXResult;
-import javax.xml.transform.sax.SAXSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /** Basic implementation of a class that is capable of validating XML data using an XML Schema Definition based {@link Validator}. */
 public abstract class BaseXmlValidator
@@ -46,7 +54,7 @@ public abstract class BaseXmlValidator
    * The value of this literal should correspond to {@code /com/soloplan/oss/sonarqube/plugin/resharper/clt/xml}.
    */
   protected static final String RESOURCE_URN_BASE =
-      "/" + XmlDataValidator.class.getPackage().getName().replaceAll("\\.", "/");
+      "/" + BaseXmlValidator.class.getPackage().getName().replaceAll("\\.", "/");
 
   /**
    * Defines the XML namespace used within the XML Schema Definition (XSD) including the Uniform Resource Name scheme ({@code urn:}).
@@ -56,6 +64,12 @@ public abstract class BaseXmlValidator
   protected static final String RESOURCE_URN_NAMESPACE =
       "urn:" + RESOURCE_URN_BASE;
 
+  /**
+   * Contains the compiled {@link Schema} of each XML Schema Definition resource, since compiling a schema is expensive while the resulting
+   * instances are immutable and safe to be shared by multiple threads.
+   */
+  private static final ConcurrentMap<String, Schema> COMPILED_SCHEMAS = new ConcurrentHashMap<>();
+
   /**
    * Gets an implementation of the {@link Logger} interface for this class.
    * <p/>
@@ -72,37 +86,61 @@ public abstract class BaseXmlValidator
   }
 
   /**
-   * Retrieves the {@link Validator} used during validation of the XML data supplied to {@link #validateXmlData(InputStream)}.
+   * Gets the full path within the resources of the JAR file where the XML Schema Definition (XSD) file used for validation is located.
    *
-   * @return A {@link Validator} instance used during validation of the XML data.
+   * @return The full path of the XML Schema Definition (XSD) resource, including its file name.
    */
-  @Nullable
-  protected abstract Validator getValidator();
+  @NotNull
+  protected abstract String getXmlSchemaDefinitionResource();
 
-  @Override
-  public boolean validateXmlData(@NotNull final InputStream xmlDataInputStream) {
-    try {
-      // Retrieve the validator and check if it null
-      final Validator validator = getValidator();
-      if (validator == null) {
-        this.logger.warn("Could not validate the supplied XML input stream because no validator is available.");
-        return false;
-      }
+  /**
+   * Retrieves the compiled {@link Schema} of the XML Schema Definition returned by {@link #getXmlSchemaDefinitionResource()}, which is
+   * compiled on first request only.
+   *
+   * @return The compiled {@link Schema} or {@code null} if the XML Schema Definition could not be found or compiled.
+   */
+  @Nullable
+  protected Schema getSchema() {
+    final String xmlSchemaResource = this.getXmlSchemaDefinitionResource();
+    final Schema cachedSchema = COMPILED_SCHEMAS.get(xmlSchemaResource);
+    if (cachedSchema != null) {
+      return cachedSchema;
+    }
 
-      // TODO Validate XML file without updating it: https://stackoverflow.com/questions/2991091/java-xsd-validation-of-xml-without-namespace
+    final URL xmlSchemaUrl = BaseXmlValidator.class.getResource(xmlSchemaResource);
+    if (xmlSchemaUrl == null) {
+      this.logger.error("Could not find XML schema definition resource '{}'.", xmlSchemaResource);
+      return null;
+    }
 
-      // Create a SAXParserFactory instance and set it up to support XML namespaces
-      final SAXParserFactory saxParserFactory = SAXParserFactory.newInstance();
-      saxParserFactory.setNamespaceAware(true);
+    try {
+      // SchemaFactory instances are not thread-safe, hence a new instance is created for each schema
+      final Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(xmlSchemaUrl);
+      final Schema previousSchema = COMPILED_SCHEMAS.putIfAbsent(xmlSchemaResource, schema);
+      return previousSchema != null ? previousSchema : schema;
+    } catch (SAXException saxException) {
+      this.logger.error("Could not create validator from XML schema definition url " + xmlSchemaUrl + ".", saxException);
+      return null;
+    }
+  }
 
-      final SAXSource source = new SAXSource(
-          new NamespaceFilter(saxParserFactory.newSAXParser().getXMLReader()),
-          new InputSource(xmlDataInputStream));
-      final Result validationResult = new SAXResult();
-      validator.validate(source, validationResult);
+  /**
+   * Retrieves a new {@link Validator} of the compiled {@link Schema}, since {@link Validator} instances are not thread-safe.
+   *
+   * @return A {@link Validator} instance used during validation of the XML data or {@code null} if no schema is available.
+   */
+  @Nullable
+  protected Validator getValidator() {
+    final Schema schema = this.getSchema();
+    return schema != null ? schema.newValidator() : null;
+  }
 
+  @Override
+  public boolean validateXmlData(@NotNull final InputStream xmlDataInputStream) {
+    try {
+      // Validate the XML data without handling its content
+      this.parseXmlData(xmlDataInputStream, new DefaultHandler());
       return true;
-
     } catch (Exception e) {
       this.logger.error("An exception occurred while trying to validate the supplied XML input stream.", e);
     }
@@ -110,11 +148,37 @@ public abstract class BaseXmlValidator
     return false;
   }
 
+  @Override
+  public void parseXmlData(@NotNull final InputStream xmlDataInputStream, @NotNull final ContentHandler contentHandler)
+      throws SAXException, IOException {
+    final Schema schema = this.getSchema();
+    if (schema == null) {
+      throw new SAXException("Could not validate the supplied XML input stream because no XML schema definition is available.");
+    }
+
+    // The validator handler passes the content on to the supplied content handler, while any validation error is thrown as exception
+    final ValidatorHandler validatorHandler = schema.newValidatorHandler();
+    validatorHandler.setContentHandler(contentHandler);
+
+    // Create a SAXParserFactory instance and set it up to support XML namespaces
+    final SAXParserFactory saxParserFactory = SAXParserFactory.newInstance();
+    saxParserFactory.setNamespaceAware(true);
+    final XMLReader xmlReader;
+    try {
+      xmlReader = saxParserFactory.newSAXParser().getXMLReader();
+    } catch (ParserConfigurationException parserConfigurationException) {
+      throw new SAXException("Could not create a SAX parser.", parserConfigurationException);
+    }
+
+    // Apply the namespace of the XML schema definition to all elements, since the XML files usually do not declare it
+    final NamespaceFilter namespaceFilter = new NamespaceFilter(xmlReader);
+    namespaceFilter.setContentHandler(validatorHandler);
+    namespaceFilter.parse(new InputSource(xmlDataInputStream));
+  }
+
   /**
-   * This class should infer the namespace of the xml schema definition for each XML file, because the output of the {@code InspectCode}
+   * This class infers the namespace of the xml schema definition for each XML element, because the output of the {@code InspectCode}
    * command line tool does not include such a definition.
-   * <p/>
-   * Apparently, this simply does not work, and I have no clue why... :-/
    */
   static class NamespaceFilter
       extends XMLFilterImpl {
@@ -134,10 +198,14 @@ public abstract class BaseXmlValidator
     public void startElement(String uri, String localName, String qualifiedName, Attributes attributes)
         throws SAXException {
       // Apply default XML namespace if no namespace is set
-      if (uri == null || !uri.trim().equalsIgnoreCase(RESOURCE_URN_NAMESPACE)) {
-        uri = RESOURCE_URN_NAMESPACE;
-      }
-      super.startElement(uri, localName, qualifiedName, attributes);
+      super.startElement(RESOURCE_URN_NAMESPACE, localName, qualifiedName, attributes);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qualifiedName)
+        throws SAXException {
+      // The namespace of the end tag has to match the one of the start tag
+      super.endElement(RESOURCE_URN_NAMESPACE, localName, qualifiedName);
     }
   }
 }
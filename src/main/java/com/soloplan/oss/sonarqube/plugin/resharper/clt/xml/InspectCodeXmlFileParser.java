@@ -16,6 +16,7 @@
 
 package com.soloplan.oss.sonarqube.plugin.resharper.clt.xml;
 
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.events.FlightRecorderEvents;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.XmlParserErrorSeverity;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.interfaces.Converter;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.interfaces.SonarQubeIssueProvider;
@@ -34,6 +35,8 @@ import org.xml.sax.SAXParseException;
 import org.xml.sax.helpers.DefaultHandler;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -102,6 +105,16 @@ public class InspectCodeXmlFileParser
 
   // region InspectCode report XML element and attribute names
 
+  /**
+   * Defines the name of the {@code Report} XML element, which is the root element of the XML file.
+   */
+  private static final String ELEMENT_NAME_REPORT = "Report";
+
+  /**
+   * Defines the name of the {@code ToolsVersion} XML attribute which is set for the {@value ELEMENT_NAME_REPORT} XML element.
+   */
+  private static final String ATTRIBUTE_NAME_TOOLSVERSION = "ToolsVersion";
+
   /**
    * Defines the name of the {@code Information} XML element.
    */
@@ -181,6 +194,9 @@ public class InspectCodeXmlFileParser
    */
   private static final Logger LOGGER = Loggers.get(InspectCodeXmlFileParser.class);
 
+  /** The amount of elements after which the {@link #cancellationCheck} is evaluated again. */
+  private static final int CANCELLATION_CHECK_INTERVAL = 256;
+
   /**
    * Stores a reference to an implementation of the {@link Converter} interface used to convert the parsed instances of class {@link
    * InspectCodeIssueDefinitionModel} to valid {@link SonarQubeRuleDefinitionModel} instances.
@@ -221,12 +237,39 @@ public class InspectCodeXmlFileParser
   @NotNull
   private final Predicate<String> validProjectNamesPredicate;
 
+  /**
+   * A {@link Predicate} used to check if a {@value ELEMENT_NAME_ISSUE} node should be parsed or ignored, based on the value of its {@value
+   * ATTRIBUTE_NAME_FILE} attribute.
+   */
+  @NotNull
+  private final Predicate<String> validFilePathsPredicate;
+
   /**
    * An indication if all XML elements within the {@value ELEMENT_NAME_PROJECT} node should be ignored due to not matching the {@link
    * #validProjectNamesPredicate}.
    */
   private boolean doSkipProjectElement = false;
 
+  /**
+   * An indication if the current {@value ELEMENT_NAME_ISSUE} node should be ignored due to its {@value ATTRIBUTE_NAME_FILE} attribute not
+   * matching the {@link #validFilePathsPredicate}.
+   */
+  private boolean doSkipIssueElement = false;
+
+  /** A {@link BooleanSupplier} returning {@code true} if parsing should be cancelled, or {@code null} if parsing is never cancelled. */
+  @Nullable
+  private BooleanSupplier cancellationCheck = null;
+
+  /** Receives the issue type identifier and file path of each issue, if issues should only be counted instead of being parsed. */
+  private BiConsumer<String, String> issueCounter = null;
+
+  /** The amount of elements started since parsing started, used to evaluate the {@link #cancellationCheck} periodically. */
+  private long startedElementCount = 0;
+
+  /** The value of the {@value ATTRIBUTE_NAME_TOOLSVERSION} attribute of the XML file, or {@code null} if it is not stated. */
+  @Nullable
+  private String toolsVersion = null;
+
   /** The {@link InspectCodeIssueDefinitionModel} that is currently being parsed by the SAX parser implementation. */
   private InspectCodeIssueDefinitionModel currentIssueDefinition = null;
 
@@ -240,6 +283,12 @@ public class InspectCodeXmlFileParser
    */
   private Collection<InspectCodeIssueModel> currentIssuesCollection = null;
 
+  /** The name of the {@value ELEMENT_NAME_PROJECT} node that is currently being parsed by the SAX parser implementation. */
+  private String currentProjectName = null;
+
+  /** The {@link FlightRecorderEvents.Span} measuring the duration of parsing the current {@value ELEMENT_NAME_PROJECT} node. */
+  private FlightRecorderEvents.Span currentProjectParseSpan = null;
+
   /**
    * Creates a new instance of the {@link InspectCodeXmlFileParser} class, which will use the supplied implementation of the {@link
    * Converter} interface to convert the parsed {@link InspectCodeIssueDefinitionModel} instances to valid {@link
@@ -271,6 +320,49 @@ public class InspectCodeXmlFileParser
       @Nullable Collection<Predicate<InspectCodeIssueDefinitionModel>> ruleDefinitionFilterPredicateCollection,
       @Nullable Collection<Predicate<InspectCodeIssueModel>> issueFilterPredicateCollection,
       @Nullable Collection<Predicate<String>> projectNamePredicateCollection) {
+    this(ruleDefinitionConverter,
+        issueModelConverter,
+        ruleDefinitionFilterPredicateCollection,
+        issueFilterPredicateCollection,
+        projectNamePredicateCollection,
+        null);
+  }
+
+  /**
+   * Creates a new instance of the {@link InspectCodeXmlFileParser} class like {@link #InspectCodeXmlFileParser(Converter, Converter,
+   * Collection, Collection, Collection)}, which additionally ignores all {@value ELEMENT_NAME_ISSUE} XML nodes whose {@value
+   * ATTRIBUTE_NAME_FILE} attribute does not match the supplied {@code filePathPredicateCollection}. These nodes are skipped before any
+   * {@link InspectCodeIssueModel} is created.
+   *
+   * @param ruleDefinitionConverter
+   *     An implementation of the {@link Converter} interface used to convert the parsed {@link InspectCodeIssueDefinitionModel} instances
+   *     to valid {@link SonarQubeRuleDefinitionModel} instances.
+   * @param issueModelConverter
+   *     An implementation of the {@link Converter} interface used to convert the parsed {@link InspectCodeIssueModel} instances to valid
+   *     {@link SonarQubeIssueModel} instances.
+   * @param ruleDefinitionFilterPredicateCollection
+   *     A {@link Collection} of {@link Predicate}s that are combined using a logical {@code and} and will be used to decide whether the
+   *     parsed issue definitions are valid and should be added to the resulting collection. Might be {@code null} if no filter predicate
+   *     should be applied.
+   * @param issueFilterPredicateCollection
+   *     A {@link Collection} of {@link Predicate}s that are combined using a logical {@code and} and will be used to decide whether the
+   *     parsed InspectCode issues are valid and should be added to the resulting collection. Might be {@code null} if no filter predicate
+   *     should be applied.
+   * @param projectNamePredicateCollection
+   *     A {@link Collection} of {@link Predicate}s that are combined using a logical {@code and} and will be used to decide whether the
+   *     children of the {@value ELEMENT_NAME_PROJECT} XML node should be parsed or completely ignored.
+   * @param filePathPredicateCollection
+   *     A {@link Collection} of {@link Predicate}s that are combined using a logical {@code and} and will be used to decide whether an
+   *     {@value ELEMENT_NAME_ISSUE} XML node should be parsed or ignored, based on its unmodified {@value ATTRIBUTE_NAME_FILE} attribute.
+   *     Might be {@code null} if no filter predicate should be applied.
+   */
+  public InspectCodeXmlFileParser(
+      @NotNull Converter<InspectCodeIssueDefinitionModel, SonarQubeRuleDefinitionModel> ruleDefinitionConverter,
+      @NotNull Converter<InspectCodeIssueModel, SonarQubeIssueModel> issueModelConverter,
+      @Nullable Collection<Predicate<InspectCodeIssueDefinitionModel>> ruleDefinitionFilterPredicateCollection,
+      @Nullable Collection<Predicate<InspectCodeIssueModel>> issueFilterPredicateCollection,
+      @Nullable Collection<Predicate<String>> projectNamePredicateCollection,
+      @Nullable Collection<Predicate<String>> filePathPredicateCollection) {
     // Store a reference to the supplied converter implementations
     this.sonarQubeRuleDefinitionConverter = ruleDefinitionConverter;
     this.sonarQubeIssueConverter = issueModelConverter;
@@ -279,6 +371,43 @@ public class InspectCodeXmlFileParser
     this.validInspectCodeIssueDefinitionPredicate = this.combinePredicates(ruleDefinitionFilterPredicateCollection);
     this.validInspectCodeIssuePredicate = this.combinePredicates(issueFilterPredicateCollection);
     this.validProjectNamesPredicate = this.combinePredicates(projectNamePredicateCollection);
+    this.validFilePathsPredicate = this.combinePredicates(filePathPredicateCollection);
+  }
+
+  /**
+   * Sets a {@link BooleanSupplier}, which is evaluated periodically during parsing. As soon as it returns {@code true}, parsing is stopped
+   * by throwing a {@link XmlParsingCancelledException}.
+   *
+   * @param cancellationCheck
+   *     A {@link BooleanSupplier} returning {@code true} if parsing should be cancelled, or {@code null} if parsing should never be
+   *     cancelled.
+   */
+  public void setCancellationCheck(@Nullable final BooleanSupplier cancellationCheck) {
+    this.cancellationCheck = cancellationCheck;
+  }
+
+  /**
+   * Sets a {@link BiConsumer}, which receives the values of the {@value ATTRIBUTE_NAME_TYPEID} and {@value ATTRIBUTE_NAME_FILE} attributes
+   * of each {@value ELEMENT_NAME_ISSUE} XML node matching all predicates instead of collecting an {@link InspectCodeIssueModel}. Hence,
+   * {@link #getIssues()} returns an empty collection if an issue counter is set, while issue definitions are still parsed.
+   *
+   * @param issueCounter
+   *     A {@link BiConsumer} receiving the issue type identifier and the file path of each issue, or {@code null} if issues should be
+   *     parsed.
+   */
+  public void setIssueCounter(@Nullable final BiConsumer<String, String> issueCounter) {
+    this.issueCounter = issueCounter;
+  }
+
+  /**
+   * Gets the version of the InspectCode command line tool which created the parsed XML file, as stated by the {@value
+   * ATTRIBUTE_NAME_TOOLSVERSION} attribute of the {@value ELEMENT_NAME_REPORT} XML element.
+   *
+   * @return The version of the InspectCode command line tool, or {@code null} if it is not stated within the parsed XML file.
+   */
+  @Nullable
+  public String getToolsVersion() {
+    return this.toolsVersion;
   }
 
   @NotNull
@@ -307,6 +436,8 @@ public class InspectCodeXmlFileParser
     // Clear the resulting collection of rules before parsing the XML document
     this.parsedIssueDefinitions.clear();
     this.parsedIssuesMap.clear();
+    this.startedElementCount = 0;
+    this.toolsVersion = null;
   }
 
   @Override
@@ -320,6 +451,13 @@ public class InspectCodeXmlFileParser
       throws SAXException {
     super.startElement(uri, localName, qualifiedName, attributes);
 
+    // Check periodically whether parsing should be cancelled
+    if (this.cancellationCheck != null
+        && ++this.startedElementCount % CANCELLATION_CHECK_INTERVAL == 0
+        && this.cancellationCheck.getAsBoolean()) {
+      throw new XmlParsingCancelledException("Parsing has been cancelled after " + this.startedElementCount + " XML elements.");
+    }
+
     // Check if the qualified name of the XML element is not null
     if (qualifiedName != null) {
       // Remove any leading or trailing whitespace characters from the qualified name
@@ -331,6 +469,10 @@ public class InspectCodeXmlFileParser
       }
 
       switch (qualifiedName) {
+        case ELEMENT_NAME_REPORT:
+          final String parsedToolsVersion = attributes.getValue(ATTRIBUTE_NAME_TOOLSVERSION);
+          this.toolsVersion = parsedToolsVersion != null && !parsedToolsVersion.trim().isEmpty() ? parsedToolsVersion.trim() : null;
+          break;
         case ELEMENT_NAME_ISSUETYPE:
           this.currentIssueDefinition = this.parseXmlElementIssueType(attributes);
           break;
@@ -347,8 +489,27 @@ public class InspectCodeXmlFileParser
           // Create a new collection of InspectCodeIssueModel instances and store it within the resulting map
           this.currentIssuesCollection = new ArrayList<>(32);
           this.parsedIssuesMap.put(parsedProjectName, this.currentIssuesCollection);
+          this.currentProjectName = parsedProjectName;
+          this.currentProjectParseSpan = FlightRecorderEvents.beginReportProjectParse();
           break;
         case ELEMENT_NAME_ISSUE:
+          // Evaluate the file path before parsing any other attribute, so that filtered issues do not create a model at all
+          final String filePath = attributes.getValue(ATTRIBUTE_NAME_FILE);
+          this.doSkipIssueElement = filePath != null && !this.validFilePathsPredicate.test(filePath);
+          if (this.doSkipIssueElement) {
+            return;
+          }
+          if (this.issueCounter != null) {
+            // Issues are only counted, hence the model is neither collected nor is the end of the element processed, but the same
+            // predicates are applied, so that the counts match the issues which would have been imported
+            final InspectCodeIssueModel countedIssue = this.parseXmlElementIssue(attributes);
+            if (countedIssue.getIssueTypeId() != null && countedIssue.getFile() != null
+                && this.validInspectCodeIssuePredicate.test(countedIssue)) {
+              this.issueCounter.accept(countedIssue.getIssueTypeId(), countedIssue.getFile());
+            }
+            this.doSkipIssueElement = true;
+            return;
+          }
           this.currentIssue = this.parseXmlElementIssue(attributes);
           break;
         default:
@@ -384,11 +545,24 @@ public class InspectCodeXmlFileParser
           this.currentIssueDefinition = null;
           break;
         case ELEMENT_NAME_PROJECT:
+          // Complete the measurement of the parsed project, which is not started for skipped projects
+          if (this.currentProjectParseSpan != null) {
+            this.currentProjectParseSpan.complete(this.currentProjectName, this.currentIssuesCollection.size());
+          }
+
           // Reset the internal variables
           this.currentIssuesCollection = null;
+          this.currentProjectName = null;
+          this.currentProjectParseSpan = null;
           this.doSkipProjectElement = false;
           break;
         case ELEMENT_NAME_ISSUE:
+          // Ignore the issue if it has been filtered by its file path (will be reset at the end of the 'Issue' node)
+          if (this.doSkipIssueElement) {
+            this.doSkipIssueElement = false;
+            break;
+          }
+
           // Check if the parsed issue matches all predicates
           if (this.validInspectCodeIssuePredicate.test(this.currentIssue)) {
             // Add the parsed issue to the set and clear the member variable
@@ -428,7 +602,8 @@ public class InspectCodeXmlFileParser
   @Override
   public String toString() {
     return "InspectCodeXmlFileParser{" +
-        "parsedIssueDefinitions[" + parsedIssueDefinitions.size() + "]" +
+        "toolsVersion='" + toolsVersion + '\'' +
+        ", parsedIssueDefinitions[" + parsedIssueDefinitions.size() + "]" +
         ", parsedIssuesMap[" + parsedIssuesMap.size() + "]" +
         ", currentIssueDefinition=" + currentIssueDefinition +
         ", currentIssue=" + currentIssue +
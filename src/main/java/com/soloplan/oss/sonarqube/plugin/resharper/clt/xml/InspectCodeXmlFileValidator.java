@@ -16,13 +16,7 @@
 
 package com.soloplan.oss.sonarqube.plugin.resharper.clt.xml;
 
-import org.jetbrains.annotations.Nullable;
-import org.xml.sax.SAXException;
-
-import javax.xml.XMLConstants;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
-import java.net.URL;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * A validator class for issue files generated by the {@code InspectCode} command line tool using an XML Schema Definition file location
@@ -40,21 +34,9 @@ public final class InspectCodeXmlFileValidator
   private static final String INSPECTCODE_XSD_RESOURCE =
       RESOURCE_URN_BASE + "/inspectcode_issue_definitions-schema_definition.xsd";
 
-  @Nullable
+  @NotNull
   @Override
-  protected Validator getValidator() {
-    // Create a validator instance using the XML schema definition from the resources of the plugin
-    final SchemaFactory factory = javax.xml.validation.SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    final URL xmlSchemaUrl = InspectCodeXmlFileValidator.class.getResource(INSPECTCODE_XSD_RESOURCE);
-
-    Validator validator;
-    try {
-      validator = factory.newSchema(xmlSchemaUrl).newValidator();
-    } catch (SAXException saxException) {
-      validator = null;
-      this.logger.error("Could not create validator from XML schema definition url " + xmlSchemaUrl.toString() + ".", saxException);
-    }
-
-    return validator;
+  protected String getXmlSchemaDefinitionResource() {
+    return INSPECTCODE_XSD_RESOURCE;
   }
 }
@@ -18,8 +18,10 @@ package com.soloplan.oss.sonarqube.plugin.resharper.clt.xml;
 
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.XmlParserErrorSeverity;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.interfaces.InspectCodeCategoryOverrideProvider;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.interfaces.RulePatternOverrideProvider;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.interfaces.SonarQubeRuleDefinitionOverrideProvider;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeCategoryOverrideModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.RulePatternOverrideModel;
 import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionOverrideModel;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -30,6 +32,7 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.helpers.DefaultHandler;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 
@@ -38,11 +41,12 @@ import java.util.LinkedHashSet;
  * SonarQube rule definitions which should be updated according to the values of the parsed XML file in order to override the default values
  * or behavior of the SonarQube rule definitions. This class will construct a new {@link SonarQubeRuleDefinitionOverrideModel} instance for
  * each rule definition found within the XML file, inserting it into the resulting collection. After the file has been parsed, the resulting
- * collection can be retrieved via a call to {@link #getRuleDefinitionOverrides()}.
+ * collection can be retrieved via a call to {@link #getRuleDefinitionOverrides()}. Pattern based overrides declared by {@value
+ * ELEMENT_NAME_PATTERNOVERRIDE} XML elements can be retrieved via a call to {@link #getPatternOverrides()}.
  */
 public class RuleOverrideXmlFileParser
         extends DefaultHandler
-        implements SonarQubeRuleDefinitionOverrideProvider, InspectCodeCategoryOverrideProvider {
+        implements SonarQubeRuleDefinitionOverrideProvider, InspectCodeCategoryOverrideProvider, RulePatternOverrideProvider {
 
   // region XML element and attribute names
 
@@ -53,6 +57,11 @@ public class RuleOverrideXmlFileParser
 
   private static final String ELEMENT_NAME_INSPECTCODECATEGORYOVERRIDE = "InspectCodeCategoryOverride";
 
+  /**
+   * Defines the name of the {@code PatternOverride} XML element.
+   */
+  private static final String ELEMENT_NAME_PATTERNOVERRIDE = "PatternOverride";
+
   /**
    * Defines the name of the {@code SonarRuleKey} XML attribute which is a mandatory attribute for the {@value
    * ELEMENT_NAME_SONARRULEOVERRIDE} XML element.
@@ -65,6 +74,23 @@ public class RuleOverrideXmlFileParser
    */
   private static final String ATTRIBUTE_NAME_CATEGORYID = "InspectCodeCategoryId";
 
+  /**
+   * Defines the name of the {@code InspectCodeSubCategory} XML attribute which might be set for the {@value ELEMENT_NAME_PATTERNOVERRIDE}
+   * XML element.
+   */
+  private static final String ATTRIBUTE_NAME_SUBCATEGORY = "InspectCodeSubCategory";
+
+  /**
+   * Defines the name of the {@code InspectCodeSeverity} XML attribute which might be set for the {@value ELEMENT_NAME_PATTERNOVERRIDE} XML
+   * element.
+   */
+  private static final String ATTRIBUTE_NAME_INSPECTCODESEVERITY = "InspectCodeSeverity";
+
+  /**
+   * Defines the name of the {@code Priority} XML attribute which might be set for the {@value ELEMENT_NAME_PATTERNOVERRIDE} XML element.
+   */
+  private static final String ATTRIBUTE_NAME_PRIORITY = "Priority";
+
   /**
    * Defines the name of the {@code Severity} XML attribute which might be set for the rule override XML elements.
    */
@@ -96,6 +122,16 @@ public class RuleOverrideXmlFileParser
   @NotNull
   private final Collection<InspectCodeCategoryOverrideModel> parsedInspectCodeCategoryOverrides = new LinkedHashSet<>(32);
 
+  /**
+   * The {@link SonarQubeRuleDefinitionOverrideModel} that is currently being parsed by the SAX parser implementation.
+   */
+  /**
+   * A {@link Collection} of {@link RulePatternOverrideModel} instances that have been parsed successfully, in the order of their
+   * declaration.
+   */
+  @NotNull
+  private final Collection<RulePatternOverrideModel> parsedPatternOverrides = new ArrayList<>(8);
+
   /**
    * The {@link SonarQubeRuleDefinitionOverrideModel} that is currently being parsed by the SAX parser implementation.
    */
@@ -103,6 +139,11 @@ public class RuleOverrideXmlFileParser
 
   private InspectCodeCategoryOverrideModel currentCategoryOverride = null;
 
+  /**
+   * The {@link RulePatternOverrideModel} that is currently being parsed by the SAX parser implementation.
+   */
+  private RulePatternOverrideModel currentPatternOverride = null;
+
   @Override
   public @NotNull Collection<SonarQubeRuleDefinitionOverrideModel> getRuleDefinitionOverrides() {
     return this.parsedSonarRuleDefinitionOverrides;
@@ -113,6 +154,11 @@ public class RuleOverrideXmlFileParser
     return this.parsedInspectCodeCategoryOverrides;
   }
 
+  @Override
+  public @NotNull Collection<RulePatternOverrideModel> getPatternOverrides() {
+    return this.parsedPatternOverrides;
+  }
+
   @Override
   public void startDocument()
           throws SAXException {
@@ -120,6 +166,7 @@ public class RuleOverrideXmlFileParser
 
     // Clear the resulting collection of rule definition overrides before parsing the XML document
     this.parsedSonarRuleDefinitionOverrides.clear();
+    this.parsedPatternOverrides.clear();
   }
 
   @Override
@@ -142,6 +189,8 @@ public class RuleOverrideXmlFileParser
         this.currentRuleDefinitionOverride = this.parseXmlElementIssueType(attributes);
       } else if (ELEMENT_NAME_INSPECTCODECATEGORYOVERRIDE.equals(qualifiedName)) {
         this.currentCategoryOverride = this.parseXmlElementCategory(attributes);
+      } else if (ELEMENT_NAME_PATTERNOVERRIDE.equals(qualifiedName)) {
+        this.currentPatternOverride = this.parseXmlElementPattern(attributes);
       } else {
         LOGGER.debug("The unhandled XML element <{}> has started.", qualifiedName);
       }
@@ -165,6 +214,9 @@ public class RuleOverrideXmlFileParser
       } else if (ELEMENT_NAME_INSPECTCODECATEGORYOVERRIDE.equals(qualifiedName)) {
         this.parsedInspectCodeCategoryOverrides.add(this.currentCategoryOverride);
         this.currentCategoryOverride = null;
+      } else if (ELEMENT_NAME_PATTERNOVERRIDE.equals(qualifiedName)) {
+        this.parsedPatternOverrides.add(this.currentPatternOverride);
+        this.currentPatternOverride = null;
       } else {
         LOGGER.debug("The unhandled XML element <{}> has ended.", qualifiedName);
       }
@@ -199,6 +251,8 @@ public class RuleOverrideXmlFileParser
             ", currentRuleDefinitionOverride=" + currentRuleDefinitionOverride +
             "parsedInspectCodeCategoryOverrides[" + parsedInspectCodeCategoryOverrides.size() + "]" +
             ", currentCategoryOverride=" + currentCategoryOverride +
+            ", parsedPatternOverrides[" + parsedPatternOverrides.size() + "]" +
+            ", currentPatternOverride=" + currentPatternOverride +
             '}';
   }
 
@@ -334,4 +388,63 @@ public class RuleOverrideXmlFileParser
     // Return the populated inspectcode category override model
     return inspectCodeCategoryOverrideModel;
   }
+
+  /**
+   * Creates a new instance of the {@link RulePatternOverrideModel} class populated with values provided as argument {@code attributes},
+   * which contains the XML attributes declared for an XML element of name {@value #ELEMENT_NAME_PATTERNOVERRIDE}. Patterns which are not
+   * declared match any value, while the rule type and severity are only overridden if declared.
+   *
+   * @param attributes An implementation of the {@link Attributes} interface, containing a collection of XML attributes declared for an
+   *                   {@value #ELEMENT_NAME_PATTERNOVERRIDE} XML element.
+   * @return A new instance of class {@link RulePatternOverrideModel} populated with values retrieved from the supplied {@code attributes}
+   * of the XML element {@value #ELEMENT_NAME_PATTERNOVERRIDE}.
+   */
+  @NotNull
+  private RulePatternOverrideModel parseXmlElementPattern(@NotNull final Attributes attributes) {
+    final RulePatternOverrideModel rulePatternOverrideModel = new RulePatternOverrideModel();
+
+    // Parse all attributes of the XML element that just started
+    final int length = attributes.getLength();
+    for (int index = 0; index < length; index++) {
+      final String value = attributes.getValue(index).trim();
+
+      // Retrieve the name of the attribute and trim any leading or trailing whitespaces
+      switch (attributes.getQName(index).trim()) {
+        case ATTRIBUTE_NAME_SONARRULEKEY:
+          rulePatternOverrideModel.setRuleKeyPattern(value);
+          break;
+        case ATTRIBUTE_NAME_CATEGORYID:
+          rulePatternOverrideModel.setCategoryIdPattern(value);
+          break;
+        case ATTRIBUTE_NAME_SUBCATEGORY:
+          rulePatternOverrideModel.setSubCategoryPattern(value);
+          break;
+        case ATTRIBUTE_NAME_INSPECTCODESEVERITY:
+          rulePatternOverrideModel.setInspectCodeSeverityPattern(value);
+          break;
+        case ATTRIBUTE_NAME_PRIORITY:
+          try {
+            rulePatternOverrideModel.setPriority(Integer.parseInt(value));
+          } catch (NumberFormatException e) {
+            LOGGER.warn("XML element <{}>: Ignoring invalid priority '{}'.", ELEMENT_NAME_PATTERNOVERRIDE, value);
+          }
+          break;
+        case ATTRIBUTE_NAME_SONARRULETYPE:
+          rulePatternOverrideModel.setSonarQubeRuleType(value);
+          break;
+        case ATTRIBUTE_NAME_SONARSEVERITY:
+          rulePatternOverrideModel.setSonarQubeSeverity(value);
+          break;
+        default:
+          LOGGER.debug(
+                  "XML element <{}>: Unhandled XML attribute {} found while parsing.",
+                  ELEMENT_NAME_PATTERNOVERRIDE,
+                  attributes.getQName(index));
+          break;
+      }
+    }
+
+    // Return the populated pattern override model
+    return rulePatternOverrideModel;
+  }
 }
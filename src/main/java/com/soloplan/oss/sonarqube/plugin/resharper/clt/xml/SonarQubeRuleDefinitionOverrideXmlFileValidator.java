@@ -16,13 +16,7 @@
 
 package com.soloplan.oss.sonarqube.plugin.resharper.clt.xml;
 
-import org.jetbrains.annotations.Nullable;
-import org.xml.sax.SAXException;
-
-import javax.xml.XMLConstants;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
-import java.net.URL;
+import org.jetbrains.annotations.NotNull;
 
 public class SonarQubeRuleDefinitionOverrideXmlFileValidator
     extends BaseXmlValidator {
@@ -36,20 +30,9 @@ public class SonarQubeRuleDefinitionOverrideXmlFileValidator
   private static final String INSPECTCODE_OVERRIDE_XSD_RESOURCE =
       RESOURCE_URN_BASE + "/sonarqube_rule_overrides-schema_definition.xsd";
 
+  @NotNull
   @Override
-  protected @Nullable Validator getValidator() {
-    // Create a validator instance using the XML schema definition from the resources of the plugin
-    final SchemaFactory factory = javax.xml.validation.SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    final URL xmlSchemaUrl = InspectCodeXmlFileValidator.class.getResource(INSPECTCODE_OVERRIDE_XSD_RESOURCE);
-
-    Validator validator;
-    try {
-      validator = factory.newSchema(xmlSchemaUrl).newValidator();
-    } catch (SAXException saxException) {
-      validator = null;
-      this.logger.error("Could not create validator from XML schema definition url " + xmlSchemaUrl.toString() + ".", saxException);
-    }
-
-    return validator;
+  protected String getXmlSchemaDefinitionResource() {
+    return INSPECTCODE_OVERRIDE_XSD_RESOURCE;
   }
 }
@@ -0,0 +1,40 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.xml;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Thrown by {@link InspectCodeXmlFileParser} if parsing has been cancelled cooperatively, e.g. because the time budget of the import has
+ * been exceeded. All elements parsed before the cancellation are still available from the parser.
+ */
+public class XmlParsingCancelledException
+    extends SAXException {
+
+  /** The version of the serialized form of this class. */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new instance of the {@link XmlParsingCancelledException} class using the supplied {@code message}.
+   *
+   * @param message
+   *     The detail message of the exception.
+   */
+  public XmlParsingCancelledException(final String message) {
+    super(message);
+  }
+}
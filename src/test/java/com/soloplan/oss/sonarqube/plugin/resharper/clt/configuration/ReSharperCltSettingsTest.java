@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.configuration;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.CSharpLanguage;
+import org.junit.Test;
+import org.sonar.api.config.internal.MapSettings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests of the {@link ReSharperCltSettings} class. */
+public class ReSharperCltSettingsTest {
+
+  @Test
+  public void readsValidTypedValues() {
+    final MapSettings settings = new MapSettings();
+    settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET, " 600 ");
+    settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET_PRIORITIZE_SEVERITY, "TRUE");
+    settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_MEASURES_ONLY, "false");
+
+    final ReSharperCltSettings snapshot = ReSharperCltSettings.of(settings.asConfig());
+    assertEquals(600L, snapshot.getTimeBudgetSeconds());
+    assertTrue(snapshot.isSeverityPrioritized());
+    assertFalse(snapshot.isMeasuresOnly());
+  }
+
+  @Test
+  public void fallsBackToDefaultValuesOnInvalidTypedValues() {
+    final MapSettings settings = new MapSettings();
+    settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET, "10m");
+    settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET_PRIORITIZE_SEVERITY, "yes");
+
+    final ReSharperCltSettings snapshot = ReSharperCltSettings.of(settings.asConfig());
+    assertEquals(0L, snapshot.getTimeBudgetSeconds());
+    assertFalse(snapshot.isSeverityPrioritized());
+  }
+
+  @Test
+  public void createsLanguageDespiteInvalidTypedValues() {
+    final MapSettings settings = new MapSettings();
+    settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET, "10m");
+
+    assertTrue(new CSharpLanguage(settings.asConfig()).getFileSuffixes().length > 0);
+  }
+
+  @Test
+  public void ignoresNegativeTimeBudgets() {
+    final MapSettings settings = new MapSettings();
+    settings.setProperty(ReSharperCltConfiguration.PROPERTY_KEY_TIME_BUDGET, "-5");
+
+    assertEquals(0L, ReSharperCltSettings.of(settings.asConfig()).getTimeBudgetSeconds());
+  }
+
+  @Test
+  public void usesDefaultValuesWithoutConfiguration() {
+    final ReSharperCltSettings snapshot = ReSharperCltSettings.of(null);
+    assertEquals(0L, snapshot.getTimeBudgetSeconds());
+    assertFalse(snapshot.isSeverityPrioritized());
+    assertTrue(snapshot.getLanguageSettings(CSharpLanguage.LANGUAGE_NAME).getFileSuffixes().length > 0);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.measures;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.CSharpLanguage;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.languages.VBNetLanguage;
+import org.junit.Test;
+import org.sonar.api.measures.Metric;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests of the {@link ReSharperCltMetrics} class. */
+public class ReSharperCltMetricsTest {
+
+  @Test
+  public void formatCountsSortsKeysAndRemovesSeparators() {
+    final Map<String, Integer> counts = new HashMap<>();
+    counts.put("UnusedMember.Global", 3);
+    counts.put("Code Style", 2);
+    counts.put("a=b;c", 1);
+    counts.put("a_b_c", 4);
+
+    assertEquals("Code Style=2;UnusedMember.Global=3;a_b_c=5", ReSharperCltMetrics.formatCounts(counts));
+    assertEquals("", ReSharperCltMetrics.formatCounts(new HashMap<String, Long>()));
+  }
+
+  @Test
+  public void distributionMetricsAreDefinedPerLanguage() {
+    assertEquals(
+        ReSharperCltMetrics.CS_ISSUES_BY_CATEGORY, ReSharperCltMetrics.getCategoryDistributionMetric(CSharpLanguage.LANGUAGE_NAME));
+    assertEquals(ReSharperCltMetrics.CS_ISSUES_BY_RULE, ReSharperCltMetrics.getRuleDistributionMetric(CSharpLanguage.LANGUAGE_NAME));
+    assertEquals(
+        ReSharperCltMetrics.VBNET_ISSUES_BY_CATEGORY, ReSharperCltMetrics.getCategoryDistributionMetric(VBNetLanguage.LANGUAGE_NAME));
+    assertEquals(ReSharperCltMetrics.VBNET_ISSUES_BY_RULE, ReSharperCltMetrics.getRuleDistributionMetric(VBNetLanguage.LANGUAGE_NAME));
+    assertNotEquals(ReSharperCltMetrics.CS_ISSUES_BY_RULE.getKey(), ReSharperCltMetrics.VBNET_ISSUES_BY_RULE.getKey());
+    assertNull(ReSharperCltMetrics.getCategoryDistributionMetric("java"));
+    assertNull(ReSharperCltMetrics.getRuleDistributionMetric("java"));
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  public void metricKeysAreUnique() {
+    final List<Metric> metrics = new ReSharperCltMetrics().getMetrics();
+    final Set<String> metricKeys = new HashSet<>();
+    for (Metric metric : metrics) {
+      assertTrue(metric.getKey(), metricKeys.add(metric.getKey()));
+      assertEquals(ReSharperCltMetrics.DOMAIN, metric.getDomain());
+    }
+    assertTrue(metrics.containsAll(ReSharperCltMetrics.COUNT_METRICS));
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.InspectCodeIssueSeverity;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeRuleType;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.enumerations.SonarQubeSeverity;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeCategoryOverrideModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.RulePatternOverrideModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionOverrideModel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests of the {@link RuleOverrideMatcher} class. */
+public class RuleOverrideMatcherTest {
+
+  @Test
+  public void ruleKeyOverrideTakesPrecedenceOverPatternAndCategoryOverrides() {
+    final RuleOverrideMatcher matcher = new RuleOverrideMatcher(
+        Collections.singletonList(ruleKeyOverride("RedundantUsingDirective", SonarQubeRuleType.VULNERABILITY, SonarQubeSeverity.INFO)),
+        Collections.singletonList(categoryOverride("CodeRedundancy", SonarQubeRuleType.BUG, SonarQubeSeverity.CRITICAL)),
+        Collections.singletonList(patternOverride("Redundant*", null, 0, "CODE_SMELL", "BLOCKER")));
+
+    final SonarQubeRuleDefinitionModel ruleDefinition = ruleDefinition("RedundantUsingDirective", "CodeRedundancy", "HINT");
+    assertTrue(matcher.apply(ruleDefinition));
+    assertEquals(SonarQubeRuleType.VULNERABILITY, ruleDefinition.getSonarQubeRuleType());
+    assertEquals(SonarQubeSeverity.INFO, ruleDefinition.getSonarQubeSeverity());
+  }
+
+  @Test
+  public void patternOverridesTakePrecedenceOverCategoryOverrides() {
+    final RuleOverrideMatcher matcher = new RuleOverrideMatcher(
+        Collections.emptyList(),
+        Collections.singletonList(categoryOverride("CodeRedundancy", SonarQubeRuleType.BUG, SonarQubeSeverity.CRITICAL)),
+        Collections.singletonList(patternOverride("Redundant*", null, 0, null, "BLOCKER")));
+
+    // The pattern override only declares a severity, hence the rule type of the category override is applied
+    final SonarQubeRuleDefinitionModel ruleDefinition = ruleDefinition("RedundantUsingDirective", "CodeRedundancy", "HINT");
+    assertTrue(matcher.apply(ruleDefinition));
+    assertEquals(SonarQubeRuleType.BUG, ruleDefinition.getSonarQubeRuleType());
+    assertEquals(SonarQubeSeverity.BLOCKER, ruleDefinition.getSonarQubeSeverity());
+  }
+
+  @Test
+  public void patternOverridesAreOrderedByPriorityAndDeclaration() {
+    final RuleOverrideMatcher matcher = new RuleOverrideMatcher(
+        Collections.emptyList(),
+        Collections.emptyList(),
+        Arrays.asList(
+            patternOverride("*", null, 0, "VULNERABILITY", "INFO"),
+            patternOverride("Redundant*", null, 10, null, "MINOR"),
+            patternOverride("Redundant*", null, 10, null, "MAJOR"),
+            patternOverride("*Using*", null, 5, "BUG", "CRITICAL")));
+
+    // The first override of the highest priority declares the severity, the next one declaring a rule type is of priority 5
+    final SonarQubeRuleDefinitionModel ruleDefinition = ruleDefinition("RedundantUsingDirective", "CodeRedundancy", "HINT");
+    assertTrue(matcher.apply(ruleDefinition));
+    assertEquals(SonarQubeRuleType.BUG, ruleDefinition.getSonarQubeRuleType());
+    assertEquals(SonarQubeSeverity.MINOR, ruleDefinition.getSonarQubeSeverity());
+
+    final SonarQubeRuleDefinitionModel otherRuleDefinition = ruleDefinition("UnusedMember.Global", "CodeSmell", "WARNING");
+    assertTrue(matcher.apply(otherRuleDefinition));
+    assertEquals(SonarQubeRuleType.VULNERABILITY, otherRuleDefinition.getSonarQubeRuleType());
+    assertEquals(SonarQubeSeverity.INFO, otherRuleDefinition.getSonarQubeSeverity());
+  }
+
+  @Test
+  public void patternOverridesRequireAllFieldsToMatch() {
+    final RuleOverrideMatcher matcher = new RuleOverrideMatcher(
+        Collections.emptyList(),
+        Collections.emptyList(),
+        Collections.singletonList(patternOverride("Redundant*", "CodeRedundancy", 0, "BUG", "MAJOR")));
+
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("RedundantCast", "CodeRedundancy", "WARNING")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("RedundantCast", "CodeSmell", "WARNING")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("UnusedMember.Global", "CodeRedundancy", "WARNING")));
+  }
+
+  @Test
+  public void wildcardPatternsMatchTheWholeValueIgnoringCase() {
+    final RuleOverrideMatcher matcher = matcher(
+        "*redundant*", "Unused?ember.*", "*.Local", "??", "exactRuleKey");
+
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("ArrangeRedundantParentheses")));
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("RedundantCast")));
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("UnusedMember.Global")));
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("NotAccessedVariable.Local")));
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("AB")));
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("ExactRuleKey")));
+
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("UnusedMember")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("UnusedParameter.Global")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("NotAccessedVariable.Locals")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("ABC")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("ExactRuleKey2")));
+  }
+
+  @Test
+  public void wildcardPatternsSharingLiteralSegmentsAreMatchedIndependently() {
+    final RuleOverrideMatcher matcher = new RuleOverrideMatcher(
+        Collections.emptyList(),
+        Collections.emptyList(),
+        Arrays.asList(
+            patternOverride("*Member*Global", null, 2, "BUG", null),
+            patternOverride("*Member*", null, 1, "VULNERABILITY", "BLOCKER"),
+            patternOverride("*ember?Local", null, 0, "CODE_SMELL", "INFO")));
+
+    final SonarQubeRuleDefinitionModel global = ruleDefinition("UnusedMember.Global");
+    matcher.apply(global);
+    assertEquals(SonarQubeRuleType.BUG, global.getSonarQubeRuleType());
+    assertEquals(SonarQubeSeverity.BLOCKER, global.getSonarQubeSeverity());
+
+    final SonarQubeRuleDefinitionModel local = ruleDefinition("UnusedMember.Local");
+    matcher.apply(local);
+    assertEquals(SonarQubeRuleType.VULNERABILITY, local.getSonarQubeRuleType());
+    assertEquals(SonarQubeSeverity.BLOCKER, local.getSonarQubeSeverity());
+  }
+
+  @Test
+  public void regularExpressionPatternsAreMatchedAndInvalidOnesIgnored() {
+    final RuleOverrideMatcher matcher = matcher("regex:Unused(Member|Parameter)\\.(Local|Global)", "regex:[invalid");
+
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("UnusedParameter.Local")));
+    assertTrue(matcher.matchesAnyPatternOverride(ruleDefinition("unusedmember.global")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("UnusedVariable.Local")));
+    assertFalse(matcher.matchesAnyPatternOverride(ruleDefinition("[invalid")));
+  }
+
+  @Test
+  public void ruleDefinitionsWithoutMatchingOverrideAreNotChanged() {
+    final RuleOverrideMatcher matcher = new RuleOverrideMatcher(
+        Collections.singletonList(ruleKeyOverride("RedundantCast", SonarQubeRuleType.BUG, SonarQubeSeverity.CRITICAL)),
+        Collections.singletonList(categoryOverride("CodeRedundancy", SonarQubeRuleType.BUG, SonarQubeSeverity.CRITICAL)),
+        Collections.singletonList(patternOverride("Redundant*", null, 0, "BUG", "CRITICAL")));
+
+    final SonarQubeRuleDefinitionModel ruleDefinition = ruleDefinition("UnusedMember.Global", "CodeSmell", "WARNING");
+    final SonarQubeRuleType ruleType = ruleDefinition.getSonarQubeRuleType();
+    final SonarQubeSeverity severity = ruleDefinition.getSonarQubeSeverity();
+    assertFalse(matcher.apply(ruleDefinition));
+    assertEquals(ruleType, ruleDefinition.getSonarQubeRuleType());
+    assertEquals(severity, ruleDefinition.getSonarQubeSeverity());
+  }
+
+  /**
+   * Creates a {@link RuleOverrideMatcher} of pattern overrides matching the supplied rule key patterns.
+   *
+   * @param ruleKeyPatterns
+   *     The patterns of the rule keys.
+   *
+   * @return A new {@link RuleOverrideMatcher}.
+   */
+  private static RuleOverrideMatcher matcher(final String... ruleKeyPatterns) {
+    final List<RulePatternOverrideModel> patternOverrides = new ArrayList<>(ruleKeyPatterns.length);
+    for (String ruleKeyPattern : ruleKeyPatterns) {
+      patternOverrides.add(patternOverride(ruleKeyPattern, null, 0, null, null));
+    }
+    return new RuleOverrideMatcher(Collections.emptyList(), Collections.emptyList(), patternOverrides);
+  }
+
+  private static SonarQubeRuleDefinitionModel ruleDefinition(final String ruleKey) {
+    return new SonarQubeRuleDefinitionModel(ruleKey);
+  }
+
+  private static SonarQubeRuleDefinitionModel ruleDefinition(final String ruleKey, final String categoryId, final String severity) {
+    final InspectCodeIssueDefinitionModel issueDefinition = new InspectCodeIssueDefinitionModel(ruleKey);
+    issueDefinition.setCategoryId(categoryId);
+    issueDefinition.setSeverity(InspectCodeIssueSeverity.valueOf(severity));
+    return new SonarQubeRuleDefinitionModel(issueDefinition);
+  }
+
+  private static SonarQubeRuleDefinitionOverrideModel ruleKeyOverride(
+      final String ruleKey,
+      final SonarQubeRuleType ruleType,
+      final SonarQubeSeverity severity) {
+    final SonarQubeRuleDefinitionOverrideModel ruleKeyOverride = new SonarQubeRuleDefinitionOverrideModel(ruleKey);
+    ruleKeyOverride.setSonarQubeRuleType(ruleType);
+    ruleKeyOverride.setSonarQubeSeverity(severity);
+    return ruleKeyOverride;
+  }
+
+  private static InspectCodeCategoryOverrideModel categoryOverride(
+      final String categoryId,
+      final SonarQubeRuleType ruleType,
+      final SonarQubeSeverity severity) {
+    final InspectCodeCategoryOverrideModel categoryOverride = new InspectCodeCategoryOverrideModel(categoryId);
+    categoryOverride.setSonarQubeRuleType(ruleType);
+    categoryOverride.setSonarQubeSeverity(severity);
+    return categoryOverride;
+  }
+
+  private static RulePatternOverrideModel patternOverride(
+      final String ruleKeyPattern,
+      final String categoryIdPattern,
+      final int priority,
+      final String ruleType,
+      final String severity) {
+    final RulePatternOverrideModel patternOverride = new RulePatternOverrideModel();
+    patternOverride.setRuleKeyPattern(ruleKeyPattern);
+    patternOverride.setCategoryIdPattern(categoryIdPattern);
+    patternOverride.setPriority(priority);
+    patternOverride.setSonarQubeRuleType(ruleType);
+    patternOverride.setSonarQubeSeverity(severity);
+    return patternOverride;
+  }
+}
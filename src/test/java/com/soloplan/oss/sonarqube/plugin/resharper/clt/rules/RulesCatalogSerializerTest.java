@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.InspectCodeIssueDefinitionModel;
+import com.soloplan.oss.sonarqube.plugin.resharper.clt.models.SonarQubeRuleDefinitionModel;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+/** Tests of the {@link RulesCatalogSerializer} class. */
+public class RulesCatalogSerializerTest {
+
+  @Test
+  public void readsTheRulesCatalogWrittenBefore() throws IOException {
+    final RulesCatalog rulesCatalog = RulesCatalog.loadXml(null, null, false);
+    assertFalse(rulesCatalog.getRuleDefinitions().isEmpty());
+
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    RulesCatalogSerializer.write(rulesCatalog, outputStream);
+    final RulesCatalog readRulesCatalog = RulesCatalogSerializer.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    final List<SonarQubeRuleDefinitionModel> ruleDefinitions = rulesCatalog.getRuleDefinitions();
+    final List<SonarQubeRuleDefinitionModel> readRuleDefinitions = readRulesCatalog.getRuleDefinitions();
+    assertEquals(ruleDefinitions.size(), readRuleDefinitions.size());
+    for (int index = 0; index < ruleDefinitions.size(); index++) {
+      assertRuleDefinitionEquals(ruleDefinitions.get(index), readRuleDefinitions.get(index));
+    }
+
+    assertEquals(new ArrayList<>(rulesCatalog.getLanguageNames()), new ArrayList<>(readRulesCatalog.getLanguageNames()));
+    for (String languageName : rulesCatalog.getLanguageNames()) {
+      assertEquals(languageName, getRuleKeys(rulesCatalog.getRuleDefinitions(languageName)),
+          getRuleKeys(readRulesCatalog.getRuleDefinitions(languageName)));
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void failsOnDataWithoutMagicNumber() throws IOException {
+    RulesCatalogSerializer.read(new ByteArrayInputStream(gzip(0x3C3F786D, 1)));
+  }
+
+  @Test(expected = IOException.class)
+  public void failsOnUnsupportedFormatVersion() throws IOException {
+    RulesCatalogSerializer.read(new ByteArrayInputStream(gzip(0x52434C54, Integer.MAX_VALUE)));
+  }
+
+  /**
+   * Asserts that all properties of the supplied rule definitions stored within the binary format are equal.
+   *
+   * @param expected
+   *     The rule definition written to the binary format.
+   * @param actual
+   *     The rule definition read from the binary format.
+   */
+  private static void assertRuleDefinitionEquals(final SonarQubeRuleDefinitionModel expected, final SonarQubeRuleDefinitionModel actual) {
+    final String key = expected.getRuleDefinitionKey();
+    assertEquals(key, actual.getRuleDefinitionKey());
+    assertEquals(key, expected.getRuleName(), actual.getRuleName());
+    assertEquals(key, expected.getRuleDescription(), actual.getRuleDescription());
+    assertEquals(key, expected.getRuleDescriptionSyntax(), actual.getRuleDescriptionSyntax());
+    assertEquals(key, expected.getSonarQubeSeverity(), actual.getSonarQubeSeverity());
+    assertEquals(key, expected.getSonarQubeRuleType(), actual.getSonarQubeRuleType());
+    assertEquals(key, expected.getRuleStatus(), actual.getRuleStatus());
+    assertEquals(key, expected.isActivatedByDefault(), actual.isActivatedByDefault());
+
+    final InspectCodeIssueDefinitionModel expectedIssueDefinition = expected.getInspectcodeModel();
+    final InspectCodeIssueDefinitionModel actualIssueDefinition = actual.getInspectcodeModel();
+    assertNotNull(key, expectedIssueDefinition);
+    assertNotNull(key, actualIssueDefinition);
+    assertEquals(key, expectedIssueDefinition.getCategory(), actualIssueDefinition.getCategory());
+    assertEquals(key, expectedIssueDefinition.getCategoryId(), actualIssueDefinition.getCategoryId());
+    assertEquals(key, expectedIssueDefinition.getSubCategory(), actualIssueDefinition.getSubCategory());
+    assertEquals(key, expectedIssueDefinition.getSeverity(), actualIssueDefinition.getSeverity());
+  }
+
+  /**
+   * Gets the keys of the supplied rule definitions in their order.
+   *
+   * @param ruleDefinitions
+   *     The rule definitions.
+   *
+   * @return The keys of the supplied rule definitions.
+   */
+  private static List<String> getRuleKeys(final List<SonarQubeRuleDefinitionModel> ruleDefinitions) {
+    final List<String> ruleKeys = new ArrayList<>(ruleDefinitions.size());
+    for (SonarQubeRuleDefinitionModel ruleDefinition : ruleDefinitions) {
+      ruleKeys.add(ruleDefinition.getRuleDefinitionKey());
+    }
+    return ruleKeys;
+  }
+
+  /**
+   * Compresses the supplied header values like the binary format of the {@link RulesCatalogSerializer}.
+   *
+   * @param magicNumber
+   *     The magic number to write.
+   * @param formatVersion
+   *     The version of the binary format to write.
+   *
+   * @return The compressed data.
+   *
+   * @throws IOException
+   *     If writing failed.
+   */
+  private static byte[] gzip(final int magicNumber, final int formatVersion) throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (DataOutputStream dataOutputStream = new DataOutputStream(new GZIPOutputStream(outputStream))) {
+      dataOutputStream.writeInt(magicNumber);
+      dataOutputStream.writeInt(formatVersion);
+    }
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.rules;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/** Tests of the {@link VersionedRulesCatalogs} class. */
+public class VersionedRulesCatalogsTest {
+
+  @Test
+  public void convertsYearAndReleaseVersions() {
+    assertEquals(233, VersionedRulesCatalogs.getVersionKey("2023.3"));
+    assertEquals(233, VersionedRulesCatalogs.getVersionKey(" 2023.3.2 "));
+    assertEquals(2023, VersionedRulesCatalogs.getVersionKey("2023"));
+  }
+
+  @Test
+  public void usesTheMajorPartOfBuildVersions() {
+    assertEquals(253, VersionedRulesCatalogs.getVersionKey("253.0.x"));
+    assertEquals(253, VersionedRulesCatalogs.getVersionKey("253.0.20251210.123456"));
+    assertEquals(183, VersionedRulesCatalogs.getVersionKey("183"));
+  }
+
+  @Test
+  public void rejectsMissingAndInvalidVersions() {
+    assertEquals(-1, VersionedRulesCatalogs.getVersionKey(null));
+    assertEquals(-1, VersionedRulesCatalogs.getVersionKey(""));
+    assertEquals(-1, VersionedRulesCatalogs.getVersionKey("garbage"));
+    assertEquals(-1, VersionedRulesCatalogs.getVersionKey("x.253"));
+    assertEquals(-1, VersionedRulesCatalogs.getVersionKey("2023.x"));
+    assertEquals(-1, VersionedRulesCatalogs.getVersionKey("-253.0"));
+  }
+
+  @Test
+  public void usesTheNewestVersionNotNewerThanTheToolsVersion() {
+    final NavigableMap<Integer, String> versionIndex = createVersionIndex();
+    assertEquals(Integer.valueOf(233), VersionedRulesCatalogs.getVersionEntry(versionIndex, "2023.3").getKey());
+    assertEquals(Integer.valueOf(233), VersionedRulesCatalogs.getVersionEntry(versionIndex, "2024.1").getKey());
+    assertEquals(Integer.valueOf(253), VersionedRulesCatalogs.getVersionEntry(versionIndex, "253.0.x").getKey());
+    assertEquals(Integer.valueOf(253), VersionedRulesCatalogs.getVersionEntry(versionIndex, "261.0").getKey());
+  }
+
+  @Test
+  public void usesTheOldestVersionForToolsVersionsOlderThanAllCatalogs() {
+    final NavigableMap<Integer, String> versionIndex = createVersionIndex();
+    assertEquals(Integer.valueOf(183), VersionedRulesCatalogs.getVersionEntry(versionIndex, "2018.1").getKey());
+    assertEquals(Integer.valueOf(183), VersionedRulesCatalogs.getVersionEntry(versionIndex, "8.2").getKey());
+  }
+
+  @Test
+  public void usesTheNewestVersionForMissingAndInvalidToolsVersions() {
+    final NavigableMap<Integer, String> versionIndex = createVersionIndex();
+    assertEquals(Integer.valueOf(253), VersionedRulesCatalogs.getVersionEntry(versionIndex, null).getKey());
+    assertEquals(Integer.valueOf(253), VersionedRulesCatalogs.getVersionEntry(versionIndex, "garbage").getKey());
+  }
+
+  @Test
+  public void providesBundledCatalogForOlderToolsVersions() {
+    assertFalse(VersionedRulesCatalogs.getRulesCatalog("2018.1").getRuleDefinitions().isEmpty());
+    assertFalse(VersionedRulesCatalogs.getRulesCatalog(null).getRuleDefinitions().isEmpty());
+  }
+
+  /**
+   * Creates a version index of several catalogs, which does not need to refer to existing resources.
+   *
+   * @return A {@link NavigableMap} of the version keys {@code 183}, {@code 233} and {@code 253} and resource names.
+   */
+  private static NavigableMap<Integer, String> createVersionIndex() {
+    final NavigableMap<Integer, String> versionIndex = new TreeMap<>();
+    versionIndex.put(183, "183.bin");
+    versionIndex.put(233, "233.bin");
+    versionIndex.put(253, "253.bin");
+    return Collections.unmodifiableNavigableMap(versionIndex);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.DefaultFileSystem;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/** Tests of the {@link InputFileResolver} class. */
+public class InputFileResolverTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** The source code file {@code Project/Sources/Foo.cs} within the module base directory. */
+  private InputFile sourceCodeFile;
+
+  /** The {@link InputFileResolver} using the module base directory as solution directory. */
+  private InputFileResolver inputFileResolver;
+
+  @Before
+  public void setUp()
+      throws IOException {
+    final File moduleBaseDirectory = this.temporaryFolder.getRoot();
+    final File file = new File(moduleBaseDirectory, "Project/Sources/Foo.cs");
+    Files.createDirectories(file.getParentFile().toPath());
+    Files.write(file.toPath(), "class Foo {}".getBytes(StandardCharsets.UTF_8));
+
+    this.sourceCodeFile = TestInputFileBuilder.create("module", moduleBaseDirectory, file).setCharset(StandardCharsets.UTF_8).build();
+    final DefaultFileSystem fileSystem = new DefaultFileSystem(moduleBaseDirectory);
+    fileSystem.add(this.sourceCodeFile);
+    this.inputFileResolver = new InputFileResolver(fileSystem, moduleBaseDirectory.getAbsolutePath());
+  }
+
+  @Test
+  public void normalizePathReplacesBackslashesAndRemovesDuplicateSeparators() {
+    assertEquals("C:/Solution/Project/Foo.cs", InputFileResolver.normalizePath("C:\\Solution\\\\Project\\Foo.cs"));
+    assertEquals("/solution/Project/Foo.cs", InputFileResolver.normalizePath("/solution//Project/./Foo.cs/"));
+  }
+
+  @Test
+  public void normalizePathResolvesParentSegments() {
+    assertEquals("/solution/Shared/Bar.cs", InputFileResolver.normalizePath("/solution/Project/../Shared/Bar.cs"));
+    assertEquals("C:/Shared/Bar.cs", InputFileResolver.normalizePath("C:\\Solution\\..\\Shared\\.\\Bar.cs"));
+  }
+
+  @Test
+  public void normalizePathKeepsTheRootAndTheDriveLetter() {
+    assertEquals("/Bar.cs", InputFileResolver.normalizePath("/../../Bar.cs"));
+    assertEquals("C:/Bar.cs", InputFileResolver.normalizePath("C:\\..\\Bar.cs"));
+  }
+
+  @Test
+  public void resolveFindsFilesUsingBackslashesAndParentSegments() {
+    assertSame(this.sourceCodeFile, this.inputFileResolver.resolve("Project\\Sources\\Foo.cs"));
+    assertSame(this.sourceCodeFile, this.inputFileResolver.resolve("Project\\Other\\..\\Sources\\.\\Foo.cs"));
+  }
+
+  @Test
+  public void resolveFallsBackToCaseInsensitiveLookUp() {
+    assertSame(this.sourceCodeFile, this.inputFileResolver.resolve("project\\SOURCES\\foo.CS"));
+  }
+
+  @Test
+  public void resolveReturnsNullForUnknownFilesAndCachesTheResult() {
+    assertNull(this.inputFileResolver.resolve("Project\\Sources\\Missing.cs"));
+    assertNull(this.inputFileResolver.resolve("Project\\Sources\\Missing.cs"));
+    assertEquals(1L, this.inputFileResolver.getMissCount());
+    assertEquals(1L, this.inputFileResolver.getHitCount());
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests of the {@link IssueBaseline} class. */
+public class IssueBaselineTest {
+
+  /** The {@link Logger} passed to {@link IssueBaseline#load(File, Logger)}. */
+  private static final Logger LOGGER = Loggers.get(IssueBaselineTest.class);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void fingerprintIsStableWhenLinesAreInsertedAboveTheIssue() {
+    final LineOffsetIndex original = LineOffsetIndex.fromContents("class A\n{\n  int x;\n}", true);
+    final LineOffsetIndex changed = LineOffsetIndex.fromContents("// Header\r\n\r\nclass A\r\n{\r\n    int x;\r\n}", true);
+
+    assertEquals(
+        IssueBaseline.fingerprint("UnusedMember.Local", "Project\\A.cs", original.getLineContentHash(3), "Field 'x' is never used"),
+        IssueBaseline.fingerprint("UnusedMember.Local", "Project\\A.cs", changed.getLineContentHash(5), "Field 'x' is never used"));
+  }
+
+  @Test
+  public void fingerprintDoesNotDependOnTheSeparatorsAndCaseOfThePath() {
+    assertEquals(
+        IssueBaseline.fingerprint("UnusedMember.Local", "Project\\Sources\\A.cs", 42, "message"),
+        IssueBaseline.fingerprint("UnusedMember.Local", "project/sources/./a.cs", 42, "message"));
+  }
+
+  @Test
+  public void fingerprintDependsOnRuleFileLineContentsAndMessage() {
+    final long fingerprint = IssueBaseline.fingerprint("UnusedMember.Local", "Project\\A.cs", 42, "message");
+
+    assertNotEquals(fingerprint, IssueBaseline.fingerprint("UnusedMember.Global", "Project\\A.cs", 42, "message"));
+    assertNotEquals(fingerprint, IssueBaseline.fingerprint("UnusedMember.Local", "Project\\B.cs", 42, "message"));
+    assertNotEquals(fingerprint, IssueBaseline.fingerprint("UnusedMember.Local", "Project\\A.cs", 43, "message"));
+    assertNotEquals(fingerprint, IssueBaseline.fingerprint("UnusedMember.Local", "Project\\A.cs", 42, "other message"));
+    // The separator between the values prevents shifting characters from one value to the next
+    assertNotEquals(
+        IssueBaseline.fingerprint("ab", "c", 42, "message"),
+        IssueBaseline.fingerprint("a", "bc", 42, "message"));
+  }
+
+  @Test
+  public void containsFindsAllWrittenFingerprintsOnly()
+      throws IOException {
+    final long[] fingerprints = new long[1000];
+    for (int index = 0; index < fingerprints.length; index++) {
+      fingerprints[index] = IssueBaseline.fingerprint("Rule" + (index % 7), "File" + index + ".cs", index, "message");
+    }
+    Arrays.sort(fingerprints);
+    final File baselineFile = new File(this.temporaryFolder.getRoot(), "baseline/issues.txt");
+    IssueBaseline.write(baselineFile, fingerprints);
+
+    final IssueBaseline issueBaseline = IssueBaseline.load(baselineFile, LOGGER);
+    assertEquals(fingerprints.length, issueBaseline.size());
+    for (long fingerprint : fingerprints) {
+      assertTrue(issueBaseline.contains(fingerprint));
+    }
+    for (int index = 0; index < fingerprints.length; index++) {
+      assertFalse(issueBaseline.contains(IssueBaseline.fingerprint("Other", "File" + index + ".cs", index, "message")));
+    }
+  }
+
+  @Test
+  public void loadIgnoresCommentsAndInvalidLines()
+      throws IOException {
+    final long fingerprint = IssueBaseline.fingerprint("UnusedMember.Local", "Project\\A.cs", 42, "message");
+    final String fingerprintLine = String.format(Locale.ROOT, "%016x", fingerprint);
+    final File baselineFile = this.temporaryFolder.newFile("issues.txt");
+    Files.write(baselineFile.toPath(), Arrays.asList("# Comment", "", "not a fingerprint", fingerprintLine, fingerprintLine),
+        StandardCharsets.UTF_8);
+
+    final IssueBaseline issueBaseline = IssueBaseline.load(baselineFile, LOGGER);
+    assertEquals(1, issueBaseline.size());
+    assertTrue(issueBaseline.contains(fingerprint));
+  }
+
+  @Test
+  public void emptyBaselineContainsNothing()
+      throws IOException {
+    final File baselineFile = this.temporaryFolder.newFile("empty.txt");
+
+    assertSame(IssueBaseline.EMPTY, IssueBaseline.load(baselineFile, LOGGER));
+    assertTrue(IssueBaseline.EMPTY.isEmpty());
+    assertFalse(IssueBaseline.EMPTY.contains(0L));
+  }
+}
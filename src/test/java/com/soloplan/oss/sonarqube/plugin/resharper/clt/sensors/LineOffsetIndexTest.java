@@ -0,0 +1,169 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.TextRange;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/** Tests of the {@link LineOffsetIndex} class. */
+public class LineOffsetIndexTest {
+
+  /** Contains four lines separated by each kind of line break, i.e. {@code a}, {@code bc}, {@code def} and {@code ghij}. */
+  private static final String MIXED_LINE_BREAKS = "a\r\nbc\rdef\nghij";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void fromContentsTreatsCarriageReturnLineFeedAsSingleLineBreak() {
+    assertEquals(4, LineOffsetIndex.fromContents(MIXED_LINE_BREAKS, false).getLineCount());
+    assertEquals(3, LineOffsetIndex.fromContents("a\n\nb", false).getLineCount());
+    assertEquals(2, LineOffsetIndex.fromContents("a\r\n", false).getLineCount());
+  }
+
+  @Test
+  public void createTextRangeConvertsOffsetsAfterEachKindOfLineBreak()
+      throws IOException {
+    final InputFile inputFile = this.createInputFile(MIXED_LINE_BREAKS, false);
+    final LineOffsetIndex lineOffsetIndex = LineOffsetIndex.fromContents(MIXED_LINE_BREAKS, false);
+
+    assertRange(1, 0, 1, 1, lineOffsetIndex.createTextRange(inputFile, 0, 1, 1));
+    assertRange(2, 0, 2, 2, lineOffsetIndex.createTextRange(inputFile, 3, 5, 2));
+    assertRange(3, 1, 3, 3, lineOffsetIndex.createTextRange(inputFile, 7, 9, 3));
+    assertRange(4, 0, 4, 4, lineOffsetIndex.createTextRange(inputFile, 10, 14, 4));
+  }
+
+  @Test
+  public void createTextRangeSpansMultipleLinesAndExcludesLineBreaks()
+      throws IOException {
+    final InputFile inputFile = this.createInputFile(MIXED_LINE_BREAKS, false);
+    final LineOffsetIndex lineOffsetIndex = LineOffsetIndex.fromContents(MIXED_LINE_BREAKS, false);
+
+    assertRange(3, 1, 4, 2, lineOffsetIndex.createTextRange(inputFile, 7, 12, 3));
+    // The end offset points at the line feed of the first line, which is moved to the end of the line
+    assertRange(1, 0, 1, 1, lineOffsetIndex.createTextRange(inputFile, 0, 2, 1));
+  }
+
+  @Test
+  public void createTextRangeRejectsInvalidOffsets()
+      throws IOException {
+    final InputFile inputFile = this.createInputFile(MIXED_LINE_BREAKS, false);
+    final LineOffsetIndex lineOffsetIndex = LineOffsetIndex.fromContents(MIXED_LINE_BREAKS, false);
+
+    assertNull(lineOffsetIndex.createTextRange(inputFile, -1, 1, 1));
+    assertNull(lineOffsetIndex.createTextRange(inputFile, 3, 3, 2));
+    assertNull(lineOffsetIndex.createTextRange(inputFile, 5, 3, 2));
+    assertNull(lineOffsetIndex.createTextRange(inputFile, 10, 15, 4));
+    assertNull(lineOffsetIndex.createTextRange(inputFile, 20, 25, 4));
+    // The range only consists of the line break of the first line
+    assertNull(lineOffsetIndex.createTextRange(inputFile, 1, 2, 1));
+  }
+
+  @Test
+  public void createTextRangeRejectsOffsetsNotStartingAtTheExpectedLine()
+      throws IOException {
+    final InputFile inputFile = this.createInputFile(MIXED_LINE_BREAKS, false);
+    final LineOffsetIndex lineOffsetIndex = LineOffsetIndex.fromContents(MIXED_LINE_BREAKS, false);
+
+    assertNull(lineOffsetIndex.createTextRange(inputFile, 3, 5, 1));
+    assertNull(lineOffsetIndex.createTextRange(inputFile, 3, 5, 3));
+  }
+
+  @Test
+  public void offsetsOfFilesWithByteOrderMarkDoNotCountTheByteOrderMark()
+      throws IOException {
+    final String contents = "x\r\nyz";
+    final InputFile inputFile = this.createInputFile(contents, true);
+    final LineOffsetIndexCache lineOffsetIndexCache = new LineOffsetIndexCache(1024 * 1024, false);
+
+    final LineOffsetIndex lineOffsetIndex = lineOffsetIndexCache.get(inputFile);
+    assertNotNull(lineOffsetIndex);
+    assertEquals(contents.length(), lineOffsetIndexCache.getCharactersRead());
+    assertRange(1, 0, 1, 1, lineOffsetIndex.createTextRange(inputFile, 0, 1, 1));
+    assertRange(2, 1, 2, 2, lineOffsetIndex.createTextRange(inputFile, 4, 5, 2));
+  }
+
+  @Test
+  public void lineContentHashIgnoresWhitespaceAndUnknownLines() {
+    final LineOffsetIndex lineOffsetIndex = LineOffsetIndex.fromContents("int x;\n  int  x;\r\nint y;", true);
+
+    assertEquals(lineOffsetIndex.getLineContentHash(1), lineOffsetIndex.getLineContentHash(2));
+    assertNotEquals(lineOffsetIndex.getLineContentHash(1), lineOffsetIndex.getLineContentHash(3));
+    assertEquals(0, lineOffsetIndex.getLineContentHash(0));
+    assertEquals(0, lineOffsetIndex.getLineContentHash(4));
+    assertEquals(0, LineOffsetIndex.fromContents("int x;", false).getLineContentHash(1));
+  }
+
+  /**
+   * Creates a UTF-8 encoded file containing the supplied {@code contents} and the corresponding {@link InputFile}.
+   *
+   * @param contents
+   *     The contents of the file.
+   * @param isByteOrderMarkWritten
+   *     Indicates whether the file should start with a byte order mark.
+   *
+   * @return A new {@link InputFile} of the created file.
+   *
+   * @throws IOException
+   *     If the file could not be written.
+   */
+  private InputFile createInputFile(final String contents, final boolean isByteOrderMarkWritten)
+      throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    if (isByteOrderMarkWritten) {
+      bytes.write(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
+    }
+    bytes.write(contents.getBytes(StandardCharsets.UTF_8));
+
+    final File file = this.temporaryFolder.newFile("File.cs");
+    Files.write(file.toPath(), bytes.toByteArray());
+    return TestInputFileBuilder.create("module", this.temporaryFolder.getRoot(), file)
+        .setCharset(StandardCharsets.UTF_8)
+        .initMetadata(contents)
+        .build();
+  }
+
+  /**
+   * Asserts that the supplied {@code textRange} is not {@code null} and starts and ends at the supplied positions.
+   */
+  private static void assertRange(
+      final int startLine,
+      final int startLineOffset,
+      final int endLine,
+      final int endLineOffset,
+      final TextRange textRange) {
+    assertNotNull(textRange);
+    assertEquals(startLine, textRange.start().line());
+    assertEquals(startLineOffset, textRange.start().lineOffset());
+    assertEquals(endLine, textRange.end().line());
+    assertEquals(endLineOffset, textRange.end().lineOffset());
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/** Tests of the {@link SarifResultReader} class. */
+public class SarifResultReaderTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void readsUnsuppressedResultsOfSarifVersion1() throws Exception {
+    final List<String> results = new ArrayList<>();
+    final int resultCount = SarifResultReader.read(getResourceFile("sarif-v1.json"), (ruleId, uri, line) -> results.add(
+        ruleId + '|' + uri + '|' + line));
+
+    assertEquals(2, resultCount);
+    assertEquals(Arrays.asList(
+        "S1144|file:///C:/Projects/Sample/Program.cs|12",
+        "S125|file:///C:/Projects/Sample/Sub%20Folder/Helper.cs|3"), results);
+  }
+
+  @Test
+  public void readsUnsuppressedResultsOfSarifVersion2() throws Exception {
+    final List<String> results = new ArrayList<>();
+    final int resultCount = SarifResultReader.read(getResourceFile("sarif-v2.json"), (ruleId, uri, line) -> results.add(
+        ruleId + '|' + uri + '|' + line));
+
+    assertEquals(2, resultCount);
+    assertEquals(Arrays.asList(
+        "S1481|file:///C:/Projects/Sample/Program.cs|7",
+        "CA1822|file:///C:/Projects/Sample/Other.cs|31"), results);
+  }
+
+  @Test
+  public void ignoresUnexpectedValueTypes() throws Exception {
+    final File sarifFile = temporaryFolder.newFile("unexpected.json");
+    Files.write(sarifFile.toPath(), ("{\"version\":\"2.1.0\",\"runs\":[null,{\"results\":{}},{\"results\":[1,\"text\",{\"ruleId\":42,"
+        + "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":\"a.cs\"},\"region\":{\"startLine\":1}}}]},"
+        + "{\"ruleId\":\"S1\",\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":\"b.cs\"},"
+        + "\"region\":{\"startLine\":0}}}]}]}]}").getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(0, SarifResultReader.read(sarifFile, (ruleId, uri, line) -> {
+      throw new AssertionError("Unexpected result " + ruleId);
+    }));
+  }
+
+  @Test
+  public void readsEmptyLog() throws Exception {
+    final File sarifFile = temporaryFolder.newFile("empty.json");
+    Files.write(sarifFile.toPath(), "{\"version\":\"2.1.0\",\"runs\":[]}".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals(0, SarifResultReader.read(sarifFile, (ruleId, uri, line) -> {
+      throw new AssertionError("Unexpected result " + ruleId);
+    }));
+  }
+
+  @Test(expected = IOException.class)
+  public void failsOnInvalidJson() throws Exception {
+    final File sarifFile = temporaryFolder.newFile("invalid.json");
+    Files.write(sarifFile.toPath(), "{\"runs\":[{\"results\":[".getBytes(StandardCharsets.UTF_8));
+
+    SarifResultReader.read(sarifFile, (ruleId, uri, line) -> {
+    });
+  }
+
+  /**
+   * Gets the test resource of the supplied {@code name} as {@link File}.
+   *
+   * @param name
+   *     The name of the test resource, relative to the package of this class.
+   *
+   * @return The {@link File} of the test resource.
+   *
+   * @throws URISyntaxException
+   *     If the URL of the test resource could not be converted.
+   */
+  private static File getResourceFile(final String name) throws URISyntaxException {
+    final URL resource = SarifResultReaderTest.class.getResource(name);
+    assertNotNull(name, resource);
+    return new File(resource.toURI());
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.utils.log.Loggers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests of the {@link SensorMetrics} class. */
+public class SensorMetricsTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void writesValidJsonForSpecialCharacters() throws IOException {
+    final String repositoryKey = "C:\\reports\\\"quoted\"\n\u0001";
+    final SensorMetrics sensorMetrics = new SensorMetrics();
+    sensorMetrics.issuesSeen.set(42);
+    sensorMetrics.start(SensorMetrics.Phase.PARSE).stop();
+
+    final StringWriter writer = new StringWriter();
+    sensorMetrics.writeJson(writer, repositoryKey);
+
+    final JsonObject json = JsonParser.parseString(writer.toString()).getAsJsonObject();
+    assertEquals(repositoryKey, json.get("repositoryKey").getAsString());
+    assertEquals(42L, json.get("issuesSeen").getAsLong());
+    assertEquals(SensorMetrics.Phase.values().length, json.getAsJsonObject("phases").size());
+    assertTrue(json.getAsJsonObject("phases").getAsJsonObject("parse").has("cpuMs"));
+  }
+
+  @Test
+  public void writesMetricsFileIntoWorkDirectory() throws IOException {
+    final File workDirectory = new File(this.temporaryFolder.getRoot(), "work");
+    final SensorMetrics sensorMetrics = new SensorMetrics();
+    sensorMetrics.issuesSaved.set(7);
+
+    sensorMetrics.report(Loggers.get(SensorMetricsTest.class), workDirectory, "resharper-clt-cs");
+
+    final File metricsFile = new File(workDirectory, "resharper-clt-resharper-clt-cs-metrics.json");
+    final String content = new String(Files.readAllBytes(metricsFile.toPath()), StandardCharsets.UTF_8);
+    final JsonObject json = JsonParser.parseString(content).getAsJsonObject();
+    assertEquals("resharper-clt-cs", json.get("repositoryKey").getAsString());
+    assertEquals(7L, json.get("issuesSaved").getAsLong());
+  }
+}
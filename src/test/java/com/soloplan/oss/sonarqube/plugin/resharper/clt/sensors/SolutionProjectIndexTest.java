@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2018 Soloplan GmbH
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.soloplan.oss.sonarqube.plugin.resharper.clt.sensors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests of the {@link SolutionProjectIndex} class. */
+public class SolutionProjectIndexTest {
+
+  /** The {@link Logger} passed to the tested methods. */
+  private static final Logger LOGGER = Loggers.get(SolutionProjectIndexTest.class);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** The directory containing the solution file. */
+  private File solutionDirectory;
+
+  /** The {@link SolutionProjectIndex} of the solution file. */
+  private SolutionProjectIndex solutionProjectIndex;
+
+  @Before
+  public void setUp()
+      throws IOException {
+    this.solutionDirectory = this.temporaryFolder.newFolder("Solution");
+    final File solutionFile = new File(this.solutionDirectory, "Solution.sln");
+    Files.write(solutionFile.toPath(), Arrays.asList(
+        "Microsoft Visual Studio Solution File, Format Version 12.00",
+        "Project(\"{FAE04EC0}\") = \"App\", \"App\\App.csproj\", \"{1}\"",
+        "EndProject",
+        "Project(\"{FAE04EC0}\") = \"App.Tests\", \"AppTests\\App.Tests.csproj\", \"{2}\"",
+        "EndProject",
+        "Project(\"{F184B08F}\") = \"Core\", \"Lib\\Core\\Core.vbproj\", \"{3}\"",
+        "EndProject",
+        "Project(\"{2150E333}\") = \"Lib\", \"Lib\", \"{4}\"",
+        "EndProject"), StandardCharsets.UTF_8);
+    this.solutionProjectIndex = SolutionProjectIndex.of(solutionFile, LOGGER);
+  }
+
+  @Test
+  public void matchesProjectsLocatedInTheModuleBaseDirectory() {
+    assertEquals(Collections.singleton("app"), this.getProjectNamesWithin("App"));
+    assertEquals(Collections.singleton("app"), this.getProjectNamesWithin("app/"));
+  }
+
+  @Test
+  public void matchesProjectsLocatedInSubdirectoriesOfTheModuleBaseDirectory() {
+    assertEquals(Collections.singleton("core"), this.getProjectNamesWithin("Lib"));
+    assertEquals(new HashSet<>(Arrays.asList("app", "app.tests", "core")), this.getProjectNamesWithin("."));
+  }
+
+  @Test
+  public void doesNotMatchProjectsLocatedInSiblingDirectories() {
+    assertEquals(Collections.singleton("app.tests"), this.getProjectNamesWithin("AppTests"));
+    assertEquals(Collections.emptySet(), this.getProjectNamesWithin("Ap"));
+    assertEquals(Collections.emptySet(), this.getProjectNamesWithin("Lib/Core/Sub"));
+  }
+
+  @Test
+  public void projectNamePredicateMatchesProjectsWithinTheModuleBaseDirectory() {
+    final Predicate<String> projectNamePredicate = this.solutionProjectIndex.createProjectNamePredicate(
+        new File(this.solutionDirectory, "Lib").getAbsolutePath(), "Solution", LOGGER);
+
+    assertTrue(projectNamePredicate.test(" CORE "));
+    assertFalse(projectNamePredicate.test("App"));
+    assertFalse(projectNamePredicate.test("Lib"));
+    assertFalse(projectNamePredicate.test("Solution"));
+    assertFalse(projectNamePredicate.test(null));
+  }
+
+  @Test
+  public void projectNamePredicateMatchesTheProjectNameIfNoProjectIsWithinTheModuleBaseDirectory() {
+    final Predicate<String> projectNamePredicate = this.solutionProjectIndex.createProjectNamePredicate(
+        this.temporaryFolder.getRoot().getAbsolutePath() + "/Other", "App", LOGGER);
+
+    assertTrue(projectNamePredicate.test("app"));
+    assertFalse(projectNamePredicate.test("Core"));
+  }
+
+  @Test
+  public void missingSolutionFileResultsInAnEmptyIndex() {
+    assertSame(SolutionProjectIndex.EMPTY, SolutionProjectIndex.of(new File(this.solutionDirectory, "Missing.sln"), LOGGER));
+    assertTrue(SolutionProjectIndex.EMPTY.getProjectNamesWithin(this.solutionDirectory.getAbsolutePath()).isEmpty());
+  }
+
+  /**
+   * Gets the names of the projects of the solution located within the supplied {@code relativePath}.
+   *
+   * @param relativePath
+   *     The path of the directory, relative to the solution directory.
+   *
+   * @return The lower case names of the projects located within the directory.
+   */
+  private Set<String> getProjectNamesWithin(final String relativePath) {
+    return this.solutionProjectIndex.getProjectNamesWithin(new File(this.solutionDirectory, relativePath).getAbsolutePath());
+  }
+}